@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares JMH results against a baseline, both in JMH's CSV format (<code>-rf csv</code>).
+ * <p>
+ * Results are matched by benchmark, mode and parameters.
+ * A result regresses if it is worse than its baseline by more than the threshold in percent
+ * and by more than the sum of both score errors, where worse means a higher score
+ * for time based modes (<code>avgt</code>, <code>sample</code>, <code>ss</code>)
+ * and a lower score for <code>thrpt</code>.
+ * </p>
+ * <p>
+ * A result whose score error exceeds its score, in the baseline or the current results,
+ * is too noisy to be compared and reported as unusable.
+ * </p>
+ * <pre>
+ *   java com.jogamp.opengl.test.jmh.BaselineCompare baseline.csv results.csv [threshold-percent]
+ * </pre>
+ * <p>
+ * Exits with status 1 if at least one result regressed, otherwise 0.
+ * </p>
+ */
+public class BaselineCompare {
+    /** Default regression threshold in percent. */
+    public static final double DEFAULT_THRESHOLD = 10.0;
+
+    static class Result {
+        final String key;
+        final String mode;
+        final double score;
+        final double error;
+        final String unit;
+
+        Result(final String key, final String mode, final double score, final double error, final String unit) {
+            this.key = key;
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+    }
+
+    /** Reads a JMH CSV result file, keyed by benchmark, mode and parameters in file order. */
+    static Map<String, Result> read(final String file) throws IOException {
+        final Map<String, Result> results = new LinkedHashMap<String, Result>();
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try {
+            String line = reader.readLine();
+            if( null == line ) {
+                return results;
+            }
+            final List<String> header = split(line);
+            final int iBenchmark = header.indexOf("Benchmark");
+            final int iMode = header.indexOf("Mode");
+            final int iScore = header.indexOf("Score");
+            final int iUnit = header.indexOf("Unit");
+            int iError = -1;
+            for(int i=0; i<header.size(); i++) {
+                if( header.get(i).startsWith("Score Error") ) {
+                    iError = i;
+                }
+            }
+            if( 0 > iBenchmark || 0 > iMode || 0 > iScore || 0 > iUnit ) {
+                throw new IOException("Not a JMH CSV result file: "+file);
+            }
+            while( null != ( line = reader.readLine() ) ) {
+                if( 0 == line.trim().length() ) {
+                    continue;
+                }
+                final List<String> cols = split(line);
+                final StringBuilder key = new StringBuilder();
+                key.append(cols.get(iBenchmark)).append(" ").append(cols.get(iMode));
+                for(int i=0; i<header.size() && i<cols.size(); i++) {
+                    final String h = header.get(i);
+                    if( h.startsWith("Param: ") && 0 < cols.get(i).length() ) {
+                        key.append(" ").append(h.substring(7)).append("=").append(cols.get(i));
+                    }
+                }
+                final double error = 0 <= iError ? parse(cols.get(iError)) : Double.NaN;
+                final Result r = new Result(key.toString(), cols.get(iMode), parse(cols.get(iScore)), error, cols.get(iUnit));
+                results.put(r.key, r);
+            }
+        } finally {
+            reader.close();
+        }
+        return results;
+    }
+
+    private static double parse(final String s) {
+        try {
+            return Double.parseDouble(s);
+        } catch (final NumberFormatException nfe) {
+            return Double.NaN;
+        }
+    }
+
+    /** Splits a CSV line, honoring double quoted fields. */
+    static List<String> split(final String line) {
+        final List<String> cols = new ArrayList<String>();
+        final StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for(int i=0; i<line.length(); i++) {
+            final char c = line.charAt(i);
+            if( '"' == c ) {
+                if( quoted && i+1 < line.length() && '"' == line.charAt(i+1) ) {
+                    sb.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if( ',' == c && !quoted ) {
+                cols.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        cols.add(sb.toString());
+        return cols;
+    }
+
+    /**
+     * Returns the relative change of {@code current} against {@code baseline} in percent,
+     * positive if {@code current} is worse.
+     */
+    static double worsePercent(final Result baseline, final Result current) {
+        final double d = ( current.score - baseline.score ) / baseline.score * 100.0;
+        return "thrpt".equals(baseline.mode) ? -d : d;
+    }
+
+    /** Returns true if the score error exceeds the score or the score is not positive, i.e. the result is too noisy to be compared. */
+    static boolean isUnusable(final Result r) {
+        return !( r.score > 0 ) || ( !Double.isNaN(r.error) && r.error > r.score );
+    }
+
+    static boolean isRegression(final Result baseline, final Result current, final double threshold) {
+        if( !baseline.unit.equals(current.unit) ) {
+            return false; // not comparable, reported separately
+        }
+        if( worsePercent(baseline, current) <= threshold ) {
+            return false;
+        }
+        final double errSum = ( Double.isNaN(baseline.error) ? 0 : baseline.error ) +
+                              ( Double.isNaN(current.error) ? 0 : current.error );
+        return Math.abs(current.score - baseline.score) > errSum;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if( 2 > args.length ) {
+            System.err.println("Usage: BaselineCompare baseline.csv results.csv [threshold-percent]");
+            System.exit(2);
+        }
+        final double threshold = 2 < args.length ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        if( !new File(args[0]).isFile() ) {
+            System.err.println("No baseline "+args[0]+", store the results of a run on the reference machine as the baseline first");
+            System.exit(2);
+        }
+        final Map<String, Result> baseline = read(args[0]);
+        final Map<String, Result> current = read(args[1]);
+
+        int regressions = 0, compared = 0, unusable = 0;
+        for(final Result c : current.values()) {
+            final Result b = baseline.get(c.key);
+            if( null == b ) {
+                System.out.printf("NEW        %s: %.3f %s%n", c.key, c.score, c.unit);
+                continue;
+            }
+            if( !b.unit.equals(c.unit) ) {
+                System.out.printf("UNIT       %s: %s -> %s%n", c.key, b.unit, c.unit);
+                continue;
+            }
+            if( isUnusable(b) || isUnusable(c) ) {
+                unusable++;
+                System.out.printf("UNUSABLE   %s: %.3f +- %.3f -> %.3f +- %.3f %s%n", c.key, b.score, b.error, c.score, c.error, c.unit);
+                continue;
+            }
+            compared++;
+            final boolean regressed = isRegression(b, c, threshold);
+            if( regressed ) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "REGRESSED" : "ok",
+                              c.key, b.score, c.score, c.unit, worsePercent(b, c));
+        }
+        for(final Result b : baseline.values()) {
+            if( !current.containsKey(b.key) ) {
+                System.out.printf("MISSING    %s%n", b.key);
+            }
+        }
+        System.out.printf("%d of %d compared results regressed by more than %.1f%%, %d results unusable%n", regressions, compared, threshold, unusable);
+        System.exit( 0 < regressions ? 1 : 0 );
+    }
+}
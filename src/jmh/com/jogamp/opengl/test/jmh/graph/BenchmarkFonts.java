@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.graph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.Vertex;
+
+/**
+ * Font and glyph shape helpers of the graph benchmarks.
+ */
+class BenchmarkFonts {
+    static final String FONT_RESOURCE = "jogamp/graph/font/fonts/ubuntu/Ubuntu-R.ttf";
+
+    /**
+     * Loads the Ubuntu regular font from the classpath into a new {@link Font} instance,
+     * i.e. w/o the {@link FontFactory#get(int) font-set} cache.
+     */
+    static Font loadFont() throws IOException {
+        final InputStream in = BenchmarkFonts.class.getClassLoader().getResourceAsStream(FONT_RESOURCE);
+        if( null == in ) {
+            throw new IOException("Font resource not found: "+FONT_RESOURCE);
+        }
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try {
+            final byte[] buf = new byte[8192];
+            int n;
+            while( 0 < ( n = in.read(buf) ) ) {
+                data.write(buf, 0, n);
+            }
+        } finally {
+            in.close();
+        }
+        return FontFactory.get(new ByteArrayInputStream(data.toByteArray()), data.size(), true);
+    }
+
+    /** Returns the glyph shapes of all defined characters within [0x21 .. 0x2000). */
+    static ArrayList<OutlineShape> getGlyphShapes(final Font font) {
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(char c = 0x21; c < 0x2000; c++) {
+            if( Character.isDefined(c) ) {
+                final OutlineShape shape = font.getGlyph(c).getShape();
+                if( null != shape ) {
+                    shapes.add(shape);
+                }
+            }
+        }
+        return shapes;
+    }
+
+    /** Returns a copy of the given shape's outlines w/o triangulation, using the given {@link Vertex.Factory}. */
+    static OutlineShape copy(final OutlineShape src, final Vertex.Factory<? extends Vertex> vertexFactory) {
+        final OutlineShape dst = new OutlineShape(vertexFactory);
+        for(int i = 0; i < src.getOutlineNumber(); i++) {
+            final Outline outline = src.getOutline(i);
+            if( 0 < i ) {
+                dst.addEmptyOutline();
+            }
+            for(int j = 0; j < outline.getVertexCount(); j++) {
+                final Vertex v = outline.getVertex(j);
+                dst.addVertex(v.getX(), v.getY(), v.getZ(), v.isOnCurve());
+            }
+            dst.closeLastOutline(false);
+        }
+        return dst;
+    }
+}
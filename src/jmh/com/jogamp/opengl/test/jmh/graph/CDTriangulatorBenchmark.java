@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.geom.SVertex;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks the triangulation of all glyph {@link OutlineShape}s of a font,
+ * i.e. the quadratic curve subdivision and the <code>CDTriangulator2D</code>,
+ * serial and with {@link ParallelExecutor parallel triangulation}.
+ * <p>
+ * The untriangulated shape copies are created before each invocation and are not measured.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CDTriangulatorBenchmark {
+    @Param({ "1", "4" })
+    public int threads;
+
+    private ArrayList<OutlineShape> glyphShapes;
+    private final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+
+    @Setup
+    public void setup() throws IOException {
+        glyphShapes = BenchmarkFonts.getGlyphShapes(BenchmarkFonts.loadFont());
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Setup(Level.Invocation)
+    public void copyShapes() {
+        shapes.clear();
+        for(int i = 0; i < glyphShapes.size(); i++) {
+            shapes.add(BenchmarkFonts.copy(glyphShapes.get(i), SVertex.factory()));
+        }
+    }
+
+    @Benchmark
+    public ArrayList<OutlineShape> triangulate() {
+        OutlineShape.triangulate(shapes, OutlineShape.VerticesState.QUADRATIC_NURBS);
+        return shapes;
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.geom.PVertex;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.Vertex;
+
+/**
+ * Benchmarks building, triangulating and pushing the glyph {@link OutlineShape}s of a font
+ * into a {@link Region}, using either the {@link SVertex} or the packed {@link PVertex} store.
+ * <p>
+ * The region is a GL-less sink only counting the pushed vertices and indices.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutlineShapeVertexBenchmark {
+    @Param({ "SVertex", "PVertex" })
+    public String factory;
+
+    private final ArrayList<OutlineShape> glyphShapes = new ArrayList<OutlineShape>();
+    private final CountingRegion sink = new CountingRegion();
+
+    @Setup
+    public void setup() throws IOException {
+        glyphShapes.addAll(BenchmarkFonts.getGlyphShapes(BenchmarkFonts.loadFont()));
+    }
+
+    private Vertex.Factory<? extends Vertex> createFactory() {
+        return "PVertex".equals(factory) ? new PVertex.Factory() : SVertex.factory();
+    }
+
+    /** Builds, triangulates and pushes one glyph shape after the other, each shape is garbage afterwards. */
+    @Benchmark
+    public int triangulate() {
+        final Vertex.Factory<? extends Vertex> vertexFactory = createFactory();
+        sink.count = 0;
+        for(int i = 0; i < glyphShapes.size(); i++) {
+            sink.addOutlineShape(BenchmarkFonts.copy(glyphShapes.get(i), vertexFactory), null, null);
+        }
+        return sink.count;
+    }
+
+    /** Builds all glyph shapes first and retains them like a scene, then triangulates and pushes them. */
+    @Benchmark
+    public int triangulateScene() {
+        final Vertex.Factory<? extends Vertex> vertexFactory = createFactory();
+        final ArrayList<OutlineShape> scene = new ArrayList<OutlineShape>(glyphShapes.size());
+        for(int i = 0; i < glyphShapes.size(); i++) {
+            scene.add(BenchmarkFonts.copy(glyphShapes.get(i), vertexFactory));
+        }
+        sink.count = 0;
+        for(int i = 0; i < scene.size(); i++) {
+            sink.addOutlineShape(scene.get(i), null, null);
+        }
+        return sink.count;
+    }
+
+    private static class CountingRegion extends Region {
+        int count;
+
+        CountingRegion() {
+            super(0);
+        }
+
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            count++;
+        }
+
+        @Override
+        protected void pushIndex(final int idx) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.opengl.math.FloatUtil;
+
+/**
+ * Benchmarks the {@link FloatUtil} matrix operations,
+ * i.e. matrix multiplication, inversion and vector transformation,
+ * as well as the batch point transformation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FloatUtilBenchmark {
+    @Param({ "1000", "100000" })
+    public int pointCount;
+
+    private final float[] a = new float[16], b = new float[16], d = new float[16];
+    private final float[] v = new float[4], vOut = new float[4];
+    private float[] points, pointsOut;
+
+    @Setup
+    public void setup() {
+        FloatUtil.makeRotationEuler(a, 0, 0.3f, 1.1f, -0.7f);
+        a[12] = 3f; a[13] = -4f; a[14] = 5f;
+        FloatUtil.makePerspective(b, 0, true, FloatUtil.QUARTER_PI, 1.5f, 1f, 100f);
+        v[0] = 1f; v[1] = 2f; v[2] = 3f; v[3] = 1f;
+        final Random rnd = new Random(1);
+        points = new float[pointCount*3];
+        pointsOut = new float[pointCount*3];
+        for(int i=0; i<points.length; i++) {
+            points[i] = rnd.nextFloat() * 200f - 100f;
+        }
+    }
+
+    @Benchmark
+    public float[] multMatrix() {
+        return FloatUtil.multMatrix(a, 0, b, 0, d, 0);
+    }
+
+    @Benchmark
+    public float[] invertMatrix() {
+        return FloatUtil.invertMatrix(a, 0, d, 0);
+    }
+
+    @Benchmark
+    public float[] multMatrixVec() {
+        return FloatUtil.multMatrixVec(a, 0, v, 0, vOut, 0);
+    }
+
+    /** Batch transformation of {@link #pointCount} points. */
+    @Benchmark
+    public float[] multMatrixVec3Batch() {
+        FloatUtil.multMatrixVec3(a, 0, points, 0, pointsOut, 0, pointCount);
+        return pointsOut;
+    }
+
+    /** Per point transformation of {@link #pointCount} points, the reference for {@link #multMatrixVec3Batch()}. */
+    @Benchmark
+    public float[] multMatrixVec3Loop() {
+        for(int i=0; i<pointCount; i++) {
+            v[0] = points[i*3]; v[1] = points[i*3+1]; v[2] = points[i*3+2]; v[3] = 1f;
+            FloatUtil.multMatrixVec(a, 0, v, 0, vOut, 0);
+            pointsOut[i*3] = vOut[0]; pointsOut[i*3+1] = vOut[1]; pointsOut[i*3+2] = vOut[2];
+        }
+        return pointsOut;
+    }
+}
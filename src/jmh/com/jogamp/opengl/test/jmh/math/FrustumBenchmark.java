@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.math.geom.Frustum;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks {@link Frustum} culling of bounding-boxes and spheres,
+ * per object and via the batch methods, serial and with {@link ParallelExecutor parallel processing}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrustumBenchmark {
+    @Param({ "10000", "100000" })
+    public int count;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private final Frustum frustum = new Frustum();
+    private float[] boxes, centers, radii;
+    private AABBox[] boxObjs;
+    private long[] outside;
+
+    @Setup
+    public void setup() {
+        final float[] p = FloatUtil.makePerspective(new float[16], 0, true, FloatUtil.QUARTER_PI, 1.5f, 1f, 100f);
+        final float[] mv = FloatUtil.makeTranslation(new float[16], true, 1f, -2f, -20f);
+        frustum.updateByPMV(FloatUtil.multMatrix(p, mv, new float[16]), 0);
+        final Random rnd = new Random(1);
+        boxes = new float[count*6];
+        centers = new float[count*3];
+        radii = new float[count];
+        boxObjs = new AABBox[count];
+        for(int i=0; i<count; i++) {
+            final float x = rnd.nextFloat() * 300f - 150f, y = rnd.nextFloat() * 300f - 150f, z = rnd.nextFloat() * 300f - 150f;
+            final float s = rnd.nextFloat() * 20f;
+            boxes[i*6+0] = x;   boxes[i*6+1] = y;   boxes[i*6+2] = z;
+            boxes[i*6+3] = x+s; boxes[i*6+4] = y+s; boxes[i*6+5] = z+s;
+            boxObjs[i] = new AABBox(x, y, z, x+s, y+s, z+s);
+            centers[i*3+0] = x; centers[i*3+1] = y; centers[i*3+2] = z;
+            radii[i] = s;
+        }
+        outside = new long[(count+63)/64];
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Benchmark
+    public int aabboxLoop() {
+        int n = 0;
+        for(int i=0; i<count; i++) {
+            if( frustum.isAABBoxOutside(boxObjs[i]) ) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int aabboxBatch() {
+        return frustum.isAABBoxOutside(boxes, 0, count, outside);
+    }
+
+    @Benchmark
+    public int sphereBatch() {
+        return frustum.isSphereOutside(centers, 0, radii, 0, count, outside);
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.math;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.geom.Frustum;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Benchmarks the typical per object {@link PMVMatrix} usage,
+ * i.e. push, transform and pop of the modelview matrix w/ and w/o
+ * updating the derived inverse matrices and the frustum.
+ * <p>
+ * The per object update is compared against the same operations
+ * using the general {@link FloatUtil} matrix operations only.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PMVMatrixBenchmark {
+    private PMVMatrix pmv;
+    private float angle = 0f;
+
+    private PMVMatrix pmvObj;
+    private final int[] viewport = new int[] { 0, 0, 1920, 1080 };
+    private final float[] winPos = new float[3];
+
+    private final float[] p = new float[16], mv = new float[16], mvObj = new float[16];
+    private final float[] mvi = new float[16], mvit = new float[16], pmvMat = new float[16];
+    private final float[] mat4Tmp1 = new float[16], mat4Tmp2 = new float[16], vec3Tmp = new float[3];
+    private final Frustum frustum = new Frustum();
+
+    @Setup
+    public void setup() {
+        pmv = new PMVMatrix();
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.glLoadIdentity();
+        pmv.gluPerspective(45f, 1.5f, 1f, 100f);
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmv.glLoadIdentity();
+        pmv.glTranslatef(0f, 0f, -20f);
+        // request Mvi and frustum updates, used by update()
+        pmv.glGetMviMatrixf();
+        pmv.glGetFrustum();
+
+        pmvObj = new PMVMatrix();
+        pmvObj.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmvObj.gluPerspective(45f, 1.5f, 1f, 100f);
+        pmvObj.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmvObj.gluLookAt(0f, 5f, 20f, 0f, 0f, 0f, 0f, 1f, 0f);
+        // request Mvi, Mvit and frustum updates, used by update()
+        pmvObj.glGetPMvMvitMatrixf();
+        pmvObj.glGetFrustum();
+        pmvObj.glGetFloatv(GLMatrixFunc.GL_PROJECTION_MATRIX, p, 0);
+        pmvObj.glGetFloatv(GLMatrixFunc.GL_MODELVIEW_MATRIX, mv, 0);
+    }
+
+    @Benchmark
+    public PMVMatrix pushTransformPop() {
+        pmv.glPushMatrix();
+        pmv.glTranslatef(1f, 2f, 3f);
+        pmv.glRotatef(angle += 0.1f, 0f, 1f, 0f);
+        pmv.glScalef(2f, 2f, 2f);
+        pmv.glPopMatrix();
+        return pmv;
+    }
+
+    @Benchmark
+    public FloatBuffer pushTransformMviPop() {
+        pmv.glPushMatrix();
+        pmv.glTranslatef(1f, 2f, 3f);
+        pmv.glRotatef(angle += 0.1f, 0f, 1f, 0f);
+        final FloatBuffer mvi = pmv.glGetMviMatrixf();
+        pmv.glPopMatrix();
+        return mvi;
+    }
+
+    @Benchmark
+    public Frustum pushTransformFrustumPop() {
+        pmv.glPushMatrix();
+        pmv.glTranslatef(1f, 2f, 3f);
+        pmv.glRotatef(angle += 0.1f, 0f, 1f, 0f);
+        final Frustum f = pmv.glGetFrustum();
+        pmv.glPopMatrix();
+        return f;
+    }
+
+    /** Transforms the modelview matrix and updates the requested Mvi matrix and frustum. */
+    @Benchmark
+    public boolean transformUpdate() {
+        pmv.glRotatef(0.1f, 0f, 1f, 0f);
+        return pmv.update();
+    }
+
+    /**
+     * Per object update: push, transform, update the requested Mvi, Mvit and frustum,
+     * project the object's origin and pop.
+     */
+    @Benchmark
+    public float[] perObjectUpdate() {
+        pmvObj.glPushMatrix();
+        pmvObj.glTranslatef(1f, 2f, 3f);
+        pmvObj.glRotatef(angle += 0.1f, 0f, 1f, 0f);
+        pmvObj.update();
+        pmvObj.gluProject(0f, 0f, 0f, viewport, 0, winPos, 0);
+        pmvObj.glPopMatrix();
+        return winPos;
+    }
+
+    /** {@link #perObjectUpdate()} using the general {@link FloatUtil} matrix operations only. */
+    @Benchmark
+    public float[] perObjectUpdateGeneral() {
+        System.arraycopy(mv, 0, mvObj, 0, 16);
+        FloatUtil.multMatrix(mvObj, FloatUtil.makeTranslation(mat4Tmp1, true, 1f, 2f, 3f));
+        FloatUtil.multMatrix(mvObj, FloatUtil.makeRotationAxis(mat4Tmp1, 0, ( angle += 0.1f ) * FloatUtil.PI / 180.0f, 0f, 1f, 0f, vec3Tmp));
+        FloatUtil.invertMatrix(mvObj, mvi);
+        FloatUtil.transposeMatrix(mvi, mvit);
+        FloatUtil.multMatrix(p, 0, mvObj, 0, pmvMat, 0);
+        frustum.updateByPMV(pmvMat, 0);
+        FloatUtil.mapObjToWinCoords(0f, 0f, 0f, mvObj, 0, p, 0, viewport, 0, winPos, 0, mat4Tmp1, mat4Tmp2);
+        return winPos;
+    }
+
+    /** Projects a point w/o modifying P or Mv, i.e. using the cached P x Mv. */
+    @Benchmark
+    public float[] project() {
+        pmvObj.gluProject(1f, 2f, 3f, viewport, 0, winPos, 0);
+        return winPos;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.opengl.math.Quaternion;
+
+/**
+ * Benchmarks {@link Quaternion} interpolation, vector rotation and matrix conversion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuaternionBenchmark {
+    private final Quaternion a = new Quaternion(), b = new Quaternion(), r = new Quaternion();
+    private final float[] vIn = { 1f, 2f, 3f }, vOut = new float[3];
+    private final float[] m = new float[16];
+    private float t = 0f;
+
+    @Setup
+    public void setup() {
+        final float[] tmp = new float[3];
+        a.setFromAngleAxis(0.5f, new float[] { 1f, 0f, 0f }, tmp);
+        b.setFromAngleAxis(2.5f, new float[] { 0f, 0.6f, 0.8f }, tmp);
+    }
+
+    @Benchmark
+    public Quaternion slerp() {
+        t += 0.001f;
+        if( t > 1f ) {
+            t = 0f;
+        }
+        return r.setSlerp(a, b, t);
+    }
+
+    @Benchmark
+    public float[] rotateVector() {
+        return b.rotateVector(vOut, 0, vIn, 0);
+    }
+
+    @Benchmark
+    public float[] toMatrix() {
+        return b.toMatrix(m, 0);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.math.VectorUtil;
+
+/**
+ * Benchmarks the {@link VectorUtil} operations used by the graph triangulation,
+ * i.e. the in-circle, triangle-area and triangle-segment intersection tests,
+ * as well as common vector operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VectorUtilBenchmark {
+    private final float[] v1 = { 1f, 2f, 3f }, v2 = { -3f, 0.5f, 2f }, r = new float[3];
+    private final SVertex a = new SVertex(0f, 0f, 0f, true);
+    private final SVertex b = new SVertex(4f, 0f, 0f, true);
+    private final SVertex c = new SVertex(2f, 3f, 0f, true);
+    private final SVertex d = new SVertex(2f, 1f, 0f, true);
+    private final SVertex e = new SVertex(-1f, 1.5f, 0f, true);
+    private final SVertex f = new SVertex(5f, 1.5f, 0f, true);
+
+    @Benchmark
+    public float[] normalizeVec3() {
+        r[0] = v1[0]; r[1] = v1[1]; r[2] = v1[2];
+        return VectorUtil.normalizeVec3(r);
+    }
+
+    @Benchmark
+    public float[] crossVec3() {
+        return VectorUtil.crossVec3(r, v1, v2);
+    }
+
+    @Benchmark
+    public boolean isInCircleVec2() {
+        return VectorUtil.isInCircleVec2(a, b, c, d);
+    }
+
+    @Benchmark
+    public float triAreaVec2() {
+        return VectorUtil.triAreaVec2(a, b, c);
+    }
+
+    @Benchmark
+    public boolean testTri2SegIntersection() {
+        return VectorUtil.testTri2SegIntersection(a, b, c, e, f);
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.nativewindow;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks {@link PixelFormatUtil#convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int) convert(..)}
+ * for differing pixel formats, i.e. the row converter kernels,
+ * serial and with {@link ParallelExecutor parallel row processing}.
+ * <p>
+ * See {@link PixelFormatUtilCopyBenchmark} for identical pixel formats.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PixelFormatUtilConvertBenchmark {
+    @Param({ "1920x1080" })
+    public String size;
+
+    @Param({ "RGBA8888:BGRA8888", "RGB888:RGBA8888", "BGRA8888:RGB888", "LUMINANCE:RGBA8888", "RGBA8888:RGB565" })
+    public String formats;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private int width, height;
+    private PixelFormat srcFmt, dstFmt;
+    private ByteBuffer src, dst;
+
+    @Setup
+    public void setup() {
+        final int x = size.indexOf('x');
+        width = Integer.parseInt(size.substring(0, x));
+        height = Integer.parseInt(size.substring(x+1));
+        final int c = formats.indexOf(':');
+        srcFmt = PixelFormat.valueOf(formats.substring(0, c));
+        dstFmt = PixelFormat.valueOf(formats.substring(c+1));
+        src = Buffers.newDirectByteBuffer(width*height*srcFmt.comp.bytesPerPixel());
+        dst = Buffers.newDirectByteBuffer(width*height*dstFmt.comp.bytesPerPixel());
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)i);
+        }
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Benchmark
+    public ByteBuffer convert() {
+        PixelFormatUtil.convert(width, height, src, srcFmt, false, 0, dst, dstFmt, false, 0);
+        return dst;
+    }
+
+    @Benchmark
+    public ByteBuffer convertVFlip() {
+        PixelFormatUtil.convert(width, height, src, srcFmt, false, 0, dst, dstFmt, true, 0);
+        return dst;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.nativewindow;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks {@link PixelFormatUtil#convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int) convert(..)}
+ * for identical pixel formats, i.e. the bulk row copy path,
+ * serial and with {@link ParallelExecutor parallel row processing},
+ * against the former per-byte copy loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PixelFormatUtilCopyBenchmark {
+    @Param({ "1920x1080", "3840x2160" })
+    public String size;
+
+    @Param({ "false", "true" })
+    public boolean vflip;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private int width, height;
+    private final PixelFormat fmt = PixelFormat.RGBA8888;
+    private ByteBuffer src, dst;
+
+    @Setup
+    public void setup() {
+        final int x = size.indexOf('x');
+        width = Integer.parseInt(size.substring(0, x));
+        height = Integer.parseInt(size.substring(x+1));
+        src = Buffers.newDirectByteBuffer(width*height*fmt.comp.bytesPerPixel());
+        dst = Buffers.newDirectByteBuffer(width*height*fmt.comp.bytesPerPixel());
+        for(int i=0; i<src.capacity(); i++) {
+            src.put(i, (byte)i);
+        }
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Benchmark
+    public ByteBuffer convert() {
+        PixelFormatUtil.convert(width, height, src, fmt, false, 0, dst, fmt, vflip, 0);
+        return dst;
+    }
+
+    /** The former per-byte copy loop, serial only. */
+    @Benchmark
+    public ByteBuffer perByteLoop() {
+        final int bpp = fmt.comp.bytesPerPixel();
+        final int lineStride = width * bpp;
+        for(int y=0; y<height; y++) {
+            int src_off = vflip ? ( height - 1 - y ) * lineStride : y * lineStride;
+            int dst_off = lineStride*y;
+            for(int x=0; x<width; x++) {
+                dst.put(dst_off+0, src.get(src_off+0));
+                if( 2 <= bpp ) {
+                    dst.put(dst_off+1, src.get(src_off+1));
+                    if( 3 <= bpp ) {
+                        dst.put(dst_off+2, src.get(src_off+2));
+                        if( 4 <= bpp ) {
+                            dst.put(dst_off+3, src.get(src_off+3));
+                        }
+                    }
+                }
+                src_off += bpp;
+                dst_off += bpp;
+            }
+        }
+        return dst;
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+import com.jogamp.opengl.util.texture.spi.JPEGImage;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks {@link JPEGImage#read(InputStream, ColorSpace)} over the JPEG test assets
+ * of the unit tests, serial and with {@link ParallelExecutor parallel decoding}.
+ * <p>
+ * The assets are loaded from the classpath, i.e. <code>src/test</code> must be part of it.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JPEGDecodeBenchmark {
+    static final String assetPath = "com/jogamp/opengl/test/junit/jogl/util/texture/";
+
+    @Param({ "j1-baseline", "j2-progressive", "j3-baseline_gray", "test-ycck-01", "test-ntscN_3-01-160x90-90pct-yuv444-base" })
+    public String asset;
+
+    @Param({ "1", "2", "4" })
+    public int threads;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() throws IOException {
+        final InputStream in = JPEGDecodeBenchmark.class.getClassLoader().getResourceAsStream(assetPath+asset+".jpg");
+        if( null == in ) {
+            throw new IOException("Cannot find "+assetPath+asset+".jpg, src/test not in classpath?");
+        }
+        try {
+            data = IOUtil.copyStream2ByteArray(in);
+        } finally {
+            IOUtil.close(in, false);
+        }
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Benchmark
+    public ByteBuffer decode() throws IOException {
+        return JPEGImage.read(new ByteArrayInputStream(data), ColorSpace.RGB).getData();
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.texture;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.common.nio.Buffers;
+
+import jogamp.nativewindow.ParallelExecutor;
+import jogamp.opengl.glu.mipmap.HalveImage;
+import jogamp.opengl.glu.mipmap.Mipmap;
+import jogamp.opengl.glu.mipmap.ScaleInternal;
+import jogamp.opengl.util.texture.MipmapBuilder;
+
+/**
+ * Benchmarks the CPU side of mipmap generation, i.e. the complete chain of levels down to 1x1,
+ * of {@link MipmapBuilder} against the GLU implementation used by <code>gluBuild2DMipmaps</code>.
+ * <p>
+ * Non power-of-two sizes are first scaled to the nearest power-of-two size, as GLU does.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MipmapBuilderBenchmark {
+    @Param({ "256x256", "1024x1024", "1000x600" })
+    public String size;
+
+    @Param({ "1", "3", "4" })
+    public int comps;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private int width, height, width2, height2;
+    private ByteBuffer src, scaled, dstA, dstB;
+
+    @Setup
+    public void setup() {
+        final int x = size.indexOf('x');
+        width = Integer.parseInt(size.substring(0, x));
+        height = Integer.parseInt(size.substring(x+1));
+        width2 = Mipmap.nearestPower(width);
+        height2 = Mipmap.nearestPower(height);
+        final byte[] bytes = new byte[width * height * comps];
+        new Random(42).nextBytes(bytes);
+        src = Buffers.newDirectByteBuffer(bytes.length);
+        src.put(bytes);
+        src.rewind();
+        scaled = Buffers.newDirectByteBuffer(width2 * height2 * comps);
+        dstA = Buffers.newDirectByteBuffer(Math.max(1, width2 / 2) * Math.max(1, height2 / 2) * comps);
+        dstB = Buffers.newDirectByteBuffer(dstA.capacity());
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    private boolean isScaled() {
+        return width != width2 || height != height2;
+    }
+
+    @Benchmark
+    public ByteBuffer glu() {
+        ByteBuffer in = src;
+        if( isScaled() ) {
+            src.rewind();
+            scaled.clear();
+            ScaleInternal.scale_internal_ubyte(comps, width, height, src, width2, height2, scaled, 1, width * comps, comps);
+            in = scaled;
+        }
+        int w = width2, h = height2;
+        ByteBuffer out = dstA;
+        while( w > 1 || h > 1 ) {
+            in.rewind();
+            out.clear();
+            if( 1 == w || 1 == h ) {
+                HalveImage.halve1Dimage_ubyte(comps, w, h, in, out, 1, w * comps, comps);
+            } else {
+                HalveImage.halveImage_ubyte(comps, w, h, in, out, 1, w * comps, comps);
+            }
+            w = Math.max(1, w / 2);
+            h = Math.max(1, h / 2);
+            in = out;
+            out = ( out == dstA ) ? dstB : dstA;
+        }
+        return in;
+    }
+
+    @Benchmark
+    public ByteBuffer builder() {
+        ByteBuffer in = src;
+        if( isScaled() ) {
+            MipmapBuilder.scale(comps, width, height, src, width * comps, width2, height2, scaled);
+            in = scaled;
+        }
+        int w = width2, h = height2;
+        ByteBuffer out = dstA;
+        while( w > 1 || h > 1 ) {
+            MipmapBuilder.halve(comps, w, h, in, w * comps, out);
+            w = Math.max(1, w / 2);
+            h = Math.max(1, h / 2);
+            in = out;
+            out = ( out == dstA ) ? dstB : dstA;
+        }
+        return in;
+    }
+}
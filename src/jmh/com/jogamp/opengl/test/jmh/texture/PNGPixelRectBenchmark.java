@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Benchmarks {@link PNGPixelRect#read(java.io.InputStream, PixelFormat, boolean, int, boolean) reading}
+ * and {@link PNGPixelRect#write(java.io.OutputStream, boolean) writing} a PNG image in memory,
+ * i.e. the <code>PngReader</code> and <code>PngWriter</code> incl. inflate and deflate,
+ * the latter serial and with {@link ParallelExecutor parallel encoding}.
+ * <p>
+ * The image is a synthetic gradient w/ some noise, i.e. it is neither trivial nor incompressible.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PNGPixelRectBenchmark {
+    @Param({ "512x512", "2048x2048" })
+    public String size;
+
+    @Param({ "RGB888", "RGBA8888" })
+    public String format;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private PNGPixelRect image;
+    private byte[] encoded;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() throws IOException {
+        final int x = size.indexOf('x');
+        final int width = Integer.parseInt(size.substring(0, x));
+        final int height = Integer.parseInt(size.substring(x+1));
+        final PixelFormat fmt = PixelFormat.valueOf(format);
+        final int bpp = fmt.comp.bytesPerPixel();
+        final ByteBuffer pixels = Buffers.newDirectByteBuffer(width*height*bpp);
+        final Random rnd = new Random(1);
+        for(int j=0; j<height; j++) {
+            for(int i=0; i<width; i++) {
+                final int off = ( j*width + i ) * bpp;
+                final int noise = rnd.nextInt(8);
+                pixels.put(off+0, (byte)( i + noise ));
+                pixels.put(off+1, (byte)( j + noise ));
+                pixels.put(off+2, (byte)( ( i + j ) / 2 ));
+                if( 4 == bpp ) {
+                    pixels.put(off+3, (byte)( 255 - noise ));
+                }
+            }
+        }
+        image = new PNGPixelRect(fmt, new Dimension(width, height), width*bpp, false, pixels, 72, 72);
+        image.write(out, false);
+        encoded = out.toByteArray();
+        ParallelExecutor.setThreadCount(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    @Benchmark
+    public PNGPixelRect read() throws IOException {
+        return PNGPixelRect.read(new ByteArrayInputStream(encoded), null, true, 0, false);
+    }
+
+    @Benchmark
+    public int write() throws IOException {
+        out.reset();
+        image.write(out, false);
+        return out.size();
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.jmh.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jogamp.opengl.util.packrect.BackingStoreManager;
+import com.jogamp.opengl.util.packrect.Rect;
+import com.jogamp.opengl.util.packrect.RectanglePacker;
+
+/**
+ * Benchmarks {@link RectanglePacker#add(Rect)} of glyph sized rectangles
+ * into an initially small, growing backing store, as used by the <code>TextRenderer</code>.
+ * <p>
+ * The {@link BackingStoreManager} only tracks the backing store size,
+ * i.e. the cost of moving texels on expansion is not measured.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RectanglePackerBenchmark {
+    @Param({ "256", "4096", "16384" })
+    public int rectCount;
+
+    private int[] sizes;
+    private int[] churnIndices;
+
+    private RectanglePacker churnPacker;
+    private Rect[] churnRects;
+    private int churnStep;
+
+    /** Backing store is a dimension only, compaction is supported. */
+    static class NullBackingStoreManager implements BackingStoreManager {
+        @Override
+        public Object allocateBackingStore(final int w, final int h) { return new int[] { w, h }; }
+        @Override
+        public void deleteBackingStore(final Object backingStore) { }
+        @Override
+        public boolean canCompact() { return true; }
+        @Override
+        public boolean preExpand(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public boolean additionFailed(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public void beginMovement(final Object oldBackingStore, final Object newBackingStore) { }
+        @Override
+        public void move(final Object oldBackingStore, final Rect oldLocation, final Object newBackingStore, final Rect newLocation) { }
+        @Override
+        public void endMovement(final Object oldBackingStore, final Object newBackingStore) { }
+    }
+    private final NullBackingStoreManager manager = new NullBackingStoreManager();
+
+    @Setup
+    public void setup() {
+        final Random rnd = new Random(1);
+        sizes = new int[rectCount*2];
+        for(int i=0; i<rectCount; i++) {
+            // glyph like: width 4..40, height 12..40
+            sizes[i*2+0] = 4 + rnd.nextInt(37);
+            sizes[i*2+1] = 12 + rnd.nextInt(29);
+        }
+        churnIndices = new int[rectCount];
+        for(int i=0; i<rectCount; i++) {
+            churnIndices[i] = rnd.nextInt(rectCount);
+        }
+        churnPacker = new RectanglePacker(manager, 256, 256);
+        churnRects = new Rect[rectCount];
+        for(int i=0; i<rectCount; i++) {
+            churnRects[i] = new Rect(0, 0, sizes[i*2+0], sizes[i*2+1], null);
+            churnPacker.add(churnRects[i]);
+        }
+        churnStep = 0;
+    }
+
+    @Benchmark
+    public Object add() {
+        final RectanglePacker packer = new RectanglePacker(manager, 256, 256);
+        for(int i=0; i<rectCount; i++) {
+            packer.add(new Rect(0, 0, sizes[i*2+0], sizes[i*2+1], null));
+        }
+        return packer.getBackingStore();
+    }
+
+    /** Adds all rectangles, then removes and re-adds every other one. */
+    @Benchmark
+    public Object addRemoveAdd() {
+        final RectanglePacker packer = new RectanglePacker(manager, 256, 256);
+        final Rect[] rects = new Rect[rectCount];
+        for(int i=0; i<rectCount; i++) {
+            rects[i] = new Rect(0, 0, sizes[i*2+0], sizes[i*2+1], null);
+            packer.add(rects[i]);
+        }
+        for(int i=0; i<rectCount; i+=2) {
+            packer.remove(rects[i]);
+        }
+        for(int i=0; i<rectCount; i+=2) {
+            rects[i] = new Rect(0, 0, sizes[i*2+0], sizes[i*2+1], null);
+            packer.add(rects[i]);
+        }
+        return packer.getBackingStore();
+    }
+
+    /** Steady state of a populated packer: replaces one random rectangle with a new one. */
+    @Benchmark
+    public Object churn() {
+        final int i = churnIndices[churnStep];
+        final int j = ( churnStep + rectCount / 2 ) % rectCount;
+        churnStep = ( churnStep + 1 ) % rectCount;
+        churnPacker.remove(churnRects[i]);
+        churnRects[i] = new Rect(0, 0, sizes[j*2+0], sizes[j*2+1], null);
+        churnPacker.add(churnRects[i]);
+        return churnRects[i];
+    }
+}
@@ -30,12 +30,17 @@ package com.jogamp.graph.curve;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jogamp.graph.geom.plane.AffineTransform;
+import jogamp.nativewindow.ParallelExecutor;
 
 import com.jogamp.graph.curve.tess.Triangulation;
 import com.jogamp.graph.curve.tess.Triangulator;
 import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.PVertex;
 import com.jogamp.graph.geom.Triangle;
 import com.jogamp.graph.geom.Vertex;
 import com.jogamp.opengl.math.FloatUtil;
@@ -146,6 +151,12 @@ public class OutlineShape implements Comparable<OutlineShape> {
     private final float[] tmpV1 = new float[3];
     private final float[] tmpV2 = new float[3];
     private final float[] tmpV3 = new float[3];
+    private final float[] tmpC0 = new float[3];
+    private final float[] tmpC1 = new float[3];
+    private final float[] tmpC2 = new float[3];
+    private final float[] tmpC3 = new float[3];
+    private final float[] tmpC4 = new float[3];
+    private final float[] tmpC5 = new float[3];
 
     /** Create a new Outline based Shape
      */
@@ -349,7 +360,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         final Outline lo = getLastOutline();
         lo.addVertex(v);
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
-            bbox.resize(v.getCoord());
+            bbox.resize(v.getX(), v.getY(), v.getZ());
         }
         // vertices.add(v); // FIXME: can do and remove DIRTY_VERTICES ?
         dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
@@ -364,7 +375,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         final Outline lo = getLastOutline();
         lo.addVertex(position, v);
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
-            bbox.resize(v.getCoord());
+            bbox.resize(v.getX(), v.getY(), v.getZ());
         }
         dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
     }
@@ -443,9 +454,17 @@ public class OutlineShape implements Comparable<OutlineShape> {
         // checkPossibleOverlaps = false;
     }
 
+    /**
+     * Returns the coordinates of the given vertex, copied into <code>tmp</code> for a {@link PVertex}
+     * to not allocate its {@link PVertex#getCoord() snapshot}.
+     */
+    private static float[] getCoord(final Vertex v, final float[] tmp) {
+        return v instanceof PVertex ? ((PVertex)v).getCoord(tmp) : v.getCoord();
+    }
+
     private void subdivideTriangle(final Outline outline, final Vertex a, final Vertex b, final Vertex c, final int index){
-        VectorUtil.midVec3(tmpV1, a.getCoord(), b.getCoord());
-        VectorUtil.midVec3(tmpV3, b.getCoord(), c.getCoord());
+        VectorUtil.midVec3(tmpV1, getCoord(a, tmpC0), getCoord(b, tmpC1));
+        VectorUtil.midVec3(tmpV3, getCoord(b, tmpC1), getCoord(c, tmpC2));
         VectorUtil.midVec3(tmpV2, tmpV1, tmpV3);
 
         //drop off-curve vertex to image on the curve
@@ -530,8 +549,8 @@ public class OutlineShape implements Comparable<OutlineShape> {
                     continue;
                 }
 
-                if( VectorUtil.isVec3InTriangle3(a.getCoord(), b.getCoord(), c.getCoord(),
-                                                 current.getCoord(), nextV.getCoord(), prevV.getCoord(),
+                if( VectorUtil.isVec3InTriangle3(getCoord(a, tmpC0), getCoord(b, tmpC1), getCoord(c, tmpC2),
+                                                 getCoord(current, tmpC3), getCoord(nextV, tmpC4), getCoord(prevV, tmpC5),
                                                  tmpV1, tmpV2, tmpV3) ) {
                     return current;
                 }
@@ -563,8 +582,8 @@ public class OutlineShape implements Comparable<OutlineShape> {
                     continue;
                 }
 
-                if( VectorUtil.isVec3InTriangle3(a.getCoord(), b.getCoord(), c.getCoord(),
-                                                 current.getCoord(), nextV.getCoord(), prevV.getCoord(),
+                if( VectorUtil.isVec3InTriangle3(getCoord(a, tmpC0), getCoord(b, tmpC1), getCoord(c, tmpC2),
+                                                 getCoord(current, tmpC3), getCoord(nextV, tmpC4), getCoord(prevV, tmpC5),
                                                  tmpV1, tmpV2, tmpV3, FloatUtil.EPSILON) ) {
                     return current;
                 }
@@ -591,7 +610,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
                     final int j = (i+1)%vertexCount;
                     final Vertex nextVertex = outline.getVertex(j);
                     if ( !currentVertex.isOnCurve() && !nextVertex.isOnCurve() ) {
-                        VectorUtil.midVec3(tmpV1, currentVertex.getCoord(), nextVertex.getCoord());
+                        VectorUtil.midVec3(tmpV1, getCoord(currentVertex, tmpC0), getCoord(nextVertex, tmpC1));
                         System.err.println("XXX: Cubic: "+i+": "+currentVertex+", "+j+": "+nextVertex);
                         final Vertex v = vertexFactory.create(tmpV1, 0, 3, true);
                         i++;
@@ -606,7 +625,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
                 cc--;
                 count--;
             } else  if( 0 < vertexCount &&
-                        VectorUtil.isVec3Equal( outline.getVertex(0).getCoord(), 0, outline.getLastVertex().getCoord(), 0, FloatUtil.EPSILON )) {
+                        VectorUtil.isVec3Equal( outline.getVertex(0), outline.getLastVertex(), FloatUtil.EPSILON )) {
                 outline.removeVertex(vertexCount-1);
             }
         }
@@ -687,6 +706,10 @@ public class OutlineShape implements Comparable<OutlineShape> {
         if( 0 != ( DIRTY_TRIANGLES & dirtyBits ) ) {
             cleanupOutlines();
             triangulateImpl();
+            if( vertexFactory instanceof PVertex.Factory ) {
+                // drop coordinate snapshots of the triangulation
+                ((PVertex.Factory)vertexFactory).releaseSnapshots();
+            }
             updated = true;
             dirtyBits |= DIRTY_VERTICES;
             dirtyBits &= ~DIRTY_TRIANGLES;
@@ -699,6 +722,75 @@ public class OutlineShape implements Comparable<OutlineShape> {
         return triangles;
     }
 
+    /** Minimum number of shapes to triangulate in parallel. */
+    private static final long PARALLEL_MIN_SHAPES = 4;
+
+    /**
+     * Triangulates all given shapes, i.e. calls {@link #getTriangles(VerticesState)} on each,
+     * either on the calling thread or concurrently, see {@link ParallelExecutor}.
+     * <p>
+     * Shapes are independent units of work, except shapes sharing a {@link PVertex.Factory},
+     * which is not thread-safe. The latter are triangulated sequentially by one thread per factory.
+     * A shape listed multiple times is triangulated once.
+     * </p>
+     * <p>
+     * The triangulation results are cached by each shape and are visible to the calling thread after return,
+     * hence a subsequent {@link Region#addOutlineShape(OutlineShape, AffineTransform, float[])} in order
+     * only merges the results.
+     * </p>
+     * <p>
+     * The shapes must not be modified or triangulated by another thread while this method is running.
+     * </p>
+     */
+    public static void triangulate(final List<OutlineShape> shapes, final VerticesState destinationType) {
+        if( !ParallelExecutor.getCurrentSetup().isParallel(shapes.size(), PARALLEL_MIN_SHAPES) ) {
+            for(int i=0; i<shapes.size(); i++) {
+                shapes.get(i).getTriangles(destinationType);
+            }
+            return;
+        }
+        if(destinationType != VerticesState.QUADRATIC_NURBS) {
+            throw new IllegalStateException("destinationType "+destinationType.name()+" not supported");
+        }
+        // units of work: single shapes, or all shapes sharing a non thread-safe vertex factory
+        final ArrayList<ArrayList<OutlineShape>> units = new ArrayList<ArrayList<OutlineShape>>();
+        final IdentityHashMap<OutlineShape, OutlineShape> seen = new IdentityHashMap<OutlineShape, OutlineShape>();
+        final IdentityHashMap<Vertex.Factory<? extends Vertex>, ArrayList<OutlineShape>> shared =
+                new IdentityHashMap<Vertex.Factory<? extends Vertex>, ArrayList<OutlineShape>>();
+        for(int i=0; i<shapes.size(); i++) {
+            final OutlineShape shape = shapes.get(i);
+            if( 0 == ( DIRTY_TRIANGLES & shape.dirtyBits ) || null != seen.put(shape, shape) ) {
+                continue;
+            }
+            if( shape.vertexFactory instanceof PVertex.Factory ) {
+                ArrayList<OutlineShape> unit = shared.get(shape.vertexFactory);
+                if( null == unit ) {
+                    unit = new ArrayList<OutlineShape>();
+                    shared.put(shape.vertexFactory, unit);
+                    units.add(unit);
+                }
+                unit.add(shape);
+            } else {
+                final ArrayList<OutlineShape> unit = new ArrayList<OutlineShape>(1);
+                unit.add(shape);
+                units.add(unit);
+            }
+        }
+        // units differ in size, hence each band is a thread slot taking the next pending unit
+        final AtomicInteger nextUnit = new AtomicInteger(0);
+        ParallelExecutor.run(units.size(), 1, shapes.size(), PARALLEL_MIN_SHAPES, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                int i;
+                while( ( i = nextUnit.getAndIncrement() ) < units.size() ) {
+                    final ArrayList<OutlineShape> unit = units.get(i);
+                    for(int j=0; j<unit.size(); j++) {
+                        unit.get(j).getTriangles(destinationType);
+                    }
+                }
+            } } );
+    }
+
     /**
      * Return a transformed instance with all {@link Outline}s are copied and transformed.
      * <p>
@@ -33,6 +33,7 @@ import java.util.List;
 import jogamp.graph.geom.plane.AffineTransform;
 import jogamp.opengl.Debug;
 
+import com.jogamp.graph.geom.PVertex;
 import com.jogamp.graph.geom.Triangle;
 import com.jogamp.graph.geom.Vertex;
 import com.jogamp.graph.curve.opengl.GLRegion;
@@ -101,6 +102,19 @@ public abstract class Region {
      */
     public static final int COLORTEXTURE_RENDERING_BIT = 1 <<  10;
 
+    /**
+     * Rendering-Mode bit for instanced rendering
+     * <p>
+     * If set, each vertex is placed via a per instance offset and scale attribute,
+     * see {@link com.jogamp.graph.curve.opengl.TextInstanceRegion}.
+     * If combined with {@link #COLORCHANNEL_RENDERING_BIT}, the color is also given per instance.
+     * </p>
+     * <p>
+     * Only supported for single pass rendering, not by {@link com.jogamp.graph.curve.opengl.GLRegion#create(int, com.jogamp.opengl.util.texture.TextureSequence)}.
+     * </p>
+     */
+    public static final int INSTANCED_RENDERING_BIT = 1 <<  11;
+
     /** Default maximum {@link #getQuality() quality}, {@value}. */
     public static final int MAX_QUALITY  = 1;
 
@@ -155,16 +169,26 @@ public abstract class Region {
         return 0 != (renderModes & Region.COLORTEXTURE_RENDERING_BIT);
     }
 
+    /**
+     * Returns true if render mode uses instanced rendering,
+     * i.e. the bit {@link #INSTANCED_RENDERING_BIT} is set,
+     * otherwise false.
+     */
+    public static boolean isInstanced(final int renderModes) {
+        return 0 != (renderModes & Region.INSTANCED_RENDERING_BIT);
+    }
+
     public static String getRenderModeString(final int renderModes) {
         final String curveS = hasVariableWeight(renderModes) ? "-curve" : "";
         final String cChanS = hasColorChannel(renderModes) ? "-cols" : "";
         final String cTexS = hasColorTexture(renderModes) ? "-ctex" : "";
+        final String instS = isInstanced(renderModes) ? "-inst" : "";
         if( Region.isVBAA(renderModes) ) {
-            return "vbaa"+curveS+cChanS+cTexS;
+            return "vbaa"+curveS+cChanS+cTexS+instS;
         } else if( Region.isMSAA(renderModes) ) {
-            return "msaa"+curveS+cChanS+cTexS;
+            return "msaa"+curveS+cChanS+cTexS+instS;
         } else {
-            return "norm"+curveS+cChanS+cTexS;
+            return "norm"+curveS+cChanS+cTexS+instS;
         }
     }
 
@@ -248,16 +272,28 @@ public abstract class Region {
 
     final float[] coordsEx = new float[3];
 
+    final float[] coordsPV = new float[3];
+    final float[] texCoordsPV = new float[3];
+
     private void pushNewVertexImpl(final Vertex vertIn, final AffineTransform transform, final float[] rgba) {
+        final float[] coordsIn, texCoordsIn;
+        if( vertIn instanceof PVertex ) {
+            // read the packed store directly, w/o snapshot arrays
+            final PVertex pv = (PVertex)vertIn;
+            coordsIn = pv.getCoord(coordsPV);
+            texCoordsIn = pv.getTexCoord(texCoordsPV);
+        } else {
+            coordsIn = vertIn.getCoord();
+            texCoordsIn = vertIn.getTexCoord();
+        }
         if( null != transform ) {
-            final float[] coordsIn = vertIn.getCoord();
             transform.transform(coordsIn, coordsEx);
             coordsEx[2] = coordsIn[2];
             box.resize(coordsEx[0], coordsEx[1], coordsEx[2]);
-            pushVertex(coordsEx, vertIn.getTexCoord(), rgba);
+            pushVertex(coordsEx, texCoordsIn, rgba);
         } else {
-            box.resize(vertIn.getX(), vertIn.getY(), vertIn.getZ());
-            pushVertex(vertIn.getCoord(), vertIn.getTexCoord(), rgba);
+            box.resize(coordsIn[0], coordsIn[1], coordsIn[2]);
+            pushVertex(coordsIn, texCoordsIn, rgba);
         }
         numVertices++;
     }
@@ -276,9 +312,21 @@ public abstract class Region {
      * is dropped if it's {@link OutlineShape#getBounds() bounding-box} is fully outside of the frustum.
      * The optional {@link AffineTransform} is applied to the bounding-box beforehand.
      * </p>
+     * <p>
+     * The number of vertices is not limited by 16-bit indices.
+     * The GL implementation uses 32-bit indices if required and supported,
+     * otherwise it splits the region into batches of 2^16 vertices transparently.
+     * </p>
      * @param rgbaColor TODO
      */
     public final void addOutlineShape(final OutlineShape shape, final AffineTransform t, final float[] rgbaColor) {
+        if( !isCulled(shape, t) ) {
+            addOutlineShapeImpl(shape, t, rgbaColor);
+        }
+    }
+
+    /** Returns true if {@link #setFrustum(Frustum) frustum culling is set} and the transformed shape's bounding-box is fully outside. */
+    private boolean isCulled(final OutlineShape shape, final AffineTransform t) {
         if( null != frustum ) {
             final AABBox shapeBox = shape.getBounds();
             final AABBox shapeBoxT;
@@ -292,9 +340,13 @@ public abstract class Region {
                 if(DEBUG_INSTANCE) {
                     System.err.println("Region.addOutlineShape(): Dropping outside shapeBoxT: "+shapeBoxT);
                 }
-                return;
+                return true;
             }
         }
+        return false;
+    }
+
+    private void addOutlineShapeImpl(final OutlineShape shape, final AffineTransform t, final float[] rgbaColor) {
         final List<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
         final ArrayList<Vertex> vertsIn = shape.getVertices();
         if(DEBUG_INSTANCE) {
@@ -330,7 +382,7 @@ public abstract class Region {
                 // triangles.add( triEx );
                 final Vertex[] triInVertices = triIn.getVertices();
                 final int tv0Idx = triInVertices[0].getId();
-                if( Integer.MAX_VALUE-idxOffset > tv0Idx ) { // Integer.MAX_VALUE != i0 // FIXME: renderer uses SHORT!
+                if( Integer.MAX_VALUE-idxOffset > tv0Idx ) { // Integer.MAX_VALUE != i0
                     // valid 'known' idx - move by offset
                     if(Region.DEBUG_INSTANCE) {
                         System.err.println("T["+i+"]: Moved "+tv0Idx+" + "+idxOffset+" -> "+(tv0Idx+idxOffset));
@@ -363,9 +415,31 @@ public abstract class Region {
         markShapeDirty();
     }
 
+    /**
+     * Add the given {@link OutlineShape}s to this region in order,
+     * see {@link #addOutlineShape(OutlineShape, AffineTransform, float[])}.
+     * <p>
+     * The shapes not dropped by frustum culling are triangulated beforehand via
+     * {@link OutlineShape#triangulate(List, OutlineShape.VerticesState)},
+     * i.e. concurrently if {@link jogamp.nativewindow.ParallelExecutor parallel processing} is enabled.
+     * </p>
+     */
     public final void addOutlineShapes(final List<OutlineShape> shapes, final AffineTransform transform, final float[] rgbaColor) {
-        for (int i = 0; i < shapes.size(); i++) {
-            addOutlineShape(shapes.get(i), transform, rgbaColor);
+        final List<OutlineShape> visible;
+        if( null != frustum ) {
+            visible = new ArrayList<OutlineShape>(shapes.size());
+            for (int i = 0; i < shapes.size(); i++) {
+                final OutlineShape shape = shapes.get(i);
+                if( !isCulled(shape, transform) ) {
+                    visible.add(shape);
+                }
+            }
+        } else {
+            visible = shapes;
+        }
+        OutlineShape.triangulate(visible, OutlineShape.VerticesState.QUADRATIC_NURBS);
+        for (int i = 0; i < visible.size(); i++) {
+            addOutlineShapeImpl(visible.get(i), transform, rgbaColor);
         }
     }
 
@@ -29,11 +29,13 @@ package com.jogamp.graph.curve.opengl;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.FBObject;
 
 import jogamp.graph.curve.opengl.VBORegion2PMSAAES2;
 import jogamp.graph.curve.opengl.VBORegion2PVBAAES2;
 import jogamp.graph.curve.opengl.VBORegionSPES2;
 
+import com.jogamp.opengl.util.GLArrayDataServer;
 import com.jogamp.opengl.util.PMVMatrix;
 import com.jogamp.opengl.util.texture.TextureSequence;
 import com.jogamp.graph.curve.Region;
@@ -148,4 +150,28 @@ public abstract class GLRegion extends Region {
     }
 
     protected abstract void drawImpl(final GL2ES2 gl, final RegionRenderer renderer, final int[/*1*/] sampleCount);
+
+    /**
+     * Returns the approximate size of the associated OGL objects in bytes,
+     * i.e. the vertex and index data as well as the color storage of a two pass FBO.
+     * <p>
+     * The value reflects the state of the last {@link #draw(GL2ES2, RegionRenderer, int[]) draw}.
+     * </p>
+     * <p>
+     * This default implementation returns zero, implementations shall override it.
+     * </p>
+     */
+    public int getByteCount() {
+        return 0;
+    }
+
+    /** Returns {@link GLArrayDataServer#getSizeInBytes()} or zero if <code>null</code>. */
+    protected static int getByteCount(final GLArrayDataServer ad) {
+        return null != ad ? ad.getSizeInBytes() : 0;
+    }
+
+    /** Returns the approximate color storage size of the given {@link FBObject} in bytes, or zero if <code>null</code>. */
+    protected static int getByteCount(final FBObject fbo) {
+        return null != fbo ? fbo.getWidth() * fbo.getHeight() * 4 * Math.max(1, fbo.getNumSamples()) : 0;
+    }
 }
@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.curve.opengl;
+
+import java.util.ArrayList;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+
+import jogamp.graph.curve.opengl.shader.AttributeNames;
+
+import com.jogamp.common.util.IntObjectHashMap;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.font.Font;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+/**
+ * Cache of pre-triangulated {@link Font.Glyph} meshes of one {@link Font},
+ * packed into shared vertex, curve parameter and index buffers.
+ * <p>
+ * Each glyph's {@link OutlineShape} is triangulated once in glyph space, i.e. unscaled w/o transform,
+ * when requested via {@link #getMesh(Font.Glyph)} the first time.
+ * Its indices are relative to the mesh's {@link Mesh#getVertexOffset() first vertex}.
+ * </p>
+ * <p>
+ * Used by {@link TextInstanceRegion} to draw text as glyph instances.
+ * One cache may be shared by multiple {@link TextInstanceRegion}s and shall be {@link #destroy(GL2ES2) destroyed}
+ * after its last use.
+ * </p>
+ */
+public final class GlyphMeshCache {
+    /** A glyph's mesh within the shared buffers of its {@link GlyphMeshCache}. */
+    public static final class Mesh {
+        private final int index;
+        private final short glyphID;
+        private final int vertexOffset;
+        private final int vertexCount;
+        private final int indexOffset;
+        private final int indexCount;
+
+        Mesh(final int index, final short glyphID, final int vertexOffset, final int vertexCount, final int indexOffset, final int indexCount) {
+            this.index = index;
+            this.glyphID = glyphID;
+            this.vertexOffset = vertexOffset;
+            this.vertexCount = vertexCount;
+            this.indexOffset = indexOffset;
+            this.indexCount = indexCount;
+        }
+        /** Returns the index of this mesh within its {@link GlyphMeshCache}. */
+        public final int getIndex() { return index; }
+        /** Returns the {@link Font.Glyph#getID() glyph ID}. */
+        public final short getGlyphID() { return glyphID; }
+        /** Returns the first vertex in the shared vertex buffer. */
+        public final int getVertexOffset() { return vertexOffset; }
+        public final int getVertexCount() { return vertexCount; }
+        /** Returns the first index in the shared index buffer. */
+        public final int getIndexOffset() { return indexOffset; }
+        public final int getIndexCount() { return indexCount; }
+        /** Returns true if this glyph has no triangles, e.g. a space. */
+        public final boolean isEmpty() { return 0 == indexCount; }
+
+        @Override
+        public String toString() {
+            return "Mesh[#"+index+", id "+glyphID+", vertices "+vertexOffset+" + "+vertexCount+", indices "+indexOffset+" + "+indexCount+"]";
+        }
+    }
+
+    /** Captures the triangulation of {@link Region#addOutlineShape(OutlineShape, com.jogamp.graph.geom.plane.AffineTransform, float[])}. */
+    private final class MeshSink extends Region {
+        int vertexCount = 0;
+        int indexCount = 0;
+        boolean overflow = false;
+
+        MeshSink() {
+            super(0);
+        }
+
+        void reset() {
+            clearImpl();
+            vertexCount = 0;
+            indexCount = 0;
+            overflow = false;
+        }
+
+        @Override
+        protected final void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            vertices.putf(coords[0]);
+            vertices.putf(coords[1]);
+            vertices.putf(coords[2]);
+            curveParams.putf(texParams[0]);
+            curveParams.putf(texParams[1]);
+            curveParams.putf(texParams[2]);
+            vertexCount++;
+        }
+
+        @Override
+        protected final void pushIndex(final int idx) {
+            overflow |= idx > 0xffff;
+            indices.puts((short)idx);
+            indexCount++;
+        }
+    }
+
+    private final Font font;
+    private final IntObjectHashMap meshMap = new IntObjectHashMap();
+    private final ArrayList<Mesh> meshes = new ArrayList<Mesh>();
+    private final MeshSink sink = new MeshSink();
+    private final GLArrayDataServer vertices;
+    private final GLArrayDataServer curveParams;
+    private final GLArrayDataServer indices;
+    private int vertexCount = 0;
+    private int indexCount = 0;
+
+    /**
+     * @param font the {@link Font} of all cached glyphs
+     */
+    public GlyphMeshCache(final Font font) {
+        this.font = font;
+        final int initialElementCount = 1024;
+        vertices = GLArrayDataServer.createGLSL(AttributeNames.VERTEX_ATTR_NAME, 3, GL.GL_FLOAT,
+                                                false, initialElementCount, GL.GL_STATIC_DRAW);
+        curveParams = GLArrayDataServer.createGLSL(AttributeNames.CURVEPARAMS_ATTR_NAME, 3, GL.GL_FLOAT,
+                                                   false, initialElementCount, GL.GL_STATIC_DRAW);
+        indices = GLArrayDataServer.createData(1, GL.GL_SHORT, initialElementCount * 3, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+    }
+
+    public final Font getFont() { return font; }
+
+    /** Returns the number of cached meshes. */
+    public final int getMeshCount() { return meshes.size(); }
+
+    /** Returns the cached mesh at the given {@link Mesh#getIndex() index}. */
+    public final Mesh getMesh(final int index) { return meshes.get(index); }
+
+    /** Returns the total number of vertices of all cached meshes. */
+    public final int getVertexCount() { return vertexCount; }
+
+    /** Returns the total number of indices of all cached meshes. */
+    public final int getIndexCount() { return indexCount; }
+
+    /**
+     * Returns the mesh of the given glyph, triangulating and adding it to the shared buffers if not cached yet.
+     * <p>
+     * A glyph w/o {@link Font.Glyph#getShape() shape} results in an {@link Mesh#isEmpty() empty} mesh.
+     * </p>
+     */
+    public final Mesh getMesh(final Font.Glyph glyph) {
+        final short id = glyph.getID();
+        Mesh mesh = (Mesh) meshMap.get(id);
+        if( null == mesh ) {
+            mesh = addMesh(id, glyph.getShape());
+            meshMap.put(id, mesh);
+        }
+        return mesh;
+    }
+
+    private Mesh addMesh(final short id, final OutlineShape shape) {
+        if( vertices.sealed() ) {
+            vertices.seal(false);
+            curveParams.seal(false);
+            indices.seal(false);
+        }
+        sink.reset();
+        if( null != shape ) {
+            sink.addOutlineShape(shape, null, null);
+        }
+        final Mesh mesh;
+        if( sink.overflow ) {
+            // exceeds 16-bit indices, drop the glyph
+            rewind(vertices, vertexCount * 3);
+            rewind(curveParams, vertexCount * 3);
+            rewind(indices, indexCount);
+            mesh = new Mesh(meshes.size(), id, vertexCount, 0, indexCount, 0);
+        } else {
+            mesh = new Mesh(meshes.size(), id, vertexCount, sink.vertexCount, indexCount, sink.indexCount);
+            vertexCount += sink.vertexCount;
+            indexCount += sink.indexCount;
+        }
+        meshes.add(mesh);
+        return mesh;
+    }
+
+    private static void rewind(final GLArrayDataServer ad, final int position) {
+        ad.getBuffer().position(position);
+    }
+
+    /** Seals the shared buffers after adding meshes, uploaded when enabled. */
+    final void seal() {
+        if( !vertices.sealed() ) {
+            vertices.seal(true);
+            curveParams.seal(true);
+            indices.seal(true);
+        }
+    }
+
+    final GLArrayDataServer getVertices() { return vertices; }
+    final GLArrayDataServer getCurveParams() { return curveParams; }
+    final GLArrayDataServer getIndices() { return indices; }
+
+    /** Deletes the shared buffers and clears the cache. */
+    public final void destroy(final GL2ES2 gl) {
+        vertices.destroy(gl);
+        curveParams.destroy(gl);
+        indices.destroy(gl);
+        meshMap.clear();
+        meshes.clear();
+        vertexCount = 0;
+        indexCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GlyphMeshCache["+font.getFullFamilyName(null)+", meshes "+meshes.size()+", vertices "+vertexCount+", indices "+indexCount+"]";
+    }
+}
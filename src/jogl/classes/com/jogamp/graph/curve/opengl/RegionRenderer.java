@@ -295,6 +295,7 @@ public class RegionRenderer {
 
     private static String GLSL_USE_COLOR_CHANNEL = "#define USE_COLOR_CHANNEL 1\n";
     private static String GLSL_USE_COLOR_TEXTURE = "#define USE_COLOR_TEXTURE 1\n";
+    private static String GLSL_USE_INSTANCING = "#define USE_INSTANCING 1\n";
     private static String GLSL_DEF_SAMPLE_COUNT = "#define SAMPLE_COUNT ";
     private static String GLSL_CONST_SAMPLE_COUNT = "const float sample_count = ";
     private static String GLSL_MAIN_BEGIN = "void main (void)\n{\n";
@@ -398,7 +399,7 @@ public class RegionRenderer {
     }
     private final IntObjectHashMap shaderPrograms = new IntObjectHashMap();
 
-    private static final int HIGH_MASK = Region.COLORCHANNEL_RENDERING_BIT | Region.COLORTEXTURE_RENDERING_BIT;
+    private static final int HIGH_MASK = Region.COLORCHANNEL_RENDERING_BIT | Region.COLORTEXTURE_RENDERING_BIT | Region.INSTANCED_RENDERING_BIT;
     private static final int TWO_PASS_BIT = 1 <<  31;
 
     /**
@@ -497,6 +498,9 @@ public class RegionRenderer {
             posVp = rsVp.insertShaderSource(0, posVp, GLSL_USE_COLOR_CHANNEL);
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_COLOR_CHANNEL);
         }
+        if( Region.isInstanced( renderModes ) ) {
+            posVp = rsVp.insertShaderSource(0, posVp, GLSL_USE_INSTANCING);
+        }
         if( Region.hasColorTexture( renderModes ) ) {
                     rsVp.insertShaderSource(0, posVp, GLSL_USE_COLOR_TEXTURE);
             posFp = rsFp.insertShaderSource(0, posFp, GLSL_USE_COLOR_TEXTURE);
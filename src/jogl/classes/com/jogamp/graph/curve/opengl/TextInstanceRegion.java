@@ -0,0 +1,422 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.curve.opengl;
+
+import java.nio.FloatBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+
+import jogamp.graph.curve.opengl.RegionIndices;
+import jogamp.graph.curve.opengl.shader.AttributeNames;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.Font.Glyph;
+import com.jogamp.opengl.util.GLArrayDataServer;
+import com.jogamp.opengl.util.glsl.ShaderProgram;
+
+/**
+ * Text region drawing each glyph as an instance of its pre-triangulated {@link GlyphMeshCache.Mesh}.
+ * <p>
+ * In contrast to {@link TextRegionUtil#addStringToRegion(GLRegion, com.jogamp.graph.geom.Vertex.Factory, Font, float, CharSequence, float[], com.jogamp.graph.geom.plane.AffineTransform, com.jogamp.graph.geom.plane.AffineTransform) adding strings to a GLRegion},
+ * glyph outlines are triangulated only once per {@link GlyphMeshCache} and each glyph occurrence
+ * only adds a small per instance record, i.e. its offset, scale and optional color.
+ * </p>
+ * <p>
+ * Instances are grouped by their glyph mesh and each group is issued by one
+ * {@link GL2ES3#glDrawElementsInstanced(int, int, int, long, int) instanced draw call},
+ * utilizing {@link GL2ES3#glVertexAttribDivisor(int, int) attribute divisors}.
+ * If instanced rendering is not available, e.g. on ES2, each instance is drawn separately
+ * using constant vertex attributes.
+ * </p>
+ * <p>
+ * Only single pass rendering is supported, i.e. neither {@link Region#VBAA_RENDERING_BIT}
+ * nor {@link Region#MSAA_RENDERING_BIT}, and no {@link Region#COLORTEXTURE_RENDERING_BIT color texture}.
+ * The {@link Region#INSTANCED_RENDERING_BIT} is always added to the given render modes.
+ * </p>
+ */
+public class TextInstanceRegion {
+    private final GlyphMeshCache cache;
+    private final int renderModes;
+    private final RenderState.ProgramLocal rsLocal;
+    private int quality;
+
+    private final GLArrayDataServer gca_InstanceOffsetScaleAttr;
+    private final GLArrayDataServer gca_InstanceColorsAttr;
+    private final GLArrayDataServer[] meshAttributes;
+    private final GLArrayDataServer[] instanceAttributes;
+    private ShaderProgram spPass1 = null;
+
+    /** Instance records: mesh index, x, y, scale and optional rgba each. */
+    private int[] instMesh = new int[64];
+    private float[] instOffsetScale = new float[64*3];
+    private float[] instColor;
+    private int instanceCount = 0;
+
+    /** Draw groups: mesh index, first instance and instance count each, sorted by mesh. */
+    private int[] groups = new int[16*3];
+    private int groupCount = 0;
+    private int drawCount = 0;
+    private boolean dirty = true;
+
+    /**
+     * @param cache the {@link GlyphMeshCache} of the {@link Font} to be rendered
+     * @param renderModes single pass render modes, {@link Region#INSTANCED_RENDERING_BIT} is added
+     * @throws IllegalArgumentException if two pass or color texture rendering is requested
+     */
+    public TextInstanceRegion(final GlyphMeshCache cache, final int renderModes) throws IllegalArgumentException {
+        if( Region.isTwoPass(renderModes) || Region.hasColorTexture(renderModes) ) {
+            throw new IllegalArgumentException("Only single pass w/o color texture supported: "+Region.getRenderModeString(renderModes));
+        }
+        this.cache = cache;
+        this.renderModes = renderModes | Region.INSTANCED_RENDERING_BIT;
+        this.quality = Region.MAX_QUALITY;
+        this.rsLocal = new RenderState.ProgramLocal();
+
+        final int initialElementCount = 64;
+        gca_InstanceOffsetScaleAttr = GLArrayDataServer.createGLSLStreaming(AttributeNames.INSTANCE_OFFSETSCALE_ATTR_NAME, 3, GL.GL_FLOAT,
+                                                                            false, initialElementCount, 3);
+        if( Region.hasColorChannel(renderModes) ) {
+            gca_InstanceColorsAttr = GLArrayDataServer.createGLSLStreaming(AttributeNames.COLOR_ATTR_NAME, 4, GL.GL_FLOAT,
+                                                                           false, initialElementCount, 3);
+            instColor = new float[64*4];
+            instanceAttributes = new GLArrayDataServer[] { gca_InstanceOffsetScaleAttr, gca_InstanceColorsAttr };
+        } else {
+            gca_InstanceColorsAttr = null;
+            instColor = null;
+            instanceAttributes = new GLArrayDataServer[] { gca_InstanceOffsetScaleAttr };
+        }
+        meshAttributes = new GLArrayDataServer[] { cache.getVertices(), cache.getCurveParams() };
+    }
+
+    public final GlyphMeshCache getGlyphMeshCache() { return cache; }
+
+    /** Returns the render modes, including {@link Region#INSTANCED_RENDERING_BIT}. */
+    public final int getRenderModes() { return renderModes; }
+
+    /** See {@link Region#MAX_QUALITY} */
+    public final int getQuality() { return quality; }
+
+    /** See {@link Region#MAX_QUALITY} */
+    public final void setQuality(final int q) { quality=q; }
+
+    /** Returns the number of glyph instances, excluding glyphs w/o shape. */
+    public final int getInstanceCount() { return instanceCount; }
+
+    /**
+     * Returns the number of draw calls issued by the last {@link #draw(GL2ES2, RegionRenderer)},
+     * i.e. the number of distinct glyphs if instanced rendering is available, otherwise the number of instances.
+     */
+    public final int getDrawCount() { return drawCount; }
+
+    /** Removes all instances. */
+    public void clear() {
+        instanceCount = 0;
+        groupCount = 0;
+        dirty = true;
+    }
+
+    /**
+     * Adds the string w.r.t. the font and pixelSize at the given position,
+     * using the same layout as {@link TextRegionUtil#processString(TextRegionUtil.ShapeVisitor, com.jogamp.graph.geom.plane.AffineTransform, Font, float, CharSequence, com.jogamp.graph.geom.plane.AffineTransform, com.jogamp.graph.geom.plane.AffineTransform) TextRegionUtil}.
+     * @param pixelSize Use {@link Font#getPixelSize(float, float)} for resolution correct pixel-size.
+     * @param str string text
+     * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param x0 origin x-coordinate
+     * @param y0 origin y-coordinate
+     */
+    public void addString(final float pixelSize, final CharSequence str, final float[] rgbaColor, final float x0, final float y0) {
+        final Font font = cache.getFont();
+        final int charCount = str.length();
+        final float lineHeight = font.getLineHeight(pixelSize);
+        final float scale = font.getMetrics().getScale(pixelSize);
+
+        float y = y0;
+        float advanceTotal = 0;
+
+        for(int i=0; i< charCount; i++) {
+            final char character = str.charAt(i);
+            if( '\n' == character ) {
+                y -= lineHeight;
+                advanceTotal = 0;
+            } else if (character == ' ') {
+                advanceTotal += font.getAdvanceWidth(Glyph.ID_SPACE, pixelSize);
+            } else {
+                final Font.Glyph glyph = font.getGlyph(character);
+                if( null == glyph.getShape() ) {
+                    continue;
+                }
+                addGlyph(glyph, scale, rgbaColor, x0 + advanceTotal, y);
+                advanceTotal += glyph.getAdvance(pixelSize, true);
+            }
+        }
+    }
+
+    /**
+     * Adds one glyph instance, unless it has no triangles.
+     * @param glyph the glyph of this region's {@link Font}
+     * @param scale glyph space to object space scale, see {@link Font.Metrics#getScale(float)}
+     * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param x x-coordinate of the glyph's origin
+     * @param y y-coordinate of the glyph's origin
+     */
+    public void addGlyph(final Font.Glyph glyph, final float scale, final float[] rgbaColor, final float x, final float y) {
+        final GlyphMeshCache.Mesh mesh = cache.getMesh(glyph);
+        if( mesh.isEmpty() ) {
+            return;
+        }
+        if( instanceCount == instMesh.length ) {
+            final int newSize = instMesh.length * 2;
+            instMesh = copyOf(instMesh, newSize);
+            instOffsetScale = copyOf(instOffsetScale, newSize*3);
+            if( null != instColor ) {
+                instColor = copyOf(instColor, newSize*4);
+            }
+        }
+        instMesh[instanceCount] = mesh.getIndex();
+        instOffsetScale[instanceCount*3+0] = x;
+        instOffsetScale[instanceCount*3+1] = y;
+        instOffsetScale[instanceCount*3+2] = scale;
+        if( null != instColor ) {
+            if( null == rgbaColor ) {
+                throw new IllegalArgumentException("Null color given for COLOR_CHANNEL rendering mode");
+            }
+            System.arraycopy(rgbaColor, 0, instColor, instanceCount*4, 4);
+        }
+        instanceCount++;
+        dirty = true;
+    }
+
+    private static int[] copyOf(final int[] a, final int newSize) {
+        final int[] b = new int[newSize];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+    private static float[] copyOf(final float[] a, final int newSize) {
+        final float[] b = new float[newSize];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    /**
+     * Sorts the instances by mesh via counting sort, fills the instance buffers in group order
+     * and computes the draw groups.
+     */
+    private void update() {
+        final int meshCount = cache.getMeshCount();
+        final int[] start = new int[meshCount+1];
+        for(int i=0; i<instanceCount; i++) {
+            start[instMesh[i]+1]++;
+        }
+        groupCount = 0;
+        for(int m=0; m<meshCount; m++) {
+            final int count = start[m+1];
+            if( 0 < count ) {
+                if( groupCount*3 == groups.length ) {
+                    groups = copyOf(groups, groups.length*2);
+                }
+                groups[groupCount*3+0] = m;
+                groups[groupCount*3+1] = start[m];
+                groups[groupCount*3+2] = count;
+                groupCount++;
+            }
+            start[m+1] += start[m];
+        }
+        final int[] order = new int[instanceCount];
+        for(int i=0; i<instanceCount; i++) {
+            order[start[instMesh[i]]++] = i;
+        }
+        gca_InstanceOffsetScaleAttr.seal(false);
+        gca_InstanceOffsetScaleAttr.rewind();
+        if( null != gca_InstanceColorsAttr ) {
+            gca_InstanceColorsAttr.seal(false);
+            gca_InstanceColorsAttr.rewind();
+        }
+        for(int j=0; j<instanceCount; j++) {
+            final int i = order[j];
+            gca_InstanceOffsetScaleAttr.putf(instOffsetScale[i*3+0]);
+            gca_InstanceOffsetScaleAttr.putf(instOffsetScale[i*3+1]);
+            gca_InstanceOffsetScaleAttr.putf(instOffsetScale[i*3+2]);
+            if( null != gca_InstanceColorsAttr ) {
+                gca_InstanceColorsAttr.putf(instColor[i*4+0]);
+                gca_InstanceColorsAttr.putf(instColor[i*4+1]);
+                gca_InstanceColorsAttr.putf(instColor[i*4+2]);
+                gca_InstanceColorsAttr.putf(instColor[i*4+3]);
+            }
+        }
+        gca_InstanceOffsetScaleAttr.seal(true);
+        if( null != gca_InstanceColorsAttr ) {
+            gca_InstanceColorsAttr.seal(true);
+        }
+        dirty = false;
+    }
+
+    private void useShaderProgram(final GL2ES2 gl, final RegionRenderer renderer) {
+        final RenderState rs = renderer.getRenderState();
+        renderer.useShaderProgram(gl, renderModes, true, quality, 0, null);
+        final ShaderProgram sp = rs.getShaderProgram();
+        final boolean updateLocLocal = !sp.equals(spPass1);
+        spPass1 = sp;
+        if( updateLocLocal ) {
+            // vertices and instance offset/scale are mandatory,
+            // curve parameters and colors may be optimized out by the shader compiler
+            rs.updateAttributeLoc(gl, true, cache.getVertices(), true);
+            rs.updateAttributeLoc(gl, true, cache.getCurveParams(), false);
+            rs.updateAttributeLoc(gl, true, gca_InstanceOffsetScaleAttr, true);
+            if( null != gca_InstanceColorsAttr ) {
+                rs.updateAttributeLoc(gl, true, gca_InstanceColorsAttr, false);
+            }
+        }
+        // uniforms not used by the selected shader variant are optimized out
+        rsLocal.update(gl, rs, updateLocLocal, renderModes, true, false);
+    }
+
+    /** Returns true if the given GL supports instanced rendering via attribute divisors. */
+    public static boolean isInstancingAvailable(final GL2ES2 gl) {
+        return gl.isGL2ES3() &&
+               gl.isFunctionAvailable("glDrawElementsInstanced") &&
+               gl.isFunctionAvailable("glVertexAttribDivisor");
+    }
+
+    /**
+     * Draws all instances using the given {@link RegionRenderer}'s current {@link RenderState}.
+     * <p>
+     * The {@link RegionRenderer} must be {@link RegionRenderer#enable(GL2ES2, boolean) enabled}.
+     * </p>
+     * @param gl current GL
+     * @param renderer the {@link RegionRenderer}
+     */
+    public void draw(final GL2ES2 gl, final RegionRenderer renderer) {
+        if( dirty ) {
+            update();
+        }
+        drawCount = 0;
+        if( 0 == groupCount ) {
+            return;
+        }
+        cache.seal();
+        useShaderProgram(gl, renderer);
+
+        if( renderer.getRenderState().isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED) ) {
+            gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+        }
+        for(int i=0; i<meshAttributes.length; i++) {
+            meshAttributes[i].enableBuffer(gl, true);
+        }
+        final GLArrayDataServer indices = cache.getIndices();
+        indices.bindBuffer(gl, true); // keeps VBO binding
+
+        if( isInstancingAvailable(gl) ) {
+            drawInstanced(gl.getGL2ES3());
+        } else {
+            drawSingle(gl);
+        }
+
+        indices.bindBuffer(gl, false);
+        RegionIndices.setBaseVertex(gl, meshAttributes, 0);
+        for(int i=0; i<meshAttributes.length; i++) {
+            meshAttributes[i].enableBuffer(gl, false);
+        }
+    }
+
+    private void drawInstanced(final GL2ES3 gl) {
+        for(int i=0; i<instanceAttributes.length; i++) {
+            final GLArrayDataServer ad = instanceAttributes[i];
+            ad.enableBuffer(gl, true);
+            if( 0 <= ad.getLocation() ) {
+                gl.glVertexAttribDivisor(ad.getLocation(), 1);
+            }
+        }
+        for(int g=0; g<groupCount; g++) {
+            final GlyphMeshCache.Mesh mesh = cache.getMesh(groups[g*3]);
+            RegionIndices.setBaseVertex(gl, meshAttributes, mesh.getVertexOffset());
+            RegionIndices.setBaseVertex(gl, instanceAttributes, groups[g*3+1]);
+            gl.glDrawElementsInstanced(GL.GL_TRIANGLES, mesh.getIndexCount(), GL.GL_UNSIGNED_SHORT,
+                                       (long)mesh.getIndexOffset() * 2, groups[g*3+2]);
+            drawCount++;
+        }
+        RegionIndices.setBaseVertex(gl, instanceAttributes, 0);
+        for(int i=0; i<instanceAttributes.length; i++) {
+            final GLArrayDataServer ad = instanceAttributes[i];
+            if( 0 <= ad.getLocation() ) {
+                gl.glVertexAttribDivisor(ad.getLocation(), 0);
+            }
+            ad.enableBuffer(gl, false);
+        }
+    }
+
+    private void drawSingle(final GL2ES2 gl) {
+        final int locOffsetScale = gca_InstanceOffsetScaleAttr.getLocation();
+        final int locColor = null != gca_InstanceColorsAttr ? gca_InstanceColorsAttr.getLocation() : -1;
+        for(int g=0; g<groupCount; g++) {
+            final GlyphMeshCache.Mesh mesh = cache.getMesh(groups[g*3]);
+            RegionIndices.setBaseVertex(gl, meshAttributes, mesh.getVertexOffset());
+            final int first = groups[g*3+1];
+            final int last = first + groups[g*3+2];
+            for(int j=first; j<last; j++) {
+                // instance buffers are in group order
+                if( 0 <= locOffsetScale ) {
+                    final int p = j*3;
+                    gl.glVertexAttrib3f(locOffsetScale, getf(gca_InstanceOffsetScaleAttr, p), getf(gca_InstanceOffsetScaleAttr, p+1), getf(gca_InstanceOffsetScaleAttr, p+2));
+                }
+                if( 0 <= locColor ) {
+                    final int p = j*4;
+                    gl.glVertexAttrib4f(locColor, getf(gca_InstanceColorsAttr, p), getf(gca_InstanceColorsAttr, p+1), getf(gca_InstanceColorsAttr, p+2), getf(gca_InstanceColorsAttr, p+3));
+                }
+                gl.glDrawElements(GL.GL_TRIANGLES, mesh.getIndexCount(), GL.GL_UNSIGNED_SHORT, (long)mesh.getIndexOffset() * 2);
+                drawCount++;
+            }
+        }
+    }
+
+    private static float getf(final GLArrayDataServer ad, final int idx) {
+        return ((FloatBuffer)ad.getBuffer()).get(idx);
+    }
+
+    /**
+     * Deletes the instance buffers.
+     * <p>
+     * The shared {@link GlyphMeshCache} is not destroyed.
+     * </p>
+     */
+    public void destroy(final GL2ES2 gl) {
+        gca_InstanceOffsetScaleAttr.destroy(gl);
+        if( null != gca_InstanceColorsAttr ) {
+            gca_InstanceColorsAttr.destroy(gl);
+        }
+        spPass1 = null;
+        clear();
+    }
+
+    @Override
+    public String toString() {
+        return "TextInstanceRegion["+Region.getRenderModeString(renderModes)+", instances "+instanceCount+", groups "+groupCount+", "+cache+"]";
+    }
+}
@@ -27,9 +27,9 @@
  */
 package com.jogamp.graph.curve.opengl;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLException;
@@ -159,6 +159,11 @@ public class TextRegionUtil {
      * <p>
      * Cached {@link GLRegion}s will be destroyed w/ {@link #clear(GL2ES2)} or to free memory.
      * </p>
+     * <p>
+     * {@link GLRegion}s are cached by font, pixelSize, string and - if {@link Region#hasColorChannel()} - color.
+     * The least recently used {@link GLRegion}s are destroyed if the {@link #getCacheLimit() cache limit}
+     * or the {@link #getCacheByteLimit() cache byte limit} is exceeded.
+     * </p>
      * @param gl the current GL state
      * @param renderer TODO
      * @param font {@link Font} to be used
@@ -176,13 +181,28 @@ public class TextRegionUtil {
             throw new GLException("TextRendererImpl01: not initialized!");
         }
         final int special = 0;
-        GLRegion region = getCachedRegion(font, str, pixelSize, special);
-        if(null == region) {
+        final CacheKey key = new CacheKey(font, str, pixelSize, special, getKeyColor(rgbaColor));
+        CacheEntry e = stringCache.get(key); // marks recently used
+        final GLRegion region;
+        if( null != e ) {
+            stringCacheHits++;
+            region = e.region;
+        } else {
+            stringCacheMisses++;
             region = GLRegion.create(renderModes, null);
             addStringToRegion(region, renderer.getRenderState().getVertexFactory(), font, pixelSize, str, rgbaColor, tempT1, tempT2);
-            addCachedRegion(gl, font, str, pixelSize, special, region);
+            if ( 0 != getCacheLimit() ) {
+                validateCache(gl, 1);
+                e = new CacheEntry(region);
+                stringCache.put(key, e);
+            }
         }
         region.draw(gl, renderer, sampleCount);
+        if( null != e ) {
+            updateCachedRegion(gl, e);
+        } else {
+            region.destroy(gl); // cache off
+        }
     }
 
     /**
@@ -250,13 +270,13 @@ public class TextRegionUtil {
     */
    public void clear(final GL2ES2 gl) {
        // fluchCache(gl) already called
-       final Iterator<GLRegion> iterator = stringCacheMap.values().iterator();
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
        while(iterator.hasNext()){
-           final GLRegion region = iterator.next();
-           region.destroy(gl);
+           final CacheEntry e = iterator.next();
+           e.region.destroy(gl);
        }
-       stringCacheMap.clear();
-       stringCacheArray.clear();
+       stringCache.clear();
+       stringCacheBytes = 0;
    }
 
    /**
@@ -289,63 +309,237 @@ public class TextRegionUtil {
    /**
     * @return the current utilized cache size, <= {@link #getCacheLimit()}
     */
-   public final int getCacheSize() { return stringCacheArray.size(); }
+   public final int getCacheSize() { return stringCache.size(); }
+
+   /**
+    * <p>Sets the cache limit in bytes of all cached {@link GLRegion}s, see {@link GLRegion#getByteCount()}.
+    * Default is {@link #DEFAULT_CACHE_BYTE_LIMIT}, 0 unlimited.</p>
+    *
+    * <p>The least recently used regions are removed if the limit is exceeded,
+    * except the most recently used one.</p>
+    *
+    * <p>The cache will be validate when the next string rendering happens.</p>
+    *
+    * @param newLimit new cache byte limit
+    */
+   public final void setCacheByteLimit(final long newLimit) { stringCacheByteLimit = newLimit; }
+
+   /**
+    * Sets the cache byte limit, see {@link #setCacheByteLimit(long)} and validates the cache.
+    *
+    * @param gl current GL used to remove cached objects if required
+    * @param newLimit new cache byte limit
+    */
+   public final void setCacheByteLimit(final GL2ES2 gl, final long newLimit) { stringCacheByteLimit = newLimit; validateCache(gl, 0); }
 
+   /**
+    * @return the current cache byte limit
+    */
+   public final long getCacheByteLimit() { return stringCacheByteLimit; }
+
+   /**
+    * @return the current utilized cache size in bytes as of the last rendering of each cached region
+    */
+   public final long getCacheByteSize() { return stringCacheBytes; }
+
+   /** @return number of cache lookups finding a {@link GLRegion} */
+   public final long getCacheHitCount() { return stringCacheHits; }
+
+   /** @return number of cache lookups not finding a {@link GLRegion} */
+   public final long getCacheMissCount() { return stringCacheMisses; }
+
+   /** @return number of {@link GLRegion}s removed due to the cache limits */
+   public final long getCacheEvictionCount() { return stringCacheEvictions; }
+
+   /** Resets the hit, miss and eviction counter. */
+   public final void resetCacheStats() {
+       stringCacheHits = 0;
+       stringCacheMisses = 0;
+       stringCacheEvictions = 0;
+   }
+
+   /**
+    * Removes the least recently used {@link GLRegion}s until <code>space</code> additional
+    * regions fit into the {@link #getCacheLimit() cache limit} and the {@link #getCacheByteLimit() byte limit} is met.
+    * The most recently used region is kept w.r.t. the byte limit.
+    */
    protected final void validateCache(final GL2ES2 gl, final int space) {
-       if ( getCacheLimit() > 0 ) {
-           while ( getCacheSize() + space > getCacheLimit() ) {
-               removeCachedRegion(gl, 0);
-           }
+       final int limit = getCacheLimit();
+       final long byteLimit = getCacheByteLimit();
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
+       while( iterator.hasNext() &&
+              ( ( limit > 0 && stringCache.size() + space > limit ) ||
+                ( byteLimit > 0 && stringCacheBytes > byteLimit && stringCache.size() + space > 1 ) ) ) {
+           final CacheEntry e = iterator.next();
+           iterator.remove();
+           stringCacheBytes -= e.byteCount;
+           stringCacheEvictions++;
+           e.region.destroy(gl);
        }
    }
 
+   /**
+    * @deprecated Use {@link #getCachedRegion(Font, CharSequence, float, int, float[])},
+    *             since the color is part of the key w/ {@link Region#hasColorChannel()}.
+    */
+   @Deprecated
    protected final GLRegion getCachedRegion(final Font font, final CharSequence str, final float pixelSize, final int special) {
-       return stringCacheMap.get(getKey(font, str, pixelSize, special));
+       return getCachedRegion(font, str, pixelSize, special, null);
    }
 
+   protected final GLRegion getCachedRegion(final Font font, final CharSequence str, final float pixelSize, final int special, final float[] rgbaColor) {
+       final CacheEntry e = stringCache.get(new CacheKey(font, str, pixelSize, special, getKeyColor(rgbaColor)));
+       return null != e ? e.region : null;
+   }
+
+   /**
+    * @deprecated Use {@link #addCachedRegion(GL2ES2, Font, CharSequence, float, int, float[], GLRegion)},
+    *             since the color is part of the key w/ {@link Region#hasColorChannel()}.
+    */
+   @Deprecated
    protected final void addCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final float pixelSize, final int special, final GLRegion glyphString) {
+       addCachedRegion(gl, font, str, pixelSize, special, null, glyphString);
+   }
+
+   protected final void addCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final float pixelSize, final int special, final float[] rgbaColor, final GLRegion glyphString) {
        if ( 0 != getCacheLimit() ) {
-           final String key = getKey(font, str, pixelSize, special);
-           final GLRegion oldRegion = stringCacheMap.put(key, glyphString);
-           if ( null == oldRegion ) {
+           final CacheKey key = new CacheKey(font, str, pixelSize, special, getKeyColor(rgbaColor));
+           final CacheEntry oldEntry = stringCache.get(key);
+           if ( null == oldEntry ) {
                // new entry ..
                validateCache(gl, 1);
-               stringCacheArray.add(stringCacheArray.size(), key);
-           } /// else overwrite is nop ..
+               stringCache.put(key, new CacheEntry(glyphString));
+           } else if( oldEntry.region != glyphString ) {
+               stringCache.put(key, new CacheEntry(glyphString));
+               stringCacheBytes -= oldEntry.byteCount;
+               oldEntry.region.destroy(gl);
+           }
        }
    }
 
+   /**
+    * @deprecated Use {@link #removeCachedRegion(GL2ES2, Font, CharSequence, float, int, float[])},
+    *             since the color is part of the key w/ {@link Region#hasColorChannel()}.
+    */
+   @Deprecated
    protected final void removeCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final int pixelSize, final int special) {
-       final String key = getKey(font, str, pixelSize, special);
-       final GLRegion region = stringCacheMap.remove(key);
-       if(null != region) {
-           region.destroy(gl);
+       removeCachedRegion(gl, font, str, pixelSize, special, null);
+   }
+
+   protected final void removeCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final float pixelSize, final int special, final float[] rgbaColor) {
+       final CacheEntry e = stringCache.remove(new CacheKey(font, str, pixelSize, special, getKeyColor(rgbaColor)));
+       if(null != e) {
+           stringCacheBytes -= e.byteCount;
+           e.region.destroy(gl);
        }
-       stringCacheArray.remove(key);
    }
 
+   /** Removes the <code>idx</code>-th least recently used {@link GLRegion}. */
    protected final void removeCachedRegion(final GL2ES2 gl, final int idx) {
-       final String key = stringCacheArray.remove(idx);
-       if( null != key ) {
-           final GLRegion region = stringCacheMap.remove(key);
-           if(null != region) {
-               region.destroy(gl);
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
+       for(int i=0; iterator.hasNext(); i++) {
+           final CacheEntry e = iterator.next();
+           if( i == idx ) {
+               iterator.remove();
+               stringCacheBytes -= e.byteCount;
+               e.region.destroy(gl);
+               return;
            }
        }
    }
 
+   /**
+    * @deprecated No more used as the cache key, which also distinguishes the color w/ {@link Region#hasColorChannel()}
+    *             and does not rely on the string's hash code.
+    */
+   @Deprecated
    protected final String getKey(final Font font, final CharSequence str, final float pixelSize, final int special) {
        final StringBuilder sb = new StringBuilder();
        return font.getName(sb, Font.NAME_UNIQUNAME)
               .append(".").append(str.hashCode()).append(".").append(Float.floatToIntBits(pixelSize)).append(special).toString();
    }
 
+   /** Updates the byte count of the given entry after rendering and validates the cache. */
+   private void updateCachedRegion(final GL2ES2 gl, final CacheEntry e) {
+       final int byteCount = e.region.getByteCount();
+       if( byteCount != e.byteCount ) {
+           stringCacheBytes += byteCount - e.byteCount;
+           e.byteCount = byteCount;
+           validateCache(gl, 0);
+       }
+   }
+
+   /** Color is only part of the key w/ {@link Region#hasColorChannel()}, since it is baked into the region's vertices. */
+   private float[] getKeyColor(final float[] rgbaColor) {
+       return Region.hasColorChannel(renderModes) ? rgbaColor : null;
+   }
+
+   /** Composite cache key of font, string, pixel size, special and optional color. */
+   private static final class CacheKey {
+       final Font font;
+       final String str;
+       final int pixelSizeBits;
+       final int special;
+       final float[] rgba;
+       final int hash;
+
+       CacheKey(final Font font, final CharSequence str, final float pixelSize, final int special, final float[] rgba) {
+           this.font = font;
+           this.str = str.toString();
+           this.pixelSizeBits = Float.floatToIntBits(pixelSize);
+           this.special = special;
+           this.rgba = null != rgba ? rgba.clone() : null;
+           // 31 * x == (x << 5) - x
+           int h = 31 + font.hashCode();
+           h = ((h << 5) - h) + this.str.hashCode();
+           h = ((h << 5) - h) + pixelSizeBits;
+           h = ((h << 5) - h) + special;
+           h = ((h << 5) - h) + Arrays.hashCode(this.rgba);
+           this.hash = h;
+       }
+
+       @Override
+       public final int hashCode() { return hash; }
+
+       @Override
+       public final boolean equals(final Object o) {
+           if( this == o ) {
+               return true;
+           }
+           if( !(o instanceof CacheKey) ) {
+               return false;
+           }
+           final CacheKey k = (CacheKey)o;
+           return hash == k.hash && font.equals(k.font) && pixelSizeBits == k.pixelSizeBits && special == k.special &&
+                  str.equals(k.str) && Arrays.equals(rgba, k.rgba);
+       }
+   }
+
+   private static final class CacheEntry {
+       final GLRegion region;
+       /** Byte count as of the last rendering. */
+       int byteCount;
+
+       CacheEntry(final GLRegion region) {
+           this.region = region;
+           this.byteCount = 0;
+       }
+   }
+
    /** Default cache limit, see {@link #setCacheLimit(int)} */
    public static final int DEFAULT_CACHE_LIMIT = 256;
 
+   /** Default cache byte limit of 32 MiB, see {@link #setCacheByteLimit(long)} */
+   public static final long DEFAULT_CACHE_BYTE_LIMIT = 32 * 1024 * 1024;
+
    public final AffineTransform tempT1 = new AffineTransform();
    public final AffineTransform tempT2 = new AffineTransform();
-   private final HashMap<String, GLRegion> stringCacheMap = new HashMap<String, GLRegion>(DEFAULT_CACHE_LIMIT);
-   private final ArrayList<String> stringCacheArray = new ArrayList<String>(DEFAULT_CACHE_LIMIT);
+   /** Access ordered, i.e. iteration starts w/ the least recently used entry. */
+   private final LinkedHashMap<CacheKey, CacheEntry> stringCache = new LinkedHashMap<CacheKey, CacheEntry>(DEFAULT_CACHE_LIMIT, 0.75f, true);
    private int stringCacheLimit = DEFAULT_CACHE_LIMIT;
-}
\ No newline at end of file
+   private long stringCacheByteLimit = DEFAULT_CACHE_BYTE_LIMIT;
+   private long stringCacheBytes = 0;
+   private long stringCacheHits = 0;
+   private long stringCacheMisses = 0;
+   private long stringCacheEvictions = 0;
+}
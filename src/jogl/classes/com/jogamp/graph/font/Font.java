@@ -137,6 +137,42 @@ public interface Font {
         public int hashCode();
     }
 
+    /**
+     * Bounded cache of {@link Glyph}s created by {@link Font#getGlyph(char)}.
+     * <p>
+     * If the number of cached glyphs exceeds the {@link #getCapacity() capacity},
+     * the least recently used glyphs are evicted and will be recreated on demand.
+     * </p>
+     * <p>
+     * The default capacity is set via the property <code>jogl.graph.font.glyphCacheSize</code>,
+     * a value of zero denotes an unbounded cache.
+     * </p>
+     * <p>
+     * Lookup is thread-safe and lock free, creation of a missing glyph is serialized per {@link Font}.
+     * </p>
+     */
+    public interface GlyphCache {
+        /** Returns the number of cached glyphs. */
+        public int getSize();
+        /** Returns the maximum number of cached glyphs, zero if unbounded. */
+        public int getCapacity();
+        /**
+         * Sets the maximum number of cached glyphs, zero for unbounded.
+         * Excess glyphs are evicted immediately.
+         */
+        public void setCapacity(final int capacity);
+        /** Returns the number of {@link Font#getGlyph(char)} calls served from the cache. */
+        public long getHitCount();
+        /** Returns the number of {@link Font#getGlyph(char)} calls creating a new glyph. */
+        public long getMissCount();
+        /** Returns the number of evicted glyphs. */
+        public long getEvictionCount();
+        /** Resets the hit, miss and eviction counter. */
+        public void resetStats();
+        /** Removes all cached glyphs. */
+        public void clear();
+    }
+
 
     public String getName(final int nameIndex);
     public StringBuilder getName(final StringBuilder string, final int nameIndex);
@@ -173,6 +209,8 @@ public interface Font {
     public float getAdvanceWidth(final int glyphID, final float pixelSize);
     public Metrics getMetrics();
     public Glyph getGlyph(final char symbol);
+    /** Returns the {@link GlyphCache} of this font. */
+    public GlyphCache getGlyphCache();
     public int getNumGlyphs();
 
     /**
@@ -107,7 +107,7 @@ public class Outline implements Comparable<Outline> {
         }
         vertices.add(position, vertex);
         if(!dirtyBBox) {
-            bbox.resize(vertex.getCoord());
+            bbox.resize(vertex.getX(), vertex.getY(), vertex.getZ());
         }
     }
 
@@ -192,7 +192,7 @@ public class Outline implements Comparable<Outline> {
         if( !isEmpty() ) {
             final Vertex first = vertices.get(0);
             final Vertex last = getLastVertex();
-            if( !VectorUtil.isVec3Equal( first.getCoord(), 0, last.getCoord(), 0, FloatUtil.EPSILON ) ) {
+            if( !VectorUtil.isVec3Equal( first, last, FloatUtil.EPSILON ) ) {
                 if( closeTail ) {
                     vertices.add(first.clone());
                 } else {
@@ -222,7 +222,8 @@ public class Outline implements Comparable<Outline> {
         dirtyBBox = false;
         bbox.reset();
         for (int i=0; i<vertices.size(); i++) {
-            bbox.resize(vertices.get(i).getCoord());
+            final Vertex v = vertices.get(i);
+            bbox.resize(v.getX(), v.getY(), v.getZ());
         }
     }
 
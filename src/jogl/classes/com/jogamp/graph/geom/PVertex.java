@@ -0,0 +1,421 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.graph.geom;
+
+import java.util.ArrayList;
+
+import com.jogamp.opengl.math.FloatUtil;
+
+/**
+ * A Packed Vertex Implementation, i.e. a lightweight index handle into a {@link Factory} vertex store.
+ * <p>
+ * The {@link Factory} holds all vertex attributes of its created vertices in packed primitive arrays,
+ * struct-of-arrays style, avoiding the two coordinate arrays per {@link SVertex}.
+ * Hence one {@link Factory} may be used to store large {@link com.jogamp.graph.curve.OutlineShape}s
+ * or a whole scene, e.g. using {@link com.jogamp.graph.curve.OutlineShape#OutlineShape(Vertex.Factory)}.
+ * </p>
+ * <p>
+ * {@link #getCoord()} and {@link #getTexCoord()} return a snapshot of the packed data,
+ * allocated on first use and kept up to date by the setter.
+ * Changes shall be made via the setter, modifications of the snapshot arrays are not reflected.
+ * {@link Factory#releaseSnapshots()} drops all snapshot arrays, which is performed
+ * after triangulation by {@link com.jogamp.graph.curve.OutlineShape#getTriangles(com.jogamp.graph.curve.OutlineShape.VerticesState)}.
+ * The triangulation and {@link com.jogamp.opengl.math.VectorUtil} use the scalar accessors, e.g. {@link #getX()},
+ * bulk consumer may use {@link #getCoord(float[])} and {@link #getTexCoord(float[])} instead.
+ * </p>
+ * <p>
+ * All vertices of a {@link Factory} live as long as the store itself.
+ * Hence a store suits long-lived shapes, e.g. a scene, while short-lived shapes are cheaper using {@link SVertex}.
+ * </p>
+ * <p>
+ * The vertex store is append only and not thread-safe.
+ * </p>
+ */
+public class PVertex implements Vertex {
+    private static final byte FLAG_ONCURVE = 1 << 0;
+
+    /**
+     * Packed vertex store creating {@link PVertex} handles.
+     */
+    public static class Factory implements Vertex.Factory<PVertex> {
+        private float[] coords;
+        private float[] texCoords;
+        private int[] ids;
+        private byte[] flags;
+        private int size;
+        private final ArrayList<PVertex> snapshots = new ArrayList<PVertex>();
+
+        /** Creates a store with an initial capacity of 256 vertices. */
+        public Factory() {
+            this(256);
+        }
+
+        /**
+         * @param initialCapacity initial number of vertices, the store grows on demand
+         */
+        public Factory(final int initialCapacity) {
+            final int cap = Math.max(1, initialCapacity);
+            coords = new float[cap*3];
+            texCoords = new float[cap*3];
+            ids = new int[cap];
+            flags = new byte[cap];
+            size = 0;
+        }
+
+        /** Returns the number of stored vertices. */
+        public final int getSize() { return size; }
+
+        /** Returns the number of vertices the store can hold w/o growing. */
+        public final int getCapacity() { return ids.length; }
+
+        /** Returns the size of the packed arrays in bytes. */
+        public final long getByteCount() {
+            return (long)getCapacity() * ( 3*4 + 3*4 + 4 + 1 );
+        }
+
+        /**
+         * Removes all vertices.
+         * <p>
+         * All previously created {@link PVertex} handles become invalid.
+         * </p>
+         */
+        public final void clear() {
+            releaseSnapshots();
+            size = 0;
+        }
+
+        /** Drops the snapshot arrays of all {@link PVertex#getCoord()} and {@link PVertex#getTexCoord()} handles. */
+        public final void releaseSnapshots() {
+            for(int i=0; i<snapshots.size(); i++) {
+                final PVertex v = snapshots.get(i);
+                v.coordSnapshot = null;
+                v.texCoordSnapshot = null;
+            }
+            snapshots.clear();
+        }
+
+        private int add(final int id, final boolean onCurve) {
+            if( size == ids.length ) {
+                final int newCap = ids.length * 2;
+                coords = copyOf(coords, newCap*3);
+                texCoords = copyOf(texCoords, newCap*3);
+                final int[] _ids = new int[newCap];
+                System.arraycopy(ids, 0, _ids, 0, size);
+                ids = _ids;
+                final byte[] _flags = new byte[newCap];
+                System.arraycopy(flags, 0, _flags, 0, size);
+                flags = _flags;
+            }
+            final int idx = size++;
+            ids[idx] = id;
+            flags[idx] = onCurve ? FLAG_ONCURVE : 0;
+            final int i3 = idx*3;
+            coords[i3+0] = 0f; coords[i3+1] = 0f; coords[i3+2] = 0f;
+            texCoords[i3+0] = 0f; texCoords[i3+1] = 0f; texCoords[i3+2] = 0f;
+            return idx;
+        }
+
+        private static float[] copyOf(final float[] a, final int newSize) {
+            final float[] b = new float[newSize];
+            System.arraycopy(a, 0, b, 0, a.length);
+            return b;
+        }
+
+        @Override
+        public PVertex create() {
+            return new PVertex(this, add(Integer.MAX_VALUE, false));
+        }
+
+        @Override
+        public PVertex create(final Vertex src) {
+            final PVertex v = new PVertex(this, add(Integer.MAX_VALUE, src.isOnCurve()));
+            v.setCoord(src.getX(), src.getY(), src.getZ());
+            if( src instanceof PVertex ) {
+                final PVertex p = (PVertex)src;
+                System.arraycopy(p.store.texCoords, p.index*3, texCoords, v.index*3, 3);
+            } else {
+                System.arraycopy(src.getTexCoord(), 0, texCoords, v.index*3, 3);
+            }
+            return v;
+        }
+
+        @Override
+        public PVertex create(final int id, final boolean onCurve, final float[] texCoordsBuffer) {
+            final PVertex v = new PVertex(this, add(id, onCurve));
+            System.arraycopy(texCoordsBuffer, 0, texCoords, v.index*3, 3);
+            return v;
+        }
+
+        @Override
+        public PVertex create(final float x, final float y, final float z, final boolean onCurve) {
+            final PVertex v = new PVertex(this, add(Integer.MAX_VALUE, onCurve));
+            v.setCoord(x, y, z);
+            return v;
+        }
+
+        @Override
+        public PVertex create(final float[] coordsBuffer, final int offset, final int length, final boolean onCurve) {
+            final PVertex v = new PVertex(this, add(Integer.MAX_VALUE, onCurve));
+            v.setCoord(coordsBuffer, offset, length);
+            return v;
+        }
+
+        @Override
+        public String toString() {
+            return "PVertex.Factory[size "+size+" / "+getCapacity()+", "+getByteCount()+" bytes, snapshots "+snapshots.size()+"]";
+        }
+    }
+
+    private final Factory store;
+    private final int index;
+    private float[] coordSnapshot;
+    private float[] texCoordSnapshot;
+
+    PVertex(final Factory store, final int index) {
+        this.store = store;
+        this.index = index;
+    }
+
+    /** Returns the {@link Factory} vertex store holding this vertex. */
+    public final Factory getStore() { return store; }
+
+    /** Returns the index of this vertex within its {@link Factory} vertex store. */
+    public final int getIndex() { return index; }
+
+    @Override
+    public final void setCoord(final float x, final float y, final float z) {
+        final int i3 = index*3;
+        store.coords[i3+0] = x;
+        store.coords[i3+1] = y;
+        store.coords[i3+2] = z;
+        if( null != coordSnapshot ) {
+            getCoord(coordSnapshot);
+        }
+    }
+
+    @Override
+    public final void setCoord(final float[] coordsBuffer, final int offset, final int length) {
+        if( 3 < length ) {
+            throw new IndexOutOfBoundsException("length "+length+" > 3");
+        }
+        System.arraycopy(coordsBuffer, offset, store.coords, index*3, length);
+        if( null != coordSnapshot ) {
+            getCoord(coordSnapshot);
+        }
+    }
+
+    @Override
+    public int getCoordCount() {
+        return 3;
+    }
+
+    /**
+     * Returns a snapshot of the coordinates, see {@link PVertex}.
+     */
+    @Override
+    public final float[] getCoord() {
+        if( null == coordSnapshot ) {
+            if( null == texCoordSnapshot ) {
+                store.snapshots.add(this);
+            }
+            coordSnapshot = getCoord(new float[3]);
+        }
+        return coordSnapshot;
+    }
+
+    /**
+     * Copies the coordinates into the given array.
+     * @param dst 3-component destination
+     * @return the given destination
+     */
+    public final float[] getCoord(final float[] dst) {
+        final float[] src = store.coords;
+        final int i3 = index*3;
+        dst[0] = src[i3+0];
+        dst[1] = src[i3+1];
+        dst[2] = src[i3+2];
+        return dst;
+    }
+
+    @Override
+    public final void setX(final float x) {
+        store.coords[index*3+0] = x;
+        if( null != coordSnapshot ) {
+            coordSnapshot[0] = x;
+        }
+    }
+
+    @Override
+    public final void setY(final float y) {
+        store.coords[index*3+1] = y;
+        if( null != coordSnapshot ) {
+            coordSnapshot[1] = y;
+        }
+    }
+
+    @Override
+    public final void setZ(final float z) {
+        store.coords[index*3+2] = z;
+        if( null != coordSnapshot ) {
+            coordSnapshot[2] = z;
+        }
+    }
+
+    @Override
+    public final float getX() {
+        return store.coords[index*3+0];
+    }
+
+    @Override
+    public final float getY() {
+        return store.coords[index*3+1];
+    }
+
+    @Override
+    public final float getZ() {
+        return store.coords[index*3+2];
+    }
+
+    @Override
+    public final boolean isOnCurve() {
+        return 0 != ( store.flags[index] & FLAG_ONCURVE );
+    }
+
+    @Override
+    public final void setOnCurve(final boolean onCurve) {
+        if( onCurve ) {
+            store.flags[index] |= FLAG_ONCURVE;
+        } else {
+            store.flags[index] &= ~FLAG_ONCURVE;
+        }
+    }
+
+    @Override
+    public final int getId(){
+        return store.ids[index];
+    }
+
+    @Override
+    public final void setId(final int id){
+        store.ids[index] = id;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if( obj == this) {
+            return true;
+        }
+        if( null == obj || !(obj instanceof Vertex) ) {
+            return false;
+        }
+        final Vertex v = (Vertex) obj;
+        if( isOnCurve() != v.isOnCurve() ||
+            !FloatUtil.isEqual(getX(), v.getX(), FloatUtil.EPSILON) ||
+            !FloatUtil.isEqual(getY(), v.getY(), FloatUtil.EPSILON) ||
+            !FloatUtil.isEqual(getZ(), v.getZ(), FloatUtil.EPSILON) ) {
+            return false;
+        }
+        final float[] t = store.texCoords;
+        final int i3 = index*3;
+        final float[] vt = v instanceof PVertex ? ((PVertex)v).store.texCoords : v.getTexCoord();
+        final int vi3 = v instanceof PVertex ? ((PVertex)v).index*3 : 0;
+        return FloatUtil.isEqual(t[i3+0], vt[vi3+0], FloatUtil.EPSILON) &&
+               FloatUtil.isEqual(t[i3+1], vt[vi3+1], FloatUtil.EPSILON) &&
+               FloatUtil.isEqual(t[i3+2], vt[vi3+2], FloatUtil.EPSILON) ;
+    }
+    @Override
+    public final int hashCode() {
+        throw new InternalError("hashCode not designed");
+    }
+
+    /**
+     * Returns a snapshot of the texture coordinates, see {@link PVertex}.
+     */
+    @Override
+    public final float[] getTexCoord() {
+        if( null == texCoordSnapshot ) {
+            if( null == coordSnapshot ) {
+                store.snapshots.add(this);
+            }
+            texCoordSnapshot = getTexCoord(new float[3]);
+        }
+        return texCoordSnapshot;
+    }
+
+    /**
+     * Copies the texture coordinates into the given array.
+     * @param dst 3-component destination
+     * @return the given destination
+     */
+    public final float[] getTexCoord(final float[] dst) {
+        final float[] src = store.texCoords;
+        final int i3 = index*3;
+        dst[0] = src[i3+0];
+        dst[1] = src[i3+1];
+        dst[2] = src[i3+2];
+        return dst;
+    }
+
+    @Override
+    public final void setTexCoord(final float s, final float t, final float p) {
+        final int i3 = index*3;
+        store.texCoords[i3+0] = s;
+        store.texCoords[i3+1] = t;
+        store.texCoords[i3+2] = p;
+        if( null != texCoordSnapshot ) {
+            getTexCoord(texCoordSnapshot);
+        }
+    }
+
+    @Override
+    public final void setTexCoord(final float[] texCoordsBuffer, final int offset, final int length) {
+        if( 3 < length ) {
+            throw new IndexOutOfBoundsException("length "+length+" > 3");
+        }
+        System.arraycopy(texCoordsBuffer, offset, store.texCoords, index*3, length);
+        if( null != texCoordSnapshot ) {
+            getTexCoord(texCoordSnapshot);
+        }
+    }
+
+    /**
+     * @return deep clone of this Vertex elements, appended to the same {@link Factory} vertex store
+     */
+    @Override
+    public PVertex clone(){
+        return store.create(this); // OK to not call super.clone(), same semantics as SVertex's copy-ctor
+    }
+
+    @Override
+    public String toString() {
+        final int i3 = index*3;
+        return "[ID: " + getId() + ", onCurve: " + isOnCurve() +
+               ": p " + store.coords[i3+0] + ", " + store.coords[i3+1] + ", " + store.coords[i3+2] +
+               ", t " + store.texCoords[i3+0] + ", " + store.texCoords[i3+1] + ", " + store.texCoords[i3+2] + "]";
+    }
+}
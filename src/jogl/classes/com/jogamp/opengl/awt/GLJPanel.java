@@ -55,6 +55,8 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.beans.Beans;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.util.List;
 
@@ -68,6 +70,7 @@ import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2;
 import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3ES3;
 import com.jogamp.opengl.GLAnimatorControl;
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLCapabilities;
@@ -108,6 +111,7 @@ import com.jogamp.opengl.FBObject;
 import com.jogamp.opengl.GLRendererQuirks;
 import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
 import com.jogamp.opengl.util.GLPixelBuffer.SingletonGLPixelBufferProvider;
+import com.jogamp.opengl.util.GLBuffers;
 import com.jogamp.opengl.util.GLDrawableUtil;
 import com.jogamp.opengl.util.GLPixelStorageModes;
 import com.jogamp.opengl.util.TileRenderer;
@@ -147,6 +151,13 @@ import com.jogamp.opengl.util.texture.TextureState;
     for later Java2D composition.
     </p>
     <p>
+    <a name="asyncReadback">The readback blocks</a> until the GPU has completed the frame.
+    If {@link #setAsyncReadbackDepth(int) asynchronous readback} is enabled and {@link GL#isGL2ES3()} is available,
+    the frame is read into a ring of pixel pack buffer objects instead
+    and the oldest buffer of the ring is mapped and copied into the {@link BufferedImage},
+    i.e. the displayed image lags behind by <code>depth - 1</code> frames.
+    </p>
+    <p>
     Finally the Java2D compositioning takes place via via {@link Graphics#drawImage(java.awt.Image, int, int, int, int, java.awt.image.ImageObserver) Graphics.drawImage(...)}
     on the prepared {@link BufferedImage} as described above.
     </p>
@@ -190,6 +201,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
   private static final boolean DEBUG_VIEWPORT;
   private static final boolean USE_GLSL_TEXTURE_RASTERIZER;
   private static final boolean SKIP_VERTICAL_FLIP_DEFAULT;
+  private static final int ASYNC_READBACK_DEPTH_DEFAULT;
 
   /** Indicates whether the Java 2D OpenGL pipeline is requested by user. */
   private static final boolean java2dOGLEnabledByProp;
@@ -207,6 +219,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       DEBUG_VIEWPORT = PropertyAccess.isPropertyDefined("jogl.debug.GLJPanel.Viewport", true);
       USE_GLSL_TEXTURE_RASTERIZER = !PropertyAccess.isPropertyDefined("jogl.gljpanel.noglsl", true);
       SKIP_VERTICAL_FLIP_DEFAULT = PropertyAccess.isPropertyDefined("jogl.gljpanel.noverticalflip", true);
+      ASYNC_READBACK_DEPTH_DEFAULT = PropertyAccess.getIntProperty("jogl.gljpanel.asyncreadback", true, 0);
       boolean enabled = PropertyAccess.getBooleanProperty("sun.java2d.opengl", false);
       java2dOGLEnabledByProp = enabled && !PropertyAccess.isPropertyDefined("jogl.gljpanel.noogl", true);
 
@@ -227,6 +240,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
           System.err.println("GLJPanel: DEBUG_VIEWPORT "+DEBUG_VIEWPORT);
           System.err.println("GLJPanel: USE_GLSL_TEXTURE_RASTERIZER "+USE_GLSL_TEXTURE_RASTERIZER);
           System.err.println("GLJPanel: SKIP_VERTICAL_FLIP_DEFAULT "+SKIP_VERTICAL_FLIP_DEFAULT);
+          System.err.println("GLJPanel: ASYNC_READBACK_DEPTH_DEFAULT "+ASYNC_READBACK_DEPTH_DEFAULT);
           System.err.println("GLJPanel: java2dOGLEnabledByProp "+java2dOGLEnabledByProp);
           System.err.println("GLJPanel: useJava2DGLPipeline "+useJava2DGLPipeline);
           System.err.println("GLJPanel: java2DGLPipelineOK "+java2DGLPipelineOK);
@@ -289,6 +303,8 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
 
   private boolean skipGLOrientationVerticalFlip = SKIP_VERTICAL_FLIP_DEFAULT;
 
+  private volatile int asyncReadbackDepth = ASYNC_READBACK_DEPTH_DEFAULT;
+
   // Used by all backends either directly or indirectly to hook up callbacks
   private final Updater updater = new Updater();
 
@@ -1226,6 +1242,30 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       return skipGLOrientationVerticalFlip;
   }
 
+  /**
+   * Sets the depth of the <a href="#asyncReadback">asynchronous readback</a> ring.
+   * <p>
+   * A depth of <code>0</code> or <code>1</code> reads back each frame synchronously, which is the default.
+   * A depth <code>n &gt;= 2</code> reads back into a ring of <code>n</code> pixel pack buffer objects,
+   * each guarded by a fence if {@link GL#isGL3ES3()} is available,
+   * and displays the frame rendered <code>n - 1</code> {@link #display() displays} earlier.
+   * A depth of <code>2</code> hence trades one frame of latency for not stalling the GL pipeline.
+   * </p>
+   * <p>
+   * The first <code>n - 1</code> frames after a resize are still read back synchronously.
+   * The setting takes effect with the next frame and is ignored if {@link GL#isGL2ES3()} is not available
+   * or the Java2D OpenGL pipeline is used.
+   * The default may be set via system property <code>jogl.gljpanel.asyncreadback</code>.
+   * </p>
+   */
+  public final void setAsyncReadbackDepth(final int depth) {
+      asyncReadbackDepth = Math.max(0, depth);
+  }
+  /** See {@link #setAsyncReadbackDepth(int)}. */
+  public final int getAsyncReadbackDepth() {
+      return asyncReadbackDepth;
+  }
+
   @Override
   public GLCapabilitiesImmutable getChosenGLCapabilities() {
     final Backend b = backend;
@@ -1646,6 +1686,133 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
     public void doPlainPaint();
   }
 
+  /**
+   * Ring of pixel pack buffer objects used by {@link OffscreenBackend}
+   * for the <a href="#asyncReadback">asynchronous readback</a>.
+   * <p>
+   * Each {@link #readPixels(GL) readback} is issued into the next buffer of the ring,
+   * guarded by a fence if {@link GL#isGL3ES3()} is available.
+   * {@link #map(GL)} maps the oldest buffer, i.e. the readback issued <code>depth - 1</code> frames earlier,
+   * or the latest buffer while the ring is not yet filled.
+   * </p>
+   */
+  static final class PBOReadbackRing {
+    private final int width;
+    private final int height;
+    private final int format;
+    private final int type;
+    private final int byteSize;
+    private final int[] names;
+    private final long[] syncs;
+    private int next = 0;
+    private int latest = -1;
+    private int filled = 0;
+
+    private PBOReadbackRing(final int width, final int height, final GLPixelAttributes pixelAttribs, final int byteSize, final int[] names) {
+        this.width = width;
+        this.height = height;
+        this.format = pixelAttribs.format;
+        this.type = pixelAttribs.type;
+        this.byteSize = byteSize;
+        this.names = names;
+        this.syncs = new long[names.length];
+    }
+
+    /**
+     * Creates a ring of <code>depth</code> buffers for the given size, using the current pack modes.
+     * Returns <code>null</code> if the buffers could not be created.
+     */
+    static PBOReadbackRing create(final GL gl, final int depth, final int width, final int height, final GLPixelAttributes pixelAttribs) {
+        final int byteSize = GLBuffers.sizeof(gl, new int[1], pixelAttribs.pfmt.comp.bytesPerPixel(), width, height, 1, true);
+        final int[] names = new int[depth];
+        gl.glGenBuffers(depth, names, 0);
+        for(int i=0; i<depth; i++) {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, names[i]);
+            gl.glBufferData(GL2ES3.GL_PIXEL_PACK_BUFFER, byteSize, null, GL2ES3.GL_STREAM_READ);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        final int err = gl.glGetError();
+        if( GL.GL_NO_ERROR != err ) {
+            if( DEBUG ) {
+                System.err.println(getThreadName()+": GLJPanel.PBOReadbackRing: creation of "+depth+" x "+byteSize+" bytes failed: err 0x"+Integer.toHexString(err));
+            }
+            gl.glDeleteBuffers(depth, names, 0);
+            return null;
+        }
+        return new PBOReadbackRing(width, height, pixelAttribs, byteSize, names);
+    }
+
+    /** Returns true if this ring matches the given depth, size and pixel attributes. */
+    boolean isCompatible(final int depth, final int width, final int height, final GLPixelAttributes pixelAttribs) {
+        return names.length == depth && this.width == width && this.height == height &&
+               format == pixelAttribs.format && type == pixelAttribs.type;
+    }
+
+    /** Issues the readback of the current read buffer into the next buffer of the ring. */
+    void readPixels(final GL gl) {
+        final int i = next;
+        deleteSync(gl, i);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, names[i]);
+        gl.glReadPixels(0, 0, width, height, format, type, 0L);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        if( gl.isGL3ES3() ) {
+            syncs[i] = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+        gl.glFlush();
+        latest = i;
+        next = ( i + 1 ) % names.length;
+        if( filled < names.length ) {
+            filled++;
+        }
+    }
+
+    /**
+     * Maps the oldest buffer of the ring for reading, waiting for its fence if required.
+     * Returns <code>null</code> if mapping failed, otherwise {@link #unmap(GL)} must be called.
+     */
+    IntBuffer map(final GL gl) {
+        final int i = filled < names.length ? latest : next;
+        final long sync = syncs[i];
+        if( 0 != sync ) {
+            final GL3ES3 gl3es3 = gl.getGL3ES3();
+            int res;
+            do {
+                res = gl3es3.glClientWaitSync(sync, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, 1000000000L);
+            } while( GL3ES3.GL_TIMEOUT_EXPIRED == res );
+            deleteSync(gl, i);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, names[i]);
+        final ByteBuffer bytes = gl.glMapBufferRange(GL2ES3.GL_PIXEL_PACK_BUFFER, 0, byteSize, GL.GL_MAP_READ_BIT);
+        if( null == bytes ) {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+            return null;
+        }
+        return bytes.order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /** Unmaps the buffer mapped via {@link #map(GL)}. */
+    void unmap(final GL gl) {
+        gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+    }
+
+    void dispose(final GL gl) {
+        for(int i=0; i<names.length; i++) {
+            deleteSync(gl, i);
+        }
+        gl.glDeleteBuffers(names.length, names, 0);
+        filled = 0;
+        latest = -1;
+    }
+
+    private void deleteSync(final GL gl, final int i) {
+        if( 0 != syncs[i] ) {
+            gl.getGL3ES3().glDeleteSync(syncs[i]);
+            syncs[i] = 0;
+        }
+    }
+  }
+
   // Base class used by both the software (pixmap) and pbuffer
   // backends, both of which rely on reading back the OpenGL frame
   // buffer and drawing it with a BufferedImage
@@ -1659,6 +1826,9 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
     // in the BufferedImage
     protected IntBuffer readBackIntsForCPUVFlip;
 
+    // Asynchronous readback, see setAsyncReadbackDepth(..)
+    private PBOReadbackRing readbackRing;
+
     // Implementation using software rendering
     private volatile GLDrawable offscreenDrawable; // volatile: avoid locking for read-only access
     private boolean offscreenIsFBO;
@@ -1811,6 +1981,9 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
                 if(null != fboFlipped) {
                     fboFlipped.destroy(gl);
                 }
+                if(null != readbackRing) {
+                    readbackRing.dispose(gl);
+                }
             } finally {
                 offscreenContext.destroy();
             }
@@ -1819,6 +1992,7 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       offscreenContext = null;
       glslTextureRaster = null;
       fboFlipped = null;
+      readbackRing = null;
       offscreenContext = null;
 
       if (offscreenDrawable != null) {
@@ -1967,17 +2141,6 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
                 System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0: "+GLJPanel.this.getName()+" new alignedImage "+alignedImage.getWidth()+"x"+alignedImage.getHeight()+" @ scale "+getPixelScaleStr()+", "+alignedImage+", pixelBuffer "+pixelBuffer.width+"x"+pixelBuffer.height+", "+pixelBuffer);
             }
         }
-        final IntBuffer readBackInts;
-
-        if( !flipVertical || null != glslTextureRaster ) {
-           readBackInts = (IntBuffer) pixelBuffer.buffer;
-        } else {
-           if( null == readBackIntsForCPUVFlip || pixelBuffer.width * pixelBuffer.height > readBackIntsForCPUVFlip.remaining() ) {
-               readBackIntsForCPUVFlip = IntBuffer.allocate(pixelBuffer.width * pixelBuffer.height);
-           }
-           readBackInts = readBackIntsForCPUVFlip;
-        }
-
         // Must now copy pixels from offscreen context into surface
         if( DEBUG_FRAMES ) {
             System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.readPixels: - frameCount "+frameCount);
@@ -1997,6 +2160,19 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
               System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0.0: bound-readFBO  0x"+Integer.toHexString(gl2es3.getBoundFramebuffer(GL.GL_READ_FRAMEBUFFER)));
             }
         }
+        final PBOReadbackRing ring = validateReadbackRing(gl, pixelAttribs);
+        final IntBuffer readBackInts;
+
+        if( !flipVertical || null != glslTextureRaster ) {
+           readBackInts = (IntBuffer) pixelBuffer.buffer;
+        } else if( null != ring ) {
+           readBackInts = null; // vertical flip on the fly while copying from the ring
+        } else {
+           if( null == readBackIntsForCPUVFlip || pixelBuffer.width * pixelBuffer.height > readBackIntsForCPUVFlip.remaining() ) {
+               readBackIntsForCPUVFlip = IntBuffer.allocate(pixelBuffer.width * pixelBuffer.height);
+           }
+           readBackInts = readBackIntsForCPUVFlip;
+        }
 
         if(null != glslTextureRaster) { // implies flippedVertical
             final boolean viewportChange;
@@ -2033,7 +2209,11 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
               System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0.1: bound-readFBO  0x"+Integer.toHexString(gl.getBoundFramebuffer(GL.GL_READ_FRAMEBUFFER)));
               System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0.1: "+GLJPanel.this.getName()+" pixelAttribs "+pixelAttribs);
             }
-            gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
+            if( null != ring ) {
+                ring.readPixels(gl);
+            } else {
+                gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
+            }
 
             fboFlipped.unbind(gl);
             if( DEBUG_INIT ) {
@@ -2047,6 +2227,8 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
             if( viewportChange ) {
                 gl.glViewport(usrViewport[0], usrViewport[1], usrViewport[2], usrViewport[3]);
             }
+        } else if( null != ring ) {
+            ring.readPixels(gl);
         } else {
             gl.glReadPixels(0, 0, panelWidth, panelHeight, pixelAttribs.format, pixelAttribs.type, readBackInts);
 
@@ -2066,6 +2248,28 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
                 }
             }
         }
+        if( null != ring ) {
+            // Copy the oldest frame of the ring, vertical flip on the fly if required
+            final IntBuffer src = ring.map(gl);
+            if( null != src ) {
+                if( flipVertical && null == glslTextureRaster ) {
+                    final int[] dest = ((DataBufferInt) alignedImage.getRaster().getDataBuffer()).getData();
+                    final int incr = panelWidth;
+                    int srcPos = 0;
+                    int destPos = (panelHeight - 1) * panelWidth;
+                    for (; destPos >= 0; srcPos += incr, destPos -= incr) {
+                      src.position(srcPos);
+                      src.get(dest, destPos, incr);
+                    }
+                } else {
+                    final IntBuffer dest = readBackInts.duplicate();
+                    dest.clear();
+                    src.limit(Math.min(src.limit(), dest.remaining()));
+                    dest.put(src);
+                }
+                ring.unmap(gl);
+            }
+        }
         if( 0 != fboTexUnit ) { // implies offscreenIsFBO
             fboTexState.restore(gl);
             if( fboTexUnit != usrTexState.getUnit() ) {
@@ -2081,6 +2285,27 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       }
     }
 
+    /**
+     * Returns the {@link PBOReadbackRing} for the current panel size and {@link #setAsyncReadbackDepth(int) depth},
+     * (re)created if required, or <code>null</code> for synchronous readback.
+     */
+    private PBOReadbackRing validateReadbackRing(final GL gl, final GLPixelAttributes pixelAttribs) {
+        final int depth = asyncReadbackDepth;
+        if( null != readbackRing && !readbackRing.isCompatible(depth, panelWidth, panelHeight, pixelAttribs) ) {
+            readbackRing.dispose(gl);
+            readbackRing = null;
+        }
+        if( null == readbackRing && 2 <= depth && gl.isGL2ES3() ) {
+            readbackRing = PBOReadbackRing.create(gl, depth, panelWidth, panelHeight, pixelAttribs);
+            if( null == readbackRing ) {
+                asyncReadbackDepth = 0; // don't retry each frame
+            } else if( DEBUG ) {
+                System.err.println(getThreadName()+": GLJPanel.OffscreenBackend.postGL.0: "+GLJPanel.this.getName()+" async readback depth "+depth+", "+panelWidth+"x"+panelHeight);
+            }
+        }
+        return readbackRing;
+    }
+
     @Override
     public final int getTextureUnit() {
         if(null != glslTextureRaster && null != offscreenDrawable) { // implies flippedVertical
@@ -31,7 +31,9 @@ import java.nio.FloatBuffer;
 
 import com.jogamp.opengl.GLException;
 
+import jogamp.nativewindow.ParallelExecutor;
 import jogamp.opengl.Debug;
+import jogamp.opengl.ParallelBatch;
 
 import com.jogamp.common.os.Platform;
 import com.jogamp.opengl.math.geom.AABBox;
@@ -1046,6 +1048,207 @@ public final class FloatUtil {
       return mres;
   }
 
+  /**
+   * {@link #getMatrixKind(float[], int) Matrix kind} of the identity matrix.
+   * <p>
+   * Matrix kinds are ordered by generality, i.e. the kind of the product
+   * of two matrices is at most the maximum of both kinds.
+   * </p>
+   */
+  public static final int MATRIX_KIND_IDENTITY    = 0;
+  /** {@link #getMatrixKind(float[], int) Matrix kind} of a translation, i.e. identity upper 3x3 with a translation. */
+  public static final int MATRIX_KIND_TRANSLATION = 1;
+  /** {@link #getMatrixKind(float[], int) Matrix kind} of a rigid transformation, i.e. orthonormal upper 3x3 (rotation) with a translation. */
+  public static final int MATRIX_KIND_RIGID       = 2;
+  /** {@link #getMatrixKind(float[], int) Matrix kind} of an affine transformation, i.e. bottom row <code>[0 0 0 1]</code>. */
+  public static final int MATRIX_KIND_AFFINE      = 3;
+  /** {@link #getMatrixKind(float[], int) Matrix kind} of a general matrix, e.g. a perspective projection. */
+  public static final int MATRIX_KIND_GENERAL     = 4;
+
+  /**
+   * Returns the most specific kind of the given matrix, one of
+   * {@link #MATRIX_KIND_IDENTITY}, {@link #MATRIX_KIND_TRANSLATION}, {@link #MATRIX_KIND_RIGID},
+   * {@link #MATRIX_KIND_AFFINE} or {@link #MATRIX_KIND_GENERAL}.
+   * <p>
+   * The upper 3x3 is considered orthonormal, i.e. {@link #MATRIX_KIND_RIGID rigid},
+   * if its columns are of unit length and perpendicular within {@link #INV_DEVIANCE}.
+   * All other kinds are determined exactly.
+   * </p>
+   * @param m 4x4 matrix in column-major order
+   * @param m_offset offset in given array <i>m</i>, i.e. start of the 4x4 matrix
+   */
+  public static int getMatrixKind(final float[] m, final int m_offset) {
+      if( 0f != m[m_offset+3+0*4] || 0f != m[m_offset+3+1*4] || 0f != m[m_offset+3+2*4] || 1f != m[m_offset+3+3*4] ) {
+          return MATRIX_KIND_GENERAL;
+      }
+      final float m00 = m[m_offset+0+0*4], m10 = m[m_offset+1+0*4], m20 = m[m_offset+2+0*4];
+      final float m01 = m[m_offset+0+1*4], m11 = m[m_offset+1+1*4], m21 = m[m_offset+2+1*4];
+      final float m02 = m[m_offset+0+2*4], m12 = m[m_offset+1+2*4], m22 = m[m_offset+2+2*4];
+      if( 1f == m00 && 0f == m10 && 0f == m20 &&
+          0f == m01 && 1f == m11 && 0f == m21 &&
+          0f == m02 && 0f == m12 && 1f == m22 ) {
+          if( 0f == m[m_offset+0+3*4] && 0f == m[m_offset+1+3*4] && 0f == m[m_offset+2+3*4] ) {
+              return MATRIX_KIND_IDENTITY;
+          }
+          return MATRIX_KIND_TRANSLATION;
+      }
+      if( Math.abs( m00*m00 + m10*m10 + m20*m20 - 1f ) <= INV_DEVIANCE &&
+          Math.abs( m01*m01 + m11*m11 + m21*m21 - 1f ) <= INV_DEVIANCE &&
+          Math.abs( m02*m02 + m12*m12 + m22*m22 - 1f ) <= INV_DEVIANCE &&
+          Math.abs( m00*m01 + m10*m11 + m20*m21 ) <= INV_DEVIANCE &&
+          Math.abs( m00*m02 + m10*m12 + m20*m22 ) <= INV_DEVIANCE &&
+          Math.abs( m01*m02 + m11*m12 + m21*m22 ) <= INV_DEVIANCE ) {
+          return MATRIX_KIND_RIGID;
+      }
+      return MATRIX_KIND_AFFINE;
+  }
+
+  /**
+   * Invert the given matrix of the given {@link #getMatrixKind(float[], int) kind},
+   * using the cheapest inversion valid for the kind:
+   * <ul>
+   *   <li>{@link #MATRIX_KIND_IDENTITY}: identity</li>
+   *   <li>{@link #MATRIX_KIND_TRANSLATION}: negated translation</li>
+   *   <li>{@link #MATRIX_KIND_RIGID}: transposed upper 3x3, see {@link #invertMatrixRigid(float[], int, float[], int)}</li>
+   *   <li>{@link #MATRIX_KIND_AFFINE}: inverted upper 3x3, see {@link #invertMatrixAffine(float[], int, float[], int)}</li>
+   *   <li>{@link #MATRIX_KIND_GENERAL}: {@link #invertMatrix(float[], int, float[], int)}</li>
+   * </ul>
+   * <p>
+   * Returns <code>null</code> if inversion is not possible,
+   * e.g. matrix is singular due to a bad matrix.
+   * </p>
+   *
+   * @param msrc 4x4 matrix in column-major order, the source
+   * @param msrc_offset offset in given array <i>msrc</i>, i.e. start of the 4x4 matrix
+   * @param kind the matrix kind of <i>msrc</i>, which must not be more specific than the actual kind
+   * @param mres 4x4 matrix in column-major order, the result - may be <code>msrc</code> (in-place)
+   * @param mres_offset offset in given array <i>mres</i>, i.e. start of the 4x4 matrix - may be <code>msrc_offset</code> (in-place)
+   * @return given result matrix <i>mres</i> for chaining if successful, otherwise <code>null</code>. See above.
+   */
+  public static float[] invertMatrix(final float[] msrc, final int msrc_offset, final int kind, final float[] mres, final int mres_offset) {
+      switch( kind ) {
+          case MATRIX_KIND_IDENTITY:
+              return makeIdentity(mres, mres_offset);
+          case MATRIX_KIND_TRANSLATION: {
+              final float tx = msrc[msrc_offset+0+3*4], ty = msrc[msrc_offset+1+3*4], tz = msrc[msrc_offset+2+3*4];
+              makeIdentity(mres, mres_offset);
+              mres[mres_offset+0+3*4] = -tx;
+              mres[mres_offset+1+3*4] = -ty;
+              mres[mres_offset+2+3*4] = -tz;
+              return mres;
+          }
+          case MATRIX_KIND_RIGID:
+              return invertMatrixRigid(msrc, msrc_offset, mres, mres_offset);
+          case MATRIX_KIND_AFFINE:
+              return invertMatrixAffine(msrc, msrc_offset, mres, mres_offset);
+          default:
+              return invertMatrix(msrc, msrc_offset, mres, mres_offset);
+      }
+  }
+
+  /**
+   * Invert the given rigid matrix, i.e. an orthonormal upper 3x3 rotation <i>R</i> and a translation <i>t</i>,
+   * by transposing <i>R</i> and transforming <i>t</i>: <code>Inv = [ R<sup>T</sup> | -R<sup>T</sup> t ]</code>.
+   * <p>
+   * The result is undefined if the upper 3x3 is not orthonormal.
+   * </p>
+   *
+   * @param msrc 4x4 matrix in column-major order, the source
+   * @param msrc_offset offset in given array <i>msrc</i>, i.e. start of the 4x4 matrix
+   * @param mres 4x4 matrix in column-major order, the result - may be <code>msrc</code> (in-place)
+   * @param mres_offset offset in given array <i>mres</i>, i.e. start of the 4x4 matrix - may be <code>msrc_offset</code> (in-place)
+   * @return given result matrix <i>mres</i> for chaining
+   * @see #getMatrixKind(float[], int)
+   */
+  public static float[] invertMatrixRigid(final float[] msrc, final int msrc_offset, final float[] mres, final int mres_offset) {
+      final float m00 = msrc[msrc_offset+0+0*4], m10 = msrc[msrc_offset+1+0*4], m20 = msrc[msrc_offset+2+0*4];
+      final float m01 = msrc[msrc_offset+0+1*4], m11 = msrc[msrc_offset+1+1*4], m21 = msrc[msrc_offset+2+1*4];
+      final float m02 = msrc[msrc_offset+0+2*4], m12 = msrc[msrc_offset+1+2*4], m22 = msrc[msrc_offset+2+2*4];
+      final float tx  = msrc[msrc_offset+0+3*4], ty  = msrc[msrc_offset+1+3*4], tz  = msrc[msrc_offset+2+3*4];
+
+      mres[mres_offset+0+0*4] = m00;
+      mres[mres_offset+1+0*4] = m01;
+      mres[mres_offset+2+0*4] = m02;
+      mres[mres_offset+3+0*4] = 0f;
+      mres[mres_offset+0+1*4] = m10;
+      mres[mres_offset+1+1*4] = m11;
+      mres[mres_offset+2+1*4] = m12;
+      mres[mres_offset+3+1*4] = 0f;
+      mres[mres_offset+0+2*4] = m20;
+      mres[mres_offset+1+2*4] = m21;
+      mres[mres_offset+2+2*4] = m22;
+      mres[mres_offset+3+2*4] = 0f;
+      mres[mres_offset+0+3*4] = -( m00*tx + m10*ty + m20*tz );
+      mres[mres_offset+1+3*4] = -( m01*tx + m11*ty + m21*tz );
+      mres[mres_offset+2+3*4] = -( m02*tx + m12*ty + m22*tz );
+      mres[mres_offset+3+3*4] = 1f;
+      return mres;
+  }
+
+  /**
+   * Invert the given affine matrix, i.e. an upper 3x3 <i>A</i> and a translation <i>t</i> with bottom row <code>[0 0 0 1]</code>,
+   * by inverting <i>A</i> only: <code>Inv = [ A<sup>-1</sup> | -A<sup>-1</sup> t ]</code>.
+   * <p>
+   * Returns <code>null</code> if inversion is not possible,
+   * e.g. matrix is singular due to a bad matrix.
+   * </p>
+   * <p>
+   * The result is undefined if the bottom row is not <code>[0 0 0 1]</code>.
+   * </p>
+   *
+   * @param msrc 4x4 matrix in column-major order, the source
+   * @param msrc_offset offset in given array <i>msrc</i>, i.e. start of the 4x4 matrix
+   * @param mres 4x4 matrix in column-major order, the result - may be <code>msrc</code> (in-place)
+   * @param mres_offset offset in given array <i>mres</i>, i.e. start of the 4x4 matrix - may be <code>msrc_offset</code> (in-place)
+   * @return given result matrix <i>mres</i> for chaining if successful, otherwise <code>null</code>. See above.
+   * @see #getMatrixKind(float[], int)
+   */
+  public static float[] invertMatrixAffine(final float[] msrc, final int msrc_offset, final float[] mres, final int mres_offset) {
+      final float m00 = msrc[msrc_offset+0+0*4], m10 = msrc[msrc_offset+1+0*4], m20 = msrc[msrc_offset+2+0*4];
+      final float m01 = msrc[msrc_offset+0+1*4], m11 = msrc[msrc_offset+1+1*4], m21 = msrc[msrc_offset+2+1*4];
+      final float m02 = msrc[msrc_offset+0+2*4], m12 = msrc[msrc_offset+1+2*4], m22 = msrc[msrc_offset+2+2*4];
+      final float tx  = msrc[msrc_offset+0+3*4], ty  = msrc[msrc_offset+1+3*4], tz  = msrc[msrc_offset+2+3*4];
+
+      // cofactors of the upper 3x3
+      final float c00 = m11*m22 - m12*m21;
+      final float c01 = m12*m20 - m10*m22;
+      final float c02 = m10*m21 - m11*m20;
+      final float det = m00*c00 + m01*c01 + m02*c02;
+      if( 0f == det ) {
+          return null;
+      }
+      final float idet = 1f / det;
+
+      // A^-1 = adj(A) / det, row i of A^-1 = cofactors of column i of A
+      final float i00 = c00 * idet;
+      final float i01 = ( m02*m21 - m01*m22 ) * idet;
+      final float i02 = ( m01*m12 - m02*m11 ) * idet;
+      final float i10 = c01 * idet;
+      final float i11 = ( m00*m22 - m02*m20 ) * idet;
+      final float i12 = ( m02*m10 - m00*m12 ) * idet;
+      final float i20 = c02 * idet;
+      final float i21 = ( m01*m20 - m00*m21 ) * idet;
+      final float i22 = ( m00*m11 - m01*m10 ) * idet;
+
+      mres[mres_offset+0+0*4] = i00;
+      mres[mres_offset+1+0*4] = i10;
+      mres[mres_offset+2+0*4] = i20;
+      mres[mres_offset+3+0*4] = 0f;
+      mres[mres_offset+0+1*4] = i01;
+      mres[mres_offset+1+1*4] = i11;
+      mres[mres_offset+2+1*4] = i21;
+      mres[mres_offset+3+1*4] = 0f;
+      mres[mres_offset+0+2*4] = i02;
+      mres[mres_offset+1+2*4] = i12;
+      mres[mres_offset+2+2*4] = i22;
+      mres[mres_offset+3+2*4] = 0f;
+      mres[mres_offset+0+3*4] = -( i00*tx + i01*ty + i02*tz );
+      mres[mres_offset+1+3*4] = -( i10*tx + i11*ty + i12*tz );
+      mres[mres_offset+2+3*4] = -( i20*tx + i21*ty + i22*tz );
+      mres[mres_offset+3+3*4] = 1f;
+      return mres;
+  }
+
   /**
    * Map object coordinates to window coordinates.
    * <p>
@@ -1603,6 +1806,58 @@ public final class FloatUtil {
       return d;
   }
 
+  /**
+   * Multiply matrix with an affine matrix: [d] = [a] x [b],
+   * skipping the bottom row <code>[0 0 0 1]</code> of <i>b</i>.
+   * <p>
+   * If <i>a</i> is affine as well, its bottom row is not computed
+   * but copied, i.e. the result is affine as well.
+   * </p>
+   * <p>
+   * The result is undefined if the bottom row of <i>b</i> is not <code>[0 0 0 1]</code>.
+   * </p>
+   * @param a 4x4 matrix in column-major order
+   * @param a_affine true if <i>a</i> is affine, see {@link #getMatrixKind(float[], int)}
+   * @param b affine 4x4 matrix in column-major order
+   * @param d result a*b in column-major order - may be <i>a</i> (in-place)
+   * @return given result matrix <i>d</i> for chaining
+   */
+  public static float[] multMatrixAffine(final float[] a, final int a_off, final boolean a_affine,
+                                         final float[] b, final int b_off,
+                                         final float[] d, final int d_off) {
+      final float b00 = b[b_off+0+0*4];
+      final float b10 = b[b_off+1+0*4];
+      final float b20 = b[b_off+2+0*4];
+      final float b01 = b[b_off+0+1*4];
+      final float b11 = b[b_off+1+1*4];
+      final float b21 = b[b_off+2+1*4];
+      final float b02 = b[b_off+0+2*4];
+      final float b12 = b[b_off+1+2*4];
+      final float b22 = b[b_off+2+2*4];
+      final float b03 = b[b_off+0+3*4];
+      final float b13 = b[b_off+1+3*4];
+      final float b23 = b[b_off+2+3*4];
+
+      final int rows = a_affine ? 3 : 4;
+      for(int i=0; i<rows; i++) {
+          final float ai0=a[a_off+i+0*4]; // row-i of a
+          final float ai1=a[a_off+i+1*4];
+          final float ai2=a[a_off+i+2*4];
+          final float ai3=a[a_off+i+3*4];
+          d[d_off+i+0*4] = ai0 * b00  +  ai1 * b10  +  ai2 * b20 ;
+          d[d_off+i+1*4] = ai0 * b01  +  ai1 * b11  +  ai2 * b21 ;
+          d[d_off+i+2*4] = ai0 * b02  +  ai1 * b12  +  ai2 * b22 ;
+          d[d_off+i+3*4] = ai0 * b03  +  ai1 * b13  +  ai2 * b23  +  ai3 ;
+      }
+      if( a_affine ) {
+          d[d_off+3+0*4] = 0f;
+          d[d_off+3+1*4] = 0f;
+          d[d_off+3+2*4] = 0f;
+          d[d_off+3+3*4] = 1f;
+      }
+      return d;
+  }
+
   /**
    * Multiply matrix: [a] = [a] x [b]
    * @param a 4x4 matrix in column-major order (also result)
@@ -1842,6 +2097,75 @@ public final class FloatUtil {
     }
   }
 
+  /**
+   * Transforms <code>count</code> points, i.e. 3-component column-vectors with an implied w = 1,
+   * packed as <code>x, y, z</code> triplets.
+   * <p>
+   * The resulting x, y and z components are stored w/o perspective division,
+   * i.e. <code>m_in</code> shall be an affine transformation.
+   * </p>
+   * <p>
+   * <code>v_in</code> and <code>v_out</code> may be the same array for in-place transformation.
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param v_in packed points, at least <code>v_in_off + 3 * count</code> components long
+   * @param v_in_off offset to first point
+   * @param v_out packed result points, at least <code>v_out_off + 3 * count</code> components long
+   * @param v_out_off offset to first result point
+   * @param count number of points
+   * @see ParallelExecutor
+   */
+  public static void multMatrixVec3(final float[] m_in, final int m_in_off,
+                                    final float[] v_in, final int v_in_off,
+                                    final float[] v_out, final int v_out_off, final int count) {
+      final float m00 = m_in[m_in_off+0+0*4], m01 = m_in[m_in_off+0+1*4], m02 = m_in[m_in_off+0+2*4], m03 = m_in[m_in_off+0+3*4];
+      final float m10 = m_in[m_in_off+1+0*4], m11 = m_in[m_in_off+1+1*4], m12 = m_in[m_in_off+1+2*4], m13 = m_in[m_in_off+1+3*4];
+      final float m20 = m_in[m_in_off+2+0*4], m21 = m_in[m_in_off+2+1*4], m22 = m_in[m_in_off+2+2*4], m23 = m_in[m_in_off+2+3*4];
+      ParallelBatch.run(count, 1, new ParallelExecutor.Range() {
+          @Override
+          public void run(final int i0, final int i1) {
+              for(int i=i0, s=v_in_off+3*i0, d=v_out_off+3*i0; i<i1; i++, s+=3, d+=3) {
+                  final float x = v_in[s], y = v_in[s+1], z = v_in[s+2];
+                  v_out[d  ] = m00 * x + m01 * y + m02 * z + m03;
+                  v_out[d+1] = m10 * x + m11 * y + m12 * z + m13;
+                  v_out[d+2] = m20 * x + m21 * y + m22 * z + m23;
+              }
+          } } );
+  }
+
+  /**
+   * Transforms <code>count</code> points, i.e. 3-component column-vectors with an implied w = 1,
+   * packed as <code>x, y, z</code> triplets starting at the buffer's current position.
+   * <p>
+   * See {@link #multMatrixVec3(float[], int, float[], int, float[], int, int)},
+   * the buffer's position is not changed.
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset to matrix
+   * @param v_in packed points
+   * @param v_out packed result points, may be <code>v_in</code>
+   * @param count number of points
+   */
+  public static void multMatrixVec3(final float[] m_in, final int m_in_off,
+                                    final FloatBuffer v_in, final FloatBuffer v_out, final int count) {
+      final float m00 = m_in[m_in_off+0+0*4], m01 = m_in[m_in_off+0+1*4], m02 = m_in[m_in_off+0+2*4], m03 = m_in[m_in_off+0+3*4];
+      final float m10 = m_in[m_in_off+1+0*4], m11 = m_in[m_in_off+1+1*4], m12 = m_in[m_in_off+1+2*4], m13 = m_in[m_in_off+1+3*4];
+      final float m20 = m_in[m_in_off+2+0*4], m21 = m_in[m_in_off+2+1*4], m22 = m_in[m_in_off+2+2*4], m23 = m_in[m_in_off+2+3*4];
+      final int v_in_off = v_in.position();
+      final int v_out_off = v_out.position();
+      ParallelBatch.run(count, 1, new ParallelExecutor.Range() {
+          @Override
+          public void run(final int i0, final int i1) {
+              for(int i=i0, s=v_in_off+3*i0, d=v_out_off+3*i0; i<i1; i++, s+=3, d+=3) {
+                  final float x = v_in.get(s), y = v_in.get(s+1), z = v_in.get(s+2);
+                  v_out.put(d  , m00 * x + m01 * y + m02 * z + m03);
+                  v_out.put(d+1, m10 * x + m11 * y + m12 * z + m13);
+                  v_out.put(d+2, m20 * x + m21 * y + m22 * z + m23);
+              }
+          } } );
+  }
+
   /**
    * Copy the named column of the given column-major matrix to v_out.
    * <p>
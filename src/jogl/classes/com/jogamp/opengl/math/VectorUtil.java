@@ -136,6 +136,16 @@ public final class VectorUtil {
                FloatUtil.isEqual(vec1[2+vec1Offset], vec2[2+vec2Offset], epsilon) ;
     }
 
+    /**
+     * Return true if both vertices are equal, i.e. their absolute delta < <code>epsilon</code>.
+     * @see #isVec3Equal(float[], int, float[], int, float)
+     */
+    public static boolean isVec3Equal(final Vert3fImmutable v1, final Vert3fImmutable v2, final float epsilon) {
+        return FloatUtil.isEqual(v1.getX(), v2.getX(), epsilon) &&
+               FloatUtil.isEqual(v1.getY(), v2.getY(), epsilon) &&
+               FloatUtil.isEqual(v1.getZ(), v2.getZ(), epsilon) ;
+    }
+
     /**
      * Return true if vector is zero, no {@link FloatUtil#EPSILON} is taken into consideration.
      */
@@ -214,6 +224,24 @@ public final class VectorUtil {
         return FloatUtil.sqrt(distSquareVec3(v1, v2));
     }
 
+    /**
+     * Return the squared distance between the given two points v1 and v2.
+     * @see #distSquareVec3(float[], float[])
+     */
+    public static float distSquareVec3(final Vert3fImmutable v1, final Vert3fImmutable v2) {
+        final float dx = v1.getX() - v2.getX();
+        final float dy = v1.getY() - v2.getY();
+        final float dz = v1.getZ() - v2.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Return the distance between the given two points v1 and v2.
+     */
+    public static float distVec3(final Vert3fImmutable v1, final Vert3fImmutable v2) {
+        return FloatUtil.sqrt(distSquareVec3(v1, v2));
+    }
+
     /**
      * Return the dot product of two points
      * @param vec1 vector 1
@@ -671,14 +699,14 @@ public final class VectorUtil {
      * vertices a, b, c. from paper by Guibas and Stolfi (1985).
      */
     public static boolean isInCircleVec2(final Vert2fImmutable a, final Vert2fImmutable b, final Vert2fImmutable c, final Vert2fImmutable d) {
-        final float[] A = a.getCoord();
-        final float[] B = b.getCoord();
-        final float[] C = c.getCoord();
-        final float[] D = d.getCoord();
-        return (A[0] * A[0] + A[1] * A[1]) * triAreaVec2(B, C, D) -
-               (B[0] * B[0] + B[1] * B[1]) * triAreaVec2(A, C, D) +
-               (C[0] * C[0] + C[1] * C[1]) * triAreaVec2(A, B, D) -
-               (D[0] * D[0] + D[1] * D[1]) * triAreaVec2(A, B, C) > 0;
+        final float aX = a.getX(), aY = a.getY();
+        final float bX = b.getX(), bY = b.getY();
+        final float cX = c.getX(), cY = c.getY();
+        final float dX = d.getX(), dY = d.getY();
+        return (aX * aX + aY * aY) * triAreaVec2(bX, bY, cX, cY, dX, dY) -
+               (bX * bX + bY * bY) * triAreaVec2(aX, aY, cX, cY, dX, dY) +
+               (cX * cX + cY * cY) * triAreaVec2(aX, aY, bX, bY, dX, dY) -
+               (dX * dX + dY * dY) * triAreaVec2(aX, aY, bX, bY, cX, cY) > 0;
     }
 
     /**
@@ -690,10 +718,11 @@ public final class VectorUtil {
      * is positive if the triangle is oriented counterclockwise.
      */
     public static float triAreaVec2(final Vert2fImmutable a, final Vert2fImmutable b, final Vert2fImmutable c){
-        final float[] A = a.getCoord();
-        final float[] B = b.getCoord();
-        final float[] C = c.getCoord();
-        return (B[0] - A[0]) * (C[1] - A[1]) - (B[1] - A[1]) * (C[0] - A[0]);
+        return triAreaVec2(a.getX(), a.getY(), b.getX(), b.getY(), c.getX(), c.getY());
+    }
+
+    private static float triAreaVec2(final float aX, final float aY, final float bX, final float bY, final float cX, final float cY){
+        return (bX - aX) * (cY - aY) - (bY - aY) * (cX - aX);
     }
 
     /**
@@ -915,9 +944,9 @@ public final class VectorUtil {
         float area = 0.0f;
         for (int p = n - 1, q = 0; q < n; p = q++)
         {
-            final float[] pCoord = vertices.get(p).getCoord();
-            final float[] qCoord = vertices.get(q).getCoord();
-            area += pCoord[0] * qCoord[1] - qCoord[0] * pCoord[1];
+            final Vert2fImmutable pV = vertices.get(p);
+            final Vert2fImmutable qV = vertices.get(q);
+            area += pV.getX() * qV.getY() - qV.getX() * pV.getY();
         }
         return area;
     }
@@ -1065,23 +1094,23 @@ public final class VectorUtil {
      */
     public static boolean testSeg2SegIntersection(final Vert2fImmutable a, final Vert2fImmutable b,
                                                   final Vert2fImmutable c, final Vert2fImmutable d) {
-        final float[] A = a.getCoord();
-        final float[] B = b.getCoord();
-        final float[] C = c.getCoord();
-        final float[] D = d.getCoord();
+        final float aX = a.getX(), aY = a.getY();
+        final float bX = b.getX(), bY = b.getY();
+        final float cX = c.getX(), cY = c.getY();
+        final float dX = d.getX(), dY = d.getY();
 
-        final float determinant = (A[0]-B[0])*(C[1]-D[1]) - (A[1]-B[1])*(C[0]-D[0]);
+        final float determinant = (aX-bX)*(cY-dY) - (aY-bY)*(cX-dX);
 
         if (determinant == 0) {
             return false;
         }
 
-        final float alpha = (A[0]*B[1]-A[1]*B[0]);
-        final float beta = (C[0]*D[1]-C[1]*D[1]);
-        final float xi = ((C[0]-D[0])*alpha-(A[0]-B[0])*beta)/determinant;
+        final float alpha = (aX*bY-aY*bX);
+        final float beta = (cX*dY-cY*dY);
+        final float xi = ((cX-dX)*alpha-(aX-bX)*beta)/determinant;
 
-        final float gamma0 = (xi - A[0])/(B[0] - A[0]);
-        final float gamma1 = (xi - C[0])/(D[0] - C[0]);
+        final float gamma0 = (xi - aX)/(bX - aX);
+        final float gamma1 = (xi - cX)/(dX - cX);
         if(gamma0 <= 0 || gamma0 >= 1 || gamma1 <= 0 || gamma1 >= 1) {
             return false;
         }
@@ -1099,23 +1128,23 @@ public final class VectorUtil {
     public static boolean testSeg2SegIntersection(final Vert2fImmutable a, final Vert2fImmutable b,
                                                   final Vert2fImmutable c, final Vert2fImmutable d,
                                                   final float epsilon) {
-        final float[] A = a.getCoord();
-        final float[] B = b.getCoord();
-        final float[] C = c.getCoord();
-        final float[] D = d.getCoord();
+        final float aX = a.getX(), aY = a.getY();
+        final float bX = b.getX(), bY = b.getY();
+        final float cX = c.getX(), cY = c.getY();
+        final float dX = d.getX(), dY = d.getY();
 
-        final float determinant = (A[0]-B[0])*(C[1]-D[1]) - (A[1]-B[1])*(C[0]-D[0]);
+        final float determinant = (aX-bX)*(cY-dY) - (aY-bY)*(cX-dX);
 
         if ( FloatUtil.isZero(determinant, epsilon) ) {
             return false;
         }
 
-        final float alpha = (A[0]*B[1]-A[1]*B[0]);
-        final float beta = (C[0]*D[1]-C[1]*D[1]);
-        final float xi = ((C[0]-D[0])*alpha-(A[0]-B[0])*beta)/determinant;
+        final float alpha = (aX*bY-aY*bX);
+        final float beta = (cX*dY-cY*dY);
+        final float xi = ((cX-dX)*alpha-(aX-bX)*beta)/determinant;
 
-        final float gamma0 = (xi - A[0])/(B[0] - A[0]);
-        final float gamma1 = (xi - C[0])/(D[0] - C[0]);
+        final float gamma0 = (xi - aX)/(bX - aX);
+        final float gamma1 = (xi - cX)/(dX - cX);
         if( FloatUtil.compare(gamma0, 0.0f, epsilon) <= 0 ||
             FloatUtil.compare(gamma0, 1.0f, epsilon) >= 0 ||
             FloatUtil.compare(gamma1, 0.0f, epsilon) <= 0 ||
@@ -27,7 +27,11 @@
  */
 package com.jogamp.opengl.math.geom;
 
+import java.nio.FloatBuffer;
+
 import jogamp.common.os.PlatformPropsImpl;
+import jogamp.nativewindow.ParallelExecutor;
+import jogamp.opengl.ParallelBatch;
 
 import com.jogamp.common.os.Platform;
 
@@ -44,6 +48,12 @@ import com.jogamp.common.os.Platform;
  *   <li> {@link #isSphereOutside(float[], float) sphere} </li>
  *   <li> {@link #isAABBoxOutside(AABBox) bounding-box} </li>
  * </ul>
+ * <p>
+ * Batch variants process packed arrays of points, spheres or bounding-boxes in one call,
+ * writing the results into a bitset or {@link Location} array, e.g.
+ * {@link #isAABBoxOutside(float[], int, int, long[])}.
+ * They may run in parallel, see {@link jogamp.nativewindow.ParallelExecutor}.
+ * </p>
  *
  * <p>
  * Extracting the world-frustum planes from the P*Mv:
@@ -376,6 +386,212 @@ public class Frustum {
         return Location.OUTSIDE == classifySphere(p, radius);
     }
 
+    /**
+     * Returns the planes packed as <code>nx, ny, nz, d</code> quadruples,
+     * a snapshot used by the batch methods.
+     */
+    private float[] getPackedPlanes() {
+        final float[] res = new float[6*4];
+        for (int i = 0; i < 6; ++i) {
+            final Plane p = planes[i];
+            res[i*4+0] = p.n[0];
+            res[i*4+1] = p.n[1];
+            res[i*4+2] = p.n[2];
+            res[i*4+3] = p.d;
+        }
+        return res;
+    }
+
+    private static int countBits(final long[] bits, final int count) {
+        int res = 0;
+        for(int i = ( count + 63 ) >>> 6 ; i > 0; ) {
+            res += Long.bitCount(bits[--i]);
+        }
+        return res;
+    }
+
+    /**
+     * Batch variant of {@link #isAABBoxOutside(AABBox)}.
+     * <p>
+     * Bounding-boxes are packed as <code>low.x, low.y, low.z, high.x, high.y, high.z</code> sextuples.
+     * </p>
+     * <p>
+     * Bit <code>i</code> of the resulting bitset, i.e. <code>outside[i >>> 6] & ( 1L << ( i & 63 ) )</code>,
+     * is set if box <code>i</code> is completely outside of the frustum, otherwise cleared.
+     * Unused bits of the last used <code>long</code> are cleared.
+     * </p>
+     * @param boxes packed bounding-boxes, at least <code>boxes_off + 6 * count</code> components long
+     * @param boxes_off offset to first bounding-box
+     * @param count number of bounding-boxes
+     * @param outside resulting bitset, at least <code>(count + 63) / 64</code> long
+     * @return number of bounding-boxes completely outside of the frustum
+     */
+    public final int isAABBoxOutside(final float[] boxes, final int boxes_off, final int count, final long[] outside) {
+        final float[] pl = getPackedPlanes();
+        ParallelBatch.run(count, 64, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                for(int w0 = i0; w0 < i1; w0 += 64) {
+                    final int w1 = Math.min(i1, w0 + 64);
+                    long bits = 0;
+                    for(int i = w0, o = boxes_off + 6 * w0; i < w1; i++, o += 6) {
+                        final float lx = boxes[o  ], ly = boxes[o+1], lz = boxes[o+2];
+                        final float hx = boxes[o+3], hy = boxes[o+4], hz = boxes[o+5];
+                        boolean out = false;
+                        for(int p = 0; p < 6*4; p += 4) {
+                            // distance of the box corner farthest in the normal's direction
+                            final float nx = pl[p], ny = pl[p+1], nz = pl[p+2];
+                            out |= Math.max(nx * lx, nx * hx) + Math.max(ny * ly, ny * hy) + Math.max(nz * lz, nz * hz) + pl[p+3] <= 0.0f;
+                        }
+                        bits |= ( out ? 1L : 0L ) << ( i - w0 );
+                    }
+                    outside[w0 >>> 6] = bits;
+                }
+            } } );
+        return countBits(outside, count);
+    }
+
+    /**
+     * Batch variant of {@link #isAABBoxOutside(AABBox)},
+     * see {@link #isAABBoxOutside(float[], int, int, long[])}.
+     * <p>
+     * Bounding-boxes are read starting at the buffer's current position, which is not changed.
+     * </p>
+     * @param boxes packed bounding-boxes
+     * @param count number of bounding-boxes
+     * @param outside resulting bitset, at least <code>(count + 63) / 64</code> long
+     * @return number of bounding-boxes completely outside of the frustum
+     */
+    public final int isAABBoxOutside(final FloatBuffer boxes, final int count, final long[] outside) {
+        final float[] pl = getPackedPlanes();
+        final int boxes_off = boxes.position();
+        ParallelBatch.run(count, 64, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                for(int w0 = i0; w0 < i1; w0 += 64) {
+                    final int w1 = Math.min(i1, w0 + 64);
+                    long bits = 0;
+                    for(int i = w0, o = boxes_off + 6 * w0; i < w1; i++, o += 6) {
+                        final float lx = boxes.get(o  ), ly = boxes.get(o+1), lz = boxes.get(o+2);
+                        final float hx = boxes.get(o+3), hy = boxes.get(o+4), hz = boxes.get(o+5);
+                        boolean out = false;
+                        for(int p = 0; p < 6*4; p += 4) {
+                            final float nx = pl[p], ny = pl[p+1], nz = pl[p+2];
+                            out |= Math.max(nx * lx, nx * hx) + Math.max(ny * ly, ny * hy) + Math.max(nz * lz, nz * hz) + pl[p+3] <= 0.0f;
+                        }
+                        bits |= ( out ? 1L : 0L ) << ( i - w0 );
+                    }
+                    outside[w0 >>> 6] = bits;
+                }
+            } } );
+        return countBits(outside, count);
+    }
+
+    /**
+     * Batch variant of {@link #isPointOutside(float[])}.
+     * <p>
+     * Points are packed as <code>x, y, z</code> triplets,
+     * the resulting bitset is described in {@link #isAABBoxOutside(float[], int, int, long[])}.
+     * </p>
+     * @param points packed points, at least <code>points_off + 3 * count</code> components long
+     * @param points_off offset to first point
+     * @param count number of points
+     * @param outside resulting bitset, at least <code>(count + 63) / 64</code> long
+     * @return number of points outside of the frustum
+     */
+    public final int isPointOutside(final float[] points, final int points_off, final int count, final long[] outside) {
+        final float[] pl = getPackedPlanes();
+        ParallelBatch.run(count, 64, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                for(int w0 = i0; w0 < i1; w0 += 64) {
+                    final int w1 = Math.min(i1, w0 + 64);
+                    long bits = 0;
+                    for(int i = w0, o = points_off + 3 * w0; i < w1; i++, o += 3) {
+                        final float x = points[o], y = points[o+1], z = points[o+2];
+                        boolean out = false;
+                        for(int p = 0; p < 6*4; p += 4) {
+                            out |= pl[p] * x + pl[p+1] * y + pl[p+2] * z + pl[p+3] < 0.0f;
+                        }
+                        bits |= ( out ? 1L : 0L ) << ( i - w0 );
+                    }
+                    outside[w0 >>> 6] = bits;
+                }
+            } } );
+        return countBits(outside, count);
+    }
+
+    /**
+     * Batch variant of {@link #isSphereOutside(float[], float)}.
+     * <p>
+     * Sphere centers are packed as <code>x, y, z</code> triplets,
+     * the resulting bitset is described in {@link #isAABBoxOutside(float[], int, int, long[])}.
+     * </p>
+     * @param centers packed sphere centers, at least <code>centers_off + 3 * count</code> components long
+     * @param centers_off offset to first sphere center
+     * @param radii sphere radii, at least <code>radii_off + count</code> components long
+     * @param radii_off offset to first sphere radius
+     * @param count number of spheres
+     * @param outside resulting bitset, at least <code>(count + 63) / 64</code> long
+     * @return number of spheres completely outside of the frustum
+     */
+    public final int isSphereOutside(final float[] centers, final int centers_off, final float[] radii, final int radii_off,
+                                     final int count, final long[] outside) {
+        final float[] pl = getPackedPlanes();
+        ParallelBatch.run(count, 64, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                for(int w0 = i0; w0 < i1; w0 += 64) {
+                    final int w1 = Math.min(i1, w0 + 64);
+                    long bits = 0;
+                    for(int i = w0, o = centers_off + 3 * w0; i < w1; i++, o += 3) {
+                        final float x = centers[o], y = centers[o+1], z = centers[o+2];
+                        final float nr = -radii[radii_off + i];
+                        boolean out = false;
+                        for(int p = 0; p < 6*4; p += 4) {
+                            out |= pl[p] * x + pl[p+1] * y + pl[p+2] * z + pl[p+3] < nr;
+                        }
+                        bits |= ( out ? 1L : 0L ) << ( i - w0 );
+                    }
+                    outside[w0 >>> 6] = bits;
+                }
+            } } );
+        return countBits(outside, count);
+    }
+
+    /**
+     * Batch variant of {@link #classifySphere(float[], float)}.
+     * <p>
+     * Sphere centers are packed as <code>x, y, z</code> triplets.
+     * </p>
+     * @param centers packed sphere centers, at least <code>centers_off + 3 * count</code> components long
+     * @param centers_off offset to first sphere center
+     * @param radii sphere radii, at least <code>radii_off + count</code> components long
+     * @param radii_off offset to first sphere radius
+     * @param count number of spheres
+     * @param result resulting {@link Location} of each sphere, at least <code>result_off + count</code> long
+     * @param result_off offset to first result
+     */
+    public final void classifySphere(final float[] centers, final int centers_off, final float[] radii, final int radii_off,
+                                     final int count, final Location[] result, final int result_off) {
+        final float[] pl = getPackedPlanes();
+        ParallelBatch.run(count, 1, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int i0, final int i1) {
+                for(int i = i0, o = centers_off + 3 * i0; i < i1; i++, o += 3) {
+                    final float x = centers[o], y = centers[o+1], z = centers[o+2];
+                    final float r = radii[radii_off + i];
+                    boolean out = false, intersect = false;
+                    for(int p = 0; p < 6*4; p += 4) {
+                        final float d = pl[p] * x + pl[p+1] * y + pl[p+2] * z + pl[p+3];
+                        out |= d < -r;
+                        intersect |= d < r;
+                    }
+                    result[result_off + i] = out ? Location.OUTSIDE : ( intersect ? Location.INTERSECT : Location.INSIDE );
+                }
+            } } );
+    }
+
     public StringBuilder toString(StringBuilder sb) {
         if( null == sb ) {
             sb = new StringBuilder();
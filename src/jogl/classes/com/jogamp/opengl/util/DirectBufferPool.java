@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import com.jogamp.common.nio.Buffers;
+
+/**
+ * Pool of reusable direct {@link ByteBuffer}s, bucketed by power-of-two size classes.
+ * <p>
+ * Direct NIO memory is only reclaimed by the garbage collector,
+ * hence frequently re-allocated buffers, e.g. of per-frame rebuilt meshes, may exhaust native memory
+ * long before the java heap triggers a collection.
+ * A pool retains released buffers up to {@link #getMaxRetainedByteCount()} bytes for subsequent {@link #acquire(int)} calls.
+ * </p>
+ * <p>
+ * A pool w/ zero retained bytes allocates buffers of the exact requested size
+ * and merely counts allocations.
+ * </p>
+ * <p>
+ * The {@link #getDefault() default pool} is used by {@link GLArrayDataClient}, {@link GLArrayDataServer} and {@link ImmModeSink}
+ * and does not retain any buffers, see {@link #setDefault(DirectBufferPool)}.
+ * </p>
+ * <p>
+ * A released buffer must no more be used by its previous owner.
+ * Only buffers {@link #acquire(int) acquired} from the same pool shall be released,
+ * the pool does not track buffers handed out, see {@link #release(ByteBuffer)}.
+ * </p>
+ * <p>
+ * Instances are thread safe.
+ * </p>
+ */
+public final class DirectBufferPool {
+    /** Smallest size class, 64 bytes. */
+    private static final int MIN_CLASS = 6;
+    /** Largest retained size class, 64 MiB. */
+    private static final int MAX_CLASS = 26;
+
+    private static volatile DirectBufferPool defaultPool = new DirectBufferPool(0);
+
+    /** Returns the default pool, never <code>null</code>. */
+    public static DirectBufferPool getDefault() { return defaultPool; }
+
+    /**
+     * Sets the default pool used by new buffers of {@link GLArrayDataClient}, {@link GLArrayDataServer} and {@link ImmModeSink},
+     * shared across all their instances.
+     * <p>
+     * Buffers acquired from the previous default pool are released to it.
+     * </p>
+     */
+    public static void setDefault(final DirectBufferPool pool) {
+        if( null == pool ) {
+            throw new IllegalArgumentException("pool is null");
+        }
+        defaultPool = pool;
+    }
+
+    private final int maxRetainedBytes;
+    private final ArrayList<ArrayList<ByteBuffer>> freeLists;
+    /** All buffers of {@link #freeLists}, guarding against double release */
+    private final IdentityHashMap<ByteBuffer, ByteBuffer> retained = new IdentityHashMap<ByteBuffer, ByteBuffer>();
+    private long retainedBytes = 0;
+    private long allocationCount = 0;
+    private long allocatedBytes = 0;
+    private long reuseCount = 0;
+
+    /**
+     * @param maxRetainedBytes maximum number of bytes of released buffers to be retained for reuse,
+     *                         zero disables reuse.
+     */
+    public DirectBufferPool(final int maxRetainedBytes) {
+        this.maxRetainedBytes = Math.max(0, maxRetainedBytes);
+        freeLists = new ArrayList<ArrayList<ByteBuffer>>(MAX_CLASS+1);
+        for(int i=0; i<=MAX_CLASS; i++) {
+            freeLists.add(new ArrayList<ByteBuffer>());
+        }
+    }
+
+    /** Returns the maximum number of bytes retained for reuse. */
+    public int getMaxRetainedByteCount() { return maxRetainedBytes; }
+
+    /**
+     * Returns a cleared direct {@link ByteBuffer} in native byte order w/ at least the given capacity.
+     * <p>
+     * The buffer's limit is set to <code>byteCount</code>,
+     * its capacity may be larger, i.e. the size class.
+     * Content is undefined.
+     * </p>
+     */
+    public ByteBuffer acquire(final int byteCount) {
+        if( 0 > byteCount ) {
+            throw new IllegalArgumentException("Negative byteCount "+byteCount);
+        }
+        final int sizeClass = getSizeClass(byteCount);
+        final ByteBuffer res;
+        synchronized( this ) {
+            if( 0 < maxRetainedBytes && sizeClass <= MAX_CLASS ) {
+                final ArrayList<ByteBuffer> free = freeLists.get(sizeClass);
+                if( !free.isEmpty() ) {
+                    res = free.remove(free.size()-1);
+                    retained.remove(res);
+                    retainedBytes -= res.capacity();
+                    reuseCount++;
+                    res.clear();
+                    res.limit(byteCount);
+                    return res;
+                }
+            }
+            final int capacity = 0 < maxRetainedBytes && sizeClass <= MAX_CLASS ? 1 << sizeClass : byteCount;
+            allocationCount++;
+            allocatedBytes += capacity;
+            res = Buffers.newDirectByteBuffer(capacity);
+        }
+        res.limit(byteCount);
+        return res;
+    }
+
+    /**
+     * Releases the given buffer for reuse, if the maximum retained byte count would not be exceeded.
+     * <p>
+     * The buffer must have been {@link #acquire(int) acquired} from this pool.
+     * This is not verified, except that buffers of a capacity other than a size class are not retained.
+     * Releasing a buffer which is already retained has no effect.
+     * </p>
+     * @param buffer the buffer to release, may be <code>null</code>
+     */
+    public void release(final ByteBuffer buffer) {
+        if( null == buffer || 0 == maxRetainedBytes || !buffer.isDirect() ) {
+            return;
+        }
+        final int capacity = buffer.capacity();
+        final int sizeClass = getSizeClass(capacity);
+        if( sizeClass > MAX_CLASS || capacity != 1 << sizeClass ) {
+            return;
+        }
+        synchronized( this ) {
+            if( retainedBytes + capacity <= maxRetainedBytes && null == retained.put(buffer, buffer) ) {
+                freeLists.get(sizeClass).add(buffer);
+                retainedBytes += capacity;
+            }
+        }
+    }
+
+    /** Drops all retained buffers. */
+    public synchronized void clear() {
+        for(int i=0; i<freeLists.size(); i++) {
+            freeLists.get(i).clear();
+        }
+        retained.clear();
+        retainedBytes = 0;
+    }
+
+    /** Returns the number of bytes currently retained for reuse. */
+    public synchronized long getRetainedByteCount() { return retainedBytes; }
+
+    /** Returns the number of newly allocated direct buffers. */
+    public synchronized long getAllocationCount() { return allocationCount; }
+
+    /** Returns the number of newly allocated direct bytes. */
+    public synchronized long getAllocatedByteCount() { return allocatedBytes; }
+
+    /** Returns the number of {@link #acquire(int)} calls served by a retained buffer. */
+    public synchronized long getReuseCount() { return reuseCount; }
+
+    /** Resets the allocation and reuse counters. */
+    public synchronized void resetCounter() {
+        allocationCount = 0;
+        allocatedBytes = 0;
+        reuseCount = 0;
+    }
+
+    private static int getSizeClass(final int byteCount) {
+        if( byteCount <= 1 << MIN_CLASS ) {
+            return MIN_CLASS;
+        }
+        return 32 - Integer.numberOfLeadingZeros(byteCount - 1);
+    }
+
+    @Override
+    public String toString() {
+        synchronized( this ) {
+            return "DirectBufferPool[retained "+retainedBytes+" / "+maxRetainedBytes+" bytes, allocations "+allocationCount+
+                   " ("+allocatedBytes+" bytes), reused "+reuseCount+"]";
+        }
+    }
+}
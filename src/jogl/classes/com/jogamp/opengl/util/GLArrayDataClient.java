@@ -31,6 +31,7 @@ package com.jogamp.opengl.util;
 import java.lang.reflect.Constructor;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
@@ -184,6 +185,7 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
   @Override
   public void destroy(final GL gl) {
     reset(gl);
+    releasePooledBuffer();
     super.destroy(gl);
   }
 
@@ -356,7 +358,10 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
                                   "mappedElementCount "+mappedElementCount+
                                   ", has mapped buffer "+buffer+"; "+this);
         }
-        growBuffer(Math.max(initialElementCount, (spareComponents+componentsPerElement-1)/componentsPerElement));
+        // amortized geometric growth: at least double the current element capacity
+        final int elementCount = null != buffer ? buffer.capacity() / strideL : 0;
+        growBuffer(Math.max(Math.max(initialElementCount, elementCount),
+                            (spareComponents+componentsPerElement-1)/componentsPerElement));
         return true;
     }
     return false;
@@ -373,37 +378,31 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
     final int osize = (buffer!=null) ? buffer.capacity() : 0;
     final int nsize = osize + ( additionalElements * componentsPerElement );
     final Buffer oldBuffer = buffer;
+    final ByteBuffer oldPooledBuffer = pooledBuffer;
+    final DirectBufferPool oldBufferPool = bufferPool;
 
+    if( componentClazz!=ByteBuffer.class && componentClazz!=ShortBuffer.class &&
+        componentClazz!=IntBuffer.class && componentClazz!=FloatBuffer.class ) {
+        throw new GLException("Given Buffer Class not supported: "+componentClazz+":\n\t"+this);
+    }
+    bufferPool = DirectBufferPool.getDefault();
+    pooledBuffer = bufferPool.acquire( nsize * componentByteSize );
+    final ByteBuffer newBBuffer = pooledBuffer.slice().order(ByteOrder.nativeOrder());
     if(componentClazz==ByteBuffer.class) {
-        final ByteBuffer newBBuffer = Buffers.newDirectByteBuffer( nsize );
-        if(buffer!=null) {
-            buffer.flip();
-            newBBuffer.put((ByteBuffer)buffer);
-        }
         buffer = newBBuffer;
     } else if(componentClazz==ShortBuffer.class) {
-        final ShortBuffer newSBuffer = Buffers.newDirectShortBuffer( nsize );
-        if(buffer!=null) {
-            buffer.flip();
-            newSBuffer.put((ShortBuffer)buffer);
-        }
-        buffer = newSBuffer;
+        buffer = newBBuffer.asShortBuffer();
     } else if(componentClazz==IntBuffer.class) {
-        final IntBuffer newIBuffer = Buffers.newDirectIntBuffer( nsize );
-        if(buffer!=null) {
-            buffer.flip();
-            newIBuffer.put((IntBuffer)buffer);
-        }
-        buffer = newIBuffer;
-    } else if(componentClazz==FloatBuffer.class) {
-        final FloatBuffer newFBuffer = Buffers.newDirectFloatBuffer( nsize );
-        if(buffer!=null) {
-            buffer.flip();
-            newFBuffer.put((FloatBuffer)buffer);
-        }
-        buffer = newFBuffer;
+        buffer = newBBuffer.asIntBuffer();
     } else {
-        throw new GLException("Given Buffer Class not supported: "+componentClazz+":\n\t"+this);
+        buffer = newBBuffer.asFloatBuffer();
+    }
+    if(oldBuffer!=null) {
+        oldBuffer.flip();
+        Buffers.put(buffer, oldBuffer);
+    }
+    if( null != oldBufferPool ) {
+        oldBufferPool.release(oldPooledBuffer);
     }
     if(DEBUG) {
         System.err.println("*** Grow: comps: "+componentsPerElement+", "+(osize/componentsPerElement)+"/"+osize+" -> "+(nsize/componentsPerElement)+"/"+nsize+
@@ -411,6 +410,15 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
     }
   }
 
+  /** Releases the buffer allocated by {@link #growBuffer(int)} to its {@link DirectBufferPool}. */
+  private final void releasePooledBuffer() {
+    if( null != bufferPool ) {
+        bufferPool.release(pooledBuffer);
+        bufferPool = null;
+        pooledBuffer = null;
+    }
+  }
+
   protected final void checkSeal(final boolean test) throws GLException {
     if(!alive) {
         throw new GLException("Invalid state: "+this);
@@ -465,6 +473,10 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
    * Buffer is {@link Buffers#slice(Buffer) sliced}, i.e. sharing content but using own state.
    * </p>
    * <p>
+   * The buffer remains owned by the source, i.e. it may be reused
+   * by a retaining {@link DirectBufferPool} after the source has been destroyed.
+   * </p>
+   * <p>
    * All other values are simply copied.
    * </p>
    */
@@ -502,5 +514,9 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
   protected boolean usesGLSL;
   protected ShaderState shaderState;
 
+  /** Backing storage of {@link #buffer} if allocated by {@link #growBuffer(int)}, owned by {@link #bufferPool}. */
+  private ByteBuffer pooledBuffer = null;
+  private DirectBufferPool bufferPool = null;
+
 }
 
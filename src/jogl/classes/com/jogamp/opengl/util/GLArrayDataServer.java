@@ -30,12 +30,15 @@ package com.jogamp.opengl.util;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
 
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL4;
 import com.jogamp.opengl.GLArrayData;
 import com.jogamp.opengl.GLBufferStorage;
 import com.jogamp.opengl.GLException;
@@ -167,6 +170,26 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
     return ads;
   }
 
+  /**
+   * Create a VBO, using a custom GLSL array attribute name
+   * and starting with a new created Buffer object with initialElementCount size,
+   * streaming its content each upload into the next segment of a VBO ring buffer, see {@link #setStreaming(int)}.
+   * @param name  The custom name for the GL attribute
+   * @param compsPerElement component count per element
+   * @param dataType The component's OpenGL data type
+   * @param normalized Whether the data shall be normalized
+   * @param initialElementCount
+   * @param segmentCount number of ring buffer segments, e.g. 3 for triple buffering
+   */
+  public static GLArrayDataServer createGLSLStreaming(final String name, final int compsPerElement,
+                                                      final int dataType, final boolean normalized, final int initialElementCount, final int segmentCount)
+    throws GLException
+  {
+    final GLArrayDataServer ads = createGLSL(name, compsPerElement, dataType, normalized, initialElementCount, GL2ES2.GL_STREAM_DRAW);
+    ads.setStreaming(segmentCount);
+    return ads;
+  }
+
   /**
    * Create a VBO, using a custom GLSL array attribute name
    * and starting with a given Buffer object incl it's stride
@@ -459,6 +482,9 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
       if(!usesGLSL) {
           throw new GLException("buffer uses fixed function");
       }
+      if( 0 < streamSegmentCount ) {
+          throw new GLException("buffer uses streaming");
+      }
       final int subStrideB = ( 0 == getStride() ) ? getComponentCount() * getComponentSizeInBytes() : getStride();
       final GLArrayDataWrapper ad;
       if( 0 < mappedElementCount ) {
@@ -501,6 +527,13 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
     // super.destroy(gl):
     // - GLArrayDataClient.destroy(gl): disables & clears client-side buffer
     //   - GLArrayDataWrapper.destroy(gl) (clears all values 'vboName' ..)
+    if( null != streamStorage || null != streamFences ) {
+        gl.glBindBuffer(getVBOTarget(), vboName);
+        destroyStreamStorage(gl);
+        gl.glBindBuffer(getVBOTarget(), 0);
+        streamFences = null;
+        streamSegmentSize = 0;
+    }
     final int _vboName = vboName;
     super.destroy(gl);
     if(_vboName!=0) {
@@ -508,12 +541,274 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
         gl.glDeleteBuffers(1, tmp, 0);
         vboName = 0;
     }
+    vboStorageName = 0;
+    vboStorageSize = 0;
+    clearDirtyRange();
+  }
+
+  @Override
+  public void reset() {
+    clearDirtyRange();
+    super.reset();
+  }
+
+  @Override
+  public void seal(final boolean seal) {
+    if( sealed != seal ) {
+        clearDirtyRange();
+    }
+    super.seal(seal);
   }
 
   //
   // data matters
   //
 
+  /**
+   * Marks the given element range as modified, i.e. to be uploaded by the next {@link #enableBuffer(GL, boolean)}
+   * or {@link #bindBuffer(GL, boolean)}.
+   * <p>
+   * Allows updating a sealed buffer in place, e.g. via absolute puts on {@link #getBuffer()},
+   * without re-uploading the whole buffer. As long the VBO storage has been allocated
+   * and suffices, only the union of all marked ranges is uploaded via {@link GL#glBufferSubData(int, long, long, Buffer)}.
+   * Otherwise the whole buffer is uploaded via {@link GL#glBufferData(int, long, Buffer, int)}.
+   * </p>
+   * <p>
+   * Has no effect on mapped storage, see {@link #mapStorage(GL, int)}.
+   * </p>
+   * @param elementStart first modified element
+   * @param elementCount number of modified elements
+   * @see #getUploadedByteCount()
+   */
+  public final void markDirty(final int elementStart, final int elementCount) {
+    if( 0 > elementStart || 0 > elementCount ) {
+        throw new IndexOutOfBoundsException("elementStart "+elementStart+", elementCount "+elementCount);
+    }
+    if( 0 != mappedElementCount || 0 == elementCount ) {
+        return;
+    }
+    final int lo = elementStart * strideB;
+    final int hi = ( elementStart + elementCount ) * strideB;
+    if( bufferWritten ) {
+        dirtyLoB = lo;
+        dirtyHiB = hi;
+        bufferWritten = false;
+    } else if( dirtyHiB > dirtyLoB ) {
+        dirtyLoB = Math.min(dirtyLoB, lo);
+        dirtyHiB = Math.max(dirtyHiB, hi);
+    } // else whole buffer upload pending already
+  }
+
+  /**
+   * Uploads the pending data of the bound VBO,
+   * i.e. the {@link #markDirty(int, int) dirty range} if the VBO storage suffices, otherwise the whole buffer.
+   * <p>
+   * Internal use by the {@link GLArrayHandler}, the VBO must be bound.
+   * </p>
+   * @param gl current GL
+   * @param buffer the sealed client buffer
+   * @param sizeInBytes the size of the client buffer to upload in bytes
+   */
+  public final void writeVBO(final GL gl, final Buffer buffer, final int sizeInBytes) {
+    if( 0 < streamSegmentCount ) {
+        writeStreamVBO(gl, buffer, sizeInBytes);
+        return;
+    }
+    final int target = getVBOTarget();
+    final int hi = Math.min(dirtyHiB, sizeInBytes);
+    if( 0 != vboName && vboStorageName == vboName && sizeInBytes <= vboStorageSize && hi > dirtyLoB ) {
+        final int compSize = getComponentSizeInBytes();
+        final int lo = dirtyLoB - ( dirtyLoB % compSize );
+        final int pos = buffer.position();
+        buffer.position(lo / compSize);
+        gl.glBufferSubData(target, lo, hi - lo, buffer);
+        buffer.position(pos);
+        uploadedByteCount += hi - lo;
+    } else {
+        gl.glBufferData(target, sizeInBytes, buffer, getVBOUsage());
+        vboStorageName = vboName;
+        vboStorageSize = sizeInBytes;
+        uploadedByteCount += sizeInBytes;
+    }
+    clearDirtyRange();
+  }
+
+  /**
+   * Returns the number of bytes uploaded to the VBO via {@link GL#glBufferData(int, long, Buffer, int)}
+   * and {@link GL#glBufferSubData(int, long, long, Buffer)} since creation or the last {@link #resetUploadedByteCount()}.
+   * <p>
+   * Resetting the counter each frame gives the uploaded bytes per frame.
+   * </p>
+   */
+  public final long getUploadedByteCount() { return uploadedByteCount; }
+
+  /** Resets the {@link #getUploadedByteCount() uploaded byte counter}. */
+  public final void resetUploadedByteCount() { uploadedByteCount = 0; }
+
+  /** Returns the allocated VBO storage size in bytes, or zero if not yet allocated. */
+  public final int getVBOStorageSize() { return vboStorageName == vboName ? vboStorageSize : 0; }
+
+  /**
+   * Enables streaming of the client buffer into a VBO ring buffer of <code>segmentCount</code> segments.
+   * <p>
+   * Each upload, i.e. {@link #seal(GL, boolean) seal(gl, true)} and the following {@link #enableBuffer(GL, boolean)},
+   * copies the whole client buffer into the next segment and sets the {@link #getVBOOffset() VBO offset} accordingly.
+   * Hence the client buffer can be refilled for the next frame while the GPU still renders from the previous segments.
+   * Draw calls using an element array buffer in streaming mode shall pass its {@link #getVBOOffset() VBO offset}.
+   * </p>
+   * <p>
+   * If {@link GL4#glBufferStorage(int, long, Buffer, int) buffer storage} is available, the ring buffer is mapped
+   * persistently and coherently once, and each segment is guarded by a {@link GL3ES3#glFenceSync(int, int) fence}
+   * before it is written again. The segment size grows with the client buffer, re-creating the ring buffer.
+   * Otherwise the VBO storage is orphaned each upload via {@link GL#glBufferData(int, long, Buffer, int)},
+   * letting the driver rename the storage.
+   * </p>
+   * <p>
+   * Must be called before the first upload, not supported for mapped storage or interleaved arrays.
+   * </p>
+   * @param segmentCount number of ring buffer segments, e.g. 3 for triple buffering, or 0 to disable streaming
+   */
+  public final void setStreaming(final int segmentCount) {
+    if( 0 > segmentCount ) {
+        throw new IllegalArgumentException("segmentCount "+segmentCount);
+    }
+    if( 0 != mappedElementCount || 0 < interleavedOffset ) {
+        throw new GLException("streaming not supported for mapped or interleaved buffer: "+this);
+    }
+    if( 0 != vboStorageName || null != streamStorage ) {
+        throw new GLException("streaming must be set before the first upload: "+this);
+    }
+    streamSegmentCount = segmentCount;
+  }
+
+  /** Returns the number of ring buffer segments if {@link #setStreaming(int) streaming}, otherwise zero. */
+  public final int getStreamSegmentCount() { return streamSegmentCount; }
+
+  /** Returns true if {@link #setStreaming(int) streaming} via a persistently mapped ring buffer, otherwise false. */
+  public final boolean isStreamPersistent() { return null != streamStorage; }
+
+  private final void writeStreamVBO(final GL gl, final Buffer buffer, final int sizeInBytes) {
+    final int target = getVBOTarget();
+    if( null == streamStorage || sizeInBytes > streamSegmentSize ) {
+        if( !streamOrphaning && gl.isGL4() && gl.isFunctionAvailable("glBufferStorage") ) {
+            createStreamStorage(gl, sizeInBytes);
+        } else {
+            streamOrphaning = true;
+        }
+    }
+    if( null == streamStorage ) {
+        // orphan the previous storage, the driver renames it
+        gl.glBufferData(target, sizeInBytes, buffer, getVBOUsage());
+        vboStorageName = vboName;
+        vboStorageSize = sizeInBytes;
+        vboOffset = 0;
+    } else {
+        final GL3ES3 gl3es3 = gl.getGL3ES3();
+        if( 0 <= streamSegment ) {
+            streamFences[streamSegment] = gl3es3.glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+        streamSegment = ( streamSegment + 1 ) % streamSegmentCount;
+        final long sync = streamFences[streamSegment];
+        if( 0 != sync ) {
+            int res;
+            do {
+                res = gl3es3.glClientWaitSync(sync, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, 1000000000L);
+            } while( GL3ES3.GL_TIMEOUT_EXPIRED == res );
+            gl3es3.glDeleteSync(sync);
+            streamFences[streamSegment] = 0;
+        }
+        final int offset = streamSegment * streamSegmentSize;
+        copyBuffer(streamStorage, offset, buffer, sizeInBytes);
+        vboOffset = offset;
+    }
+    uploadedByteCount += sizeInBytes;
+    clearDirtyRange();
+  }
+
+  /** Creates the persistently mapped ring buffer storage, the VBO must be bound. */
+  private final void createStreamStorage(final GL gl, final int sizeInBytes) {
+    final int target = getVBOTarget();
+    final int[] tmp = { 0 };
+    if( null != streamStorage ) {
+        // immutable storage, replace the VBO
+        destroyStreamStorage(gl);
+        tmp[0] = vboName;
+        gl.glDeleteBuffers(1, tmp, 0);
+        gl.glGenBuffers(1, tmp, 0);
+        vboName = tmp[0];
+        gl.glBindBuffer(target, vboName);
+    }
+    // grow geometric, keep segment offsets aligned
+    final int segmentSize = ( Math.max(sizeInBytes, 2 * streamSegmentSize) + STREAM_ALIGNMENT - 1 ) & ~( STREAM_ALIGNMENT - 1 );
+    final long totalSize = (long)segmentSize * streamSegmentCount;
+    final int flags = GL.GL_MAP_WRITE_BIT | GL4.GL_MAP_PERSISTENT_BIT | GL4.GL_MAP_COHERENT_BIT;
+    gl.getGL4().glBufferStorage(target, totalSize, null, flags);
+    final ByteBuffer storage = gl.glMapBufferRange(target, 0, totalSize, flags);
+    if( GL.GL_NO_ERROR != gl.glGetError() || null == storage ) {
+        // immutable storage may exist, fall back to orphaning on a new VBO
+        tmp[0] = vboName;
+        gl.glDeleteBuffers(1, tmp, 0);
+        gl.glGenBuffers(1, tmp, 0);
+        vboName = tmp[0];
+        gl.glBindBuffer(target, vboName);
+        streamOrphaning = true;
+        return;
+    }
+    streamStorage = storage.order(ByteOrder.nativeOrder());
+    streamSegmentSize = segmentSize;
+    streamFences = new long[streamSegmentCount];
+    streamSegment = -1;
+    vboStorageName = vboName;
+    vboStorageSize = (int) Math.min(Integer.MAX_VALUE, totalSize);
+  }
+
+  /** Unmaps the ring buffer storage and deletes its fences, the VBO must be bound. */
+  private final void destroyStreamStorage(final GL gl) {
+    if( null != streamFences ) {
+        final GL3ES3 gl3es3 = gl.getGL3ES3();
+        for(int i=0; i<streamFences.length; i++) {
+            if( 0 != streamFences[i] ) {
+                gl3es3.glDeleteSync(streamFences[i]);
+                streamFences[i] = 0;
+            }
+        }
+    }
+    if( null != streamStorage ) {
+        gl.glUnmapBuffer(getVBOTarget());
+        streamStorage = null;
+    }
+  }
+
+  private static void copyBuffer(final ByteBuffer dst, final int offset, final Buffer src, final int sizeInBytes) {
+    final ByteBuffer d = dst.duplicate().order(dst.order());
+    d.position(offset);
+    d.limit(offset + sizeInBytes);
+    if( src instanceof ByteBuffer ) {
+        final ByteBuffer s = ((ByteBuffer)src).duplicate();
+        s.position(0).limit(sizeInBytes);
+        d.put(s);
+    } else if( src instanceof ShortBuffer ) {
+        final ShortBuffer s = ((ShortBuffer)src).duplicate();
+        s.position(0).limit(sizeInBytes / Buffers.SIZEOF_SHORT);
+        d.asShortBuffer().put(s);
+    } else if( src instanceof IntBuffer ) {
+        final IntBuffer s = ((IntBuffer)src).duplicate();
+        s.position(0).limit(sizeInBytes / Buffers.SIZEOF_INT);
+        d.asIntBuffer().put(s);
+    } else if( src instanceof FloatBuffer ) {
+        final FloatBuffer s = ((FloatBuffer)src).duplicate();
+        s.position(0).limit(sizeInBytes / Buffers.SIZEOF_FLOAT);
+        d.asFloatBuffer().put(s);
+    } else {
+        throw new GLException("Given Buffer Class not supported: "+src.getClass());
+    }
+  }
+
+  private final void clearDirtyRange() {
+    dirtyLoB = 0;
+    dirtyHiB = 0;
+  }
+
   /**
    * Convenient way do disable the VBO behavior and
    * switch to client side data one
@@ -532,6 +827,9 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
       if( null != mappedStorage ) {
           throw new IllegalStateException("already mapped: "+mappedStorage);
       }
+      if( 0 < streamSegmentCount ) {
+          throw new IllegalStateException("streaming: "+this);
+      }
       checkSeal(true);
       bindBuffer(gl, true);
       gl.glBufferData(getVBOTarget(), getSizeInBytes(), null, getVBOUsage());
@@ -549,6 +847,9 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
       if( null != mappedStorage ) {
           throw new IllegalStateException("already mapped: "+mappedStorage);
       }
+      if( 0 < streamSegmentCount ) {
+          throw new IllegalStateException("streaming: "+this);
+      }
       checkSeal(true);
       bindBuffer(gl, true);
       gl.glBufferData(getVBOTarget(), getSizeInBytes(), null, getVBOUsage());
@@ -608,6 +909,9 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
                        ", vboUsage 0x"+Integer.toHexString(vboUsage)+
                        ", vboTarget 0x"+Integer.toHexString(vboTarget)+
                        ", vboOffset "+vboOffset+
+                       ", vboStorage "+getVBOStorageSize()+
+                       ", dirty ["+dirtyLoB+".."+dirtyHiB+"[b"+
+                       ", stream[segments "+streamSegmentCount+", size "+streamSegmentSize+"b, current "+streamSegment+", persistent "+isStreamPersistent()+"]"+
                        ", sealed "+sealed+
                        ", bufferEnabled "+bufferEnabled+
                        ", bufferWritten "+bufferWritten+
@@ -661,9 +965,27 @@ public class GLArrayDataServer extends GLArrayDataClient implements GLArrayDataE
     super(src);
     this.interleavedOffset = src.interleavedOffset;
     this.mappedStorage = src.mappedStorage;
+    this.vboStorageName = src.vboStorageName;
+    this.vboStorageSize = src.vboStorageSize;
   }
 
   private int interleavedOffset = 0;
   private GLBufferStorage mappedStorage = null;
+  /** VBO name the {@link #vboStorageSize} belongs to. */
+  private int vboStorageName = 0;
+  /** Allocated VBO storage size in bytes. */
+  private int vboStorageSize = 0;
+  /** Dirty byte range [lo..hi[, empty if the whole buffer is pending. */
+  private int dirtyLoB = 0;
+  private int dirtyHiB = 0;
+  private long uploadedByteCount = 0;
+  /** Segment offset alignment of the streaming ring buffer in bytes. */
+  private static final int STREAM_ALIGNMENT = 256;
+  private int streamSegmentCount = 0;
+  private int streamSegmentSize = 0;
+  private int streamSegment = -1;
+  private long[] streamFences = null;
+  private ByteBuffer streamStorage = null;
+  private boolean streamOrphaning = false;
 }
 
@@ -3,6 +3,7 @@ package com.jogamp.opengl.util;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import java.nio.ShortBuffer;
 import java.util.ArrayList;
@@ -394,6 +395,27 @@ public class ImmModeSink {
    */
   public void setResizeElementCount(final int v) { vboSet.setResizeElementCount(v); }
 
+  /**
+   * Returns true if the VBO data is streamed, defaults to false.
+   * @see #setStreaming(boolean)
+   */
+  public boolean isStreaming() { return vboSet.isStreaming(); }
+
+  /**
+   * Enables streaming of the VBO data, applies to the current and all following
+   * {@link #glBegin(int) glBegin(..)} / {@link #glEnd(GL, boolean) glEnd(..)} sequences.
+   * <p>
+   * If enabled, each upload orphans the VBO storage via {@link GL#glBufferData(int, long, Buffer, int) glBufferData(..)}
+   * passing a <code>null</code> buffer and writes the used vertex, color, normal and texture coordinate ranges
+   * via {@link GL#glBufferSubData(int, long, long, Buffer) glBufferSubData(..)}.
+   * Hence the driver may rename the storage instead of waiting for pending draws of the previous upload.
+   * </p>
+   * <p>
+   * Only effective if using a VBO, i.e. a non zero <code>glBufferUsage</code>, e.g. {@link GL2ES2#GL_STREAM_DRAW}.
+   * </p>
+   */
+  public void setStreaming(final boolean v) { vboSet.setStreaming(v); }
+
   private void destroyList(final GL gl) {
     for(int i=0; i<vboSetList.size(); i++) {
         vboSetList.get(i).destroy(gl);
@@ -474,9 +496,12 @@ public class ImmModeSink {
     protected final VBOSet regenerate(final GL gl) {
         return new VBOSet(initialElementCount, vComps,
                           vDataType, cComps, cDataType, nComps, nDataType, tComps, tDataType,
-                          useGLSL, glBufferUsage, shaderState, shaderProgram);
+                          useGLSL, glBufferUsage, shaderState, shaderProgram).setStreaming(streaming);
     }
 
+    protected final VBOSet setStreaming(final boolean v) { streaming = v; return this; }
+    protected final boolean isStreaming() { return streaming; }
+
     protected void checkSeal(final boolean test) throws GLException {
         if(0==mode) {
                 throw new GLException("No mode set yet, call glBegin(mode) first:\n\t"+this);
@@ -912,6 +937,9 @@ public class ImmModeSink {
         vertexArray=null; colorArray=null; normalArray=null; textCoordArray=null;
         vArrayData=null; cArrayData=null; nArrayData=null; tArrayData=null;
         buffer=null;
+        releasePooledBuffer(pooledBuffer, bufferPool);
+        pooledBuffer=null;
+        bufferPool=null;
     }
 
     public void reset(final GL gl) {
@@ -1004,7 +1032,12 @@ public class ImmModeSink {
     final int nBytes  = nElems * nCompsBytes;
     final int tBytes  = tElems * tCompsBytes;
     final int delta = buffer.limit() - (vBytes+cBytes+nBytes+tBytes);
-    if( bufferWrittenOnce && delta > pageSize ) {
+    if( streaming ) {
+        // orphan the previous storage, the driver renames it instead of waiting for pending draws
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, buffer.limit(), null, glBufferUsage);
+        bufferWrittenOnce = true;
+    }
+    if( streaming || ( bufferWrittenOnce && delta > pageSize ) ) {
         if(0 < vBytes) {
             gl.glBufferSubData(GL.GL_ARRAY_BUFFER, vOffset, vBytes, vertexArray);
         }
@@ -1253,7 +1286,7 @@ public class ImmModeSink {
                        ", sealedGL "+sealedGL+
                        ", bufferEnabled "+bufferEnabled+
                        ", bufferWritten "+bufferWritten+" (once "+bufferWrittenOnce+")"+
-                       ", useVBO "+useVBO+", vboName "+vboName+
+                       ", useVBO "+useVBO+", streaming "+streaming+", vboName "+vboName+
                        ", useGLSL "+useGLSL+
                        glslS+
                        ",\n\t"+vArrayData+
@@ -1311,7 +1344,9 @@ public class ImmModeSink {
         final int nBytes  = nCount * nCompsBytes;
         final int tBytes  = tCount * tCompsBytes;
 
-        buffer = Buffers.newDirectByteBuffer( vBytes + cBytes + nBytes + tBytes );
+        bufferPool = DirectBufferPool.getDefault();
+        pooledBuffer = bufferPool.acquire( vBytes + cBytes + nBytes + tBytes );
+        buffer = pooledBuffer.slice().order(ByteOrder.nativeOrder());
         vOffset = 0;
 
         if(vBytes>0) {
@@ -1388,8 +1423,12 @@ public class ImmModeSink {
             if( !fitElementInBuffer(type) ) {
                 // save olde values ..
                 final Buffer _vertexArray=vertexArray, _colorArray=colorArray, _normalArray=normalArray, _textCoordArray=textCoordArray;
+                final ByteBuffer _pooledBuffer=pooledBuffer;
+                final DirectBufferPool _bufferPool=bufferPool;
 
-                if ( reallocateBuffer(resizeElementCount) ) {
+                // amortized geometric growth: at least double the current element capacity
+                final int elemCount = Math.max(Math.max(vCount, cCount), Math.max(nCount, tCount));
+                if ( reallocateBuffer(Math.max(resizeElementCount, elemCount)) ) {
                     if(null!=_vertexArray) {
                         _vertexArray.flip();
                         Buffers.put(vertexArray, _vertexArray);
@@ -1406,6 +1445,7 @@ public class ImmModeSink {
                         _textCoordArray.flip();
                         Buffers.put(textCoordArray, _textCoordArray);
                     }
+                    releasePooledBuffer(_pooledBuffer, _bufferPool);
                     return true;
                 }
             }
@@ -1413,6 +1453,13 @@ public class ImmModeSink {
         return false;
     }
 
+    /** Releases the given buffer to the {@link DirectBufferPool} it has been acquired from, if any. */
+    private static void releasePooledBuffer(final ByteBuffer pooledBuffer, final DirectBufferPool bufferPool) {
+        if( null != bufferPool ) {
+            bufferPool.release(pooledBuffer);
+        }
+    }
+
     /**
      * Fourth element default value for color (alpha), vertex (w) is '1',
      * as specified w/ VertexAttributes (ES2/GL3).
@@ -1477,6 +1524,9 @@ public class ImmModeSink {
     private int mode, modeOrig, resizeElementCount;
 
     private ByteBuffer buffer;
+    /** Backing storage of {@link #buffer}, owned by {@link #bufferPool}. */
+    private ByteBuffer pooledBuffer;
+    private DirectBufferPool bufferPool;
     private int vboName;
 
     private static final int VERTEX = 0;
@@ -1495,7 +1545,7 @@ public class ImmModeSink {
     private Buffer vertexArray, colorArray, normalArray, textCoordArray;
     private GLArrayDataWrapper vArrayData, cArrayData, nArrayData, tArrayData;
 
-    private boolean sealed, sealedGL;
+    private boolean sealed, sealedGL, streaming;
     private boolean bufferEnabled, bufferWritten, bufferWrittenOnce;
     private boolean glslLocationSet;
   }
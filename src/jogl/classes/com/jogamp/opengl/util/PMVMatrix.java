@@ -48,6 +48,7 @@ import com.jogamp.common.util.FloatStack;
 import com.jogamp.opengl.math.FloatUtil;
 import com.jogamp.opengl.math.Quaternion;
 import com.jogamp.opengl.math.Ray;
+import com.jogamp.opengl.math.VectorUtil;
 import com.jogamp.opengl.math.geom.AABBox;
 import com.jogamp.opengl.math.geom.Frustum;
 
@@ -64,6 +65,14 @@ import com.jogamp.opengl.math.geom.Frustum;
  * users have to call {@link #update()} before using Mvi and Mvit.
  * </p>
  * <p>
+ * The {@link #getMatrixKind(int) kind} of the projection and modelview matrix,
+ * i.e. identity, translation, rigid, affine or general, is tracked through all mutable operations.
+ * It allows using cheaper specialized routines for multiplication and inversion,
+ * e.g. the inverse of a rigid modelview matrix is computed by transposing its rotation.
+ * The product P x Mv and its inverse are cached until P or Mv are modified,
+ * and are used for the {@link Frustum} and {@link #gluProject(float, float, float, int[], int, float[], int) gluProject(..)} et al.
+ * </p>
+ * <p>
  * All matrices are provided in column-major order,
  * as specified in the OpenGL fixed function pipeline, i.e. compatibility profile.
  * See {@link FloatUtil}.
@@ -224,8 +233,6 @@ public final class PMVMatrix implements GLMatrixFunc {
           mat4Tmp1      = new float[16];
           mat4Tmp2      = new float[16];
           mat4Tmp3      = new float[16];
-          matrixTxSx    = new float[16];
-          FloatUtil.makeIdentity(matrixTxSx);
 
           // Start w/ zero size to save memory
           matrixTStack = new FloatStack( 0,  2*16); // growSize: GL-min size (2)
@@ -247,9 +254,12 @@ public final class PMVMatrix implements GLMatrixFunc {
         FloatUtil.makeIdentity(matrixArray, mP_offset);
         FloatUtil.makeIdentity(matrixArray, mTex_offset);
 
+        mvKind = FloatUtil.MATRIX_KIND_IDENTITY;
+        pKind = FloatUtil.MATRIX_KIND_IDENTITY;
         modifiedBits = MODIFIED_ALL;
         dirtyBits = DIRTY_ALL;
         requestMask = 0;
+        pmvDirtyBits = PMV_DIRTY_ALL;
         matrixMode = GL_MODELVIEW;
     }
 
@@ -258,6 +268,40 @@ public final class PMVMatrix implements GLMatrixFunc {
         return matrixMode;
     }
 
+    /**
+     * Returns the tracked {@link FloatUtil#getMatrixKind(float[], int) kind} of the named matrix,
+     * one of {@link FloatUtil#MATRIX_KIND_IDENTITY}, {@link FloatUtil#MATRIX_KIND_TRANSLATION}, {@link FloatUtil#MATRIX_KIND_RIGID},
+     * {@link FloatUtil#MATRIX_KIND_AFFINE} or {@link FloatUtil#MATRIX_KIND_GENERAL}.
+     * <p>
+     * The kind is derived from the mutable operations, i.e. it may be less specific than the actual kind,
+     * e.g. after rotating back and forth. The texture matrix is not tracked and always {@link FloatUtil#MATRIX_KIND_GENERAL}.
+     * </p>
+     * <p>
+     * Since changes to the matrix values via the returned writable {@link FloatBuffer}s cannot be tracked,
+     * the kind of P and Mv is conservatively reset to {@link FloatUtil#MATRIX_KIND_GENERAL}
+     * and the cached P x Mv is invalidated whenever such buffer is handed out,
+     * see {@link #glGetPMatrixf()}, {@link #glGetMvMatrixf()}, {@link #glGetPMvMatrixf()} and {@link #glGetMatrixf(int)}.
+     * Changes via a buffer retained beyond subsequent operations of this instance are not tracked,
+     * use {@link #glLoadMatrixf(FloatBuffer)} instead.
+     * </p>
+     * @param matrixName Either a matrix-get-name or a matrix-mode-name, see {@link #glGetMatrixf(int)}
+     */
+    public final int getMatrixKind(final int matrixName) {
+        switch(matrixName) {
+            case GL_MODELVIEW_MATRIX:
+            case GL_MODELVIEW:
+                return mvKind;
+            case GL_PROJECTION_MATRIX:
+            case GL_PROJECTION:
+                return pKind;
+            case GL_TEXTURE_MATRIX:
+            case GL.GL_TEXTURE:
+                return FloatUtil.MATRIX_KIND_GENERAL;
+            default:
+              throw new GLException("unsupported matrixName: "+matrixName);
+        }
+    }
+
     /**
      * Returns the {@link GLMatrixFunc#GL_TEXTURE_MATRIX texture matrix} (T).
      * <p>
@@ -271,20 +315,28 @@ public final class PMVMatrix implements GLMatrixFunc {
     /**
      * Returns the {@link GLMatrixFunc#GL_PROJECTION_MATRIX projection matrix} (P).
      * <p>
+     * Resets the tracked {@link #getMatrixKind(int) kind} of P, since the returned buffer is writable.
+     * </p>
+     * <p>
      * See <a href="#storageDetails"> matrix storage details</a>.
      * </p>
      */
     public final FloatBuffer glGetPMatrixf() {
+        setPWritable();
         return matrixP;
     }
 
     /**
      * Returns the {@link GLMatrixFunc#GL_MODELVIEW_MATRIX modelview matrix} (Mv).
      * <p>
+     * Resets the tracked {@link #getMatrixKind(int) kind} of Mv, since the returned buffer is writable.
+     * </p>
+     * <p>
      * See <a href="#storageDetails"> matrix storage details</a>.
      * </p>
      */
     public final FloatBuffer glGetMvMatrixf() {
+        setMvWritable();
         return matrixMv;
     }
 
@@ -325,10 +377,15 @@ public final class PMVMatrix implements GLMatrixFunc {
     /**
      * Returns 2 matrices within one FloatBuffer: {@link #glGetPMatrixf() P} and {@link #glGetMvMatrixf() Mv}.
      * <p>
+     * Resets the tracked {@link #getMatrixKind(int) kind} of P and Mv, since the returned buffer is writable.
+     * </p>
+     * <p>
      * See <a href="#storageDetails"> matrix storage details</a>.
      * </p>
      */
     public final FloatBuffer glGetPMvMatrixf() {
+        setPWritable();
+        setMvWritable();
         return matrixPMv;
     }
 
@@ -336,6 +393,7 @@ public final class PMVMatrix implements GLMatrixFunc {
      * Returns 3 matrices within one FloatBuffer: {@link #glGetPMatrixf() P}, {@link #glGetMvMatrixf() Mv} and {@link #glGetMviMatrixf() Mvi}.
      * <p>
      * Method enables the Mvi matrix update, and performs it's update w/o clearing the modified bits.
+     * Resets the tracked {@link #getMatrixKind(int) kind} of P and Mv, since the returned buffer is writable.
      * </p>
      * <p>
      * See {@link #update()} and <a href="#storageDetails"> matrix storage details</a>.
@@ -346,6 +404,8 @@ public final class PMVMatrix implements GLMatrixFunc {
     public final FloatBuffer glGetPMvMviMatrixf() {
         requestMask |= DIRTY_INVERSE_MODELVIEW ;
         updateImpl(false);
+        setPWritable();
+        setMvWritable();
         return matrixPMvMvi;
     }
 
@@ -353,6 +413,7 @@ public final class PMVMatrix implements GLMatrixFunc {
      * Returns 4 matrices within one FloatBuffer: {@link #glGetPMatrixf() P}, {@link #glGetMvMatrixf() Mv}, {@link #glGetMviMatrixf() Mvi} and {@link #glGetMvitMatrixf() Mvit}.
      * <p>
      * Method enables the Mvi and Mvit matrix update, and performs it's update w/o clearing the modified bits.
+     * Resets the tracked {@link #getMatrixKind(int) kind} of P and Mv, since the returned buffer is writable.
      * </p>
      * <p>
      * See {@link #update()} and <a href="#storageDetails"> matrix storage details</a>.
@@ -363,6 +424,8 @@ public final class PMVMatrix implements GLMatrixFunc {
     public final FloatBuffer glGetPMvMvitMatrixf() {
         requestMask |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW ;
         updateImpl(false);
+        setPWritable();
+        setMvWritable();
         return matrixPMvMvit;
     }
 
@@ -385,9 +448,25 @@ public final class PMVMatrix implements GLMatrixFunc {
      *                   {@link GLMatrixFunc#GL_MODELVIEW_MATRIX GL_MODELVIEW_MATRIX}, {@link GLMatrixFunc#GL_PROJECTION_MATRIX GL_PROJECTION_MATRIX} or {@link GLMatrixFunc#GL_TEXTURE_MATRIX GL_TEXTURE_MATRIX},
      *                   or a matrix-mode-name, i.e.
      *                   {@link GLMatrixFunc#GL_MODELVIEW GL_MODELVIEW}, {@link GLMatrixFunc#GL_PROJECTION GL_PROJECTION} or {@link GL#GL_TEXTURE GL_TEXTURE}
-     * @return the named matrix, not a copy!
+     * @return the named matrix, not a copy! Hence resets the tracked {@link #getMatrixKind(int) kind} of the named matrix.
      */
     public final FloatBuffer glGetMatrixf(final int matrixName) {
+        switch(matrixName) {
+            case GL_MODELVIEW_MATRIX:
+            case GL_MODELVIEW:
+                setMvWritable();
+                return matrixMv;
+            case GL_PROJECTION_MATRIX:
+            case GL_PROJECTION:
+                setPWritable();
+                return matrixP;
+            default:
+                return getMatrixImpl(matrixName);
+        }
+    }
+
+    /** Returns the named matrix w/o resetting its tracked kind, for read access only. */
+    private final FloatBuffer getMatrixImpl(final int matrixName) {
         switch(matrixName) {
             case GL_MODELVIEW_MATRIX:
             case GL_MODELVIEW:
@@ -409,12 +488,16 @@ public final class PMVMatrix implements GLMatrixFunc {
      * <pre>
      *    mat4PMv = P x Mv
      * </pre>
+     * <p>
+     * The product is cached until P or Mv are modified by this instance,
+     * see {@link #getMatrixKind(int)} regarding changes via the returned {@link FloatBuffer}s.
+     * </p>
      * @param mat4PMv 4x4 matrix storage for result
      * @param mat4PMv_offset
      * @return given matrix for chaining
      */
     public final float[] multPMvMatrixf(final float[/*16*/] mat4PMv, final int mat4PMv_offset) {
-        FloatUtil.multMatrix(matrixArray, mP_offset, matrixArray, mMv_offset, mat4PMv, mat4PMv_offset);
+        System.arraycopy(getPMv(), 0, mat4PMv, mat4PMv_offset, 16);
         return mat4PMv;
     }
 
@@ -455,7 +538,7 @@ public final class PMVMatrix implements GLMatrixFunc {
         if(matrixGetName==GL_MATRIX_MODE) {
             params.put(matrixMode);
         } else {
-            final FloatBuffer matrix = glGetMatrixf(matrixGetName);
+            final FloatBuffer matrix = getMatrixImpl(matrixGetName);
             params.put(matrix); // matrix -> params
             matrix.reset();
         }
@@ -467,7 +550,7 @@ public final class PMVMatrix implements GLMatrixFunc {
         if(matrixGetName==GL_MATRIX_MODE) {
             params[params_offset]=matrixMode;
         } else {
-            final FloatBuffer matrix = glGetMatrixf(matrixGetName);
+            final FloatBuffer matrix = getMatrixImpl(matrixGetName);
             matrix.get(params, params_offset, 16); // matrix -> params
             matrix.reset();
         }
@@ -495,16 +578,20 @@ public final class PMVMatrix implements GLMatrixFunc {
 
     @Override
     public final void glLoadMatrixf(final float[] values, final int offset) {
+        loadMatrixImpl(values, offset, FloatUtil.getMatrixKind(values, offset));
+    }
+
+    private final void loadMatrixImpl(final float[] values, final int offset, final int kind) {
         if(matrixMode==GL_MODELVIEW) {
             matrixMv.put(values, offset, 16);
             matrixMv.reset();
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            mvKind = kind;
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
             matrixP.put(values, offset, 16);
             matrixP.reset();
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            pKind = kind;
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
             matrixTex.put(values, offset, 16);
             matrixTex.reset();
@@ -518,13 +605,13 @@ public final class PMVMatrix implements GLMatrixFunc {
         if(matrixMode==GL_MODELVIEW) {
             matrixMv.put(m);
             matrixMv.reset();
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            mvKind = FloatUtil.getMatrixKind(matrixArray, mMv_offset);
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
             matrixP.put(m);
             matrixP.reset();
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            pKind = FloatUtil.getMatrixKind(matrixArray, mP_offset);
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
             matrixTex.put(m);
             matrixTex.reset();
@@ -540,13 +627,13 @@ public final class PMVMatrix implements GLMatrixFunc {
         if(matrixMode==GL_MODELVIEW) {
             quat.toMatrix(matrixArray, mMv_offset);
             matrixMv.reset();
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            mvKind = FloatUtil.getMatrixKind(matrixArray, mMv_offset);
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
             quat.toMatrix(matrixArray, mP_offset);
             matrixP.reset();
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            pKind = FloatUtil.getMatrixKind(matrixArray, mP_offset);
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
             quat.toMatrix(matrixArray, mTex_offset);
             matrixTex.reset();
@@ -557,25 +644,31 @@ public final class PMVMatrix implements GLMatrixFunc {
     @Override
     public final void glPopMatrix() {
         final FloatStack stack;
+        final int kind;
         if(matrixMode==GL_MODELVIEW) {
             stack = matrixMvStack;
+            kind = mvKindStack[stack.position() / 16 - 1];
         } else if(matrixMode==GL_PROJECTION) {
             stack = matrixPStack;
+            kind = pKindStack[stack.position() / 16 - 1];
         } else if(matrixMode==GL.GL_TEXTURE) {
             stack = matrixTStack;
+            kind = FloatUtil.MATRIX_KIND_GENERAL;
         } else {
             throw new InternalError("XXX: mode "+matrixMode);
         }
         stack.position(stack.position() - 16);
-        glLoadMatrixf(stack.buffer(), stack.position());
+        loadMatrixImpl(stack.buffer(), stack.position(), kind);
     }
 
     @Override
     public final void glPushMatrix() {
         if(matrixMode==GL_MODELVIEW) {
+            mvKindStack = pushKind(mvKindStack, matrixMvStack.position() / 16, mvKind);
             matrixMvStack.putOnTop(matrixMv, 16);
             matrixMv.reset();
         } else if(matrixMode==GL_PROJECTION) {
+            pKindStack = pushKind(pKindStack, matrixPStack.position() / 16, pKind);
             matrixPStack.putOnTop(matrixP, 16);
             matrixP.reset();
         } else if(matrixMode==GL.GL_TEXTURE) {
@@ -588,64 +681,119 @@ public final class PMVMatrix implements GLMatrixFunc {
     public final void glLoadIdentity() {
         if(matrixMode==GL_MODELVIEW) {
             FloatUtil.makeIdentity(matrixArray, mMv_offset);
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            mvKind = FloatUtil.MATRIX_KIND_IDENTITY;
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
             FloatUtil.makeIdentity(matrixArray, mP_offset);
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            pKind = FloatUtil.MATRIX_KIND_IDENTITY;
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
             FloatUtil.makeIdentity(matrixArray, mTex_offset);
             modifiedBits |= MODIFIED_TEXTURE;
         }
     }
 
-    @SuppressWarnings("deprecation")
     @Override
     public final void glMultMatrixf(final FloatBuffer m) {
+        final int spos = m.position();
+        m.get(mat4Tmp1, 0, 16);
+        m.position(spos);
+        glMultMatrixf(mat4Tmp1, 0);
+    }
+
+    @Override
+    public final void glMultMatrixf(final float[] m, final int m_offset) {
+        multMatrixImpl(m, m_offset, FloatUtil.getMatrixKind(m, m_offset));
+    }
+
+    /**
+     * Multiplies the current matrix with the given matrix of the given kind,
+     * using {@link FloatUtil#multMatrixAffine(float[], int, boolean, float[], int, float[], int) affine multiplication} if applicable.
+     */
+    private final void multMatrixImpl(final float[] m, final int m_offset, final int kind) {
         if(matrixMode==GL_MODELVIEW) {
-            FloatUtil.multMatrix(matrixMv, m);
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            mvKind = multMatrix(mMv_offset, mvKind, m, m_offset, kind);
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
-            FloatUtil.multMatrix(matrixP, m);
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            pKind = multMatrix(mP_offset, pKind, m, m_offset, kind);
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
-            FloatUtil.multMatrix(matrixTex, m);
+            FloatUtil.multMatrix(matrixArray, mTex_offset, m, m_offset);
             modifiedBits |= MODIFIED_TEXTURE;
         }
     }
 
+    /** Returns the kind of the product, see {@link FloatUtil#MATRIX_KIND_IDENTITY}. */
+    private final int multMatrix(final int a_off, final int aKind, final float[] b, final int b_off, final int bKind) {
+        if( FloatUtil.MATRIX_KIND_AFFINE >= bKind ) {
+            if( FloatUtil.MATRIX_KIND_IDENTITY != bKind ) {
+                FloatUtil.multMatrixAffine(matrixArray, a_off, FloatUtil.MATRIX_KIND_AFFINE >= aKind, b, b_off, matrixArray, a_off);
+            }
+        } else {
+            FloatUtil.multMatrix(matrixArray, a_off, b, b_off);
+        }
+        return Math.max(aKind, bKind);
+    }
+
     @Override
-    public final void glMultMatrixf(final float[] m, final int m_offset) {
+    public final void glTranslatef(final float x, final float y, final float z) {
+        final int kind = ( 0f == x && 0f == y && 0f == z ) ? FloatUtil.MATRIX_KIND_IDENTITY : FloatUtil.MATRIX_KIND_TRANSLATION;
         if(matrixMode==GL_MODELVIEW) {
-            FloatUtil.multMatrix(matrixArray, mMv_offset, m, m_offset);
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
+            translate(mMv_offset, x, y, z);
+            mvKind = Math.max(mvKind, kind);
+            setMvModified();
         } else if(matrixMode==GL_PROJECTION) {
-            FloatUtil.multMatrix(matrixArray, mP_offset, m, m_offset);
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
+            translate(mP_offset, x, y, z);
+            pKind = Math.max(pKind, kind);
+            setPModified();
         } else if(matrixMode==GL.GL_TEXTURE) {
-            FloatUtil.multMatrix(matrixArray, mTex_offset, m, m_offset);
+            translate(mTex_offset, x, y, z);
             modifiedBits |= MODIFIED_TEXTURE;
         }
     }
 
-    @Override
-    public final void glTranslatef(final float x, final float y, final float z) {
-        glMultMatrixf(FloatUtil.makeTranslation(matrixTxSx, false, x, y, z), 0);
+    /** [m] = [m] x Translation(x, y, z), i.e. only the 4th column is modified. */
+    private final void translate(final int m_off, final float x, final float y, final float z) {
+        final float[] m = matrixArray;
+        m[m_off+0+3*4] += m[m_off+0+0*4] * x + m[m_off+0+1*4] * y + m[m_off+0+2*4] * z;
+        m[m_off+1+3*4] += m[m_off+1+0*4] * x + m[m_off+1+1*4] * y + m[m_off+1+2*4] * z;
+        m[m_off+2+3*4] += m[m_off+2+0*4] * x + m[m_off+2+1*4] * y + m[m_off+2+2*4] * z;
+        m[m_off+3+3*4] += m[m_off+3+0*4] * x + m[m_off+3+1*4] * y + m[m_off+3+2*4] * z;
     }
 
     @Override
     public final void glScalef(final float x, final float y, final float z) {
-        glMultMatrixf(FloatUtil.makeScale(matrixTxSx, false, x, y, z), 0);
+        final int kind = ( 1f == x && 1f == y && 1f == z ) ? FloatUtil.MATRIX_KIND_IDENTITY : FloatUtil.MATRIX_KIND_AFFINE;
+        if(matrixMode==GL_MODELVIEW) {
+            scale(mMv_offset, x, y, z);
+            mvKind = Math.max(mvKind, kind);
+            setMvModified();
+        } else if(matrixMode==GL_PROJECTION) {
+            scale(mP_offset, x, y, z);
+            pKind = Math.max(pKind, kind);
+            setPModified();
+        } else if(matrixMode==GL.GL_TEXTURE) {
+            scale(mTex_offset, x, y, z);
+            modifiedBits |= MODIFIED_TEXTURE;
+        }
+    }
+
+    /** [m] = [m] x Scale(x, y, z), i.e. only the first 3 columns are scaled. */
+    private final void scale(final int m_off, final float x, final float y, final float z) {
+        final float[] m = matrixArray;
+        for(int i=0; i<4; i++) {
+            m[m_off+i+0*4] *= x;
+            m[m_off+i+1*4] *= y;
+            m[m_off+i+2*4] *= z;
+        }
     }
 
     @Override
     public final void glRotatef(final float ang_deg, final float x, final float y, final float z) {
-        glMultMatrixf(FloatUtil.makeRotationAxis(mat4Tmp1, 0, ang_deg * FloatUtil.PI / 180.0f, x, y, z, mat4Tmp2), 0);
+        FloatUtil.makeRotationAxis(mat4Tmp1, 0, ang_deg * FloatUtil.PI / 180.0f, x, y, z, mat4Tmp2);
+        // a zero axis is not normalized, i.e. not a rotation
+        final int kind = ( 0f == x && 0f == y && 0f == z ) ? FloatUtil.getMatrixKind(mat4Tmp1, 0) : FloatUtil.MATRIX_KIND_RIGID;
+        multMatrixImpl(mat4Tmp1, 0, kind);
     }
 
     /**
@@ -657,7 +805,7 @@ public final class PMVMatrix implements GLMatrixFunc {
 
     @Override
     public final void glOrthof(final float left, final float right, final float bottom, final float top, final float zNear, final float zFar) {
-        glMultMatrixf( FloatUtil.makeOrtho(mat4Tmp1, 0, true, left, right, bottom, top, zNear, zFar), 0 );
+        multMatrixImpl( FloatUtil.makeOrtho(mat4Tmp1, 0, true, left, right, bottom, top, zNear, zFar), 0, FloatUtil.MATRIX_KIND_AFFINE );
     }
 
     /**
@@ -668,7 +816,7 @@ public final class PMVMatrix implements GLMatrixFunc {
      */
     @Override
     public final void glFrustumf(final float left, final float right, final float bottom, final float top, final float zNear, final float zFar) throws GLException {
-        glMultMatrixf( FloatUtil.makeFrustum(mat4Tmp1, 0, true, left, right, bottom, top, zNear, zFar), 0 );
+        multMatrixImpl( FloatUtil.makeFrustum(mat4Tmp1, 0, true, left, right, bottom, top, zNear, zFar), 0, FloatUtil.MATRIX_KIND_GENERAL );
     }
 
     //
@@ -685,7 +833,7 @@ public final class PMVMatrix implements GLMatrixFunc {
      * @throws GLException with GL_INVALID_VALUE if zNear is <= 0, or zFar < 0, or if zNear == zFar.
      */
     public final void gluPerspective(final float fovy_deg, final float aspect, final float zNear, final float zFar) throws GLException {
-      glMultMatrixf( FloatUtil.makePerspective(mat4Tmp1, 0, true, fovy_deg * FloatUtil.PI / 180.0f, aspect, zNear, zFar), 0 );
+      multMatrixImpl( FloatUtil.makePerspective(mat4Tmp1, 0, true, fovy_deg * FloatUtil.PI / 180.0f, aspect, zNear, zFar), 0, FloatUtil.MATRIX_KIND_GENERAL );
     }
 
     /**
@@ -727,8 +875,7 @@ public final class PMVMatrix implements GLMatrixFunc {
                                     final int[] viewport, final int viewport_offset,
                                     final float[] win_pos, final int win_pos_offset ) {
         return FloatUtil.mapObjToWinCoords(objx, objy, objz,
-                          matrixArray, mMv_offset,
-                          matrixArray, mP_offset,
+                          getPMv(),
                           viewport, viewport_offset,
                           win_pos, win_pos_offset,
                           mat4Tmp1, mat4Tmp2);
@@ -752,9 +899,12 @@ public final class PMVMatrix implements GLMatrixFunc {
     public final boolean gluUnProject(final float winx, final float winy, final float winz,
                                       final int[] viewport, final int viewport_offset,
                                       final float[] obj_pos, final int obj_pos_offset) {
+        final float[] pmvi = getPMvi();
+        if( null == pmvi ) {
+            return false;
+        }
         return FloatUtil.mapWinToObjCoords(winx, winy, winz,
-                                           matrixArray, mMv_offset,
-                                           matrixArray, mP_offset,
+                                           pmvi,
                                            viewport, viewport_offset,
                                            obj_pos, obj_pos_offset,
                                            mat4Tmp1, mat4Tmp2);
@@ -842,12 +992,19 @@ public final class PMVMatrix implements GLMatrixFunc {
     public final boolean gluUnProjectRay(final float winx, final float winy, final float winz0, final float winz1,
                                          final int[] viewport, final int viewport_offset,
                                          final Ray ray) {
-        return FloatUtil.mapWinToRay(winx, winy, winz0, winz1,
-                matrixArray, mMv_offset,
-                matrixArray, mP_offset,
-                viewport, viewport_offset,
-                ray,
-                mat4Tmp1, mat4Tmp2, mat4Tmp3);
+        final float[] pmvi = getPMvi();
+        if( null == pmvi ) {
+            return false;
+        }
+        if( FloatUtil.mapWinToObjCoords(winx, winy, winz0, winz1, pmvi,
+                                        viewport, viewport_offset,
+                                        ray.orig, 0, ray.dir, 0,
+                                        mat4Tmp1, mat4Tmp2) ) {
+            VectorUtil.normalizeVec3( VectorUtil.subVec3(ray.dir, ray.dir, ray.orig) );
+            return true;
+        } else {
+            return false;
+        }
     }
 
     public StringBuilder toString(StringBuilder sb, final String f) {
@@ -1028,9 +1185,7 @@ public final class PMVMatrix implements GLMatrixFunc {
             if( null == frustum ) {
                 frustum = new Frustum();
             }
-            FloatUtil.multMatrix(matrixArray, mP_offset, matrixArray, mMv_offset, mat4Tmp1, 0);
-            // FloatUtil.multMatrix(matrixP, matrixMv, mat4Tmp1, 0);
-            frustum.updateByPMV(mat4Tmp1, 0);
+            frustum.updateByPMV(getPMv(), 0);
             dirtyBits &= ~DIRTY_FRUSTUM;
             mod = true;
         }
@@ -1052,7 +1207,7 @@ public final class PMVMatrix implements GLMatrixFunc {
         final int _matrixMviOffset = matrixMvi.position();
         boolean res = false;
         if( 0 != ( dirtyBits & DIRTY_INVERSE_MODELVIEW ) ) { // only if dirt; always requested at this point, see update()
-            if( null == FloatUtil.invertMatrix(matrixArray, mMv_offset, _matrixMvi, _matrixMviOffset) ) {
+            if( null == FloatUtil.invertMatrix(matrixArray, mMv_offset, mvKind, _matrixMvi, _matrixMviOffset) ) {
                 throw new GLException(msgCantComputeInverse);
             }
             dirtyBits &= ~DIRTY_INVERSE_MODELVIEW;
@@ -1066,10 +1221,69 @@ public final class PMVMatrix implements GLMatrixFunc {
         return res;
     }
 
+    private final void setMvModified() {
+        dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
+        modifiedBits |= MODIFIED_MODELVIEW;
+        pmvDirtyBits = PMV_DIRTY_ALL;
+    }
+
+    private final void setPModified() {
+        dirtyBits |= DIRTY_FRUSTUM ;
+        modifiedBits |= MODIFIED_PROJECTION;
+        pmvDirtyBits = PMV_DIRTY_ALL;
+    }
+
+    /** The P matrix is handed out writable, hence its kind and the cached P x Mv can no more be trusted. */
+    private final void setPWritable() {
+        pKind = FloatUtil.MATRIX_KIND_GENERAL;
+        pmvDirtyBits = PMV_DIRTY_ALL;
+    }
+
+    /** The Mv matrix is handed out writable, hence its kind and the cached P x Mv can no more be trusted. */
+    private final void setMvWritable() {
+        mvKind = FloatUtil.MATRIX_KIND_GENERAL;
+        pmvDirtyBits = PMV_DIRTY_ALL;
+    }
+
+    private static int[] pushKind(int[] stack, final int depth, final int kind) {
+        if( depth >= stack.length ) {
+            final int[] tmp = new int[ Math.max(16, stack.length * 2) ];
+            System.arraycopy(stack, 0, tmp, 0, stack.length);
+            stack = tmp;
+        }
+        stack[depth] = kind;
+        return stack;
+    }
+
+    /** Returns the cached P x Mv, updated if dirty. */
+    private final float[] getPMv() {
+        if( 0 != ( pmvDirtyBits & PMV_DIRTY ) ) {
+            if( FloatUtil.MATRIX_KIND_AFFINE >= mvKind ) {
+                FloatUtil.multMatrixAffine(matrixArray, mP_offset, FloatUtil.MATRIX_KIND_AFFINE >= pKind, matrixArray, mMv_offset, matPMv, 0);
+            } else {
+                FloatUtil.multMatrix(matrixArray, mP_offset, matrixArray, mMv_offset, matPMv, 0);
+            }
+            pmvDirtyBits &= ~PMV_DIRTY;
+        }
+        return matPMv;
+    }
+
+    /** Returns the cached Inv(P x Mv), updated if dirty, or <code>null</code> if P x Mv is singular. */
+    private final float[] getPMvi() {
+        if( 0 != ( pmvDirtyBits & PMVI_DIRTY ) ) {
+            matPMviValid = null != FloatUtil.invertMatrix(getPMv(), 0, Math.max(pKind, mvKind), matPMvi, 0);
+            pmvDirtyBits &= ~PMVI_DIRTY;
+        }
+        return matPMviValid ? matPMvi : null;
+    }
+
+    private static final int PMV_DIRTY  = 1 << 0;
+    private static final int PMVI_DIRTY = 1 << 1;
+    private static final int PMV_DIRTY_ALL = PMV_DIRTY | PMVI_DIRTY;
+
     private final float[] matrixArray;
     private final int mP_offset, mMv_offset, mTex_offset;
     private final FloatBuffer matrixPMvMvit, matrixPMvMvi, matrixPMv, matrixP, matrixTex, matrixMv, matrixMvi, matrixMvit;
-    private final float[] matrixTxSx;
     private final float[] mat4Tmp1, mat4Tmp2, mat4Tmp3;
     private final FloatStack matrixTStack, matrixPStack, matrixMvStack;
     private int matrixMode = GL_MODELVIEW;
@@ -1077,4 +1291,12 @@ public final class PMVMatrix implements GLMatrixFunc {
     private int dirtyBits = DIRTY_ALL; // contains the dirty bits, i.e. hinting for update operation
     private int requestMask = 0; // may contain the requested dirty bits: DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW
     private Frustum frustum;
+    private int mvKind = FloatUtil.MATRIX_KIND_IDENTITY; // tracked kind of Mv
+    private int pKind = FloatUtil.MATRIX_KIND_IDENTITY; // tracked kind of P
+    private int[] mvKindStack = new int[0]; // kinds of matrixMvStack
+    private int[] pKindStack = new int[0]; // kinds of matrixPStack
+    private final float[] matPMv = new float[16]; // cached P x Mv
+    private final float[] matPMvi = new float[16]; // cached Inv(P x Mv)
+    private boolean matPMviValid = false;
+    private int pmvDirtyBits = PMV_DIRTY_ALL;
 }
@@ -40,6 +40,7 @@ import com.jogamp.nativewindow.util.PixelFormat;
 import com.jogamp.nativewindow.util.PixelRectangle;
 import com.jogamp.nativewindow.util.PixelFormatUtil;
 
+import jogamp.nativewindow.ParallelExecutor;
 import jogamp.opengl.Debug;
 import jogamp.opengl.util.pngj.ImageInfo;
 import jogamp.opengl.util.pngj.ImageLine;
@@ -301,6 +302,26 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     /** Returns the dpi of the image. */
     public double[] getDpi() { return dpi; }
 
+    /** Returns true if parallel encoding is supported by the runtime, see {@link #createWriter(OutputStream, ImageInfo)}. */
+    public static boolean isParallelEncodingAvailable() {
+        return PngWriter.isParallelModeAvailable();
+    }
+
+    /**
+     * Creates a {@link PngWriter}, which filters and deflates blocks of the IDAT stream concurrently
+     * while the writing thread stitches them into one valid zlib stream,
+     * if parallel processing is enabled and {@link #isParallelEncodingAvailable() available}.
+     * @see ParallelExecutor
+     */
+    private static PngWriter createWriter(final OutputStream outstream, final ImageInfo imi) {
+        final PngWriter png = new PngWriter(outstream, imi);
+        final ParallelExecutor.Setup setup = ParallelExecutor.getCurrentSetup();
+        if( setup.isParallel((long)imi.cols * (long)imi.rows, 0) && isParallelEncodingAvailable() ) {
+            png.setParallelMode(setup.executor, 2 * setup.threadCount);
+        }
+        return png;
+    }
+
     public void write(final OutputStream outstream, final boolean closeOutstream) throws IOException {
         final int width = size.getWidth();
         final int height = size.getHeight();
@@ -312,7 +333,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
 
         // open image for writing to a output stream
         try {
-            final PngWriter png = new PngWriter(outstream, imi);
+            final PngWriter png = createWriter(outstream, imi);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpi[0], dpi[1]);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -368,7 +389,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
 
         // open image for writing to a output stream
         try {
-            final PngWriter png = new PngWriter(outstream, imi);
+            final PngWriter png = createWriter(outstream, imi);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpiX, dpiY);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -64,6 +64,11 @@ import com.jogamp.opengl.util.TimeFrameI;
  * The shared {@link GLContext} allows the decoding thread to push the video frame data directly into
  * the designated {@link TextureFrame}, later returned via {@link #getNextTexture(GL)} and used by the user.
  * </p>
+ * <p>
+ * By default each instance uses its own decoding thread, blocking while all texture frames are pending presentation.
+ * Setting property <code>jogl.GLMediaPlayer.StreamWorker.threads</code> to a positive number lets all instances
+ * share a bounded pool of decoding threads instead, each decoding one frame at a time w/ its shared {@link GLContext} made current.
+ * </p>
  * <a name="streamerror"><h7><i>StreamWorker</i> Error Handling</h7></a>
  * <p>
  * Caught exceptions on <a href="#streamworker">StreamWorker</a> are delivered as {@link StreamException}s,
@@ -502,6 +507,30 @@ public interface GLMediaPlayer extends TextureSequence {
      */
     public int getPresentedFrameCount();
 
+    /**
+     * @return the number of decoded video frames dropped since {@link #play()} and {@link #seek(int)},
+     *         since they were too late for presentation.
+     */
+    public int getDroppedFrameCount();
+
+    /**
+     * @return the number of times the decoder had to wait for a free texture frame
+     *         since {@link #play()} and {@link #seek(int)}, i.e. all decoded frames were pending presentation.
+     */
+    public int getDecoderStallCount();
+
+    /**
+     * @return the average time in microseconds to decode and upload one video frame
+     *         since {@link #play()} and {@link #seek(int)}.
+     */
+    public int getAvgDecodeLatency();
+
+    /**
+     * @return the maximum time in microseconds to decode and upload one video frame
+     *         since {@link #play()} and {@link #seek(int)}.
+     */
+    public int getMaxDecodeLatency();
+
     /**
      * @return current video presentation timestamp (PTS) in milliseconds of {@link #getLastTexture()}
      **/
@@ -0,0 +1,1056 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.packrect;
+
+import java.util.*;
+
+/** Packs rectangles supplied by the user into a larger backing store
+    rectangle, like {@link RectanglePacker} and using the same {@link
+    BackingStoreManager} contract, but with a skyline instead of
+    levels. <P>
+
+    Rectangles are placed bottom-left on the skyline, i.e. the lowest
+    free row of each column. Space below the skyline which becomes
+    free, either wasted by a placement or by {@link #remove(Rect)}, is
+    kept as disjoint free rectangles, merged with their neighbors and
+    given back to the skyline when they reach it. Free rectangles are
+    indexed by height and width, hence finding the best fitting one
+    is O(log n); placement on the skyline is bounded by the number of
+    skyline segments, which depends on the backing store width but
+    not on the number of rectangles. <P>
+
+    Keeping track of the free space costs more per addition than the
+    levels of {@link RectanglePacker}, which is faster to fill a small
+    atlas once. This packer uses less backing store for the same
+    rectangles and its additions and removals stay cheap as the atlas
+    grows, hence it suits large atlases with frequent removals. <P>
+
+    Growing the backing store keeps the layout, all rectangles are
+    moved to their unchanged location on the new backing store.
+    Compaction is incremental, see {@link #compact(int)}, and moves
+    rectangles within the same backing store, hence it can be spread
+    over several frames. */
+
+public class SkylineRectanglePacker {
+
+  private static final float DEFAULT_EXPANSION_FACTOR = 0.5f;
+  private static final float SHRINK_FACTOR = 0.3f;
+
+  private final BackingStoreManager manager;
+  private Object backingStore;
+  private final float EXPANSION_FACTOR;
+
+  private final int initialWidth;
+  private final int initialHeight;
+  private int width;
+  private int height;
+
+  private int maxWidth  = -1;
+  private int maxHeight = -1;
+
+  /** Horizontal span [x, x+w) of the skyline with its first free row y. */
+  static class Segment {
+    int x;
+    int y;
+    int w;
+
+    Segment(final int x, final int y, final int w) {
+      this.x = x;
+      this.y = y;
+      this.w = w;
+    }
+  }
+
+  /** Rectangular area [x, x+w) x [y, y+h). */
+  static class Area {
+    int x;
+    int y;
+    int w;
+    int h;
+
+    int end() { return y + h; }
+
+    boolean intersects(final int x, final int y, final int w, final int h) {
+      return this.x < x + w && x < this.x + this.w &&
+             this.y < y + h && y < this.y + this.h;
+    }
+  }
+
+  /** Free rectangle below the skyline, not modified once created. */
+  static class Free extends Area {
+    // Next free rect of the same top row, respectively of the same end row
+    Free nextTop;
+    Free nextEnd;
+
+    Free(final int x, final int y, final int w, final int h) {
+      this.x = x;
+      this.y = y;
+      this.w = w;
+      this.h = h;
+    }
+  }
+
+  /** Location of an added Rect, as allocated by this packer, and its
+      target location while compacting. */
+  static class Entry extends Area {
+    final Rect rect;
+    final long serial;
+    int targetX;
+    int targetY;
+
+    Entry(final Rect rect, final long serial) {
+      this.rect = rect;
+      this.serial = serial;
+      this.x = rect.x();
+      this.y = rect.y();
+      this.w = rect.w();
+      this.h = rect.h();
+    }
+  }
+
+  /** Coarse spatial index of areas for region queries, only
+      maintained while compacting. */
+  static class CellIndex<A extends Area> {
+    private static final int CELL_SHIFT = 6;
+    private final HashMap<Long, ArrayList<A>> cells = new HashMap<Long, ArrayList<A>>();
+
+    void add(final A a) {
+      for (int cy = a.y >> CELL_SHIFT; cy <= (a.end() - 1) >> CELL_SHIFT; cy++) {
+        for (int cx = a.x >> CELL_SHIFT; cx <= (a.x + a.w - 1) >> CELL_SHIFT; cx++) {
+          final Long k = key(cx, cy);
+          ArrayList<A> cell = cells.get(k);
+          if (cell == null) {
+            cell = new ArrayList<A>(4);
+            cells.put(k, cell);
+          }
+          cell.add(a);
+        }
+      }
+    }
+
+    void remove(final A a) {
+      for (int cy = a.y >> CELL_SHIFT; cy <= (a.end() - 1) >> CELL_SHIFT; cy++) {
+        for (int cx = a.x >> CELL_SHIFT; cx <= (a.x + a.w - 1) >> CELL_SHIFT; cx++) {
+          final Long k = key(cx, cy);
+          final ArrayList<A> cell = cells.get(k);
+          cell.remove(a);
+          if (cell.isEmpty())
+            cells.remove(k);
+        }
+      }
+    }
+
+    /** Adds each area intersecting the given region once to result. */
+    void query(final int x, final int y, final int w, final int h, final List<A> result) {
+      for (int cy = y >> CELL_SHIFT; cy <= (y + h - 1) >> CELL_SHIFT; cy++) {
+        for (int cx = x >> CELL_SHIFT; cx <= (x + w - 1) >> CELL_SHIFT; cx++) {
+          final ArrayList<A> cell = cells.get(key(cx, cy));
+          if (cell == null)
+            continue;
+          for (int i = 0; i < cell.size(); i++) {
+            final A a = cell.get(i);
+            // Reported by the cell holding the top-left corner of the intersection
+            if (a.intersects(x, y, w, h) &&
+                Math.max(a.x, x) >> CELL_SHIFT == cx &&
+                Math.max(a.y, y) >> CELL_SHIFT == cy) {
+              result.add(a);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  // Orders by height, width, then position; used for fitting
+  static class FreeSizeComparator implements Comparator<Free> {
+    @Override
+    public int compare(final Free f1, final Free f2) {
+      if (f1.h != f2.h) return f1.h < f2.h ? -1 : 1;
+      if (f1.w != f2.w) return f1.w < f2.w ? -1 : 1;
+      if (f1.y != f2.y) return f1.y < f2.y ? -1 : 1;
+      if (f1.x != f2.x) return f1.x < f2.x ? -1 : 1;
+      return 0;
+    }
+  }
+
+  // Orders by decreasing height, then width; the order of a compaction re-layout
+  static class EntrySizeComparator implements Comparator<Entry> {
+    @Override
+    public int compare(final Entry e1, final Entry e2) {
+      if (e1.h != e2.h) return e1.h > e2.h ? -1 : 1;
+      if (e1.w != e2.w) return e1.w > e2.w ? -1 : 1;
+      if (e1.serial != e2.serial) return e1.serial < e2.serial ? -1 : 1;
+      return 0;
+    }
+  }
+  private static final Comparator<Entry> entrySizeComparator = new EntrySizeComparator();
+
+  // Skyline ordered by increasing x, adjacent segments differ in y
+  private final ArrayList<Segment> skyline = new ArrayList<Segment>();
+
+  private final TreeSet<Free> freeBySize = new TreeSet<Free>(new FreeSizeComparator());
+  // Free rects chained per top row and per end row, used to find adjacent
+  // free rects and those beneath a lowered skyline; rows hold only a few
+  private Free[] freeByTop = new Free[256];
+  private Free[] freeByEnd = new Free[256];
+  // Lookup key for the sets above, never added
+  private final Free probe = new Free(0, 0, 0, 0);
+  private long freeArea;
+  // Segment tree over free rect heights holding the widest free rect of each height
+  private int[] widthTree = new int[2 * 64];
+  private int widthTreeLeaves = 64;
+
+  // Rect does not override equals(..) and hashCode(), hence identity
+  private final HashMap<Rect, Entry> entries = new HashMap<Rect, Entry>();
+  private long nextSerial;
+  private int modCount;
+
+  // Compaction in progress: re-layout computed by planModel, executed in plan order
+  private SkylineRectanglePacker planModel;
+  private Entry[] plan;
+  private int planIndex;
+  private int planUsedHeight;
+  private int planModCount;
+  private CellIndex<Free> freeIndex;
+  private CellIndex<Entry> entryIndex;
+  private final ArrayList<Free> freeQuery = new ArrayList<Free>();
+  private final ArrayList<Entry> entryQuery = new ArrayList<Entry>();
+
+  // Result of allocate(..)
+  private int allocX;
+  private int allocY;
+  private final ArrayList<Free> work = new ArrayList<Free>();
+  private final ArrayList<Free> waste = new ArrayList<Free>();
+
+  public SkylineRectanglePacker(final BackingStoreManager manager,
+                                final int initialWidth,
+                                final int initialHeight) {
+    this(manager, initialWidth, initialHeight, DEFAULT_EXPANSION_FACTOR);
+  }
+
+  public SkylineRectanglePacker(final BackingStoreManager manager,
+                                final int initialWidth,
+                                final int initialHeight,
+                                final float expansionFactor) {
+    this.manager = manager;
+    this.initialWidth = initialWidth;
+    this.initialHeight = initialHeight;
+    width = initialWidth;
+    height = initialHeight;
+    EXPANSION_FACTOR = expansionFactor;
+    skyline.add(new Segment(0, 0, width));
+  }
+
+  public Object getBackingStore() {
+    if (backingStore == null) {
+      backingStore = manager.allocateBackingStore(width, height);
+    }
+
+    return backingStore;
+  }
+
+  public int w() { return width; }
+  public int h() { return height; }
+
+  /** Sets up a maximum width and height for the backing store. These
+      are optional and if not specified the backing store will grow as
+      necessary. Setting up a maximum width and height introduces the
+      possibility that additions will fail; these are handled with the
+      BackingStoreManager's additionFailed notification. */
+  public void setMaxSize(final int maxWidth, final int maxHeight) {
+    this.maxWidth  = maxWidth;
+    this.maxHeight = maxHeight;
+  }
+
+  /** Decides upon an (x, y) position for the given rectangle (leaving
+      its width and height unchanged) and places it on the backing
+      store. If no space is left, the backing store is expanded,
+      keeping the location of all other Rects. Only if the backing
+      store has reached its maximum size, other Rects are moved by
+      compaction. If the BackingStoreManager does not support
+      compaction, and {@link BackingStoreManager#additionFailed
+      BackingStoreManager.additionFailed} does not clear enough space
+      for the incoming rectangle, then this method will throw a
+      RuntimeException. */
+  public void add(final Rect rect) throws RuntimeException {
+    ++modCount;
+    // Allocate backing store if we don't have any yet
+    if (backingStore == null)
+      backingStore = manager.allocateBackingStore(width, height);
+
+    int attemptNumber = 0;
+    boolean tryAgain = false;
+
+    do {
+      if (place(rect))
+        return;
+
+      if (manager.canCompact()) {
+        // Let the manager have a chance at potentially evicting some entries
+        tryAgain = manager.preExpand(rect, attemptNumber++);
+      } else {
+        tryAgain = manager.additionFailed(rect, attemptNumber++);
+      }
+    } while (tryAgain);
+
+    if (!manager.canCompact()) {
+      throw new RuntimeException("BackingStoreManager does not support compaction or expansion, and didn't clear space for new rectangle");
+    }
+
+    attemptNumber = 0;
+    while (!place(rect)) {
+      if (expand(rect))
+        continue;
+      // Maximum size reached, compact as a last resort
+      compact(Integer.MAX_VALUE);
+      if (place(rect))
+        return;
+      if (!manager.additionFailed(rect, attemptNumber++)) {
+        throw new RuntimeException("Backing store reached its maximum size and BackingStoreManager didn't clear space for new rectangle");
+      }
+    }
+  }
+
+  /** Removes the given rectangle from this SkylineRectanglePacker. */
+  public void remove(final Rect rect) {
+    final Entry e = entries.remove(rect);
+    if (e == null)
+      return;
+    ++modCount;
+    release(e.x, e.y, e.w, e.h);
+  }
+
+  /** Visits all Rects contained in this SkylineRectanglePacker. */
+  public void visit(final RectVisitor visitor) {
+    for (final Iterator<Rect> iter = entries.keySet().iterator(); iter.hasNext(); ) {
+      visitor.visit(iter.next());
+    }
+  }
+
+  /** Returns the height up to which the backing store is in use,
+      i.e. the maximum of the skyline. */
+  public int getUsedHeight() {
+    int used = 0;
+    for (int i = skyline.size() - 1; i >= 0; --i) {
+      used = Math.max(used, skyline.get(i).y);
+    }
+    return used;
+  }
+
+  /** Returns the vertical fragmentation ratio of this
+      SkylineRectanglePacker. This is defined as the ratio of the free
+      area below the skyline divided by the overall area below the
+      skyline. A high vertical fragmentation ratio indicates that it
+      may be profitable to perform a compaction. */
+  public float verticalFragmentationRatio() {
+    long area = 0;
+    for (int i = skyline.size() - 1; i >= 0; --i) {
+      final Segment s = skyline.get(i);
+      area += (long) s.w * s.y;
+    }
+    if (area == 0)
+      return 0.0f;
+    return (float) freeArea / (float) area;
+  }
+
+  /** Compacts until the used height can not be lowered any further,
+      and shrinks the backing store if the used height has dropped far
+      below its height. */
+  public void compact() {
+    compact(Integer.MAX_VALUE);
+
+    final int usedHeight = getUsedHeight();
+    if (backingStore != null && usedHeight > 0 && usedHeight < height * SHRINK_FACTOR) {
+      int shrunkHeight = Math.max(initialHeight, (int) (usedHeight * (1.0f + EXPANSION_FACTOR)));
+      if (maxHeight > 0 && shrunkHeight > maxHeight) {
+        shrunkHeight = maxHeight;
+      }
+      if (shrunkHeight < height) {
+        resize(width, shrunkHeight);
+      }
+    }
+  }
+
+  /** Performs one incremental compaction cycle of at most the given
+      number of moves, allowing to spread a compaction over several
+      frames. <P>
+
+      A compaction pass computes a new layout of all Rects, packed by
+      decreasing height, and moves one Rect per step into its new
+      location, using {@link BackingStoreManager#move
+      BackingStoreManager.move} with the current backing store as both
+      source and destination. Rects occupying a new location are first
+      evacuated above the new used height, hence each Rect is moved at
+      most twice. Adding or removing a Rect between cycles starts a new
+      pass. <P>
+
+      Returns true if the current pass has further moves pending,
+      false if compaction is complete or not possible due to lack of
+      space for evacuation. */
+  public boolean compact(final int maxMoves) {
+    if (backingStore == null)
+      return false;
+    if (plan != null && planModCount != modCount)
+      endPlan();
+    if (plan == null && !beginPlan())
+      return false;
+
+    int moves = 0;
+    boolean more = true;
+    while (more && moves < maxMoves) {
+      if (planIndex == plan.length) {
+        // All Rects are at their new location, hence the free space is the model's
+        adopt(planModel);
+        more = false;
+        break;
+      }
+      final Entry e = plan[planIndex];
+      if (e.x == e.targetX && e.y == e.targetY) {
+        ++planIndex;
+        continue;
+      }
+      if (moves == 0)
+        manager.beginMovement(backingStore, backingStore);
+      entryQuery.clear();
+      entryIndex.query(e.targetX, e.targetY, e.w, e.h, entryQuery);
+      if (entryQuery.isEmpty()) {
+        reserve(e.targetX, e.targetY, e.w, e.h);
+        move(e, e.targetX, e.targetY);
+        ++planIndex;
+      } else if (!evacuate(entryQuery.get(0))) {
+        more = false;
+      }
+      ++moves;
+    }
+    if (moves > 0)
+      manager.endMovement(backingStore, backingStore);
+    if (!more)
+      endPlan();
+    return more;
+  }
+
+  /** Clears all Rects contained in this SkylineRectanglePacker. */
+  public void clear() {
+    ++modCount;
+    endPlan();
+    entries.clear();
+    freeBySize.clear();
+    Arrays.fill(freeByTop, null);
+    Arrays.fill(freeByEnd, null);
+    freeArea = 0;
+    Arrays.fill(widthTree, 0);
+    skyline.clear();
+    skyline.add(new Segment(0, 0, width));
+  }
+
+  /** Disposes the backing store allocated by the
+      BackingStoreManager. This SkylineRectanglePacker may no longer be
+      used after calling this method. */
+  public void dispose() {
+    if (backingStore != null)
+      manager.deleteBackingStore(backingStore);
+    backingStore = null;
+    clear();
+  }
+
+  //----------------------------------------------------------------------
+  // Internals only below this point
+  //
+
+  /** Places the given Rect within the current backing store, returns false if out of space. */
+  private boolean place(final Rect rect) {
+    if (rect.w() > 0 && rect.h() > 0) {
+      if (!allocate(rect.w(), rect.h(), height))
+        return false;
+      rect.setPosition(allocX, allocY);
+    } else {
+      rect.setPosition(0, 0);
+    }
+    final Entry e = new Entry(rect, nextSerial++);
+    entries.put(rect, e);
+    return true;
+  }
+
+  /** Allocates a w x h region ending at or above row maxEnd,
+      preferring free space below the skyline. The result is stored in
+      allocX and allocY. */
+  private boolean allocate(final int w, final int h, final int maxEnd) {
+    if (w > width)
+      return false;
+
+    final Free f = findFree(w, h);
+    if (f != null && f.end() <= maxEnd) {
+      allocateFree(f, w, h);
+      return true;
+    }
+    return allocateSkyline(w, h, 0, maxEnd);
+  }
+
+  /** Allocates w x h at the top-left corner of the given free rect. */
+  private void allocateFree(final Free f, final int w, final int h) {
+    removeFree(f);
+    allocX = f.x;
+    allocY = f.y;
+    // Guillotine split of the remainder along the shorter leftover axis
+    final int rw = f.w - w;
+    final int bh = f.h - h;
+    if (rw < bh) {
+      release(f.x + w, f.y, rw, h);
+      release(f.x, f.y + h, f.w, bh);
+    } else {
+      release(f.x + w, f.y, rw, f.h);
+      release(f.x, f.y + h, w, bh);
+    }
+  }
+
+  /** Allocates w x h bottom-left on the skyline, starting at or below
+      row minY and ending at or above row maxEnd. */
+  private boolean allocateSkyline(final int w, final int h, final int minY, final int maxEnd) {
+    final int n = skyline.size();
+    int bestEnd = maxEnd + 1;
+    int bestI = -1;
+    int bestX = -1;
+    int bestY = -1;
+    for (int i = 0; i < n; i++) {
+      final Segment s = skyline.get(i);
+      if (s.x + w > width)
+        break;
+      int y = Math.max(s.y, minY);
+      for (int j = i + 1; j < n && y + h < bestEnd; j++) {
+        final Segment t = skyline.get(j);
+        if (t.x >= s.x + w)
+          break;
+        if (t.y > y)
+          y = t.y;
+      }
+      if (y + h < bestEnd) {
+        bestEnd = y + h;
+        bestI = i;
+        bestX = s.x;
+        bestY = y;
+      }
+    }
+    if (bestX < 0)
+      return false;
+
+    // Space between the skyline and the new rect becomes free
+    final int end = bestX + w;
+    for (int i = bestI; i < n; i++) {
+      final Segment t = skyline.get(i);
+      if (t.x >= end)
+        break;
+      if (t.y < bestY) {
+        final int x0 = Math.max(t.x, bestX);
+        final int x1 = Math.min(t.x + t.w, end);
+        waste.add(new Free(x0, t.y, x1 - x0, bestY - t.y));
+      }
+    }
+    setSkyline(bestX, w, bestY + h);
+    for (int i = 0; i < waste.size(); i++) {
+      final Free r = waste.get(i);
+      release(r.x, r.y, r.w, r.h);
+    }
+    waste.clear();
+    allocX = bestX;
+    allocY = bestY;
+    return true;
+  }
+
+  /** Returns the free rect of least height, then least width, fitting w x h, or null. */
+  private Free findFree(final int w, final int h) {
+    final int fh = findFreeHeight(1, 0, widthTreeLeaves - 1, w, h);
+    if (fh < 0)
+      return null;
+    probe.x = 0;
+    probe.y = 0;
+    probe.w = w;
+    probe.h = fh;
+    return freeBySize.ceiling(probe);
+  }
+
+  /** Returns the least height of at least minHeight holding a free rect of at least width w, or -1. */
+  private int findFreeHeight(final int node, final int lo, final int hi, final int w, final int minHeight) {
+    if (hi < minHeight || widthTree[node] < w)
+      return -1;
+    if (lo == hi)
+      return lo;
+    final int mid = (lo + hi) >>> 1;
+    final int res = findFreeHeight(2 * node, lo, mid, w, minHeight);
+    if (res >= 0)
+      return res;
+    return findFreeHeight(2 * node + 1, mid + 1, hi, w, minHeight);
+  }
+
+  /** Returns the width of the widest free rect of the given height, or 0. */
+  private int widestFree(final int h) {
+    probe.x = 0;
+    probe.y = 0;
+    probe.w = 0;
+    probe.h = h + 1;
+    final Free widest = freeBySize.lower(probe);
+    return (widest != null && widest.h == h) ? widest.w : 0;
+  }
+
+  /** Sets the width of the widest free rect of the given height in the segment tree. */
+  private void updateWidthTree(final int h, final int w) {
+    if (h >= widthTreeLeaves) {
+      int leaves = widthTreeLeaves;
+      while (h >= leaves)
+        leaves *= 2;
+      widthTreeLeaves = leaves;
+      widthTree = new int[2 * leaves];
+      // Free rects of equal height are ordered by increasing width
+      for (final Iterator<Free> iter = freeBySize.iterator(); iter.hasNext(); ) {
+        final Free f = iter.next();
+        widthTree[leaves + f.h] = f.w;
+      }
+      for (int i = leaves - 1; i > 0; --i) {
+        widthTree[i] = Math.max(widthTree[2 * i], widthTree[2 * i + 1]);
+      }
+      return;
+    }
+    int i = widthTreeLeaves + h;
+    widthTree[i] = w;
+    for (i >>>= 1; i > 0; i >>>= 1) {
+      final int max = Math.max(widthTree[2 * i], widthTree[2 * i + 1]);
+      if (widthTree[i] == max)
+        break;
+      widthTree[i] = max;
+    }
+  }
+
+  /** Returns the given region to the free space, merging it with its
+      neighbors and lowering the skyline if it reaches the latter. */
+  private void release(final int x, final int y, final int w, final int h) {
+    if (w <= 0 || h <= 0)
+      return;
+    work.add(new Free(x, y, w, h));
+    while (!work.isEmpty()) {
+      final Free f = merge(work.remove(work.size() - 1));
+      if (!skylineEquals(f.x, f.w, f.y + f.h)) {
+        addFree(f);
+        continue;
+      }
+      // Nothing above, lower the skyline and absorb free rects now reaching it
+      final Segment s = skyline.get(setSkyline(f.x, f.w, f.y));
+      final int sEnd = s.x + s.w;
+      final int first = work.size();
+      for (Free g = s.y < freeByEnd.length ? freeByEnd[s.y] : null; g != null; g = g.nextEnd) {
+        if (g.x >= s.x && g.x + g.w <= sEnd)
+          work.add(g);
+      }
+      for (int i = work.size() - 1; i >= first; --i) {
+        removeFree(work.get(i));
+      }
+    }
+  }
+
+  /** Merges the given free rect with adjacent free rects of the same extent. */
+  private Free merge(Free f) {
+    boolean merged = true;
+    while (merged) {
+      merged = false;
+      // right
+      Free n = freeWithTop(f.x + f.w, f.y);
+      if (n != null && n.h == f.h) {
+        removeFree(n);
+        f = new Free(f.x, f.y, f.w + n.w, f.h);
+        merged = true;
+        continue;
+      }
+      // left
+      n = freeWithTopEndingAt(f.x, f.y);
+      if (n != null && n.h == f.h) {
+        removeFree(n);
+        f = new Free(n.x, f.y, n.w + f.w, f.h);
+        merged = true;
+        continue;
+      }
+      // below
+      n = freeWithTop(f.x, f.end());
+      if (n != null && n.w == f.w) {
+        removeFree(n);
+        f = new Free(f.x, f.y, f.w, f.h + n.h);
+        merged = true;
+        continue;
+      }
+      // above
+      n = freeWithEnd(f.x, f.y);
+      if (n != null && n.w == f.w) {
+        removeFree(n);
+        f = new Free(f.x, n.y, f.w, n.h + f.h);
+        merged = true;
+      }
+    }
+    return f;
+  }
+
+  /** Returns the free rect starting at column x with top row y, or null. */
+  private Free freeWithTop(final int x, final int y) {
+    for (Free f = y < freeByTop.length ? freeByTop[y] : null; f != null; f = f.nextTop) {
+      if (f.x == x)
+        return f;
+    }
+    return null;
+  }
+
+  /** Returns the free rect ending at column xEnd with top row y, or null. */
+  private Free freeWithTopEndingAt(final int xEnd, final int y) {
+    for (Free f = y < freeByTop.length ? freeByTop[y] : null; f != null; f = f.nextTop) {
+      if (f.x + f.w == xEnd)
+        return f;
+    }
+    return null;
+  }
+
+  /** Returns the free rect starting at column x with end row y, or null. */
+  private Free freeWithEnd(final int x, final int y) {
+    for (Free f = y < freeByEnd.length ? freeByEnd[y] : null; f != null; f = f.nextEnd) {
+      if (f.x == x)
+        return f;
+    }
+    return null;
+  }
+
+  private static Free[] ensureRow(final Free[] rows, final int row) {
+    if (row < rows.length)
+      return rows;
+    return Arrays.copyOf(rows, Math.max(row + 1, 2 * rows.length));
+  }
+
+  private void addFree(final Free f) {
+    freeBySize.add(f);
+    freeByTop = ensureRow(freeByTop, f.y);
+    f.nextTop = freeByTop[f.y];
+    freeByTop[f.y] = f;
+    final int end = f.end();
+    freeByEnd = ensureRow(freeByEnd, end);
+    f.nextEnd = freeByEnd[end];
+    freeByEnd[end] = f;
+    freeArea += (long) f.w * f.h;
+    if (f.h >= widthTreeLeaves || f.w > widthTree[widthTreeLeaves + f.h])
+      updateWidthTree(f.h, f.w);
+    if (freeIndex != null)
+      freeIndex.add(f);
+  }
+
+  private void removeFree(final Free f) {
+    freeBySize.remove(f);
+    if (freeByTop[f.y] == f) {
+      freeByTop[f.y] = f.nextTop;
+    } else {
+      Free p = freeByTop[f.y];
+      while (p.nextTop != f)
+        p = p.nextTop;
+      p.nextTop = f.nextTop;
+    }
+    final int end = f.end();
+    if (freeByEnd[end] == f) {
+      freeByEnd[end] = f.nextEnd;
+    } else {
+      Free p = freeByEnd[end];
+      while (p.nextEnd != f)
+        p = p.nextEnd;
+      p.nextEnd = f.nextEnd;
+    }
+    f.nextTop = null;
+    f.nextEnd = null;
+    freeArea -= (long) f.w * f.h;
+    // Only the widest free rect of its height is held by the segment tree
+    if (f.w == widthTree[widthTreeLeaves + f.h])
+      updateWidthTree(f.h, widestFree(f.h));
+    if (freeIndex != null)
+      freeIndex.remove(f);
+  }
+
+  private static Long key(final int x, final int y) {
+    return Long.valueOf(((long) x << 32) | (y & 0xFFFFFFFFL));
+  }
+
+  /** Returns the index of the skyline segment containing column x. */
+  private int findSegment(final int x) {
+    int lo = 0;
+    int hi = skyline.size() - 1;
+    while (lo < hi) {
+      final int mid = (lo + hi + 1) >>> 1;
+      if (skyline.get(mid).x <= x) {
+        lo = mid;
+      } else {
+        hi = mid - 1;
+      }
+    }
+    return lo;
+  }
+
+  /** Returns true if the skyline is at row y over all of [x, x+w). */
+  private boolean skylineEquals(final int x, final int w, final int y) {
+    final Segment s = skyline.get(findSegment(x));
+    return s.y == y && s.x + s.w >= x + w;
+  }
+
+  /** Sets the skyline over [x, x+w) to row y, returns the index of the resulting segment. */
+  private int setSkyline(final int x, final int w, final int y) {
+    int i = findSegment(x);
+    Segment s = skyline.get(i);
+    if (s.x < x) {
+      skyline.add(i, new Segment(s.x, s.y, x - s.x));
+      s.w -= x - s.x;
+      s.x = x;
+      i++;
+    }
+    final int end = x + w;
+    while (i < skyline.size()) {
+      s = skyline.get(i);
+      if (s.x + s.w <= end) {
+        skyline.remove(i);
+      } else {
+        if (s.x < end) {
+          s.w -= end - s.x;
+          s.x = end;
+        }
+        break;
+      }
+    }
+    final Segment seg = new Segment(x, y, w);
+    skyline.add(i, seg);
+    if (i + 1 < skyline.size() && skyline.get(i + 1).y == y) {
+      seg.w += skyline.remove(i + 1).w;
+    }
+    if (i > 0 && skyline.get(i - 1).y == y) {
+      skyline.get(i - 1).w += seg.w;
+      skyline.remove(i);
+      i--;
+    }
+    return i;
+  }
+
+  /** Computes the re-layout of a compaction pass, returns false if it would not lower the used height. */
+  private boolean beginPlan() {
+    final ArrayList<Entry> list = new ArrayList<Entry>(entries.size());
+    for (final Iterator<Entry> iter = entries.values().iterator(); iter.hasNext(); ) {
+      final Entry e = iter.next();
+      if (e.w > 0 && e.h > 0)
+        list.add(e);
+    }
+    if (list.isEmpty())
+      return false;
+    final Entry[] order = list.toArray(new Entry[list.size()]);
+    Arrays.sort(order, entrySizeComparator);
+    final SkylineRectanglePacker model = new SkylineRectanglePacker(manager, width, Integer.MAX_VALUE / 2);
+    for (int i = 0; i < order.length; i++) {
+      final Entry e = order[i];
+      model.allocate(e.w, e.h, model.height);
+      e.targetX = model.allocX;
+      e.targetY = model.allocY;
+    }
+    planUsedHeight = model.getUsedHeight();
+    if (planUsedHeight >= getUsedHeight())
+      return false;
+
+    freeIndex = new CellIndex<Free>();
+    for (final Iterator<Free> iter = freeBySize.iterator(); iter.hasNext(); ) {
+      freeIndex.add(iter.next());
+    }
+    entryIndex = new CellIndex<Entry>();
+    for (int i = 0; i < order.length; i++) {
+      entryIndex.add(order[i]);
+    }
+    planModel = model;
+    plan = order;
+    planIndex = 0;
+    planModCount = modCount;
+    return true;
+  }
+
+  private void endPlan() {
+    planModel = null;
+    plan = null;
+    freeIndex = null;
+    entryIndex = null;
+  }
+
+  /** Moves the given Rect out of the way to a location starting below the planned used height. */
+  private boolean evacuate(final Entry e) {
+    final Free f = findFree(e.w, e.h);
+    if (f != null && f.y >= planUsedHeight) {
+      allocateFree(f, e.w, e.h);
+    } else if (!allocateSkyline(e.w, e.h, planUsedHeight, height)) {
+      return false;
+    }
+    move(e, allocX, allocY);
+    return true;
+  }
+
+  /** Moves the given Rect to the given, already allocated location, and releases its old one. */
+  private void move(final Entry e, final int x, final int y) {
+    final Rect rect = e.rect;
+    final Rect oldLocation = new Rect(e.x, e.y, e.w, e.h, rect.getUserData());
+    entryIndex.remove(e);
+    e.x = x;
+    e.y = y;
+    entryIndex.add(e);
+    rect.setPosition(x, y);
+    manager.move(backingStore, oldLocation, backingStore, rect);
+    release(oldLocation.x(), oldLocation.y(), oldLocation.w(), oldLocation.h());
+  }
+
+  /** Removes the given region, which must not contain any Rect, from the free space. */
+  private void reserve(final int x, final int y, final int w, final int h) {
+    final int end = y + h;
+    final int xEnd = x + w;
+
+    // Raise the skyline to the end of the region, space up to the region becomes free
+    for (int i = findSegment(x); i < skyline.size(); i++) {
+      final Segment t = skyline.get(i);
+      if (t.x >= xEnd)
+        break;
+      if (t.y < end) {
+        final int x0 = Math.max(t.x, x);
+        final int x1 = Math.min(t.x + t.w, xEnd);
+        waste.add(new Free(x0, t.y, x1 - x0, end - t.y));
+      }
+    }
+    for (int i = 0; i < waste.size(); i++) {
+      final Free r = waste.get(i);
+      setSkyline(r.x, r.w, end);
+    }
+    for (int i = 0; i < waste.size(); i++) {
+      final Free r = waste.get(i);
+      if (r.y < y)
+        release(r.x, r.y, r.w, y - r.y);
+    }
+    waste.clear();
+
+    // Keep the parts of intersecting free rects outside of the region
+    freeQuery.clear();
+    freeIndex.query(x, y, w, h, freeQuery);
+    for (int i = 0; i < freeQuery.size(); i++) {
+      removeFree(freeQuery.get(i));
+    }
+    for (int i = 0; i < freeQuery.size(); i++) {
+      final Free f = freeQuery.get(i);
+      final int y0 = Math.max(f.y, y);
+      final int y1 = Math.min(f.end(), end);
+      release(f.x, f.y, f.w, y0 - f.y);
+      release(f.x, y1, f.w, f.end() - y1);
+      release(f.x, y0, x - f.x, y1 - y0);
+      release(xEnd, y0, f.x + f.w - xEnd, y1 - y0);
+    }
+  }
+
+  /** Replaces the skyline and free space with the given model's. */
+  private void adopt(final SkylineRectanglePacker model) {
+    freeBySize.clear();
+    Arrays.fill(freeByTop, null);
+    Arrays.fill(freeByEnd, null);
+    freeArea = 0;
+    Arrays.fill(widthTree, 0);
+    freeIndex = null;
+    for (final Iterator<Free> iter = model.freeBySize.iterator(); iter.hasNext(); ) {
+      addFree(iter.next());
+    }
+    skyline.clear();
+    for (int i = 0; i < model.skyline.size(); i++) {
+      final Segment s = model.skyline.get(i);
+      skyline.add(new Segment(s.x, s.y, s.w));
+    }
+  }
+
+  /** Expands the backing store for the given Rect, returns false if already at its maximum size. */
+  private boolean expand(final Rect cause) {
+    int newWidth = width;
+    int newHeight = height;
+    if (cause.w() > newWidth) {
+      newWidth = cause.w();
+    } else {
+      // Lowest row the rect could start at on the skyline
+      int lowest = Integer.MAX_VALUE;
+      final int n = skyline.size();
+      for (int i = 0; i < n; i++) {
+        final Segment s = skyline.get(i);
+        if (s.x + cause.w() > width)
+          break;
+        int y = s.y;
+        for (int j = i + 1; j < n; j++) {
+          final Segment t = skyline.get(j);
+          if (t.x >= s.x + cause.w())
+            break;
+          y = Math.max(y, t.y);
+        }
+        lowest = Math.min(lowest, y);
+      }
+      newHeight = Math.max((int) (newHeight * (1.0f + EXPANSION_FACTOR)), lowest + cause.h());
+    }
+
+    // Clamp to maximum values
+    if (maxWidth > 0 && newWidth > maxWidth) {
+      newWidth = maxWidth;
+    }
+    if (maxHeight > 0 && newHeight > maxHeight) {
+      newHeight = maxHeight;
+    }
+    if (newWidth == width && newHeight == height) {
+      // Height exhausted, widen if still allowed
+      if (cause.h() <= height && (maxWidth <= 0 || width < maxWidth)) {
+        newWidth = (int) (width * (1.0f + EXPANSION_FACTOR)) + 1;
+        if (maxWidth > 0 && newWidth > maxWidth) {
+          newWidth = maxWidth;
+        }
+      } else {
+        return false;
+      }
+    }
+    resize(newWidth, newHeight);
+    return true;
+  }
+
+  /** Moves all Rects, keeping their location, to a new backing store of the given size. */
+  private void resize(final int newWidth, final int newHeight) {
+    final Object newBackingStore = manager.allocateBackingStore(newWidth, newHeight);
+    manager.beginMovement(backingStore, newBackingStore);
+    for (final Iterator<Entry> iter = entries.values().iterator(); iter.hasNext(); ) {
+      final Entry e = iter.next();
+      if (e.w > 0 && e.h > 0)
+        manager.move(backingStore, e.rect, newBackingStore, e.rect);
+    }
+    manager.endMovement(backingStore, newBackingStore);
+    manager.deleteBackingStore(backingStore);
+    backingStore = newBackingStore;
+
+    if (newWidth > width) {
+      final Segment last = skyline.get(skyline.size() - 1);
+      if (last.y == 0) {
+        last.w += newWidth - width;
+      } else {
+        skyline.add(new Segment(width, 0, newWidth - width));
+      }
+    }
+    width = newWidth;
+    height = newHeight;
+  }
+}
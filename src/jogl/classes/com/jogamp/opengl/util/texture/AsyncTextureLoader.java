@@ -0,0 +1,535 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.opengl.util.GLBuffers;
+import com.jogamp.opengl.util.GLPixelStorageModes;
+
+/**
+ * Asynchronous texture loader, decoding images on a pool of worker threads
+ * and streaming the decoded pixels into the GL over several frames.
+ * <p>
+ * {@link #load(GLProfile, URL, boolean, String) load(..)} returns immediately with a {@link Handle},
+ * a {@link Future} resolving to the {@link Texture}.
+ * The {@link TextureData} is decoded via {@link TextureIO} on a worker thread,
+ * while {@link #upload(GL)} shall be called once per frame on the GL thread, e.g. at the start of
+ * {@link com.jogamp.opengl.GLEventListener#display(com.jogamp.opengl.GLAutoDrawable) display(..)}.
+ * </p>
+ * <p>
+ * Each {@link #upload(GL)} call transfers at most the given number of bytes per frame.
+ * If pixel unpack buffer objects are available, i.e. on {@link GL#isGL2ES3() GL2ES3},
+ * the pixels are copied into a ring of mapped PBOs and the texture is updated by row bands
+ * via <code>glTexSubImage2D</code> sourcing the bound PBO,
+ * allowing the driver to perform the transfer asynchronously.
+ * Each PBO is orphaned before being mapped again, hence no PBO in flight is overwritten.
+ * </p>
+ * <p>
+ * Compressed data, given mipmap data, textures expanded to power-of-two dimensions
+ * and mipmap generation w/o <code>glGenerateMipmap</code> are not streamed
+ * but uploaded within one frame via {@link Texture#updateImage(GL, TextureData)}, as are all textures
+ * if PBOs are not available.
+ * </p>
+ * <p>
+ * All GL resources are owned by the GL context passed to {@link #upload(GL)} and released via {@link #destroy(GL)}.
+ * </p>
+ */
+public class AsyncTextureLoader {
+    private static final boolean DEBUG = Debug.debug("Texture");
+
+    /** Default number of bytes uploaded per frame, 4 MiB. */
+    public static final int DEFAULT_BYTES_PER_FRAME = 4 * 1024 * 1024;
+    /** Default number of pixel unpack buffer objects in the ring. */
+    public static final int DEFAULT_PBO_COUNT = 3;
+
+    /**
+     * Future like handle of an asynchronously loaded {@link Texture}.
+     * <p>
+     * {@link #get()} blocks until the texture is completely uploaded,
+     * hence it must not be called on the thread calling {@link AsyncTextureLoader#upload(GL)}.
+     * The GL thread shall poll {@link #isDone()} and {@link #getTexture()} instead.
+     * </p>
+     */
+    public static class Handle implements Future<Texture> {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean cancelled = false;
+        private volatile Texture texture = null;
+        private volatile Throwable error = null;
+        private volatile TextureData data = null;
+        private Future<?> decodeTask;
+
+        private Handle() {}
+
+        /** Returns the uploaded texture if {@link #isDone() done} and successful, otherwise null. */
+        public final Texture getTexture() { return texture; }
+
+        /** Returns the decoded {@link TextureData} while the texture is being uploaded, otherwise null. */
+        public final TextureData getTextureData() { return data; }
+
+        /** Returns the cause of failure if {@link #isDone() done} and failed, otherwise null. */
+        public final Throwable getError() { return error; }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * A texture already allocated is destroyed with the next {@link AsyncTextureLoader#upload(GL)} call.
+         * </p>
+         */
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            synchronized( this ) {
+                if( isDone() ) {
+                    return false;
+                }
+                cancelled = true;
+                if( null != decodeTask ) {
+                    decodeTask.cancel(mayInterruptIfRunning);
+                }
+            }
+            done.countDown();
+            return true;
+        }
+
+        @Override
+        public final boolean isCancelled() { return cancelled; }
+
+        @Override
+        public final boolean isDone() { return 0 == done.getCount(); }
+
+        @Override
+        public Texture get() throws InterruptedException, ExecutionException {
+            done.await();
+            return result();
+        }
+
+        @Override
+        public Texture get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if( !done.await(timeout, unit) ) {
+                throw new TimeoutException();
+            }
+            return result();
+        }
+
+        private Texture result() throws ExecutionException {
+            if( cancelled ) {
+                throw new CancellationException();
+            }
+            if( null != error ) {
+                throw new ExecutionException(error);
+            }
+            return texture;
+        }
+
+        private void setDecoded(final TextureData data) {
+            synchronized( this ) {
+                this.data = data;
+            }
+        }
+
+        private void complete(final Texture texture, final Throwable error) {
+            synchronized( this ) {
+                if( cancelled ) {
+                    return;
+                }
+                this.texture = texture;
+                this.error = error;
+                this.data = null;
+            }
+            done.countDown();
+        }
+    }
+
+    /** Source of the {@link TextureData}, invoked on a worker thread. */
+    private static abstract class Decoder {
+        abstract TextureData decode() throws IOException;
+    }
+
+    /** Texture being streamed */
+    private static class Upload {
+        final Handle handle;
+        final TextureData data;
+        final Texture texture;
+        final ByteBuffer pixels;
+        final int stride;
+        final boolean genMipmap;
+        int row = 0;
+
+        Upload(final Handle handle, final TextureData data, final Texture texture, final ByteBuffer pixels,
+               final int stride, final boolean genMipmap) {
+            this.handle = handle;
+            this.data = data;
+            this.texture = texture;
+            this.pixels = pixels;
+            this.stride = stride;
+            this.genMipmap = genMipmap;
+        }
+    }
+
+    private final ExecutorService executor;
+    private final ConcurrentLinkedQueue<Handle> decoded = new ConcurrentLinkedQueue<Handle>();
+    private final int bytesPerFrame;
+    private final int[] pbos;
+    private final int[] pboSizes;
+    private int pboIdx = 0;
+    private boolean pbosCreated = false;
+    private Upload current = null;
+    private final GLPixelStorageModes psm = new GLPixelStorageModes();
+    private final AtomicInteger decoding = new AtomicInteger(0);
+    private volatile boolean destroyed = false;
+
+    /**
+     * Creates a loader with {@link #DEFAULT_PBO_COUNT} PBOs and {@link #DEFAULT_BYTES_PER_FRAME}.
+     * @param decodeThreads number of decoding worker threads, at least one is used
+     */
+    public AsyncTextureLoader(final int decodeThreads) {
+        this(decodeThreads, DEFAULT_PBO_COUNT, DEFAULT_BYTES_PER_FRAME);
+    }
+
+    /**
+     * @param decodeThreads number of decoding worker threads, at least one is used
+     * @param pboCount number of pixel unpack buffer objects in the ring, at least one is used
+     * @param bytesPerFrame maximum number of bytes uploaded per {@link #upload(GL)} call,
+     *        at least one row is uploaded per call. Each PBO holds up to this many bytes.
+     */
+    public AsyncTextureLoader(final int decodeThreads, final int pboCount, final int bytesPerFrame) {
+        if( 0 >= bytesPerFrame ) {
+            throw new IllegalArgumentException("Invalid bytesPerFrame "+bytesPerFrame);
+        }
+        this.bytesPerFrame = bytesPerFrame;
+        this.pbos = new int[Math.max(1, pboCount)];
+        this.pboSizes = new int[pbos.length];
+        this.executor = Executors.newFixedThreadPool(Math.max(1, decodeThreads), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(0);
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "AsyncTextureLoader-Worker-"+count.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            } } );
+    }
+
+    /**
+     * Loads the texture from the given URL, see {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}.
+     * @throws IllegalStateException if this loader has been {@link #destroy(GL) destroyed}
+     */
+    public Handle load(final GLProfile glp, final URL url, final boolean mipmap, final String imageType) throws IllegalStateException {
+        return submit(new Decoder() {
+            @Override
+            TextureData decode() throws IOException {
+                return TextureIO.newTextureData(glp, url, mipmap, imageType);
+            } } );
+    }
+
+    /**
+     * Loads the texture from the given file, see {@link TextureIO#newTextureData(GLProfile, File, boolean, String)}.
+     * @throws IllegalStateException if this loader has been {@link #destroy(GL) destroyed}
+     */
+    public Handle load(final GLProfile glp, final File file, final boolean mipmap, final String imageType) throws IllegalStateException {
+        return submit(new Decoder() {
+            @Override
+            TextureData decode() throws IOException {
+                return TextureIO.newTextureData(glp, file, mipmap, imageType);
+            } } );
+    }
+
+    /**
+     * Loads the texture from the given stream, see {@link TextureIO#newTextureData(GLProfile, InputStream, boolean, String)}.
+     * The stream is read on a worker thread and closed after decoding.
+     * @throws IllegalStateException if this loader has been {@link #destroy(GL) destroyed}
+     */
+    public Handle load(final GLProfile glp, final InputStream stream, final boolean mipmap, final String imageType) throws IllegalStateException {
+        return submit(new Decoder() {
+            @Override
+            TextureData decode() throws IOException {
+                try {
+                    return TextureIO.newTextureData(glp, stream, mipmap, imageType);
+                } finally {
+                    stream.close();
+                }
+            } } );
+    }
+
+    private Handle submit(final Decoder decoder) {
+        if( destroyed ) {
+            throw new IllegalStateException("AsyncTextureLoader destroyed");
+        }
+        final Handle handle = new Handle();
+        decoding.incrementAndGet();
+        final FutureTask<Object> task = new FutureTask<Object>(new Runnable() {
+                @Override
+                public void run() {
+                    if( handle.isCancelled() ) {
+                        return;
+                    }
+                    try {
+                        final TextureData data = decoder.decode();
+                        if( null == data ) {
+                            throw new IOException("No suitable reader");
+                        }
+                        handle.setDecoded(data);
+                        decoded.add(handle);
+                    } catch (final Throwable t) {
+                        handle.complete(null, t);
+                    }
+                } }, null) {
+                @Override
+                protected void done() {
+                    // completed or cancelled
+                    decoding.decrementAndGet();
+                } };
+        synchronized( handle ) {
+            handle.decodeTask = task;
+        }
+        executor.execute(task);
+        return handle;
+    }
+
+    /** Returns true if textures are pending, i.e. decoding or uploading. */
+    public boolean hasPending() {
+        return null != current || !decoded.isEmpty() || 0 < decoding.get();
+    }
+
+    /**
+     * Uploads decoded textures, to be called once per frame on the GL thread.
+     * <p>
+     * Transfers at most <code>bytesPerFrame</code> bytes, but at least one row band,
+     * and completes the {@link Handle} of each texture fully uploaded.
+     * </p>
+     * @return number of bytes uploaded
+     * @throws GLException if an OpenGL error occurred, the affected {@link Handle} has failed
+     */
+    public int upload(final GL gl) throws GLException {
+        int budget = bytesPerFrame;
+        int uploaded = 0;
+        while( 0 < budget ) {
+            if( null == current ) {
+                final Handle handle = decoded.poll();
+                if( null == handle ) {
+                    break;
+                }
+                final TextureData data = handle.getTextureData();
+                if( handle.isCancelled() || null == data ) {
+                    if( null != data ) {
+                        data.flush();
+                    }
+                    continue;
+                }
+                try {
+                    current = begin(gl, handle, data);
+                } catch (final GLException e) {
+                    data.flush();
+                    handle.complete(null, e);
+                    throw e;
+                }
+                if( null == current ) {
+                    // uploaded synchronously
+                    final int bytes = data.getEstimatedMemorySize();
+                    data.flush();
+                    uploaded += bytes;
+                    budget -= bytes;
+                    continue;
+                }
+            }
+            final Upload u = current;
+            if( u.handle.isCancelled() ) {
+                u.texture.destroy(gl);
+                u.data.flush();
+                current = null;
+                continue;
+            }
+            try {
+                final int bytes = uploadRows(gl, u, budget);
+                uploaded += bytes;
+                budget -= bytes;
+                if( u.row == u.data.getHeight() ) {
+                    if( u.genMipmap ) {
+                        u.texture.bind(gl);
+                        gl.glGenerateMipmap(u.texture.getTarget());
+                        gl.glTexParameteri(u.texture.getTarget(), GL.GL_TEXTURE_MIN_FILTER, GL.GL_LINEAR_MIPMAP_LINEAR);
+                    }
+                    current = null;
+                    u.data.flush();
+                    u.handle.complete(u.texture, null);
+                }
+            } catch (final GLException e) {
+                current = null;
+                u.texture.destroy(gl);
+                u.data.flush();
+                u.handle.complete(null, e);
+                throw e;
+            }
+        }
+        return uploaded;
+    }
+
+    /**
+     * Allocates the texture storage for streaming and returns the {@link Upload},
+     * or uploads the texture synchronously if streaming is not supported for the data and returns null.
+     */
+    private Upload begin(final GL gl, final Handle handle, final TextureData data) throws GLException {
+        final Buffer buffer = data.getBuffer();
+        final int width = data.getWidth();
+        final int height = data.getHeight();
+        final boolean genMipmap = data.getMipmap();
+        boolean stream = gl.isGL2ES3() && !data.isDataCompressed() && null == data.getMipmapData() &&
+                         buffer instanceof ByteBuffer && 0 == data.getBorder() &&
+                         ( 0 == data.getRowLength() || width == data.getRowLength() ) &&
+                         ( !genMipmap || gl.isFunctionAvailable("glGenerateMipmap") );
+        int stride = 0;
+        if( stream ) {
+            final int bpp = GLBuffers.bytesPerPixel(data.getPixelFormat(), data.getPixelType());
+            final int align = data.getAlignment();
+            stride = ( ( width * bpp + align - 1 ) / align ) * align;
+            stream = ((ByteBuffer)buffer).remaining() >= stride * ( height - 1 ) + width * bpp;
+        }
+        if( !stream ) {
+            final Texture texture = new Texture(gl, data);
+            handle.complete(texture, null);
+            return null;
+        }
+        // allocate storage only, i.e. w/o pixels and w/o mipmap generation
+        final TextureData alloc = new TextureData(data.getGLProfile(), data.getInternalFormat(), width, height, 0,
+                                                  data.getPixelAttributes(), false /* mipmap */, false /* dataIsCompressed */,
+                                                  data.getMustFlipVertically(), null /* buffer */, null /* flusher */);
+        alloc.setAlignment(data.getAlignment());
+        final Texture texture = new Texture(gl, alloc);
+        final int target = texture.getTarget();
+        if( texture.getWidth() != width || texture.getHeight() != height ||
+            ( genMipmap && GL.GL_TEXTURE_2D != target ) ||
+            ( GL.GL_TEXTURE_2D != target && GL2.GL_TEXTURE_RECTANGLE_ARB != target ) ) {
+            // expanded to power-of-two or not mipmap capable
+            texture.updateImage(gl, data);
+            handle.complete(texture, null);
+            return null;
+        }
+        if( DEBUG ) {
+            System.err.println("AsyncTextureLoader: streaming "+width+"x"+height+", stride "+stride+", "+texture);
+        }
+        return new Upload(handle, data, texture, (ByteBuffer)buffer, stride, genMipmap);
+    }
+
+    /** Uploads the next row band of the given texture via the next PBO of the ring, returns the number of bytes. */
+    private int uploadRows(final GL gl, final Upload u, final int budget) throws GLException {
+        if( !pbosCreated ) {
+            gl.glGenBuffers(pbos.length, pbos, 0);
+            pbosCreated = true;
+        }
+        final int height = u.data.getHeight();
+        final int rows = Math.max(1, Math.min(height - u.row, budget / u.stride));
+        final int bytes = rows * u.stride;
+        final int pbo = pbos[pboIdx];
+        final int pboSize = Math.max(bytes, Math.min(bytesPerFrame, height * u.stride));
+
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pbo);
+        try {
+            // orphan the previous storage, which may still be in use by a pending transfer
+            gl.glBufferData(GL2ES3.GL_PIXEL_UNPACK_BUFFER, Math.max(pboSize, pboSizes[pboIdx]), null, GL2ES2.GL_STREAM_DRAW);
+            pboSizes[pboIdx] = Math.max(pboSize, pboSizes[pboIdx]);
+            final ByteBuffer mapped = gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0, bytes,
+                                                          GL.GL_MAP_WRITE_BIT | GL.GL_MAP_INVALIDATE_BUFFER_BIT);
+            if( null == mapped ) {
+                throw new GLException("Mapping PBO "+pbo+" of "+bytes+" bytes failed");
+            }
+            final ByteBuffer src = u.pixels.duplicate();
+            final int pos = u.pixels.position() + u.row * u.stride;
+            src.position(pos);
+            src.limit(Math.min(u.pixels.limit(), pos + bytes));
+            mapped.put(src);
+            gl.glUnmapBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER);
+
+            u.texture.bind(gl);
+            // saves and resets row length and skip modes
+            psm.setUnpackAlignment(gl, u.data.getAlignment());
+            try {
+                gl.glTexSubImage2D(u.texture.getTarget(), 0, 0, u.row, u.data.getWidth(), rows,
+                                   u.data.getPixelFormat(), u.data.getPixelType(), 0L);
+            } finally {
+                psm.restore(gl);
+            }
+        } finally {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        }
+        pboIdx = ( pboIdx + 1 ) % pbos.length;
+        u.row += rows;
+        return bytes;
+    }
+
+    /**
+     * Cancels all pending loads, terminates the worker threads and deletes the PBOs.
+     * Textures of completed {@link Handle}s are not affected.
+     */
+    public void destroy(final GL gl) {
+        destroyed = true;
+        executor.shutdownNow();
+        if( null != current ) {
+            current.handle.cancel(false);
+            current.texture.destroy(gl);
+            current.data.flush();
+            current = null;
+        }
+        Handle h;
+        while( null != ( h = decoded.poll() ) ) {
+            final TextureData data = h.getTextureData();
+            h.cancel(false);
+            if( null != data ) {
+                data.flush();
+            }
+        }
+        if( pbosCreated ) {
+            gl.glDeleteBuffers(pbos.length, pbos, 0);
+            pbosCreated = false;
+        }
+    }
+}
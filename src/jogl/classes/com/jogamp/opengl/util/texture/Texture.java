@@ -44,6 +44,7 @@ import com.jogamp.opengl.glu.*;
 import com.jogamp.nativewindow.NativeWindowFactory;
 
 import jogamp.opengl.*;
+import jogamp.opengl.util.texture.MipmapBuilder;
 
 import com.jogamp.opengl.GLExtensions;
 import com.jogamp.opengl.util.texture.spi.*;
@@ -643,11 +644,20 @@ public class Texture {
             }
 
             try {
-                // FIXME: may need check for GLUnsupportedException
-                final GLU glu = GLU.createGLU(gl);
-                glu.gluBuild2DMipmaps(texTarget, data.getInternalFormat(),
-                                      data.getWidth(), data.getHeight(),
-                                      data.getPixelFormat(), data.getPixelType(), data.getBuffer());
+                // Fast path for 8-bit components w/o row length, producing the same levels as GLU
+                final Buffer buffer = data.getBuffer();
+                if( !( buffer instanceof ByteBuffer ) ||
+                    ( 0 != data.getRowLength() && data.getWidth() != data.getRowLength() ) ||
+                    !MipmapBuilder.build2DMipmaps(gl, texTarget, data.getInternalFormat(),
+                                                  data.getWidth(), data.getHeight(),
+                                                  data.getPixelFormat(), data.getPixelType(),
+                                                  data.getAlignment(), (ByteBuffer)buffer) ) {
+                    // FIXME: may need check for GLUnsupportedException
+                    final GLU glu = GLU.createGLU(gl);
+                    glu.gluBuild2DMipmaps(texTarget, data.getInternalFormat(),
+                                          data.getWidth(), data.getHeight(),
+                                          data.getPixelFormat(), data.getPixelType(), buffer);
+                }
             } finally {
                 gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, align[0]); // restore alignment
             }
@@ -871,7 +871,7 @@ public class TextureIO {
     }
 
     //----------------------------------------------------------------------
-    // DDS provider -- supports files only for now
+    // DDS provider -- files are memory-mapped, streams are read into one direct buffer
     static class DDSTextureProvider implements TextureProvider {
         @Override
         public TextureData newTextureData(final GLProfile glp, final File file,
@@ -896,9 +896,7 @@ public class TextureIO {
                                           final String fileSuffix) throws IOException {
             if (DDS.equals(fileSuffix) ||
                 DDSImage.isDDSImage(stream)) {
-                final byte[] data = IOUtil.copyStream2ByteArray(stream);
-                final ByteBuffer buf = ByteBuffer.wrap(data);
-                final DDSImage image = DDSImage.read(buf);
+                final DDSImage image = DDSImage.read(stream);
                 return newTextureData(glp, image, internalFormat, pixelFormat, mipmap);
             }
 
@@ -911,6 +909,12 @@ public class TextureIO {
                                           final int pixelFormat,
                                           final boolean mipmap,
                                           final String fileSuffix) throws IOException {
+            final File file = toFile(url);
+            if( null != file ) {
+                // memory-map local files instead of streaming them
+                return newTextureData(glp, file, internalFormat, pixelFormat, mipmap,
+                                      null != fileSuffix ? fileSuffix : ( isDDSFile(file) ? DDS : null ));
+            }
             final InputStream stream = new BufferedInputStream(url.openStream());
             try {
                 return newTextureData(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
@@ -919,6 +923,29 @@ public class TextureIO {
             }
         }
 
+        /** Returns the local file of a <code>file:</code> URL, otherwise null. */
+        private static File toFile(final URL url) {
+            if( !"file".equalsIgnoreCase(url.getProtocol()) ) {
+                return null;
+            }
+            try {
+                final File file = new File(url.toURI());
+                return file.isFile() ? file : null;
+            } catch (final Exception e) {
+                return null; // e.g. URI syntax or UNC paths, use the stream
+            }
+        }
+
+        /** Tests the magic number of the given file. */
+        private static boolean isDDSFile(final File file) throws IOException {
+            final InputStream stream = new BufferedInputStream(new FileInputStream(file));
+            try {
+                return DDSImage.isDDSImage(stream);
+            } finally {
+                stream.close();
+            }
+        }
+
         private TextureData newTextureData(final GLProfile glp, final DDSImage image,
                                            int internalFormat,
                                            int pixelFormat,
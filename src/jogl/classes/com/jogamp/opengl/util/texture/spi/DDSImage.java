@@ -40,6 +40,7 @@
 package com.jogamp.opengl.util.texture.spi;
 
 import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -48,7 +49,9 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 
 import com.jogamp.opengl.GL;
 
@@ -170,6 +173,10 @@ public class DDSImage {
 
     /** Reads a DirectDraw surface from the specified file, returning
         the resulting DDSImage.
+        <p>
+        The file is memory-mapped and all {@link ImageInfo#getData() mipmap data}
+        are read-only slices of the mapped region, i.e. no image data is copied.
+        </p>
 
         @param file File object
         @return DDS image object
@@ -194,6 +201,31 @@ public class DDSImage {
         return image;
     }
 
+    /** Reads a DirectDraw surface from the specified InputStream,
+        returning the resulting DDSImage.
+        <p>
+        The header is read first to determine the total size, then the image data
+        is read straight into one direct ByteBuffer of that size,
+        without intermediate copies of the whole image.
+        All {@link ImageInfo#getData() mipmap data} are slices of this buffer.
+        </p>
+        <p>
+        The direct buffer is owned by the mipmap data and stays valid after {@link #close()}.
+        </p>
+        <p>
+        The stream is read up to the end of the image data and is not closed.
+        </p>
+
+        @param in Input stream, positioned at the magic number
+        @return DDS image object
+        @throws java.io.IOException if an I/O exception occurred
+    */
+    public static DDSImage read(final InputStream in) throws IOException {
+        final DDSImage image = new DDSImage();
+        image.readFromStream(in);
+        return image;
+    }
+
     /** Closes open files and resources associated with the open
         DDSImage. No other methods may be called on this object once
         this is called. */
@@ -731,6 +763,60 @@ public class DDSImage {
         readFromBuffer(buf);
     }
 
+    private void readFromStream(final InputStream in) throws IOException {
+        final ReadableByteChannel rch = in instanceof FileInputStream ? ((FileInputStream)in).getChannel() : Channels.newChannel(in);
+        final ByteBuffer hdr = ByteBuffer.allocate(Header.writtenSize());
+        hdr.order(ByteOrder.LITTLE_ENDIAN);
+        if (readFully(rch, hdr) < hdr.capacity()) {
+            throw new EOFException("Premature end of DDS header");
+        }
+        hdr.flip();
+        header = new Header();
+        header.read(hdr);
+        fixupHeader();
+
+        // cubemaps may contain less than 6 sides, read up to 6
+        final long dataSize = dataSizeInBytes(Integer.MAX_VALUE - Header.writtenSize());
+        if (dataSize < 0) {
+            throw new IOException("Invalid DDS header, data size of "+getWidth()+"x"+getHeight()+", "+getNumMipMaps()+" mipmaps exceeds 2 GiB");
+        }
+        int size = Header.writtenSize() + (int)dataSize;
+        if (rch instanceof FileChannel) {
+            final FileChannel fch = (FileChannel) rch;
+            final long available = Header.writtenSize() + fch.size() - fch.position();
+            if (available < size) {
+                if (!isCubemap()) {
+                    throw new EOFException("DDS data size "+size+" exceeds file size "+available);
+                }
+                size = (int)available;
+            }
+        }
+        final ByteBuffer data = Buffers.newDirectByteBuffer(size);
+        hdr.rewind();
+        data.put(hdr);
+        final int read = hdr.capacity() + readFully(rch, data);
+        if (read < size && !isCubemap()) {
+            throw new EOFException("Premature end of DDS data, read "+read+" of "+size+" bytes");
+        }
+        data.position(0);
+        data.limit(read);
+        this.buf = data.slice();
+        this.buf.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /** Reads from the channel until the buffer is full or end of stream is reached, returns the number of bytes read. */
+    private static int readFully(final ReadableByteChannel rch, final ByteBuffer dst) throws IOException {
+        int total = 0;
+        while (dst.hasRemaining()) {
+            final int n = rch.read(dst);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
     private void readFromBuffer(final ByteBuffer buf) throws IOException {
         this.buf = buf;
         buf.order(ByteOrder.LITTLE_ENDIAN);
@@ -925,6 +1011,36 @@ public class DDSImage {
         return size;
     }
 
+    /**
+     * Returns the size of all image data as given by the header,
+     * i.e. {@link #sideSizeInBytes()} times the number of cubemap sides,
+     * computed w/o overflow. Returns -1 if the size exceeds the given limit or is invalid.
+     */
+    private long dataSizeInBytes(final long limit) {
+        final int numLevels = Math.max(1, getNumMipMaps());
+        if (numLevels > 32) {
+            return -1; // exceeds the levels of a 2^31 wide image
+        }
+        final int bytesPerPixel = getDepth() / 8;
+        long size = 0;
+        for (int i = 0; i < numLevels && size <= limit; i++) {
+            final long width  = mipMapWidth(i);
+            final long height = mipMapHeight(i);
+            if (isCompressed()) {
+                final int blockSize = (getCompressionFormat() == D3DFMT_DXT1 ? 8 : 16);
+                size += ((width+3)/4)*((height+3)/4)*blockSize;
+            } else if (bytesPerPixel < 0 || width * height > limit) {
+                return -1;
+            } else {
+                size += width * height * bytesPerPixel;
+            }
+        }
+        if (isCubemap()) {
+            size *= 6;
+        }
+        return size <= limit ? size : -1;
+    }
+
     private int sideShiftInBytes(final int side) {
         final int[] sides = {
             DDSCAPS2_CUBEMAP_POSITIVEX,
@@ -52,12 +52,50 @@ public class JPEGImage {
      * @throws IOException
      */
     public static JPEGImage read(final InputStream in, final ColorSpace cs) throws IOException {
-        return new JPEGImage(in, cs);
+        return new JPEGImage(in, cs, null);
     }
 
     /** Reads a JPEG image from the specified InputStream, using the {@link ColorSpace#RGB}. */
     public static JPEGImage read(final InputStream in) throws IOException {
-        return new JPEGImage(in, ColorSpace.RGB);
+        return new JPEGImage(in, ColorSpace.RGB, null);
+    }
+
+    /**
+     * Reads a JPEG image from the specified InputStream, using the given color space for storage,
+     * while notifying the given {@link RowListener} about each completely decoded band of rows.
+     * <p>
+     * Baseline JPEG images are decoded in bands of one MCU row, i.e. 8 or 16 rows,
+     * which allows processing the image in strips while decoding, e.g. uploading a texture via <code>glTexSubImage2D</code>.
+     * Other images, e.g. progressive, are notified once when completely decoded.
+     * </p>
+     *
+     * @param in
+     * @param cs Storage color space, either {@link ColorSpace#RGB} or {@link ColorSpace#YCbCr}. {@link ColorSpace#YCCK} and {@link ColorSpace#CMYK} will throw an exception!
+     * @param listener the {@link RowListener} to be notified
+     * @return
+     * @throws IOException
+     */
+    public static JPEGImage read(final InputStream in, final ColorSpace cs, final RowListener listener) throws IOException {
+        return new JPEGImage(in, cs, listener);
+    }
+
+    /** Listener notified while decoding, see {@link JPEGImage#read(InputStream, ColorSpace, RowListener)}. */
+    public static interface RowListener {
+        /**
+         * Rows <code>[y0 .. y1)</code> of the image, counted top-to-bottom, have been decoded.
+         * <p>
+         * The given <code>data</code> holds the whole image in bottom-to-top order
+         * as returned by {@link JPEGImage#getData()}, i.e. the band is stored at
+         * data rows <code>[height - y1 .. height - y0)</code>.
+         * </p>
+         * @param data the pixel data of the whole image, only rows up to <code>y1</code> are valid
+         * @param width image width
+         * @param height image height
+         * @param bytesPerPixel bytes per pixel
+         * @param y0 first decoded row, inclusive
+         * @param y1 last decoded row, exclusive
+         */
+        void rowsDecoded(ByteBuffer data, int width, int height, int bytesPerPixel, int y0, int y1);
     }
 
     private static class JPEGColorSink implements JPEGDecoder.ColorSink  {
@@ -118,13 +156,22 @@ public class JPEGImage {
         }
     };
 
-    private JPEGImage(final InputStream in, final ColorSpace cs) throws IOException {
+    private JPEGImage(final InputStream in, final ColorSpace cs, final RowListener listener) throws IOException {
         pixelStorage = new JPEGColorSink(cs);
         final JPEGDecoder decoder = new JPEGDecoder();
-        decoder.parse(in);
+        final JPEGDecoder.RowListener decoderListener;
+        if( null != listener ) {
+            decoderListener = new JPEGDecoder.RowListener() {
+                @Override
+                public void rowsCompleted(final int y0, final int y1) {
+                    listener.rowsDecoded(pixelStorage.data, pixelStorage.width, pixelStorage.height, pixelStorage.storageComponents, y0, y1);
+                } };
+        } else {
+            decoderListener = null;
+        }
+        decoder.decode(in, pixelStorage, decoderListener); // streaming w/o holding the whole image's coefficients if possible
         pixelWidth = decoder.getWidth();
         pixelHeight = decoder.getHeight();
-        decoder.getPixel(pixelStorage, pixelWidth, pixelHeight);
         data = pixelStorage.data;
         final boolean hasAlpha = false;
 
@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.opengl;
+
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+/**
+ * Triangle index buffer of a {@link Region}, not limited to 16-bit vertex indices.
+ * <p>
+ * Indices are stored as {@link GL#GL_UNSIGNED_SHORT} until the first index exceeds <code>0xffff</code>,
+ * then the buffer is promoted to {@link GL#GL_UNSIGNED_INT}.
+ * </p>
+ * <p>
+ * If 32-bit indices are not supported by the GL, i.e. GLES2 w/o <code>GL_OES_element_index_uint</code>,
+ * the triangles are split into batches each addressing a vertex range of at most 2^16 vertices,
+ * stored as 16-bit indices relative to the batch's base vertex.
+ * Each batch is drawn after moving the given vertex attribute pointer to its base vertex.
+ * A triangle spanning a larger vertex range, i.e. within one shape of more than 2^16 vertices, is dropped in this case.
+ * </p>
+ */
+public final class RegionIndices {
+    private static final int MAX_SHORT_INDEX = 0xffff;
+
+    private final GLArrayDataServer shortIndices;
+    private GLArrayDataServer intIndices = null;
+    /** Active buffer receiving {@link #put(int)}, either {@link #shortIndices} or {@link #intIndices}. */
+    private GLArrayDataServer indices;
+
+    /** Relative 16-bit indices of all batches, if split. */
+    private GLArrayDataServer batchIndices = null;
+    /** Batches as triple of [first triangle, triangle count, base vertex], if split. */
+    private int[] batches = new int[0];
+    private int batchCount = 0;
+    private boolean split = false;
+
+    RegionIndices(final int initialElementCount) {
+        shortIndices = GLArrayDataServer.createData(3, GL.GL_SHORT, initialElementCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        indices = shortIndices;
+    }
+
+    /** Returns true if 32-bit indices are being used. */
+    final boolean is32Bit() { return indices == intIndices; }
+
+    /** Returns true if split in 16-bit batches, see {@link #seal(GL2ES2)}. */
+    final boolean isSplit() { return split; }
+
+    /** Returns the number of draw calls issued by {@link #draw(GL2ES2, GLArrayDataServer[])}. */
+    final int getDrawCount() { return split ? batchCount : 1; }
+
+    /** Returns the number of triangles. */
+    final int getElementCount() { return indices.getElementCount(); }
+
+    final void put(final int idx) {
+        if( idx > MAX_SHORT_INDEX && indices == shortIndices ) {
+            promote();
+        }
+        if( indices == shortIndices ) {
+            indices.puts((short)idx);
+        } else {
+            indices.puti(idx);
+        }
+    }
+
+    /** Copies the 16-bit indices into the 32-bit buffer and continues using the latter. */
+    private void promote() {
+        final ShortBuffer sb = (ShortBuffer) shortIndices.getBuffer();
+        final int count = sb.position();
+        if( null == intIndices ) {
+            intIndices = GLArrayDataServer.createData(3, GL.GL_UNSIGNED_INT, ( count / 3 + 1 ) * 2, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        }
+        for(int i=0; i<count; i++) {
+            intIndices.puti(sb.get(i) & MAX_SHORT_INDEX);
+        }
+        indices = intIndices;
+    }
+
+    final void clear(final GL2ES2 gl) {
+        shortIndices.seal(gl, false);
+        shortIndices.rewind();
+        if( null != intIndices ) {
+            intIndices.seal(gl, false);
+            intIndices.rewind();
+        }
+        if( null != batchIndices ) {
+            batchIndices.seal(gl, false);
+            batchIndices.rewind();
+        }
+        indices = shortIndices;
+        batchCount = 0;
+        split = false;
+    }
+
+    /**
+     * Seals the indices and uploads them to the GPU,
+     * splitting 32-bit indices in 16-bit batches if not supported by the given GL.
+     */
+    final void seal(final GL2ES2 gl) {
+        if( is32Bit() && !isUInt32Supported(gl) ) {
+            split();
+            batchIndices.seal(gl, true);
+            batchIndices.enableBuffer(gl, false);
+        } else {
+            split = false;
+            indices.seal(gl, true);
+            indices.enableBuffer(gl, false);
+        }
+    }
+
+    /** Seals the 32-bit indices and splits them in 16-bit batches on the client side, see {@link #seal(GL2ES2)}. */
+    final void split() {
+        split = true;
+        indices.seal(true);
+        buildBatches();
+    }
+
+    /** Returns the batches as triple of [first triangle, triangle count, base vertex], valid for {@link #getDrawCount()} batches if {@link #isSplit() split}. */
+    final int[] getBatches() { return batches; }
+
+    /** Returns the relative 16-bit indices of all batches if {@link #isSplit() split}, otherwise <code>null</code>. */
+    final ShortBuffer getBatchIndices() {
+        return split ? (ShortBuffer) batchIndices.getBuffer() : null;
+    }
+
+    private static boolean isUInt32Supported(final GL gl) {
+        return !gl.isGLES() || gl.isGLES3() || gl.isExtensionAvailable("GL_OES_element_index_uint");
+    }
+
+    private void buildBatches() {
+        final IntBuffer ib = (IntBuffer) indices.getBuffer();
+        final int triCount = ib.limit() / 3;
+        if( null == batchIndices ) {
+            batchIndices = GLArrayDataServer.createData(3, GL.GL_SHORT, triCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        }
+        batchCount = 0;
+        int first = 0, lo = 0, hi = 0;
+        int batchTris = 0; // triangles written to batchIndices
+        for(int t=0; t<triCount; t++) {
+            final int i0 = ib.get(t*3), i1 = ib.get(t*3+1), i2 = ib.get(t*3+2);
+            final int tlo = Math.min(i0, Math.min(i1, i2));
+            final int thi = Math.max(i0, Math.max(i1, i2));
+            if( thi - tlo > MAX_SHORT_INDEX ) {
+                // not addressable w/ 16-bit indices, drop
+                batchTris += flushBatch(ib, first, t, lo, batchTris);
+                first = t + 1;
+                continue;
+            }
+            if( first < t && Math.max(hi, thi) - Math.min(lo, tlo) > MAX_SHORT_INDEX ) {
+                batchTris += flushBatch(ib, first, t, lo, batchTris);
+                first = t;
+            }
+            if( first == t ) {
+                lo = tlo;
+                hi = thi;
+            } else {
+                lo = Math.min(lo, tlo);
+                hi = Math.max(hi, thi);
+            }
+        }
+        flushBatch(ib, first, triCount, lo, batchTris);
+    }
+
+    /** Writes triangles [first..end[ relative to base vertex <code>lo</code>, returns the number of written triangles. */
+    private int flushBatch(final IntBuffer ib, final int first, final int end, final int lo, final int batchStart) {
+        final int count = end - first;
+        if( 0 >= count ) {
+            return 0;
+        }
+        for(int i=first*3; i<end*3; i++) {
+            batchIndices.puts((short)(ib.get(i) - lo));
+        }
+        if( batches.length < ( batchCount + 1 ) * 3 ) {
+            final int[] tmp = new int[( batchCount + 1 ) * 3 * 2];
+            System.arraycopy(batches, 0, tmp, 0, batchCount * 3);
+            batches = tmp;
+        }
+        batches[batchCount*3]   = batchStart;
+        batches[batchCount*3+1] = count;
+        batches[batchCount*3+2] = lo;
+        batchCount++;
+        return count;
+    }
+
+    /**
+     * Draws all triangles with the given enabled vertex attributes.
+     * <p>
+     * If {@link #isSplit() split}, the vertex attribute pointers are moved to each batch's base vertex
+     * and restored afterwards.
+     * </p>
+     * @param gl current GL
+     * @param attributes enabled vertex attributes used by the indices, <code>null</code> entries are ignored
+     */
+    final void draw(final GL2ES2 gl, final GLArrayDataServer[] attributes) {
+        if( !split ) {
+            indices.bindBuffer(gl, true); // keeps VBO binding
+            gl.glDrawElements(GL.GL_TRIANGLES, indices.getElementCount() * indices.getComponentCount(),
+                              is32Bit() ? GL.GL_UNSIGNED_INT : GL.GL_UNSIGNED_SHORT, 0);
+            indices.bindBuffer(gl, false);
+        } else {
+            batchIndices.bindBuffer(gl, true); // keeps VBO binding
+            for(int i=0; i<batchCount; i++) {
+                setBaseVertex(gl, attributes, batches[i*3+2]);
+                gl.glDrawElements(GL.GL_TRIANGLES, batches[i*3+1] * 3, GL.GL_UNSIGNED_SHORT, (long)batches[i*3] * 3 * Buffers.SIZEOF_SHORT);
+            }
+            setBaseVertex(gl, attributes, 0);
+            batchIndices.bindBuffer(gl, false);
+        }
+    }
+
+    /**
+     * Moves the vertex attribute pointers of the given attributes to the given base vertex,
+     * i.e. emulates a base vertex for a subsequent draw call.
+     * <p>
+     * Leaves {@link GL#GL_ARRAY_BUFFER} unbound.
+     * </p>
+     * @param gl current GL
+     * @param attributes VBO backed vertex attributes, <code>null</code> entries and entries w/o location are ignored
+     * @param baseVertex index of the element to be addressed as element 0, i.e. a vertex or an instance for instanced attributes
+     */
+    public static void setBaseVertex(final GL2ES2 gl, final GLArrayDataServer[] attributes, final int baseVertex) {
+        for(int i=0; i<attributes.length; i++) {
+            final GLArrayDataServer ad = attributes[i];
+            if( null != ad && 0 <= ad.getLocation() ) {
+                gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ad.getVBOName());
+                gl.glVertexAttribPointer(ad.getLocation(), ad.getComponentCount(), ad.getComponentType(),
+                                         ad.getNormalized(), ad.getStride(), ad.getVBOOffset() + (long)baseVertex * ad.getStride());
+            }
+        }
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+    }
+
+    final void destroy(final GL2ES2 gl) {
+        shortIndices.destroy(gl);
+        if( null != intIndices ) {
+            intIndices.destroy(gl);
+            intIndices = null;
+        }
+        if( null != batchIndices ) {
+            batchIndices.destroy(gl);
+            batchIndices = null;
+        }
+        indices = shortIndices;
+        batchCount = 0;
+        split = false;
+    }
+
+    /** Returns the size of the index data in bytes, including split batch indices. */
+    final int getByteCount() {
+        return indices.getSizeInBytes() + ( split ? batchIndices.getSizeInBytes() : 0 );
+    }
+
+    @Override
+    public String toString() {
+        return "RegionIndices[tris "+getElementCount()+", 32bit "+is32Bit()+", split "+split+", batches "+batchCount+", "+indices+"]";
+    }
+}
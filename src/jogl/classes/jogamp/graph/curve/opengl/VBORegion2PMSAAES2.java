@@ -59,7 +59,9 @@ public class VBORegion2PMSAAES2  extends GLRegion {
     private GLArrayDataServer gca_VerticesAttr;
     private GLArrayDataServer gca_CurveParamsAttr;
     private GLArrayDataServer gca_ColorsAttr;
-    private GLArrayDataServer indicesBuffer;
+    private RegionIndices indicesBuffer = null;
+    /** Vertex attributes addressed by {@link #indicesBuffer}. */
+    private final GLArrayDataServer[] indicesAttributes;
     private final GLUniformData gcu_ColorTexUnit;
     private final float[] colorTexBBox; // x0, y0, x1, y1
     private final GLUniformData gcu_ColorTexBBox;
@@ -142,7 +144,7 @@ public class VBORegion2PMSAAES2  extends GLRegion {
         final int initialElementCount = 256;
 
         // Pass 1:
-        indicesBuffer = GLArrayDataServer.createData(3, GL.GL_SHORT, initialElementCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        indicesBuffer = new RegionIndices(initialElementCount);
 
         gca_VerticesAttr = GLArrayDataServer.createGLSL(AttributeNames.VERTEX_ATTR_NAME, 3, GL.GL_FLOAT,
                                                       false, initialElementCount, GL.GL_STATIC_DRAW);
@@ -156,6 +158,7 @@ public class VBORegion2PMSAAES2  extends GLRegion {
         } else {
             gca_ColorsAttr = null;
         }
+        indicesAttributes = new GLArrayDataServer[] { gca_VerticesAttr, gca_CurveParamsAttr, gca_ColorsAttr };
         if( hasColorTexture() ) {
             gcu_ColorTexUnit = new GLUniformData(UniformNames.gcu_ColorTexUnit, colorTexSeq.getTextureUnit());
             colorTexBBox = new float[4];
@@ -193,8 +196,7 @@ public class VBORegion2PMSAAES2  extends GLRegion {
     @Override
     protected final void clearImpl(final GL2ES2 gl) {
         if( null != indicesBuffer ) {
-            indicesBuffer.seal(gl, false);
-            indicesBuffer.rewind();
+            indicesBuffer.clear(gl);
         }
         if( null != gca_VerticesAttr ) {
             gca_VerticesAttr.seal(gl, false);
@@ -235,14 +237,13 @@ public class VBORegion2PMSAAES2  extends GLRegion {
 
     @Override
     protected final void pushIndex(final int idx) {
-        indicesBuffer.puts((short)idx);
+        indicesBuffer.put(idx);
     }
 
     @Override
     protected void updateImpl(final GL2ES2 gl) {
         // seal buffers
-        indicesBuffer.seal(gl, true);
-        indicesBuffer.enableBuffer(gl, false);
+        indicesBuffer.seal(gl);
         gca_CurveParamsAttr.seal(gl, true);
         gca_CurveParamsAttr.enableBuffer(gl, false);
         gca_VerticesAttr.seal(gl, true);
@@ -519,7 +520,6 @@ public class VBORegion2PMSAAES2  extends GLRegion {
         if( null != gca_ColorsAttr ) {
             gca_ColorsAttr.enableBuffer(gl, true);
         }
-        indicesBuffer.bindBuffer(gl, true); // keeps VBO binding
         if( null != gcu_ColorTexUnit && colorTexSeq.isTextureAvailable() ) {
             final TextureSequence.TextureFrame frame = colorTexSeq.getNextTexture(gl);
             gl.glActiveTexture(GL.GL_TEXTURE0 + colorTexSeq.getTextureUnit());
@@ -529,13 +529,12 @@ public class VBORegion2PMSAAES2  extends GLRegion {
             gcu_ColorTexUnit.setData(colorTexSeq.getTextureUnit());
             gl.glUniform(gcu_ColorTexUnit); // Always update, since program maybe used by multiple regions
             gl.glUniform(gcu_ColorTexBBox); // Always update, since program maybe used by multiple regions
-            gl.glDrawElements(GL.GL_TRIANGLES, indicesBuffer.getElementCount() * indicesBuffer.getComponentCount(), GL.GL_UNSIGNED_SHORT, 0);
+            indicesBuffer.draw(gl, indicesAttributes);
             tex.disable(gl); // nop on core
         } else {
-            gl.glDrawElements(GL.GL_TRIANGLES, indicesBuffer.getElementCount() * indicesBuffer.getComponentCount(), GL.GL_UNSIGNED_SHORT, 0);
+            indicesBuffer.draw(gl, indicesAttributes);
         }
 
-        indicesBuffer.bindBuffer(gl, false);
         if( null != gca_ColorsAttr ) {
             gca_ColorsAttr.enableBuffer(gl, false);
         }
@@ -543,6 +542,14 @@ public class VBORegion2PMSAAES2  extends GLRegion {
         gca_VerticesAttr.enableBuffer(gl, false);
     }
 
+    @Override
+    public int getByteCount() {
+        return getByteCount(gca_VerticesAttr) + getByteCount(gca_CurveParamsAttr) + getByteCount(gca_ColorsAttr) +
+               ( null != indicesBuffer ? indicesBuffer.getByteCount() : 0 ) +
+               getByteCount(gca_FboVerticesAttr) + getByteCount(gca_FboTexCoordsAttr) + getByteCount(indicesFbo) +
+               getByteCount(fbo);
+    }
+
     @Override
     protected void destroyImpl(final GL2ES2 gl) {
         if(DEBUG_INSTANCE) {
@@ -52,7 +52,9 @@ public class VBORegionSPES2 extends GLRegion {
     private GLArrayDataServer gca_VerticesAttr = null;
     private GLArrayDataServer gca_CurveParamsAttr = null;
     private GLArrayDataServer gca_ColorsAttr;
-    private GLArrayDataServer indicesBuffer = null;
+    private RegionIndices indicesBuffer = null;
+    /** Vertex attributes addressed by {@link #indicesBuffer}. */
+    private final GLArrayDataServer[] indicesAttributes;
     private final GLUniformData gcu_ColorTexUnit;
     private final float[] colorTexBBox; // x0, y0, x1, y1
     private final GLUniformData gcu_ColorTexBBox;
@@ -64,7 +66,7 @@ public class VBORegionSPES2 extends GLRegion {
         rsLocal = new RenderState.ProgramLocal();
 
         final int initialElementCount = 256;
-        indicesBuffer = GLArrayDataServer.createData(3, GL.GL_SHORT, initialElementCount, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        indicesBuffer = new RegionIndices(initialElementCount);
 
         gca_VerticesAttr = GLArrayDataServer.createGLSL(AttributeNames.VERTEX_ATTR_NAME, 3, GL.GL_FLOAT,
                                                         false, initialElementCount, GL.GL_STATIC_DRAW);
@@ -78,6 +80,7 @@ public class VBORegionSPES2 extends GLRegion {
         } else {
             gca_ColorsAttr = null;
         }
+        indicesAttributes = new GLArrayDataServer[] { gca_VerticesAttr, gca_CurveParamsAttr, gca_ColorsAttr };
         if( hasColorTexture() ) {
             gcu_ColorTexUnit = new GLUniformData(UniformNames.gcu_ColorTexUnit, colorTexSeq.getTextureUnit());
             colorTexBBox = new float[4];
@@ -95,8 +98,7 @@ public class VBORegionSPES2 extends GLRegion {
             System.err.println("VBORegionSPES2 Clear: " + this);
         }
         if( null != indicesBuffer ) {
-            indicesBuffer.seal(gl, false);
-            indicesBuffer.rewind();
+            indicesBuffer.clear(gl);
         }
         if( null != gca_VerticesAttr ) {
             gca_VerticesAttr.seal(gl, false);
@@ -136,7 +138,7 @@ public class VBORegionSPES2 extends GLRegion {
 
     @Override
     protected final void pushIndex(final int idx) {
-        indicesBuffer.puts((short)idx);
+        indicesBuffer.put(idx);
     }
 
     @Override
@@ -168,8 +170,7 @@ public class VBORegionSPES2 extends GLRegion {
                 colorTexBBox[3] = box.getMaxY() * tcSy;
             }
         }
-        indicesBuffer.seal(gl, true);
-        indicesBuffer.enableBuffer(gl, false);
+        indicesBuffer.seal(gl);
         if(DEBUG_INSTANCE) {
             System.err.println("VBORegionSPES2 idx "+indicesBuffer);
             System.err.println("VBORegionSPES2 ver "+gca_VerticesAttr);
@@ -229,7 +230,6 @@ public class VBORegionSPES2 extends GLRegion {
         if( null != gca_ColorsAttr ) {
             gca_ColorsAttr.enableBuffer(gl, true);
         }
-        indicesBuffer.bindBuffer(gl, true); // keeps VBO binding
 
         if( renderer.getRenderState().isHintMaskSet(RenderState.BITHINT_BLENDING_ENABLED) ) {
             gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
@@ -244,13 +244,12 @@ public class VBORegionSPES2 extends GLRegion {
             gcu_ColorTexUnit.setData(colorTexSeq.getTextureUnit());
             gl.glUniform(gcu_ColorTexUnit); // Always update, since program maybe used by multiple regions
             gl.glUniform(gcu_ColorTexBBox); // Always update, since program maybe used by multiple regions
-            gl.glDrawElements(GL.GL_TRIANGLES, indicesBuffer.getElementCount() * indicesBuffer.getComponentCount(), GL.GL_UNSIGNED_SHORT, 0);
+            indicesBuffer.draw(gl, indicesAttributes);
             tex.disable(gl); // nop on core
         } else {
-            gl.glDrawElements(GL.GL_TRIANGLES, indicesBuffer.getElementCount() * indicesBuffer.getComponentCount(), GL.GL_UNSIGNED_SHORT, 0);
+            indicesBuffer.draw(gl, indicesAttributes);
         }
 
-        indicesBuffer.bindBuffer(gl, false);
         if( null != gca_ColorsAttr ) {
             gca_ColorsAttr.enableBuffer(gl, false);
         }
@@ -258,6 +257,12 @@ public class VBORegionSPES2 extends GLRegion {
         gca_VerticesAttr.enableBuffer(gl, false);
     }
 
+    @Override
+    public int getByteCount() {
+        return getByteCount(gca_VerticesAttr) + getByteCount(gca_CurveParamsAttr) + getByteCount(gca_ColorsAttr) +
+               ( null != indicesBuffer ? indicesBuffer.getByteCount() : 0 );
+    }
+
     @Override
     protected void destroyImpl(final GL2ES2 gl) {
         if(DEBUG_INSTANCE) {
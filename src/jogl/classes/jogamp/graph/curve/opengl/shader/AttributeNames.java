@@ -43,6 +43,11 @@ public class AttributeNames {
      */
     public static final String COLOR_ATTR_NAME = "gca_Colors";
 
+    /**
+     * The per instance offset and scale, see {@link com.jogamp.graph.curve.Region#INSTANCED_RENDERING_BIT}
+     */
+    public static final String INSTANCE_OFFSETSCALE_ATTR_NAME = "gca_InstanceOffsetScale";
+
     public static final String FBO_VERTEX_ATTR_NAME = "gca_FboVertices";
 
     public static final String FBO_TEXCOORDS_ATTR_NAME = "gca_FboTexCoords";
@@ -25,6 +25,11 @@ attribute vec2    gca_FboTexCoords;
     attribute vec4    gca_Colors;
 #endif
 
+#ifdef USE_INSTANCING
+    // per instance xy offset and scale
+    attribute vec3    gca_InstanceOffsetScale;
+#endif
+
 //attribute vec3    gca_Normals;
 
 #endif // attributes_glsl
@@ -198,7 +198,7 @@ public class Loop {
             final GraphVertex nextV = initVertices.get(i+1);
             for(int pos=0; pos<vertices.size(); pos++) {
                 final GraphVertex cand = vertices.get(pos);
-                final float distance = VectorUtil.distVec3(v.getCoord(), cand.getCoord());
+                final float distance = VectorUtil.distVec3(v.getPoint(), cand.getPoint());
                 if(distance < minDistance){
                     for (final GraphVertex vert:vertices){
                         if(vert == v || vert == nextV || vert == cand)
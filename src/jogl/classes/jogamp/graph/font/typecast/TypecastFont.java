@@ -36,7 +36,6 @@ import jogamp.graph.font.typecast.ot.table.HdmxTable;
 import jogamp.graph.font.typecast.ot.table.ID;
 import jogamp.graph.geom.plane.AffineTransform;
 
-import com.jogamp.common.util.IntObjectHashMap;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.font.Font;
 import com.jogamp.graph.font.FontFactory;
@@ -52,10 +51,11 @@ class TypecastFont implements Font {
     /* pp */ final OTFont font;
     private final CmapFormat cmapFormat;
     private final int cmapentries;
-    private final IntObjectHashMap char2Glyph;
+    private final TypecastGlyphCache glyphCache;
+    /** Serializes glyph creation, since the {@link OTFont} tables are not thread-safe. */
+    private final Object glyphLock = new Object();
     private final TypecastHMetrics metrics;
     private final float[] tmpV3 = new float[3];
-    // FIXME: Add cache size to limit memory usage ??
 
     public TypecastFont(final OTFontCollection fontset) {
         // this.fontset = fontset;
@@ -144,7 +144,7 @@ class TypecastFont implements Font {
                 }
             }
         }
-        char2Glyph = new IntObjectHashMap(cmapentries + cmapentries/4);
+        glyphCache = new TypecastGlyphCache(TypecastGlyphCache.DEFAULT_CAPACITY, cmapentries);
         metrics = new TypecastHMetrics(this);
     }
 
@@ -177,50 +177,65 @@ class TypecastFont implements Font {
         return metrics;
     }
 
+    @Override
+    public final GlyphCache getGlyphCache() {
+        return glyphCache;
+    }
+
     @Override
     public Glyph getGlyph(final char symbol) {
-        TypecastGlyph result = (TypecastGlyph) char2Glyph.get(symbol);
-        if (null == result) {
-            // final short code = (short) char2Code.get(symbol);
-            short code = (short) cmapFormat.mapCharCode(symbol);
-            if(0 == code && 0 != symbol) {
-                // reserved special glyph IDs by convention
-                switch(symbol) {
-                    case ' ':  code = Glyph.ID_SPACE; break;
-                    case '\n': code = Glyph.ID_CR; break;
-                    default:   code = Glyph.ID_UNKNOWN;
-                }
+        final TypecastGlyph result = glyphCache.get(symbol);
+        if (null != result) {
+            return result;
+        }
+        synchronized( glyphLock ) {
+            final TypecastGlyph cached = glyphCache.get(symbol);
+            if (null != cached) {
+                return cached; // created concurrently, counted as hit
             }
+            return glyphCache.put(symbol, createGlyph(symbol));
+        }
+    }
 
-            jogamp.graph.font.typecast.ot.OTGlyph glyph = font.getGlyph(code);
-            if(null == glyph) {
-                glyph = font.getGlyph(Glyph.ID_UNKNOWN);
+    private TypecastGlyph createGlyph(final char symbol) {
+        // final short code = (short) char2Code.get(symbol);
+        short code = (short) cmapFormat.mapCharCode(symbol);
+        if(0 == code && 0 != symbol) {
+            // reserved special glyph IDs by convention
+            switch(symbol) {
+                case ' ':  code = Glyph.ID_SPACE; break;
+                case '\n': code = Glyph.ID_CR; break;
+                default:   code = Glyph.ID_UNKNOWN;
             }
-            if(null == glyph) {
-                throw new RuntimeException("Could not retrieve glyph for symbol: <"+symbol+"> "+(int)symbol+" -> glyph id "+code);
-            }
-            final OutlineShape shape = TypecastRenderer.buildShape(symbol, glyph, vertexFactory);
-            result = new TypecastGlyph(this, symbol, code, glyph.getBBox(), glyph.getAdvanceWidth(), shape);
-            if(DEBUG) {
-                System.err.println("New glyph: " + (int)symbol + " ( " + symbol +" ) -> " + code + ", contours " + glyph.getPointCount() + ": " + shape);
-            }
-            glyph.clearPointData();
+        }
 
-            final HdmxTable hdmx = font.getHdmxTable();
-            if (null!= result && null != hdmx) {
-                /*if(DEBUG) {
-                    System.err.println("hdmx "+hdmx);
-                }*/
-                for (int i=0; i<hdmx.getNumberOfRecords(); i++)
-                {
-                    final HdmxTable.DeviceRecord dr = hdmx.getRecord(i);
-                    result.addAdvance(dr.getWidth(code), dr.getPixelSize());
-                    /* if(DEBUG) {
-                        System.err.println("hdmx advance : pixelsize = "+dr.getWidth(code)+" : "+ dr.getPixelSize());
-                    } */
-                }
+        jogamp.graph.font.typecast.ot.OTGlyph glyph = font.getGlyph(code);
+        if(null == glyph) {
+            glyph = font.getGlyph(Glyph.ID_UNKNOWN);
+        }
+        if(null == glyph) {
+            throw new RuntimeException("Could not retrieve glyph for symbol: <"+symbol+"> "+(int)symbol+" -> glyph id "+code);
+        }
+        final OutlineShape shape = TypecastRenderer.buildShape(symbol, glyph, vertexFactory);
+        final TypecastGlyph result = new TypecastGlyph(this, symbol, code, glyph.getBBox(), glyph.getAdvanceWidth(), shape);
+        if(DEBUG) {
+            System.err.println("New glyph: " + (int)symbol + " ( " + symbol +" ) -> " + code + ", contours " + glyph.getPointCount() + ": " + shape);
+        }
+        glyph.clearPointData();
+
+        final HdmxTable hdmx = font.getHdmxTable();
+        if (null!= result && null != hdmx) {
+            /*if(DEBUG) {
+                System.err.println("hdmx "+hdmx);
+            }*/
+            for (int i=0; i<hdmx.getNumberOfRecords(); i++)
+            {
+                final HdmxTable.DeviceRecord dr = hdmx.getRecord(i);
+                result.addAdvance(dr.getWidth(code), dr.getPixelSize());
+                /* if(DEBUG) {
+                    System.err.println("hdmx advance : pixelsize = "+dr.getWidth(code)+" : "+ dr.getPixelSize());
+                } */
             }
-            char2Glyph.put(symbol, result);
         }
         return result;
     }
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.graph.font.Font;
+
+/**
+ * Bounded {@link TypecastGlyph} cache using CLOCK eviction, an approximation of LRU.
+ * <p>
+ * Lookups only read the {@link ConcurrentHashMap} and set the entry's reference bit.
+ * Insertion and eviction are synchronized on this instance, sweeping the clock hand
+ * over the ring of entries until an unreferenced entry is found while clearing the reference bits.
+ * The ring is a circular doubly linked list, i.e. insertion and removal at the hand take constant time.
+ * </p>
+ */
+class TypecastGlyphCache implements Font.GlyphCache {
+    /** Default capacity, property <code>jogl.graph.font.glyphCacheSize</code>, zero for unbounded. */
+    static final int DEFAULT_CAPACITY;
+
+    static {
+        Debug.initSingleton();
+        DEFAULT_CAPACITY = Math.max(0, PropertyAccess.getIntProperty("jogl.graph.font.glyphCacheSize", true, 4096));
+    }
+
+    private static final class Entry {
+        final char symbol;
+        final TypecastGlyph glyph;
+        volatile boolean referenced;
+        /** Clock ring neighbors, guarded by the cache instance. */
+        Entry prev, next;
+
+        Entry(final char symbol, final TypecastGlyph glyph) {
+            this.symbol = symbol;
+            this.glyph = glyph;
+            this.referenced = false;
+        }
+    }
+
+    private final ConcurrentHashMap<Character, Entry> map;
+    /** Clock hand into the ring of entries, null if empty, guarded by this instance. */
+    private Entry hand = null;
+    private int ringSize = 0;
+    private volatile int capacity;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param capacity maximum number of glyphs, zero for unbounded
+     * @param expectedSize expected number of glyphs, e.g. the number of cmap entries
+     */
+    TypecastGlyphCache(final int capacity, final int expectedSize) {
+        if( 0 > capacity ) {
+            throw new IllegalArgumentException("Invalid capacity "+capacity);
+        }
+        this.capacity = capacity;
+        final int initialSize = Math.max(16, 0 < capacity ? Math.min(capacity, expectedSize) : expectedSize);
+        map = new ConcurrentHashMap<Character, Entry>(initialSize + initialSize/4);
+    }
+
+    /**
+     * Returns the cached glyph, marking it recently used and counting a hit, or null if not cached.
+     * <p>
+     * A miss is counted by {@link #put(char, TypecastGlyph)} once a new glyph is added.
+     * </p>
+     */
+    final TypecastGlyph get(final char symbol) {
+        final Entry e = map.get(Character.valueOf(symbol));
+        if( null != e ) {
+            if( !e.referenced ) {
+                e.referenced = true; // avoid redundant volatile writes
+            }
+            hits.incrementAndGet();
+            return e.glyph;
+        }
+        return null;
+    }
+
+    /**
+     * Adds the given glyph, evicting the least recently used glyphs if required, and counts a miss.
+     * @return the given glyph, or an already cached one for the same symbol
+     */
+    final synchronized TypecastGlyph put(final char symbol, final TypecastGlyph glyph) {
+        final Character key = Character.valueOf(symbol);
+        final Entry old = map.get(key);
+        if( null != old ) {
+            return old.glyph;
+        }
+        final int cap = capacity;
+        if( 0 < cap ) {
+            evict(cap - 1);
+        }
+        final Entry e = new Entry(symbol, glyph);
+        map.put(key, e);
+        misses.incrementAndGet();
+        // insert behind the clock hand, i.e. visited last by the next sweep
+        if( null == hand ) {
+            e.prev = e;
+            e.next = e;
+            hand = e;
+        } else {
+            e.next = hand;
+            e.prev = hand.prev;
+            hand.prev.next = e;
+            hand.prev = e;
+        }
+        ringSize++;
+        return glyph;
+    }
+
+    /** Evicts entries until at most <code>maxSize</code> remain, guarded by this instance. */
+    private void evict(final int maxSize) {
+        while( ringSize > maxSize ) {
+            while( hand.referenced ) {
+                hand.referenced = false;
+                hand = hand.next;
+            }
+            final Entry e = hand;
+            if( 1 == ringSize ) {
+                hand = null;
+            } else {
+                e.prev.next = e.next;
+                e.next.prev = e.prev;
+                hand = e.next;
+            }
+            e.prev = null;
+            e.next = null;
+            ringSize--;
+            map.remove(Character.valueOf(e.symbol));
+            evictions.incrementAndGet();
+        }
+    }
+
+    @Override
+    public final int getSize() { return map.size(); }
+
+    @Override
+    public final int getCapacity() { return capacity; }
+
+    @Override
+    public final synchronized void setCapacity(final int capacity) {
+        if( 0 > capacity ) {
+            throw new IllegalArgumentException("Invalid capacity "+capacity);
+        }
+        this.capacity = capacity;
+        if( 0 < capacity ) {
+            evict(capacity);
+        }
+    }
+
+    @Override
+    public final long getHitCount() { return hits.get(); }
+
+    @Override
+    public final long getMissCount() { return misses.get(); }
+
+    @Override
+    public final long getEvictionCount() { return evictions.get(); }
+
+    @Override
+    public final void resetStats() {
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public final synchronized void clear() {
+        map.clear();
+        hand = null;
+        ringSize = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GlyphCache[size "+getSize()+" / "+capacity+", hits "+hits.get()+", misses "+misses.get()+", evictions "+evictions.get()+"]";
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Splits batches of independent elements in bands processed concurrently,
+ * used by the batch methods of {@link com.jogamp.opengl.math.FloatUtil} and {@link com.jogamp.opengl.math.geom.Frustum}.
+ * @see ParallelExecutor
+ */
+public final class ParallelBatch {
+    /** Minimum number of elements to process a batch in parallel. */
+    private static final long PARALLEL_MIN_COUNT = 4096;
+
+    private ParallelBatch() {}
+
+    /**
+     * Runs the given {@link ParallelExecutor.Range} over elements {@code [0 .. count)},
+     * either on the calling thread or split in bands, see {@link ParallelExecutor}.
+     * @param count number of elements
+     * @param alignment band boundaries are a multiple of this value, e.g. 64 for bitset results stored in <code>long[]</code>
+     * @param job the job
+     */
+    public static void run(final int count, final int alignment, final ParallelExecutor.Range job) {
+        ParallelExecutor.run(count, alignment, count, PARALLEL_MIN_COUNT, job);
+    }
+}
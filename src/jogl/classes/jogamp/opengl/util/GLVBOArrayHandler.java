@@ -33,6 +33,7 @@ import java.nio.Buffer;
 import com.jogamp.opengl.GL;
 
 import com.jogamp.opengl.util.GLArrayDataEditable;
+import com.jogamp.opengl.util.GLArrayDataServer;
 
 /**
  * Interleaved fixed function arrays, i.e. where this buffer data
@@ -57,7 +58,7 @@ public abstract class GLVBOArrayHandler implements GLArrayHandler {
         if(!ad.isVBOWritten()) {
             final Buffer buffer = ad.getBuffer();
             if(null!=buffer) {
-                gl.glBufferData(ad.getVBOTarget(), buffer.limit() * ad.getComponentSizeInBytes(), buffer, ad.getVBOUsage());
+                writeVBO(gl, buffer, buffer.limit() * ad.getComponentSizeInBytes());
             }
             ad.setVBOWritten(true);
         }
@@ -67,5 +68,17 @@ public abstract class GLVBOArrayHandler implements GLArrayHandler {
     return true;
   }
 
+  /**
+   * Uploads the client buffer to the bound VBO,
+   * only the dirty range if supported, see {@link GLArrayDataServer#writeVBO(GL, Buffer, int)}.
+   */
+  protected final void writeVBO(final GL gl, final Buffer buffer, final int sizeInBytes) {
+    if( ad instanceof GLArrayDataServer ) {
+        ((GLArrayDataServer)ad).writeVBO(gl, buffer, sizeInBytes);
+    } else {
+        gl.glBufferData(ad.getVBOTarget(), sizeInBytes, buffer, ad.getVBOUsage());
+    }
+  }
+
 }
 
@@ -28,6 +28,7 @@
 package jogamp.opengl.util.av;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -35,7 +36,11 @@ import java.util.Map;
 
 import com.jogamp.nativewindow.AbstractGraphicsDevice;
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
 import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL4;
 import com.jogamp.opengl.GLContext;
 import com.jogamp.opengl.GLDrawable;
 import com.jogamp.opengl.GLDrawableFactory;
@@ -73,6 +78,8 @@ import com.jogamp.opengl.util.texture.TextureSequence.TextureFrame;
  */
 public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     private static final int STREAM_WORKER_DELAY = Debug.getIntProperty("jogl.debug.GLMediaPlayer.StreamWorker.delay", false, 0);
+    /** Disables {@link PBOTextureFrame}s, i.e. decoded frames are uploaded synchronously from client memory. */
+    private static final boolean NO_PBO = Debug.isPropertyDefined("jogl.GLMediaPlayer.nopbo", true);
 
     private static final String unknown = "unknown";
 
@@ -138,6 +145,11 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
 
     private volatile int decodedFrameCount = 0;
     private int presentedFrameCount = 0;
+    private int droppedFrameCount = 0;
+    private volatile int decoderStallCount = 0;
+    private volatile long decodeLatencyCum = 0; // us
+    private volatile int decodeLatencyMax = 0; // us
+    private volatile int decodeLatencyCount = 0;
     private int displayedFrameCount = 0;
     private volatile int video_pts_last = 0;
 
@@ -306,6 +318,30 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     @Override
     public final int getPresentedFrameCount() { return presentedFrameCount; }
 
+    @Override
+    public final int getDroppedFrameCount() { return droppedFrameCount; }
+
+    @Override
+    public final int getDecoderStallCount() { return decoderStallCount; }
+
+    @Override
+    public final int getAvgDecodeLatency() {
+        final int n = decodeLatencyCount;
+        return 0 < n ? (int) ( decodeLatencyCum / n ) : 0;
+    }
+
+    @Override
+    public final int getMaxDecodeLatency() { return decodeLatencyMax; }
+
+    /** Accumulates the decode latency, only written-to either from stream-worker or user thread */
+    private final void addDecodeLatency(final long us) {
+        decodeLatencyCum += us;
+        decodeLatencyCount++;
+        if( us > decodeLatencyMax ) {
+            decodeLatencyMax = (int) us;
+        }
+    }
+
     @Override
     public final int getVideoPTS() { return video_pts_last; }
 
@@ -549,6 +585,11 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
             decodedFrameCount = 0;
             presentedFrameCount = 0;
             displayedFrameCount = 0;
+            droppedFrameCount = 0;
+            decoderStallCount = 0;
+            decodeLatencyCum = 0;
+            decodeLatencyMax = 0;
+            decodeLatencyCount = 0;
             nullFrameCount = 0;
             maxNullFrameCountUntilEOS = MAX_FRAMELESS_UNTIL_EOS_DEFAULT;
             this.streamLoc = streamLoc;
@@ -748,9 +789,180 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
     }
 
     protected void destroyTexFrame(final GL gl, final TextureFrame frame) {
+        if( frame instanceof PBOTextureFrame ) {
+            ((PBOTextureFrame)frame).destroyPBO(gl);
+        }
         frame.getTexture().destroy(gl);
     }
 
+    /**
+     * {@link TextureFrame} owning a pixel unpack buffer object (PBO),
+     * which the decoder writes the frame's planes into.
+     * <p>
+     * The texture is updated from the PBO by the GPU asynchronously,
+     * i.e. the decoder thread neither copies the frame into client memory
+     * nor waits for the upload to complete.
+     * </p>
+     * <p>
+     * On {@link GL4} w/ <code>glBufferStorage</code> the PBO is mapped once, persistent and coherent,
+     * otherwise it is mapped and unmapped for each frame.
+     * Completion of the upload is signaled via a fence sync object on {@link GL3ES3},
+     * otherwise <code>glFinish</code> is being issued.
+     * </p>
+     * <p>
+     * Implementations create instances via {@link GLMediaPlayerImpl#createPBOTexFrame(GL, Texture, int)}
+     * and bracket the decoding via {@link GLMediaPlayerImpl#mapPBOTexFrame(GL, PBOTextureFrame)}
+     * and {@link GLMediaPlayerImpl#unmapPBOTexFrame(GL, PBOTextureFrame)}, uploading the texture while the PBO is bound,
+     * followed by {@link GLMediaPlayerImpl#syncPBOTexFrame(GL, PBOTextureFrame)}.
+     * </p>
+     */
+    protected static class PBOTextureFrame extends TextureFrame {
+        private final int pboName;
+        private final int pboSize;
+        private final ByteBuffer persistentBuffer;
+        private volatile long sync;
+
+        PBOTextureFrame(final Texture t, final int pboName, final int pboSize, final ByteBuffer persistentBuffer) {
+            super(t);
+            this.pboName = pboName;
+            this.pboSize = pboSize;
+            this.persistentBuffer = persistentBuffer;
+            this.sync = 0;
+        }
+
+        /** Returns the PBO name. */
+        public final int getPBOName() { return pboName; }
+        /** Returns the PBO size in bytes. */
+        public final int getPBOSize() { return pboSize; }
+        /** Returns true if the PBO is mapped persistently. */
+        public final boolean isPersistent() { return null != persistentBuffer; }
+
+        private void deleteSync(final GL gl) {
+            final long _sync = sync;
+            if( 0 != _sync ) {
+                sync = 0;
+                gl.getGL3ES3().glDeleteSync(_sync);
+            }
+        }
+
+        private void destroyPBO(final GL gl) {
+            deleteSync(gl);
+            if( null != persistentBuffer ) {
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pboName);
+                gl.glUnmapBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER);
+                gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+            }
+            gl.glDeleteBuffers(1, new int[] { pboName }, 0);
+        }
+
+        @Override
+        public String toString() {
+            return "PBOTextureFrame[pts " + pts + " ms, l " + duration + " ms, texID "+ (null != texture ? texture.getTextureObject() : 0) +
+                   ", pbo "+pboName+", "+pboSize+" bytes, persistent "+isPersistent()+"]";
+        }
+    }
+
+    /**
+     * Returns a new {@link PBOTextureFrame} for the given texture w/ a PBO of <code>pboSize</code> bytes,
+     * or <code>null</code> if PBOs are not supported by the given GL
+     * or disabled via property <code>jogl.GLMediaPlayer.nopbo</code>.
+     * <p>
+     * Shall be called by {@link #createTexImage(GL, int)} implementations.
+     * </p>
+     */
+    protected final PBOTextureFrame createPBOTexFrame(final GL gl, final Texture tex, final int pboSize) {
+        if( NO_PBO || !gl.isGL2ES3() || 0 >= pboSize || GLES2.GL_TEXTURE_EXTERNAL_OES == textureTarget ) {
+            return null;
+        }
+        final int[] tmp = { 0 };
+        gl.glGenBuffers(1, tmp, 0);
+        final int pboName = tmp[0];
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pboName);
+        final boolean persistent = gl.isGL4() && gl.isFunctionAvailable("glBufferStorage");
+        ByteBuffer persistentBuffer = null;
+        if( persistent ) {
+            final int flags = GL.GL_MAP_WRITE_BIT | GL4.GL_MAP_PERSISTENT_BIT | GL4.GL_MAP_COHERENT_BIT;
+            gl.getGL4().glBufferStorage(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pboSize, null, flags);
+            persistentBuffer = gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0, pboSize, flags);
+        } else {
+            gl.glBufferData(GL2ES3.GL_PIXEL_UNPACK_BUFFER, pboSize, null, GL2ES2.GL_STREAM_DRAW);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        final int err = gl.glGetError();
+        if( GL.GL_NO_ERROR != err || ( persistent && null == persistentBuffer ) ) {
+            if( DEBUG ) {
+                System.err.println("PBO creation failed ("+pboSize+" bytes): err "+toHexString(err)+", using client memory upload");
+            }
+            gl.glDeleteBuffers(1, tmp, 0);
+            return null;
+        }
+        return new PBOTextureFrame(tex, pboName, pboSize, persistentBuffer);
+    }
+
+    /**
+     * Binds the frame's PBO to {@link GL2ES3#GL_PIXEL_UNPACK_BUFFER} and returns its mapped storage
+     * for writing the next decoded frame.
+     * <p>
+     * Waits until a previous upload from this PBO has been completed by the GPU.
+     * </p>
+     */
+    protected final ByteBuffer mapPBOTexFrame(final GL gl, final PBOTextureFrame frame) {
+        final long _sync = frame.sync;
+        if( 0 != _sync ) {
+            final GL3ES3 gl3es3 = gl.getGL3ES3();
+            int res;
+            do {
+                res = gl3es3.glClientWaitSync(_sync, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, 1000000000L);
+            } while( GL3ES3.GL_TIMEOUT_EXPIRED == res );
+            frame.deleteSync(gl);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, frame.pboName);
+        if( null != frame.persistentBuffer ) {
+            frame.persistentBuffer.clear();
+            return frame.persistentBuffer;
+        }
+        return gl.glMapBufferRange(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0, frame.pboSize,
+                                   GL.GL_MAP_WRITE_BIT | GL.GL_MAP_INVALIDATE_BUFFER_BIT);
+    }
+
+    /**
+     * Unmaps the frame's PBO unless mapped persistently, leaving it bound
+     * for the texture upload w/ buffer offsets.
+     */
+    protected final void unmapPBOTexFrame(final GL gl, final PBOTextureFrame frame) {
+        if( null == frame.persistentBuffer ) {
+            gl.glUnmapBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER);
+        }
+    }
+
+    /**
+     * Unbinds the frame's PBO and marks the end of the texture upload
+     * w/ a fence sync object, or issues <code>glFinish</code> if fences are not available.
+     */
+    protected final void syncPBOTexFrame(final GL gl, final PBOTextureFrame frame) {
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_UNPACK_BUFFER, 0);
+        if( gl.isGL3ES3() ) {
+            frame.deleteSync(gl);
+            frame.sync = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+            gl.glFlush();
+        } else {
+            gl.glFinish();
+        }
+    }
+
+    /**
+     * Lets the GPU of the given consumer GL wait for the upload of the frame's texture,
+     * without blocking the calling thread.
+     */
+    private final void waitTexFrame(final GL gl, final TextureFrame frame) {
+        if( frame instanceof PBOTextureFrame && null != gl && gl.isGL3ES3() ) {
+            final long _sync = ((PBOTextureFrame)frame).sync;
+            if( 0 != _sync ) {
+                gl.getGL3ES3().glWaitSync(_sync, 0, GL3ES3.GL_TIMEOUT_IGNORED);
+            }
+        }
+    }
+
     @Override
     public final boolean isTextureAvailable() {
         return State.Paused == state || State.Playing == state;
@@ -915,6 +1127,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                                         // only drop if prev. frame has not been dropped and
                                         // frame is too late and one decoded frame is already available.
                                         dropFrame = true;
+                                        droppedFrameCount++;
                                     }
                                     video_pts_last = video_pts;
                                     if( DEBUG ) {
@@ -932,8 +1145,13 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                             // Had frame and not single threaded ? (TEXTURE_COUNT_MIN < textureCount)
                             final TextureFrame _lastFrame = lastFrame;
                             lastFrame = nextFrame;
+                            waitTexFrame(gl, nextFrame);
                             if( null != _lastFrame ) {
                                 videoFramesFree.putBlocking(_lastFrame);
+                                final StreamWorker _streamWorker = streamWorker;
+                                if( null != _streamWorker ) {
+                                    _streamWorker.frameFreed();
+                                }
                             }
                         }
                         lastTimeMillis = currentTimeMillis;
@@ -975,9 +1193,11 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         final int pts;
         if( STREAM_ID_NONE != vid ) {
             preNextTextureImpl(gl);
+            final long t0 = Platform.currentTimeMicros();
             pts = getNextTextureImpl(gl, nextFrame);
             postNextTextureImpl(gl);
             if( TimeFrameI.INVALID_PTS != pts ) {
+                addDecodeLatency(Platform.currentTimeMicros() - t0);
                 newFrameAvailable(nextFrame, Platform.currentTimeMillis());
                 gotVFrame[0] = true;
             } else {
@@ -1040,6 +1260,11 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         presentedFrameCount = 0;
         displayedFrameCount = 0;
         decodedFrameCount = 0;
+        droppedFrameCount = 0;
+        decoderStallCount = 0;
+        decodeLatencyCum = 0;
+        decodeLatencyMax = 0;
+        decodeLatencyCount = 0;
         audioSCR_reset = true;
         videoSCR_reset = true;
     }
@@ -1063,8 +1288,19 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
      * After {@link GLMediaPlayerImpl#initStreamImpl(int, int) initStreamImpl(..)} is completed via
      * {@link GLMediaPlayerImpl#updateAttributes(int, int, int, int, int, int, int, float, int, int, int, String, String) updateAttributes(..)},
      * the latter decides whether StreamWorker is being used.
+     * <p>
+     * The StreamWorker either decodes on its own daemon thread, blocking on the free texture frame ring,
+     * or - if a {@link StreamScheduler} is enabled - one frame at a time on the shared decoder threads.
+     * In the latter case the worker is parked while no free texture frame is available
+     * and rescheduled once {@link #getNextTexture(GL)} returns a frame.
+     * </p>
      */
-    class StreamWorker extends Thread {
+    class StreamWorker {
+        private final Thread thread;
+        private final StreamScheduler scheduler;
+        private final StreamScheduler.Task task;
+        private volatile Thread stepThread = null;
+
         private volatile boolean isRunning = false;
         private volatile boolean isActive = false;
         private volatile boolean isBlocked = false;
@@ -1077,26 +1313,53 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         private GLDrawable dummyDrawable = null;
 
         /**
-         * Starts this daemon thread,
+         * Starts this worker, either as a daemon thread or scheduled by the given {@link StreamScheduler},
          * <p>
-         * This thread pauses after it's started!
+         * This worker pauses after it's started!
          * </p>
          **/
-        StreamWorker() {
-            setDaemon(true);
-            synchronized(this) {
-                start();
-                while( !isRunning ) {
-                    this.notifyAll();  // wake-up startup-block
-                    try {
-                        this.wait();  // wait until started
-                    } catch (final InterruptedException e) {
-                        e.printStackTrace();
+        StreamWorker(final StreamScheduler scheduler) {
+            this.scheduler = scheduler;
+            if( null != scheduler ) {
+                thread = null;
+                task = new StreamScheduler.Task() {
+                    @Override
+                    protected boolean step() {
+                        return runStep();
+                    }
+                    @Override
+                    protected void stepFailed(final Throwable t) {
+                        streamErr = new StreamException(t.getClass().getSimpleName()+" while decoding: "+GLMediaPlayerImpl.this.toString(), t);
+                        stepError();
+                    } };
+                isRunning = true;
+            } else {
+                task = null;
+                thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        runLoop();
+                    } });
+                thread.setDaemon(true);
+                synchronized(this) {
+                    thread.start();
+                    while( !isRunning ) {
+                        this.notifyAll();  // wake-up startup-block
+                        try {
+                            this.wait();  // wait until started
+                        } catch (final InterruptedException e) {
+                            e.printStackTrace();
+                        }
                     }
                 }
             }
         }
 
+        private final boolean isWorkerThread() {
+            final Thread t = Thread.currentThread();
+            return t == thread || t == stepThread;
+        }
+
         private void makeCurrent(final GLContext ctx) {
             if( GLContext.CONTEXT_NOT_CURRENT >= ctx.makeCurrent() ) {
                 throw new GLException("Couldn't make ctx current: "+ctx);
@@ -1143,9 +1406,13 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         public final synchronized void doPause() {
             if( isActive ) {
                 shallPause = true;
-                if( Thread.currentThread() != this ) {
-                    if( isBlocked && isActive ) {
-                        this.interrupt();
+                if( !isWorkerThread() ) {
+                    if( null != scheduler ) {
+                        if( scheduler.cancel(task) ) {
+                            isActive = false; // parked or queued, no step in progress
+                        }
+                    } else if( isBlocked && isActive ) {
+                        thread.interrupt();
                     }
                     while( isActive && isRunning ) {
                         try {
@@ -1160,7 +1427,10 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         public final synchronized void doResume() {
             if( isRunning && !isActive ) {
                 shallPause = false;
-                if( Thread.currentThread() != this ) {
+                if( null != scheduler ) {
+                    isActive = true;
+                    scheduler.signal(task);
+                } else if( !isWorkerThread() ) {
                     while( !isActive && !shallPause && isRunning ) {
                         this.notifyAll();  // wake-up pause-block
                         try {
@@ -1172,12 +1442,44 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 }
             }
         }
-        public final synchronized void doStop() {
+        public final void doStop() {
+            if( null != scheduler ) {
+                synchronized( this ) {
+                    if( !isRunning ) {
+                        return;
+                    }
+                    shallStop = true;
+                    if( scheduler.cancel(task) ) {
+                        isActive = false;
+                    }
+                    this.notifyAll(); // wake-up doPause()
+                }
+                // The running step requires this worker's monitor to complete
+                if( !isWorkerThread() ) {
+                    try {
+                        scheduler.awaitIdle(task);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                synchronized( this ) {
+                    if( isRunning ) {
+                        destroySharedGL();
+                        isRunning = false;
+                        isActive = false;
+                        this.notifyAll(); // wake-up doPause()
+                    }
+                }
+            } else {
+                doStopThread();
+            }
+        }
+        private final synchronized void doStopThread() {
             if( isRunning ) {
                 shallStop = true;
-                if( Thread.currentThread() != this ) {
+                if( !isWorkerThread() ) {
                     if( isBlocked && isRunning ) {
-                        this.interrupt();
+                        thread.interrupt();
                     }
                     while( isRunning ) {
                         this.notifyAll();  // wake-up pause-block (opt)
@@ -1193,9 +1495,55 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         public final boolean isRunning() { return isRunning; }
         public final boolean isActive() { return isActive; }
 
-        @Override
-        public final void run() {
-            setName(getName()+"-StreamWorker_"+StreamWorkerInstanceId);
+        /**
+         * Reschedules a parked worker after a texture frame has been returned to the free ring.
+         * No-op for the daemon thread, which blocks on the free ring.
+         */
+        final void frameFreed() {
+            if( null != scheduler && isActive ) {
+                scheduler.signal(task);
+            }
+        }
+
+        /** Marks this worker paused, called on the worker thread. */
+        private final synchronized boolean checkPause() {
+            if( shallPause || shallStop ) {
+                isActive = false;
+                this.notifyAll(); // wake-up doPause()
+                return true;
+            }
+            return false;
+        }
+
+        /** One scheduled decoding step, making the shared GL context current for its duration. */
+        private final boolean runStep() {
+            if( checkPause() ) {
+                return false;
+            }
+            stepThread = Thread.currentThread();
+            boolean again = false;
+            try {
+                final GLContext ctx = sharedGLCtx;
+                if( null != ctx ) {
+                    makeCurrent(ctx);
+                    preNextTextureImpl(ctx.getGL());
+                    try {
+                        again = decode(false);
+                    } finally {
+                        postNextTextureImpl(ctx.getGL());
+                        ctx.release();
+                    }
+                } else if( STREAM_ID_NONE == vid ) {
+                    again = decode(false);
+                }
+            } finally {
+                stepThread = null;
+            }
+            return !checkPause() && again;
+        }
+
+        private final void runLoop() {
+            thread.setName(thread.getName()+"-StreamWorker_"+StreamWorkerInstanceId);
             StreamWorkerInstanceId++;
 
             synchronized ( this ) {
@@ -1243,83 +1591,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 }
 
                 if( !shallStop ) {
-                    TextureFrame nextFrame = null;
-                    try {
-                        isBlocked = true;
-                        final GL gl;
-                        if( STREAM_ID_NONE != vid ) {
-                            nextFrame = videoFramesFree.getBlocking();
-                            nextFrame.setPTS( TimeFrameI.INVALID_PTS ); // mark invalid until processed!
-                            gl = sharedGLCtx.getGL();
-                        } else {
-                            gl = null;
-                        }
-                        isBlocked = false;
-                        final int vPTS = getNextTextureImpl(gl, nextFrame);
-                        boolean audioEOS = false;
-                        if( TimeFrameI.INVALID_PTS != vPTS ) {
-                            if( null != nextFrame ) {
-                                if( STREAM_WORKER_DELAY > 0 ) {
-                                    Thread.sleep(STREAM_WORKER_DELAY);
-                                }
-                                if( !videoFramesDecoded.put(nextFrame) ) {
-                                    throw new InternalError("XXX: free "+videoFramesFree+", decoded "+videoFramesDecoded+", "+GLMediaPlayerImpl.this);
-                                }
-                                newFrameAvailable(nextFrame, Platform.currentTimeMillis());
-                                nextFrame = null;
-                            } else {
-                                // audio only
-                                if( TimeFrameI.END_OF_STREAM_PTS == vPTS || ( duration > 0 && duration < vPTS ) ) {
-                                    audioEOS = true;
-                                } else {
-                                    nullFrameCount = 0;
-                                }
-                            }
-                        } else if( null == nextFrame ) {
-                            // audio only
-                            audioEOS = maxNullFrameCountUntilEOS <= nullFrameCount;
-                            if( null == audioSink || 0 == audioSink.getEnqueuedFrameCount() ) {
-                                nullFrameCount++;
-                            }
-                        }
-                        if( audioEOS ) {
-                            // state transition incl. notification
-                            synchronized ( this ) {
-                                shallPause = true;
-                                isActive = false;
-                                this.notifyAll(); // wake-up potential do*()
-                            }
-                            if( DEBUG ) {
-                                System.err.println( "AV-EOS (StreamWorker): EOS_PTS "+(TimeFrameI.END_OF_STREAM_PTS == vPTS)+", "+GLMediaPlayerImpl.this);
-                            }
-                            pauseImpl(true, GLMediaEventListener.EVENT_CHANGE_EOS);
-                        }
-                    } catch (final InterruptedException e) {
-                        isBlocked = false;
-                        if( !shallStop && !shallPause ) {
-                            streamErr = new StreamException("InterruptedException while decoding: "+GLMediaPlayerImpl.this.toString(), e);
-                        }
-                    } catch (final Throwable t) {
-                        streamErr = new StreamException(t.getClass().getSimpleName()+" while decoding: "+GLMediaPlayerImpl.this.toString(), t);
-                    } finally {
-                        if( null != nextFrame ) { // put back
-                            videoFramesFree.put(nextFrame);
-                        }
-                        if( null != streamErr ) {
-                            if( DEBUG ) {
-                                final Throwable t = null != streamErr.getCause() ? streamErr.getCause() : streamErr;
-                                System.err.println("Caught StreamException: "+t.getMessage());
-                                t.printStackTrace();
-                            }
-                            // state transition incl. notification
-                            synchronized ( this ) {
-                                shallPause = true;
-                                isActive = false;
-                                this.notifyAll(); // wake-up potential do*()
-                            }
-                            pauseImpl(true, GLMediaEventListener.EVENT_CHANGE_ERR);
-                        }
-                    }
+                    decode(true);
                 }
             }
             synchronized ( this ) {
@@ -1332,6 +1604,112 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 this.notifyAll(); // wake-up doStop()
             }
         }
+
+        /**
+         * Decodes the next frame.
+         * @param blocking if true, blocks until a free texture frame is available,
+         *                 otherwise returns immediately if none is available.
+         * @return true if decoding may continue right away, false if no free texture frame is available or the stream has been paused.
+         */
+        private final boolean decode(final boolean blocking) {
+            boolean again = true;
+            TextureFrame nextFrame = null;
+            try {
+                final GL gl;
+                if( STREAM_ID_NONE != vid ) {
+                    if( videoFramesFree.isEmpty() ) {
+                        decoderStallCount++;
+                        if( !blocking ) {
+                            return false;
+                        }
+                    }
+                    isBlocked = true;
+                    nextFrame = blocking ? videoFramesFree.getBlocking() : videoFramesFree.get();
+                    isBlocked = false;
+                    if( null == nextFrame ) {
+                        return false;
+                    }
+                    nextFrame.setPTS( TimeFrameI.INVALID_PTS ); // mark invalid until processed!
+                    gl = sharedGLCtx.getGL();
+                } else {
+                    gl = null;
+                }
+                final long t0 = null != nextFrame ? Platform.currentTimeMicros() : 0;
+                final int vPTS = getNextTextureImpl(gl, nextFrame);
+                boolean audioEOS = false;
+                if( TimeFrameI.INVALID_PTS != vPTS ) {
+                    if( null != nextFrame ) {
+                        addDecodeLatency(Platform.currentTimeMicros() - t0);
+                        if( STREAM_WORKER_DELAY > 0 && blocking ) {
+                            Thread.sleep(STREAM_WORKER_DELAY);
+                        }
+                        if( !videoFramesDecoded.put(nextFrame) ) {
+                            throw new InternalError("XXX: free "+videoFramesFree+", decoded "+videoFramesDecoded+", "+GLMediaPlayerImpl.this);
+                        }
+                        newFrameAvailable(nextFrame, Platform.currentTimeMillis());
+                        nextFrame = null;
+                    } else {
+                        // audio only
+                        if( TimeFrameI.END_OF_STREAM_PTS == vPTS || ( duration > 0 && duration < vPTS ) ) {
+                            audioEOS = true;
+                        } else {
+                            nullFrameCount = 0;
+                        }
+                    }
+                } else if( null == nextFrame ) {
+                    // audio only
+                    audioEOS = maxNullFrameCountUntilEOS <= nullFrameCount;
+                    if( null == audioSink || 0 == audioSink.getEnqueuedFrameCount() ) {
+                        nullFrameCount++;
+                    }
+                }
+                if( audioEOS ) {
+                    again = false;
+                    // state transition incl. notification
+                    synchronized ( this ) {
+                        shallPause = true;
+                        isActive = false;
+                        this.notifyAll(); // wake-up potential do*()
+                    }
+                    if( DEBUG ) {
+                        System.err.println( "AV-EOS (StreamWorker): EOS_PTS "+(TimeFrameI.END_OF_STREAM_PTS == vPTS)+", "+GLMediaPlayerImpl.this);
+                    }
+                    pauseImpl(true, GLMediaEventListener.EVENT_CHANGE_EOS);
+                }
+            } catch (final InterruptedException e) {
+                isBlocked = false;
+                if( !shallStop && !shallPause ) {
+                    streamErr = new StreamException("InterruptedException while decoding: "+GLMediaPlayerImpl.this.toString(), e);
+                }
+            } catch (final Throwable t) {
+                streamErr = new StreamException(t.getClass().getSimpleName()+" while decoding: "+GLMediaPlayerImpl.this.toString(), t);
+            } finally {
+                if( null != nextFrame ) { // put back
+                    videoFramesFree.put(nextFrame);
+                }
+                if( null != streamErr ) {
+                    again = false;
+                    stepError();
+                }
+            }
+            return again;
+        }
+
+        /** Pauses this worker and the player w/ {@link GLMediaEventListener#EVENT_CHANGE_ERR} after {@link #streamErr} has been set. */
+        private final void stepError() {
+            if( DEBUG ) {
+                final Throwable t = null != streamErr.getCause() ? streamErr.getCause() : streamErr;
+                System.err.println("Caught StreamException: "+t.getMessage());
+                t.printStackTrace();
+            }
+            // state transition incl. notification
+            synchronized ( this ) {
+                shallPause = true;
+                isActive = false;
+                this.notifyAll(); // wake-up potential do*()
+            }
+            pauseImpl(true, GLMediaEventListener.EVENT_CHANGE_ERR);
+        }
     }
     static int StreamWorkerInstanceId = 0;
     private volatile StreamWorker streamWorker = null;
@@ -1447,7 +1825,7 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
                 throw new InternalError("XXX: StreamWorker not null - "+this);
             }
             if( TEXTURE_COUNT_MIN < textureCount || STREAM_ID_NONE == vid ) { // Enable StreamWorker for 'audio only' as well (Bug 918).
-                streamWorker = new StreamWorker();
+                streamWorker = new StreamWorker(StreamScheduler.getSingleton());
             }
             if( DEBUG ) {
                 System.err.println("XXX Initialize @ updateAttributes: "+this);
@@ -1563,7 +1941,8 @@ public abstract class GLMediaPlayerImpl implements GLMediaPlayer {
         return state+", frames[(p "+presentedFrameCount+", d "+decodedFrameCount+") / "+videoFrames+", "+tt+" s, z "+nullFrameCount+" / "+maxNullFrameCountUntilEOS+"], "+
                "speed " + playSpeed+", dAV "+( d_vpts - d_apts )+", vSCR "+video_scr+", vpts "+video_pts+", dSCR["+d_vpts+", avrg "+video_dpts_avg_diff+"], "+
                "aSCR "+audio_scr+", apts "+audio_pts+" ( "+d_apts+" ), "+audioSinkInfo+
-               ", Texture[count "+textureCount+", free "+freeVideoFrames+", dec "+decVideoFrames+"]";
+               ", Texture[count "+textureCount+", free "+freeVideoFrames+", dec "+decVideoFrames+"]"+
+               ", Decoder[latency avg "+getAvgDecodeLatency()+" us, max "+decodeLatencyMax+" us, dropped "+droppedFrameCount+", stalls "+decoderStallCount+"]";
     }
 
     @Override
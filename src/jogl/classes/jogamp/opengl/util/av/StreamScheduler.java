@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.av;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.opengl.util.av.GLMediaPlayer;
+
+/**
+ * Bounded pool of decoder threads shared by all {@link GLMediaPlayerImpl} instances.
+ * <p>
+ * Enabled by setting property <code>jogl.GLMediaPlayer.StreamWorker.threads</code>
+ * to the number of pool threads, otherwise each player uses its own decoder thread.
+ * </p>
+ * <p>
+ * A {@link Task} is queued when {@link #signal(Task) signaled}
+ * and performs one {@link Task#step() step} at a time, served round-robin with all other ready tasks.
+ * A task not ready to continue, e.g. waiting for a free texture frame, is parked
+ * without occupying a thread until being signaled again.
+ * </p>
+ */
+final class StreamScheduler {
+    private static final boolean DEBUG = GLMediaPlayer.DEBUG;
+    private static final int THREAD_COUNT = Debug.getIntProperty("jogl.GLMediaPlayer.StreamWorker.threads", true, 0);
+    private static StreamScheduler singleton = null;
+
+    /**
+     * Returns the shared scheduler instance,
+     * or <code>null</code> if each player shall use its own decoder thread.
+     */
+    static synchronized StreamScheduler getSingleton() {
+        if( null == singleton && 0 < THREAD_COUNT ) {
+            singleton = new StreamScheduler(THREAD_COUNT);
+        }
+        return singleton;
+    }
+
+    /** A unit of work, scheduled by a {@link StreamScheduler}. */
+    static abstract class Task {
+        private static final int IDLE = 0;
+        private static final int QUEUED = 1;
+        private static final int RUNNING = 2;
+        private static final int RUNNING_SIGNALED = 3;
+
+        /** Guarded by scheduler lock */
+        private int state = IDLE;
+
+        /**
+         * Performs one step of work, e.g. decoding one frame.
+         * @return true if the task shall be rescheduled right away, otherwise it is parked until {@link StreamScheduler#signal(Task) signaled}.
+         */
+        protected abstract boolean step();
+
+        /**
+         * Called on the scheduler thread if {@link #step()} has thrown an exception,
+         * while the task is still considered running. The task is parked afterwards.
+         * <p>
+         * Implementation shall not wait for this task to become {@link StreamScheduler#awaitIdle(Task) idle}.
+         * </p>
+         */
+        protected abstract void stepFailed(Throwable t);
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition taskReady = lock.newCondition();
+    private final Condition taskDone = lock.newCondition();
+    private final ArrayDeque<Task> readyTasks = new ArrayDeque<Task>();
+    private final Thread[] threads;
+
+    private StreamScheduler(final int threadCount) {
+        threads = new Thread[threadCount];
+        for(int i=0; i<threadCount; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    runTasks();
+                } }, "GLMediaPlayer-StreamScheduler-"+i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+    }
+
+    /** Returns the number of decoder threads. */
+    final int getThreadCount() { return threads.length; }
+
+    /**
+     * Queues the given task for execution, if not already queued.
+     * <p>
+     * If the task is running, it will be rescheduled after its current step.
+     * </p>
+     */
+    final void signal(final Task task) {
+        lock.lock();
+        try {
+            switch( task.state ) {
+                case Task.IDLE:
+                    task.state = Task.QUEUED;
+                    readyTasks.addLast(task);
+                    taskReady.signal();
+                    break;
+                case Task.RUNNING:
+                    task.state = Task.RUNNING_SIGNALED;
+                    break;
+                default:
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the given task from the queue.
+     * <p>
+     * A running task is not affected, i.e. it is still rescheduled after its current step
+     * if it has been signaled meanwhile.
+     * </p>
+     * @return true if the task is not running, otherwise its current step is still in progress
+     */
+    final boolean cancel(final Task task) {
+        lock.lock();
+        try {
+            switch( task.state ) {
+                case Task.QUEUED:
+                    readyTasks.remove(task);
+                    task.state = Task.IDLE;
+                    return true;
+                case Task.RUNNING:
+                case Task.RUNNING_SIGNALED:
+                    return false;
+                default:
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Blocks until the given task's current step, if any, has been completed. */
+    final void awaitIdle(final Task task) throws InterruptedException {
+        lock.lock();
+        try {
+            while( Task.RUNNING == task.state || Task.RUNNING_SIGNALED == task.state ) {
+                taskDone.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runTasks() {
+        while( true ) {
+            final Task task;
+            lock.lock();
+            try {
+                while( readyTasks.isEmpty() ) {
+                    taskReady.awaitUninterruptibly();
+                }
+                task = readyTasks.removeFirst();
+                task.state = Task.RUNNING;
+            } finally {
+                lock.unlock();
+            }
+            boolean again = false;
+            boolean failed = false;
+            try {
+                again = task.step();
+            } catch (final Throwable t) {
+                failed = true;
+                try {
+                    task.stepFailed(t);
+                } catch (final Throwable t2) {
+                    // keep the scheduler thread alive, the task is parked below
+                    if( DEBUG ) {
+                        System.err.println(Thread.currentThread().getName()+": StreamScheduler: Caught exception while handling step failure "+t);
+                        t2.printStackTrace();
+                    }
+                }
+            }
+            lock.lock();
+            try {
+                if( !failed && ( again || Task.RUNNING_SIGNALED == task.state ) ) {
+                    task.state = Task.QUEUED;
+                    readyTasks.addLast(task);
+                    taskReady.signal();
+                } else {
+                    task.state = Task.IDLE;
+                }
+                taskDone.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -260,6 +260,10 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
     private int vBitsPerPixel = 0;
     private int vBytesPerPixelPerPlane = 0;
     private int texWidth, texHeight; // overall (stuffing planes in one texture)
+    private int pboPlanes = 0; // planes stored in PBO, see readNextPacketPBO0
+    private final int[] pboPlaneRect = new int[3*4]; // x, y, width, height per plane in texture
+    private final int[] pboPlaneOffset = new int[3]; // byte offset per plane in PBO
+    private int pboSize = 0;
     private String singleTexComp = "r";
     private final GLPixelStorageModes psm;
 
@@ -461,7 +465,46 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
     }
     @Override
     protected final TextureFrame createTexImage(final GL gl, final int texName) {
-        return new TextureFrame( createTexImageImpl(gl, texName, texWidth, texHeight) );
+        final Texture tex = createTexImageImpl(gl, texName, texWidth, texHeight);
+        final TextureFrame pboFrame = createPBOTexFrame(gl, tex, pboSize);
+        return null != pboFrame ? pboFrame : new TextureFrame( tex );
+    }
+
+    /**
+     * Computes the texture region and PBO offset of each plane as written by
+     * {@link FFMPEGNatives#readNextPacketPBO0(long, java.nio.ByteBuffer)},
+     * matching the layout of the direct texture upload of {@link FFMPEGNatives#readNextPacket0(long, int, int, int)}.
+     */
+    private void setupPBOPlanes(final int[] vTexWidth, final int vW, final int vH) {
+        final int[] r = pboPlaneRect;
+        switch(vPixelFmt) {
+            case YUVJ420P:
+            case YUV420P:
+                pboPlanes = 3;
+                r[0] = 0;   r[1] = 0;    r[2] = vTexWidth[0];  r[3] = vH;
+                r[4] = vW;  r[5] = 0;    r[6] = vTexWidth[1];  r[7] = vH/2;
+                r[8] = vW;  r[9] = vH/2; r[10] = vTexWidth[2]; r[11] = vH/2;
+                break;
+            case YUVJ422P:
+            case YUV422P:
+                pboPlanes = 3;
+                r[0] = 0;        r[1] = 0; r[2] = vTexWidth[0];  r[3] = vH;
+                r[4] = vW;       r[5] = 0; r[6] = vTexWidth[1];  r[7] = vH;
+                r[8] = vW+vW/2;  r[9] = 0; r[10] = vTexWidth[2]; r[11] = vH;
+                break;
+            default:
+                pboPlanes = 1;
+                r[0] = 0;   r[1] = 0;    r[2] = vTexWidth[0];  r[3] = vH;
+                break;
+        }
+        int offset = 0;
+        for(int i=0; i<pboPlanes; i++) {
+            // planar: 1 byte per texel, packed: complete pixel row, e.g. YUYV422 stuffed into half width RGBA
+            final int rowBytes = 1 < pboPlanes ? vTexWidth[i] : vW * vBytesPerPixelPerPlane;
+            pboPlaneOffset[i] = offset;
+            offset += rowBytes * r[i*4+3];
+        }
+        pboSize = offset;
     }
 
     /**
@@ -569,6 +612,7 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
         vBytesPerPixelPerPlane = 0;
         usesTexLookupShader = false;
         texWidth = 0; texHeight = 0;
+        pboPlanes = 0; pboSize = 0;
 
         final int[] vTexWidth = { 0, 0, 0 }; // per plane
 
@@ -622,6 +666,7 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
                 default: // FIXME: Add more formats !
                     throw new RuntimeException("Unsupported pixelformat: "+vPixelFmt);
             }
+            setupPBOPlanes(vTexWidth, vW, vH);
         }
 
         // defaults ..
@@ -833,9 +878,29 @@ public class FFMPEGMediaPlayer extends GLMediaPlayerImpl {
             tex.bind(gl);
         }
 
-        /** Try decode up to 10 packets to find one containing video. */
-        for(int i=0; TimeFrameI.INVALID_PTS == vPTS && 10 > i; i++) {
-           vPTS = natives.readNextPacket0(moviePtr, getTextureTarget(), getTextureFormat(), getTextureType());
+        if( nextFrame instanceof PBOTextureFrame ) {
+            // decode into mapped PBO, texture is updated by the GPU asynchronously
+            final PBOTextureFrame pboFrame = (PBOTextureFrame)nextFrame;
+            final ByteBuffer pbo = mapPBOTexFrame(gl, pboFrame);
+            /** Try decode up to 10 packets to find one containing video. */
+            for(int i=0; TimeFrameI.INVALID_PTS == vPTS && 10 > i; i++) {
+               vPTS = natives.readNextPacketPBO0(moviePtr, pbo);
+            }
+            unmapPBOTexFrame(gl, pboFrame);
+            if( TimeFrameI.INVALID_PTS != vPTS && TimeFrameI.END_OF_STREAM_PTS != vPTS ) {
+                final int target = getTextureTarget(), fmt = getTextureFormat(), type = getTextureType();
+                for(int i=0; i<pboPlanes; i++) {
+                    final int j = i*4;
+                    gl.glTexSubImage2D(target, 0, pboPlaneRect[j], pboPlaneRect[j+1], pboPlaneRect[j+2], pboPlaneRect[j+3],
+                                       fmt, type, pboPlaneOffset[i]);
+                }
+            }
+            syncPBOTexFrame(gl, pboFrame);
+        } else {
+            /** Try decode up to 10 packets to find one containing video. */
+            for(int i=0; TimeFrameI.INVALID_PTS == vPTS && 10 > i; i++) {
+               vPTS = natives.readNextPacket0(moviePtr, getTextureTarget(), getTextureFormat(), getTextureType());
+            }
         }
         if( null != nextFrame ) {
             nextFrame.setPTS(vPTS);
@@ -27,6 +27,8 @@
  */
 package jogamp.opengl.util.av.impl;
 
+import java.nio.ByteBuffer;
+
 import com.jogamp.opengl.util.texture.TextureSequence.TextureFrame;
 
 /* pp */ abstract class FFMPEGNatives {
@@ -76,6 +78,18 @@ import com.jogamp.opengl.util.texture.TextureSequence.TextureFrame;
      */
     abstract int readNextPacket0(long moviePtr, int texTarget, int texFmt, int texType);
 
+    /**
+     * Variant of {@link #readNextPacket0(long, int, int, int)} writing the decoded video frame's planes
+     * into the given mapped pixel unpack buffer instead of uploading them to the bound texture.
+     * <p>
+     * Planes are stored consecutively, each row tightly packed,
+     * i.e. the caller uploads the texture from the buffer offsets of each plane.
+     * </p>
+     * @param pbo direct buffer w/ the mapped pixel unpack buffer storage
+     * @return resulting current video PTS, or {@link TextureFrame#INVALID_PTS}
+     */
+    abstract int readNextPacketPBO0(long moviePtr, ByteBuffer pbo);
+
     abstract int play0(long moviePtr);
     abstract int pause0(long moviePtr);
     abstract int seek0(long moviePtr, int position);
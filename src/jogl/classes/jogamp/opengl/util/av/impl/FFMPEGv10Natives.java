@@ -27,6 +27,8 @@
  */
 package jogamp.opengl.util.av.impl;
 
+import java.nio.ByteBuffer;
+
 class FFMPEGv10Natives extends FFMPEGNatives {
     @Override
     native boolean initSymbols0(Object mutex_avcodec_openclose, long[] symbols, int count);
@@ -67,6 +69,9 @@ class FFMPEGv10Natives extends FFMPEGNatives {
     @Override
     native int readNextPacket0(long moviePtr, int texTarget, int texFmt, int texType);
 
+    @Override
+    native int readNextPacketPBO0(long moviePtr, ByteBuffer pbo);
+
     @Override
     native int play0(long moviePtr);
 
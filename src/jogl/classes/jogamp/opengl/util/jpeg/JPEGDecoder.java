@@ -8,6 +8,8 @@
  *  * Fixed JPEG Component ID/Index mapping
  *  * Color space conversion (YCCK, CMYK -> RGB)
  *  * More error tolerant
+ *  * Streaming decode of baseline images, MCU row by MCU row
+ *  * Optional parallel IDCT and color conversion
  *
  * *****************
  *
@@ -60,7 +62,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import jogamp.nativewindow.ParallelExecutor;
 import jogamp.opengl.Debug;
 
 import com.jogamp.common.util.ArrayHashSet;
@@ -89,7 +94,13 @@ public class JPEGDecoder {
     private static final boolean DEBUG = Debug.debug("JPEGImage");
     private static final boolean DEBUG_IN = false;
 
-    /** Allows user to hook a {@link ColorSink} to another toolkit to produce {@link TextureData}. */
+    /**
+     * Allows user to hook a {@link ColorSink} to another toolkit to produce {@link TextureData}.
+     * <p>
+     * If {@link ParallelExecutor parallel processing} is enabled,
+     * the store methods are called concurrently for distinct rows.
+     * </p>
+     */
     public static interface ColorSink {
         /**
          * @param width
@@ -105,6 +116,15 @@ public class JPEGDecoder {
         public void storeYCbCr(int x, int y, byte Y, byte Cb, byte Cr);
     }
 
+    /** Notified by {@link JPEGDecoder#decode(InputStream, ColorSink, RowListener)} for each completed band of rows. */
+    public static interface RowListener {
+        /**
+         * Rows <code>[y0 .. y1)</code> have been completely stored into the {@link ColorSink},
+         * rows are notified in ascending order.
+         */
+        public void rowsCompleted(int y0, int y1);
+    }
+
     public static class JFIF {
         final VersionNumber version;
         final int densityUnits;
@@ -343,6 +363,26 @@ public class JPEGDecoder {
         public final int getCompCount() { return compCount; }
         public final int getMaxCompID() { return maxCompID; }
 
+        /** Allocates all blocks of components not yet allocated, see {@link ComponentIn#allocateBlocks(int)}. */
+        public final void allocateBlocks() {
+            for(int i=0; i<compCount; i++) {
+                final ComponentIn c = comps[i];
+                if( null != c && null == c.blocks ) {
+                    c.allocateBlocks(c.blocksPerColumnForMcu);
+                }
+            }
+        }
+        /** Returns true if all blocks are allocated. */
+        public final boolean hasBlocks() {
+            for(int i=0; i<compCount; i++) {
+                final ComponentIn c = comps[i];
+                if( null == c || null == c.blocks ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         public final void putOrdered(final int compID, final ComponentIn component) {
             if( maxCompID < compID ) {
                 maxCompID = compID;
@@ -381,8 +421,10 @@ public class JPEGDecoder {
         int blocksPerColumnForMcu;
         int blocksPerLine;
         int blocksPerLineForMcu;
-        /** [blocksPerColumnForMcu][blocksPerLineForMcu][64]; */
+        /** [blocksPerColumnForMcu][blocksPerLineForMcu][64], or [v][blocksPerLineForMcu][64] in streaming mode */
         int[][][] blocks;
+        /** First block row held by {@link #blocks}, only advanced in streaming mode */
+        int blockRowOffset;
         int pred;
         BinObj huffmanTableAC;
         BinObj huffmanTableDC;
@@ -393,23 +435,48 @@ public class JPEGDecoder {
             this.qttIdx = qttIdx;
         }
 
-        public final void allocateBlocks(final int blocksPerColumn, final int blocksPerColumnForMcu, final int blocksPerLine, final int blocksPerLineForMcu) {
+        public final void setBlockSizes(final int blocksPerColumn, final int blocksPerColumnForMcu, final int blocksPerLine, final int blocksPerLineForMcu) {
             this.blocksPerColumn = blocksPerColumn;
             this.blocksPerColumnForMcu = blocksPerColumnForMcu;
             this.blocksPerLine = blocksPerLine;
             this.blocksPerLineForMcu = blocksPerLineForMcu;
-            this.blocks = new int[blocksPerColumnForMcu][blocksPerLineForMcu][64];
+        }
+        /** Allocates <code>blockRows</code> rows of blocks, i.e. {@link #blocksPerColumnForMcu} or one MCU row in streaming mode. */
+        public final void allocateBlocks(final int blockRows) {
+            this.blocks = new int[blockRows][blocksPerLineForMcu][64];
+            this.blockRowOffset = 0;
         }
         public final int[] getBlock(final int row, final int col) {
-            if( row >= blocksPerColumnForMcu || col >= blocksPerLineForMcu ) {
+            final int r = row - blockRowOffset;
+            if( 0 > r || r >= blocks.length || col >= blocksPerLineForMcu ) {
                 throw new CodecException("Out of bounds given ["+row+"]["+col+"] - "+this);
             }
-            return blocks[row][col];
+            return blocks[r][col];
+        }
+        /**
+         * Streaming mode: Replaces the held blocks with the given cleared <code>next</code> blocks
+         * for the following <code>blockRows</code>.
+         * @return the previously held blocks
+         */
+        public final int[][][] swapBlocks(final int[][][] next, final int blockRows) {
+            final int[][][] b = blocks;
+            blocks = next;
+            blockRowOffset += blockRows;
+            return b;
+        }
+        /** Clears all coefficients of the given blocks. */
+        static void clearBlocks(final int[][][] blocks) {
+            for(int i=0; i<blocks.length; i++) {
+                final int[][] row = blocks[i];
+                for(int j=0; j<row.length; j++) {
+                    Arrays.fill(row[j], 0);
+                }
+            }
         }
 
         @Override
         public final String toString() {
-            return "CompIn[h "+h+", v "+v+", qttIdx "+qttIdx+", blocks["+blocksPerColumn+", mcu "+blocksPerColumnForMcu+"]["+blocksPerLine+", mcu "+blocksPerLineForMcu+"][64]]";
+            return "CompIn[h "+h+", v "+v+", qttIdx "+qttIdx+", blocks["+blocksPerColumn+", mcu "+blocksPerColumnForMcu+"]["+blocksPerLine+", mcu "+blocksPerLineForMcu+"][64], held "+(null != blocks ? blocks.length : 0)+" @ "+blockRowOffset+"]";
         }
     }
 
@@ -418,17 +485,27 @@ public class JPEGDecoder {
         private final ArrayList<byte[]> lines;
         final float scaleX;
         final float scaleY;
+        /** First line held by {@link #lines}, only advanced in streaming mode */
+        int lineOffset;
 
         ComponentOut(final ArrayList<byte[]> lines, final float scaleX, final float scaleY) {
             this.lines = lines;
             this.scaleX = scaleX;
             this.scaleY = scaleY;
+            this.lineOffset = 0;
         }
 
-        /** Safely returning a line, if index exceeds number of lines, last line is returned. */
+        /**
+         * Safely returning a line, if index exceeds number of lines, last line is returned.
+         * @throws IndexOutOfBoundsException if the index is below {@link #lineOffset}
+         */
         public final byte[] getLine(final int i) {
             final int sz = lines.size();
-            return lines.get( i < sz ? i : sz - 1);
+            final int j = i - lineOffset;
+            if( 0 > j ) {
+                throw new IndexOutOfBoundsException("Line "+i+" below line offset "+lineOffset+" - "+this);
+            }
+            return lines.get( j < sz ? j : sz - 1);
         }
 
         @Override
@@ -516,13 +593,58 @@ public class JPEGDecoder {
     }
     public synchronized JPEGDecoder parse(final InputStream inputStream) throws IOException {
         clear(inputStream);
+        parseImpl(null, null);
+        return this;
+    }
+
+    /**
+     * Parses and decodes the JPEG image from the given InputStream straight into the given {@link ColorSink},
+     * using the image's full size, see {@link #getPixel(ColorSink, int, int)}.
+     * <p>
+     * Baseline images with a single interleaved scan are decoded and color converted MCU row by MCU row,
+     * i.e. only one row of coefficient blocks is held at a time instead of the whole image.
+     * The given optional {@link RowListener} is notified for each completed MCU row,
+     * allowing the consumer to process the stored pixels in strips, e.g. texture uploads.
+     * </p>
+     * <p>
+     * Other images, e.g. progressive, are decoded completely before being stored into the {@link ColorSink},
+     * the {@link RowListener} is notified once for all rows.
+     * </p>
+     * <p>
+     * Decoded components are not retained in either case,
+     * hence {@link #getPixel(ColorSink, int, int)} cannot be used afterwards.
+     * </p>
+     * @param inputStream the JPEG source
+     * @param pixelStorage the {@link ColorSink} receiving the pixels
+     * @param listener optional {@link RowListener}, maybe <code>null</code>
+     * @return this instance
+     * @throws IOException
+     */
+    public synchronized JPEGDecoder decode(final InputStream inputStream, final ColorSink pixelStorage, final RowListener listener) throws IOException {
+        clear(inputStream);
+        if( !parseImpl(pixelStorage, listener) ) {
+            getPixel(pixelStorage, width, height);
+            components = null;
+            if( null != listener ) {
+                listener.rowsCompleted(0, height);
+            }
+        }
+        return this;
+    }
 
+    /**
+     * @param streamSink if not <code>null</code>, use streaming mode if possible
+     * @param streamListener
+     * @return true if image has been decoded and stored in streaming mode, otherwise {@link #components} are produced.
+     */
+    private boolean parseImpl(final ColorSink streamSink, final RowListener streamListener) throws IOException {
         final int[][] quantizationTables = new int[0x0F][]; // 4 bits
         final BinObj[] huffmanTablesAC = new BinObj[0x0F]; // Huffman table spec - 4 bits
         final BinObj[] huffmanTablesDC = new BinObj[0x0F]; // Huffman table spec - 4 bits
         // final ArrayList<Frame> frames = new ArrayList<Frame>(); // JAU: max 1-frame
 
         Frame frame = null;
+        RowStreamer streamer = null;
         int resetInterval = 0;
         int fileMarker = readUInt16();
         if ( fileMarker != M_SOI ) {
@@ -628,7 +750,8 @@ public class JPEGDecoder {
                 if(count!=sofLen){
                     throw new CodecException("ERROR: SOF format error [count!=Length]");
                 }
-                prepareComponents(frame);
+                // streaming mode defers allocation to the first scan
+                prepareComponents(frame, null == streamSink || frame.progressive);
                 // frames.add(frame); // JAU: max 1-frame
                 if(DEBUG) { System.err.println("JPG.parse.SOF[02]: Got frame "+frame); }
                 fileMarker = 0; // consumed and get-next
@@ -689,10 +812,28 @@ public class JPEGDecoder {
                 if(count!=sosLen){
                     throw new CodecException("ERROR: scan header format error [count!=Length]");
                 }
+                final boolean streamScan;
+                if( !frame.hasBlocks() ) {
+                    // 1st scan w/ deferred allocation: stream a baseline scan w/ all components interleaved
+                    final ComponentIn c0 = components.get(0);
+                    streamScan = !frame.progressive && components.size() == frame.getCompCount() &&
+                                 ( 1 < components.size() || ( 1 == c0.h && 1 == c0.v ) );
+                    if( streamScan ) {
+                        streamer = new RowStreamer(frame, streamSink, streamListener);
+                    } else {
+                        frame.allocateBlocks();
+                    }
+                } else {
+                    streamScan = false;
+                }
                 fileMarker = decoder.decodeScan(frame, components, resetInterval,
                                                 spectralStart, spectralEnd,
-                                                successiveApproximation >> 4, successiveApproximation & 15);
-                if(DEBUG) { System.err.println("JPG.parse.SOS.decode result "+toHexString(fileMarker)); }
+                                                successiveApproximation >> 4, successiveApproximation & 15,
+                                                streamScan ? streamer : null);
+                if( streamScan ) {
+                    streamer.finish(); // remaining rows of a truncated scan
+                }
+                if(DEBUG) { System.err.println("JPG.parse.SOS.decode result "+toHexString(fileMarker)+", streamed "+streamScan); }
             }
             break;
             default:
@@ -719,6 +860,11 @@ public class JPEGDecoder {
             throw new CodecException("no single frame found in stream "+this);
         }
         frame.validateComponents();
+        if( null != streamer ) {
+            if(DEBUG) { System.err.println("JPG.parse.X: End of streaming input "+this); }
+            return true;
+        }
+        frame.allocateBlocks(); // no scan in streaming mode
 
         final int compCount = frame.getCompCount();
         this.components = new ComponentOut[compCount];
@@ -731,10 +877,10 @@ public class JPEGDecoder {
                                                    (float)component.v / (float)frame.maxV );
         }
         if(DEBUG) { System.err.println("JPG.parse.X: End of processing input "+this); }
-        return this;
+        return false;
     }
 
-    private void prepareComponents(final Frame frame) {
+    private void prepareComponents(final Frame frame, final boolean allocate) {
         int maxH = 0, maxV = 0;
         // for (componentId in frame.components) {
         final int compCount = frame.getCompCount();
@@ -752,7 +898,10 @@ public class JPEGDecoder {
             final int blocksPerColumn = (int) Math.ceil(Math.ceil(frame.scanLines  / 8f) * component.v / maxV);
             final int blocksPerLineForMcu = mcusPerLine * component.h;
             final int blocksPerColumnForMcu = mcusPerColumn * component.v;
-            component.allocateBlocks(blocksPerColumn, blocksPerColumnForMcu, blocksPerLine, blocksPerLineForMcu);
+            component.setBlockSizes(blocksPerColumn, blocksPerColumnForMcu, blocksPerLine, blocksPerLineForMcu);
+            if( allocate ) {
+                component.allocateBlocks(blocksPerColumnForMcu);
+            }
         }
         frame.maxH = maxH;
         frame.maxV = maxV;
@@ -828,27 +977,45 @@ public class JPEGDecoder {
 
     private final Output output = new Output();
     static class Output {
-        private int blocksPerLine;
-        private int blocksPerColumn;
-        private int samplesPerLine;
-
         private ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component) {
-            final ArrayList<byte[]> lines = new ArrayList<byte[]>();
-            blocksPerLine = component.blocksPerLine;
-            blocksPerColumn = component.blocksPerColumn;
-            samplesPerLine = blocksPerLine << 3;
+            final int blocksPerColumn = component.blocksPerColumn;
+            final int samplesPerLine = component.blocksPerLine << 3;
+            final int lineCount = blocksPerColumn << 3;
+            final ArrayList<byte[]> lines = new ArrayList<byte[]>(lineCount);
+            for (int i = 0; i < lineCount; i++) {
+                lines.add(new byte[samplesPerLine]);
+            }
+            final int[] qt = frame.qtt[component.qttIdx];
+            runBands(blocksPerColumn, 2, new ParallelExecutor.Range() {
+                @Override
+                public void run(final int row0, final int row1) {
+                    buildBlockRows(component.blocks, component.blocksPerLine, qt, row0, row1, lines);
+                } } );
+            return lines;
+        }
+
+        /**
+         * Streaming mode: Stores the given held block rows of the given component into the given lines,
+         * i.e. <code>blocks.length * 8</code> lines starting w/ block row <code>blockRowOffset</code>.
+         * Block rows beyond {@link ComponentIn#blocksPerColumn} are skipped.
+         */
+        private void buildComponentLines(final Frame frame, final ComponentIn component, final int[][][] blocks, final int blockRowOffset,
+                                         final ArrayList<byte[]> lines) {
+            final int blockRows = Math.min(blocks.length, component.blocksPerColumn - blockRowOffset);
+            buildBlockRows(blocks, component.blocksPerLine, frame.qtt[component.qttIdx], 0, blockRows, lines);
+        }
+
+        /** Stores block rows <code>[row0 .. row1)</code> of <code>blocks</code> into <code>lines</code>, each block row covering 8 lines. */
+        private static void buildBlockRows(final int[][][] blocks, final int blocksPerLine, final int[] qt,
+                                           final int row0, final int row1, final ArrayList<byte[]> lines) {
             final int[] R = new int[64];
             final byte[] r = new byte[64];
 
-            for (int blockRow = 0; blockRow < blocksPerColumn; blockRow++) {
+            for (int blockRow = row0; blockRow < row1; blockRow++) {
                 final int scanLine = blockRow << 3;
-                // System.err.println("JPG.buildComponentData: row "+blockRow+"/"+blocksPerColumn+" -> scanLine "+scanLine); // JAU
-                for (int i = 0; i < 8; i++) {
-                    lines.add(new byte[samplesPerLine]);
-                }
+                final int[][] blockLine = blocks[blockRow];
                 for (int blockCol = 0; blockCol < blocksPerLine; blockCol++) {
-                    // System.err.println("JPG.buildComponentData: col "+blockCol+"/"+blocksPerLine+", comp.qttIdx "+component.qttIdx+", qtt "+frame.qtt[component.qttIdx]); // JAU
-                    quantizeAndInverse(component.getBlock(blockRow, blockCol), r, R, frame.qtt[component.qttIdx]);
+                    quantizeAndInverse(blockLine[blockCol], r, R, qt);
 
                     final int sample = blockCol << 3;
                     int offset = 0;
@@ -859,7 +1026,6 @@ public class JPEGDecoder {
                     }
                 }
             }
-            return lines;
         }
 
         // A port of poppler's IDCT method which in turn is taken from:
@@ -867,11 +1033,21 @@ public class JPEGDecoder {
         //   "Practical Fast 1-D DCT Algorithms with 11 Multiplications",
         //   IEEE Intl. Conf. on Acoustics, Speech & Signal Processing, 1989,
         //   988-991.
-        private void quantizeAndInverse(final int[] zz, final byte[] dataOut, final int[] dataIn, final int[] qt) {
+        private static void quantizeAndInverse(final int[] zz, final byte[] dataOut, final int[] dataIn, final int[] qt) {
             int v0, v1, v2, v3, v4, v5, v6, v7, t;
             final int[] p = dataIn;
             int i;
 
+            // fast path: DC only block, i.e. all AC coefficients zero, result equals the full IDCT below
+            for (i = 1; i < 64 && 0 == zz[i]; i++) ;
+            if (64 == i) {
+                t = (dctSqrt2 * ( zz[0] * qt[0] ) + 512) >> 10; // rows
+                t = (dctSqrt2 * t + 8192) >> 14;                 // columns
+                final int sample = 128 + ((t + 8) >> 4);
+                Arrays.fill(dataOut, (byte) ( sample < 0 ? 0 : sample > 0xFF ? 0xFF : sample ));
+                return;
+            }
+
             // dequant
             for (i = 0; i < 64; i++) {
                 p[i] = zz[i] * qt[i];
@@ -1040,7 +1216,8 @@ public class JPEGDecoder {
         private int successiveACState, successiveACNextValue;
 
         private int decodeScan(final Frame frame, final ArrayList<ComponentIn> components, int resetInterval,
-                final int spectralStart, final int spectralEnd, final int successivePrev, final int successive) throws IOException {
+                final int spectralStart, final int spectralEnd, final int successivePrev, final int successive,
+                final RowStreamer streamer) throws IOException {
             // this.precision = frame.precision;
             // this.samplesPerLine = frame.samplesPerLine;
             // this.scanLines = frame.scanLines;
@@ -1094,6 +1271,9 @@ public class JPEGDecoder {
                         for (int n = 0; n < resetInterval; n++) {
                             decodeBlock(component, decodeFn, mcu);
                             mcu++;
+                            if( null != streamer && 0 == mcu % mcusPerLine ) {
+                                streamer.mcuRowDecoded( mcu / mcusPerLine - 1 );
+                            }
                         }
                     } else {
                         for (int n = 0; n < resetInterval; n++) {
@@ -1108,6 +1288,9 @@ public class JPEGDecoder {
                                 }
                             }
                             mcu++;
+                            if( null != streamer && 0 == mcu % mcusPerLine ) {
+                                streamer.mcuRowDecoded( mcu / mcusPerLine - 1 );
+                            }
                         }
                     }
                 } catch (final MarkerException markerException) {
@@ -1343,6 +1526,143 @@ public class JPEGDecoder {
 
     private final Decoder decoder = new Decoder();
 
+    /**
+     * Runs the given {@link ParallelExecutor.Range} over rows <code>[0 .. rowCount)</code>,
+     * either on the calling thread or split into bands of at least <code>minRows</code>, see {@link ParallelExecutor}.
+     */
+    private static void runBands(final int rowCount, final int minRows, final ParallelExecutor.Range band) {
+        ParallelExecutor.run(rowCount, minRows, rowCount, 0, band);
+    }
+
+    /**
+     * Streaming mode: Color converts each decoded MCU row into the {@link ColorSink}
+     * and recycles the coefficient blocks for the next MCU row.
+     * <p>
+     * If {@link ParallelExecutor parallel processing} is enabled,
+     * an MCU row is inverse transformed and color converted by a worker thread
+     * while the next MCU row gets entropy decoded, using two sets of blocks.
+     * The {@link RowListener} is always notified on the decoding thread.
+     * </p>
+     */
+    class RowStreamer {
+        private final Frame frame;
+        private final ColorSink pixelStorage;
+        private final RowListener listener;
+        private final ColorSpace sourceCS;
+        private final ColorSpace storageCS;
+        private final ComponentOut[] compOuts;
+        private final ArrayList<byte[]>[] compLines;
+        private final ExecutorService executor;
+        /** per component, blocks not used for entropy decoding, i.e. converted by the pending task */
+        private final int[][][][] spareBlocks;
+        private Future<?> pending;
+        private int pendingY0, pendingY1;
+        private int nextMcuRow;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        RowStreamer(final Frame frame, final ColorSink pixelStorage, final RowListener listener) {
+            this.frame = frame;
+            this.pixelStorage = pixelStorage;
+            this.listener = listener;
+            final int compCount = frame.getCompCount();
+            sourceCS = ( null != adobe ) ? adobe.colorSpace : ColorSpace.YCbCr;
+            storageCS = pixelStorage.allocate(width, height, sourceCS, compCount);
+            validateColorSpaces(compCount, sourceCS, storageCS);
+            final ParallelExecutor.Setup setup = ParallelExecutor.getCurrentSetup();
+            executor = setup.isParallel(height, 0) ? setup.executor : null;
+            compOuts = new ComponentOut[compCount];
+            compLines = new ArrayList[compCount];
+            spareBlocks = new int[compCount][][][];
+            for (int i = 0; i < compCount; i++) {
+                final ComponentIn component = frame.getCompByIndex(i);
+                component.allocateBlocks(component.v); // one MCU row
+                if( null != executor ) {
+                    spareBlocks[i] = new int[component.v][component.blocksPerLineForMcu][64];
+                }
+                final int lineCount = component.v << 3;
+                final ArrayList<byte[]> lines = new ArrayList<byte[]>(lineCount);
+                for (int j = 0; j < lineCount; j++) {
+                    lines.add(new byte[component.blocksPerLine << 3]);
+                }
+                compLines[i] = lines;
+                compOuts[i] = new ComponentOut( lines,
+                                                (float)component.h / (float)frame.maxH,
+                                                (float)component.v / (float)frame.maxV );
+            }
+            pending = null;
+            nextMcuRow = 0;
+        }
+
+        void mcuRowDecoded(final int mcuRow) {
+            if( mcuRow != nextMcuRow || mcuRow >= frame.mcusPerColumn ) {
+                return;
+            }
+            nextMcuRow++;
+            final int y0 = mcuRow * ( frame.maxV << 3 );
+            final int y1 = Math.min(height, y0 + ( frame.maxV << 3 ));
+            final int compCount = frame.getCompCount();
+            final int[][][][] rowBlocks = new int[compCount][][][];
+            final int[] rowOffsets = new int[compCount];
+            if( null == executor ) {
+                for (int i = 0; i < compCount; i++) {
+                    final ComponentIn component = frame.getCompByIndex(i);
+                    rowOffsets[i] = component.blockRowOffset;
+                    rowBlocks[i] = component.swapBlocks(component.blocks, component.v);
+                }
+                convert(rowBlocks, rowOffsets, y0, y1);
+                notifyListener(y0, y1);
+            } else {
+                flushPending(); // spare blocks are free
+                for (int i = 0; i < compCount; i++) {
+                    final ComponentIn component = frame.getCompByIndex(i);
+                    rowOffsets[i] = component.blockRowOffset;
+                    rowBlocks[i] = component.swapBlocks(spareBlocks[i], component.v);
+                    spareBlocks[i] = rowBlocks[i];
+                }
+                pendingY0 = y0;
+                pendingY1 = y1;
+                pending = executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        convert(rowBlocks, rowOffsets, y0, y1);
+                    } } );
+            }
+        }
+
+        private void convert(final int[][][][] rowBlocks, final int[] rowOffsets, final int y0, final int y1) {
+            final int compCount = rowBlocks.length;
+            for (int i = 0; i < compCount; i++) {
+                output.buildComponentLines(frame, frame.getCompByIndex(i), rowBlocks[i], rowOffsets[i], compLines[i]);
+                compOuts[i].lineOffset = rowOffsets[i] << 3;
+                ComponentIn.clearBlocks(rowBlocks[i]);
+            }
+            storePixels(pixelStorage, sourceCS, storageCS, compOuts, width, 1, 1, y0, y1);
+        }
+
+        private void notifyListener(final int y0, final int y1) {
+            if( null != listener && y0 < y1 ) {
+                listener.rowsCompleted(y0, y1);
+            }
+        }
+
+        private void flushPending() {
+            if( null != pending ) {
+                final Future<?> f = pending;
+                pending = null;
+                ParallelExecutor.waitFor(f);
+                notifyListener(pendingY0, pendingY1);
+            }
+        }
+
+        /** Flushes all remaining MCU rows, e.g. of a truncated scan. */
+        void finish() {
+            while( nextMcuRow < frame.mcusPerColumn ) {
+                mcuRowDecoded(nextMcuRow);
+            }
+            flushPending();
+        }
+    }
+
     /** wrong color space ..
     private final void storeYCbCr2BGR(final PixelStorage pixelStorage, int x, int y, int Y, final int Cb, final int Cr)
     {
@@ -1371,12 +1691,51 @@ public class JPEGDecoder {
         if( ColorSpace.RGB != storageCS && ColorSpace.YCbCr != storageCS ) {
             throw new IllegalArgumentException("Unsupported storage color space: "+storageCS);
         }
+        final ComponentOut[] components = this.components;
+        runBands(height, 16, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int y0, final int y1) {
+                storePixels(pixelStorage, sourceCS, storageCS, components, width, scaleX, scaleY, y0, y1);
+            } } );
+    }
+
+    /** Validates the color spaces as {@link #storePixels(ColorSink, ColorSpace, ColorSpace, ComponentOut[], int, int, int, int, int)} would do. */
+    private static void validateColorSpaces(final int componentCount, final ColorSpace sourceCS, final ColorSpace storageCS) {
+        if( ColorSpace.RGB != storageCS && ColorSpace.YCbCr != storageCS ) {
+            throw new IllegalArgumentException("Unsupported storage color space: "+storageCS);
+        }
+        switch (componentCount) {
+        case 1:
+        case 2:
+            break;
+        case 3:
+            if (ColorSpace.YCbCr != sourceCS) {
+                throw new CodecException("Unsupported source color space w 3 components: "+sourceCS);
+            }
+            break;
+        case 4:
+            if (ColorSpace.YCCK != sourceCS && ColorSpace.CMYK != sourceCS) {
+                throw new CodecException("Unsupported source color space w 4 components: "+sourceCS);
+            }
+            if( ColorSpace.YCbCr == storageCS && ColorSpace.YCCK != sourceCS ) {
+                throw new CodecException("Unsupported storage color space "+storageCS+" with source color space "+sourceCS);
+            }
+            break;
+        default:
+            throw new CodecException("Unsupported color model: Space "+sourceCS+", components "+componentCount);
+        }
+    }
 
+    /** Stores rows <code>[y0 .. y1)</code> of the given decoded components into the {@link ColorSink}. */
+    private static void storePixels(final JPEGDecoder.ColorSink pixelStorage, final ColorSpace sourceCS, final ColorSpace storageCS,
+                                    final ComponentOut[] components, final int width, final int scaleX, final int scaleY,
+                                    final int y0, final int y1) {
+        final int componentCount = components.length;
         switch (componentCount) {
         case 1: {
             // Grayscale
-            final ComponentOut component1 = this.components[0];
-            for (int y = 0; y < height; y++) {
+            final ComponentOut component1 = components[0];
+            for (int y = y0; y < y1; y++) {
                 final byte[] component1Line = component1.getLine((int)(y * component1.scaleY * scaleY));
                 for (int x = 0; x < width; x++) {
                     final byte Y = component1Line[(int)(x * component1.scaleX * scaleX)];
@@ -1391,9 +1750,9 @@ public class JPEGDecoder {
         break;
         case 2: {
             // PDF might compress two component data in custom colorspace
-            final ComponentOut component1 = this.components[0];
-            final ComponentOut component2 = this.components[1];
-            for (int y = 0; y < height; y++) {
+            final ComponentOut component1 = components[0];
+            final ComponentOut component2 = components[1];
+            for (int y = y0; y < y1; y++) {
                 final int ys = y * scaleY;
                 final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
                 final byte[] component2Line = component1.getLine((int)(ys * component2.scaleY));
@@ -1410,10 +1769,10 @@ public class JPEGDecoder {
             if (ColorSpace.YCbCr != sourceCS) {
                 throw new CodecException("Unsupported source color space w 3 components: "+sourceCS);
             }
-            final ComponentOut component1 = this.components[0];
-            final ComponentOut component2 = this.components[1];
-            final ComponentOut component3 = this.components[2];
-            for (int y = 0; y < height; y++) {
+            final ComponentOut component1 = components[0];
+            final ComponentOut component2 = components[1];
+            final ComponentOut component3 = components[2];
+            for (int y = y0; y < y1; y++) {
                 final int ys = y * scaleY;
                 final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
                 final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
@@ -1433,9 +1792,9 @@ public class JPEGDecoder {
                         final int Cb = 0x000000FF & component2Line[(int)(xs * component2.scaleX)];
                         final int Cr = 0x000000FF & component3Line[(int)(xs * component3.scaleX)];
                         // storeYCbCr2BGR(pixelStorage, x, y, Y, Cb, Cr);
-                        final byte R = clampTo8bit(Y + 1.402f * (Cr - 128f));
-                        final byte G = clampTo8bit(Y - 0.3441363f * (Cb - 128f) - 0.71413636f * (Cr - 128f));
-                        final byte B = clampTo8bit(Y + 1.772f * (Cb - 128f));
+                        final byte R = clampTo8bit(Y + crToR[Cr]);
+                        final byte G = clampTo8bit(Y - cbToG[Cb] - crToG[Cr]);
+                        final byte B = clampTo8bit(Y + cbToB[Cb]);
                         pixelStorage.storeRGB(x, y, R, G, B);
                     }
                 }
@@ -1446,11 +1805,11 @@ public class JPEGDecoder {
             if (ColorSpace.YCCK != sourceCS && ColorSpace.CMYK != sourceCS) {
                 throw new CodecException("Unsupported source color space w 4 components: "+sourceCS);
             }
-            final ComponentOut component1 = this.components[0];
-            final ComponentOut component2 = this.components[1];
-            final ComponentOut component3 = this.components[2];
-            final ComponentOut component4 = this.components[3];
-            for (int y = 0; y < height; y++) {
+            final ComponentOut component1 = components[0];
+            final ComponentOut component2 = components[1];
+            final ComponentOut component3 = components[2];
+            final ComponentOut component4 = components[3];
+            for (int y = y0; y < y1; y++) {
                 final int ys = y * scaleY;
                 final byte[] component1Line = component1.getLine((int)(ys * component1.scaleY));
                 final byte[] component2Line = component2.getLine((int)(ys * component2.scaleY));
@@ -1491,9 +1850,9 @@ public class JPEGDecoder {
                             final int Cr = 0x000000FF & component3Line[(int)(xs * component3.scaleX)];
                             final int cK = 0x000000FF & component4Line[(int)(xs * component4.scaleX)];
                             // YCCK -> 255f - [ R'G'B' ] -> CMYK
-                            final float cC = 255f - ( Y + 1.402f * (Cr - 128f) );
-                            final float cM = 255f - ( Y - 0.3441363f * (Cb - 128f) - 0.71413636f * (Cr - 128f) );
-                            final float cY = 255f - ( Y + 1.772f * (Cb - 128f) );
+                            final float cC = 255f - ( Y + crToR[Cr] );
+                            final float cM = 255f - ( Y - cbToG[Cb] - crToG[Cr] );
+                            final float cY = 255f - ( Y + cbToB[Cb] );
                             // CMYK -> RGB
                             final byte R = clampTo8bit( ( cC * cK ) / 255f );
                             final byte G = clampTo8bit( ( cM * cK ) / 255f );
@@ -1510,6 +1869,20 @@ public class JPEGDecoder {
         }
     }
 
+    /** YCbCr -> RGB chroma terms, indexed by the unsigned 8-bit Cb or Cr value, producing the same values as computed inline. */
+    private static final float[] crToR = new float[256];
+    private static final float[] cbToG = new float[256];
+    private static final float[] crToG = new float[256];
+    private static final float[] cbToB = new float[256];
+    static {
+        for(int c = 0; c < 256; c++) {
+            crToR[c] = 1.402f * (c - 128f);
+            cbToG[c] = 0.3441363f * (c - 128f);
+            crToG[c] = 0.71413636f * (c - 128f);
+            cbToB[c] = 1.772f * (c - 128f);
+        }
+    }
+
     private static byte clampTo8bit(final float a) {
         return (byte) ( a < 0f ? 0 : a > 255f ? 255 : a );
     }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.zip.CRC32;
 
 /**
@@ -256,6 +257,66 @@ public class PngHelperInternal {
 			return c;
 	}
 
+	/**
+	 * Applies the given filter to a complete row, writing into <tt>rowbfilter</tt>.
+	 * <p>
+	 * All arrays have length <tt>bytesPerRow+1</tt>, element 0 is the filter type
+	 * (not touched here). <tt>rowbprev</tt> must be all zeroes for the first row.
+	 * <p>
+	 * Stateless, hence usable concurrently on different rows.
+	 */
+	static void filterRow(final FilterType filterType, final ImageInfo imgInfo, final byte[] rowb, final byte[] rowbprev,
+			final byte[] rowbfilter) {
+		final int imax = imgInfo.bytesPerRow;
+		int i, j;
+		switch (filterType) {
+		case FILTER_NONE:
+			for (i = 1; i <= imax; i++)
+				rowbfilter[i] = rowb[i];
+			break;
+		case FILTER_SUB:
+			for (i = 1; i <= imgInfo.bytesPixel; i++)
+				rowbfilter[i] = rowb[i];
+			for (j = 1, i = imgInfo.bytesPixel + 1; i <= imax; i++, j++)
+				rowbfilter[i] = (byte) filterRowSub(rowb[i], rowb[j]);
+			break;
+		case FILTER_UP:
+			for (i = 1; i <= imax; i++)
+				rowbfilter[i] = (byte) filterRowUp(rowb[i], rowbprev[i]);
+			break;
+		case FILTER_AVERAGE:
+			for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++)
+				rowbfilter[i] = (byte) (rowb[i] - ((rowbprev[i] & 0xFF) + (j > 0 ? (rowb[j] & 0xFF) : 0)) / 2);
+			break;
+		case FILTER_PAETH:
+			for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++)
+				rowbfilter[i] = (byte) filterRowPaeth(rowb[i], j > 0 ? (rowb[j] & 0xFF) : 0, rowbprev[i] & 0xFF,
+						j > 0 ? (rowbprev[j] & 0xFF) : 0);
+			break;
+		default:
+			throw new PngjUnsupportedException("Filter type " + filterType + " not implemented");
+		}
+	}
+
+	/**
+	 * Computes the histogram of a filtered row into <tt>histox</tt> (256
+	 * elements, cleared here) and returns the sum of absolute values, as used
+	 * by {@link FilterWriteStrategy}.
+	 */
+	static int filteredRowStats(final ImageInfo imgInfo, final byte[] rowbfilter, final int[] histox) {
+		Arrays.fill(histox, 0);
+		int s = 0, v;
+		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
+			v = rowbfilter[i];
+			if (v < 0)
+				s -= v;
+			else
+				s += v;
+			histox[v & 0xFF]++;
+		}
+		return s;
+	}
+
 	/*
 	 * we put this methods here so as to not pollute the public interface of PngReader
 	 */
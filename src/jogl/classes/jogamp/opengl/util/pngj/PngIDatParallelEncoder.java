@@ -0,0 +1,258 @@
+package jogamp.opengl.util.pngj;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Parallel encoder for the IDAT stream (pigz style).
+ * <p>
+ * Raw rows are collected in blocks, each block is filtered and deflated by its
+ * own task. Each block is a raw deflate stream primed with the last 32k of
+ * filtered data of its predecessor as dictionary and terminated with a
+ * SYNC_FLUSH, the last block with FINISH. Blocks are written in order, wrapped
+ * with a zlib header and the Adler32 of the whole filtered data, producing a
+ * single valid zlib stream.
+ * <p>
+ * Filter selection is done per block with its own {@link FilterWriteStrategy},
+ * the previous raw row is handed over to each block for the UP, AVERAGE and
+ * PAETH filters.
+ * <p>
+ * Requires Java 7's <tt>Deflater.deflate(byte[], int, int, int)</tt>, which is
+ * looked up reflectively to keep the Java 6 source level, see
+ * {@link #isAvailable()}.
+ */
+class PngIDatParallelEncoder {
+	private static final int BLOCK_SIZE_DEFAULT = 128 * 1024; // uncompressed bytes per block
+	private static final int DICT_SIZE = 32768; // deflate window
+	private static final int SYNC_FLUSH = 2; // Deflater.SYNC_FLUSH
+	private static final Method deflateWithFlush;
+
+	static {
+		Method m = null;
+		try {
+			m = Deflater.class.getMethod("deflate", byte[].class, int.class, int.class, int.class);
+		} catch (final Throwable t) {
+			m = null;
+		}
+		deflateWithFlush = m;
+	}
+
+	static boolean isAvailable() {
+		return deflateWithFlush != null;
+	}
+
+	private final ImageInfo imgInfo;
+	private final FilterType filterType;
+	private final int compLevel;
+	private final int deflaterStrategy;
+	private final ExecutorService executor;
+	private final int maxPending;
+	private final PngIDatChunkOutputStream datStream;
+	private final int rowLen; // bytesPerRow + 1 (filter byte)
+	private final int blockRows;
+
+	private final Adler32 adler = new Adler32();
+	private final LinkedList<Block> pending = new LinkedList<Block>();
+
+	private byte[] raw; // raw rows of current block
+	private int rawRows = 0;
+	private int firstRow = 0;
+	private byte[] prevRow; // last raw row of previous block
+	private Block prevBlock = null;
+	private boolean headerWritten = false;
+
+	PngIDatParallelEncoder(final ImageInfo imgInfo, final FilterType filterType, final int compLevel,
+			final int deflaterStrategy, final ExecutorService executor, final int maxPending,
+			final PngIDatChunkOutputStream datStream) {
+		if (!isAvailable())
+			throw new PngjOutputException("parallel deflate not supported by this runtime");
+		this.imgInfo = imgInfo;
+		this.filterType = filterType;
+		this.compLevel = compLevel;
+		this.deflaterStrategy = deflaterStrategy;
+		this.executor = executor;
+		this.maxPending = Math.max(1, maxPending);
+		this.datStream = datStream;
+		this.rowLen = imgInfo.bytesPerRow + 1;
+		this.blockRows = Math.max(1, BLOCK_SIZE_DEFAULT / rowLen);
+		this.prevRow = new byte[rowLen]; // zeroes for first row
+		this.raw = new byte[blockRows * rowLen];
+	}
+
+	/**
+	 * Queues one raw (unfiltered) row, element 0 is ignored.
+	 */
+	void addRow(final byte[] rowb, final int rown) {
+		if (rawRows == blockRows)
+			submit(false);
+		if (rawRows == 0)
+			firstRow = rown;
+		System.arraycopy(rowb, 0, raw, rawRows * rowLen, rowLen);
+		rawRows++;
+	}
+
+	/**
+	 * Submits the pending rows as last block and writes the complete stream
+	 * (without flushing the IDAT stream).
+	 */
+	void end() {
+		submit(true);
+		while (!pending.isEmpty())
+			writeBlock(pending.removeFirst());
+		final long a = adler.getValue();
+		datStream.write((int) (a >>> 24) & 0xFF);
+		datStream.write((int) (a >>> 16) & 0xFF);
+		datStream.write((int) (a >>> 8) & 0xFF);
+		datStream.write((int) a & 0xFF);
+	}
+
+	private void submit(final boolean last) {
+		final Block b = new Block(raw, rawRows, firstRow, prevRow, prevBlock, last);
+		prevRow = new byte[rowLen];
+		if (rawRows > 0)
+			System.arraycopy(raw, (rawRows - 1) * rowLen, prevRow, 0, rowLen);
+		b.future = executor.submit(b);
+		pending.addLast(b);
+		prevBlock = b;
+		raw = new byte[blockRows * rowLen];
+		rawRows = 0;
+		while (pending.size() > maxPending)
+			writeBlock(pending.removeFirst());
+	}
+
+	private void writeBlock(final Block b) {
+		final byte[] compressed;
+		try {
+			compressed = b.future.get();
+		} catch (final InterruptedException e) {
+			throw new PngjOutputException(e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new PngjOutputException(e.getCause());
+		}
+		if (!headerWritten) {
+			writeZlibHeader();
+			headerWritten = true;
+		}
+		datStream.write(compressed, 0, compressed.length);
+		adler.update(b.filtered, 0, b.filteredLen);
+	}
+
+	private void writeZlibHeader() {
+		final int cmf = 0x78; // deflate, 32k window
+		final int flevel = compLevel < 2 ? 0 : (compLevel < 6 ? 1 : (compLevel == 6 ? 2 : 3));
+		int flg = flevel << 6;
+		flg += 31 - ((cmf << 8) + flg) % 31;
+		datStream.write(cmf);
+		datStream.write(flg);
+	}
+
+	private final class Block implements Callable<byte[]> {
+		private final byte[] raw;
+		private final int rows;
+		private final int firstRow;
+		private final byte[] prevRow;
+		private Block prev; // released after dictionary setup
+		private final boolean last;
+		private final CountDownLatch filteredDone = new CountDownLatch(1);
+		byte[] filtered;
+		int filteredLen;
+		Future<byte[]> future;
+
+		Block(final byte[] raw, final int rows, final int firstRow, final byte[] prevRow, final Block prev,
+				final boolean last) {
+			this.raw = raw;
+			this.rows = rows;
+			this.firstRow = firstRow;
+			this.prevRow = prevRow;
+			this.prev = prev;
+			this.last = last;
+		}
+
+		@Override
+		public byte[] call() throws Exception {
+			try {
+				filter();
+			} finally {
+				filteredDone.countDown();
+			}
+			return deflate();
+		}
+
+		private void filter() {
+			final FilterWriteStrategy strat = new FilterWriteStrategy(imgInfo, filterType);
+			final int[] histox = new int[256];
+			byte[] rowb = new byte[rowLen];
+			byte[] rowbprev = new byte[rowLen];
+			final byte[] rowbfilter = new byte[rowLen];
+			System.arraycopy(prevRow, 0, rowbprev, 0, rowLen);
+			filtered = new byte[rows * rowLen];
+			for (int r = 0; r < rows; r++) {
+				final int rown = firstRow + r;
+				System.arraycopy(raw, r * rowLen, rowb, 0, rowLen);
+				if (strat.shouldTestAll(rown)) {
+					for (int f = FilterType.FILTER_NONE.val; f <= FilterType.FILTER_PAETH.val; f++) {
+						final FilterType ft = FilterType.getByVal(f);
+						PngHelperInternal.filterRow(ft, imgInfo, rowb, rowbprev, rowbfilter);
+						strat.fillResultsForFilter(rown, ft, PngHelperInternal.filteredRowStats(imgInfo, rowbfilter, histox),
+								histox, true);
+					}
+				}
+				final FilterType ft = strat.gimmeFilterType(rown, true);
+				rowbfilter[0] = (byte) ft.val;
+				PngHelperInternal.filterRow(ft, imgInfo, rowb, rowbprev, rowbfilter);
+				strat.fillResultsForFilter(rown, ft, PngHelperInternal.filteredRowStats(imgInfo, rowbfilter, histox),
+						histox, false);
+				System.arraycopy(rowbfilter, 0, filtered, r * rowLen, rowLen);
+				// swap
+				final byte[] tmp = rowb;
+				rowb = rowbprev;
+				rowbprev = tmp;
+			}
+			filteredLen = rows * rowLen;
+		}
+
+		private byte[] deflate() throws Exception {
+			final Deflater def = new Deflater(compLevel, true); // raw, header and adler written by encoder
+			try {
+				def.setStrategy(deflaterStrategy);
+				final Block p = prev;
+				prev = null; // don't retain chain of blocks
+				if (p != null) {
+					p.filteredDone.await();
+					final int dictLen = Math.min(DICT_SIZE, p.filteredLen);
+					if (dictLen > 0)
+						def.setDictionary(p.filtered, p.filteredLen - dictLen, dictLen);
+				}
+				final ByteArrayOutputStream out = new ByteArrayOutputStream(filteredLen / 2 + 64);
+				final byte[] buf = new byte[16384];
+				def.setInput(filtered, 0, filteredLen);
+				if (last) {
+					def.finish();
+					while (!def.finished()) {
+						final int n = def.deflate(buf);
+						out.write(buf, 0, n);
+					}
+				} else {
+					int n;
+					do {
+						n = ((Integer) deflateWithFlush.invoke(def, buf, 0, buf.length, SYNC_FLUSH)).intValue();
+						out.write(buf, 0, n);
+					} while (n == buf.length || !def.needsInput());
+				}
+				return out.toByteArray();
+			} finally {
+				def.end();
+			}
+		}
+	}
+}
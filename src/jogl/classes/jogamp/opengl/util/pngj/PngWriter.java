@@ -2,8 +2,8 @@ package jogamp.opengl.util.pngj;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 
@@ -59,6 +59,10 @@ public class PngWriter {
 
 	private DeflaterOutputStream datStreamDeflated;
 
+	private ExecutorService parallelExecutor = null; // null: serial deflate
+	private int parallelMaxPending = 0;
+	private PngIDatParallelEncoder parallelEncoder = null;
+
 	/**
 	 * Deflate algortithm compression strategy
 	 */
@@ -111,24 +115,20 @@ public class PngWriter {
 
 	private void init() {
 		datStream = new PngIDatChunkOutputStream(this.os, idatMaxSize);
-		final Deflater def = new Deflater(compLevel);
-		def.setStrategy(deflaterStrategy);
-		datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		if (parallelExecutor != null) {
+			parallelEncoder = new PngIDatParallelEncoder(imgInfo, filterStrat.configuredType, compLevel,
+					deflaterStrategy, parallelExecutor, parallelMaxPending, datStream);
+		} else {
+			final Deflater def = new Deflater(compLevel);
+			def.setStrategy(deflaterStrategy);
+			datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		}
 		writeSignatureAndIHDR();
 		writeFirstChunks();
 	}
 
 	private void reportResultsForFilter(final int rown, final FilterType type, final boolean tentative) {
-		Arrays.fill(histox, 0);
-		int s = 0, v;
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			v = rowbfilter[i];
-			if (v < 0)
-				s -= v;
-			else
-				s += v;
-			histox[v & 0xFF]++;
-		}
+		final int s = PngHelperInternal.filteredRowStats(imgInfo, rowbfilter, histox);
 		filterStrat.fillResultsForFilter(rown, type, s, histox, tentative);
 	}
 
@@ -305,6 +305,10 @@ public class PngWriter {
 	}
 
 	private void filterAndSend(final int rown) {
+		if (parallelEncoder != null) {
+			parallelEncoder.addRow(rowb, rowNum); // filtered by the encoder
+			return;
+		}
 		filterRow(rown);
 		try {
 			datStreamDeflated.write(rowbfilter, 0, imgInfo.bytesPerRow + 1);
@@ -314,45 +318,23 @@ public class PngWriter {
 	}
 
 	protected void filterRowAverage() {
-		int i, j, imax;
-		imax = imgInfo.bytesPerRow;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
-			rowbfilter[i] = (byte) (rowb[i] - ((rowbprev[i] & 0xFF) + (j > 0 ? (rowb[j] & 0xFF) : 0)) / 2);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_AVERAGE, imgInfo, rowb, rowbprev, rowbfilter);
 	}
 
 	protected void filterRowNone() {
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			rowbfilter[i] = rowb[i];
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_NONE, imgInfo, rowb, rowbprev, rowbfilter);
 	}
 
 	protected void filterRowPaeth() {
-		int i, j, imax;
-		imax = imgInfo.bytesPerRow;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= imax; i++, j++) {
-			// rowbfilter[i] = (byte) (rowb[i] - PngHelperInternal.filterPaethPredictor(j > 0 ? (rowb[j] & 0xFF) : 0,
-			// rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0));
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowPaeth(rowb[i], j > 0 ? (rowb[j] & 0xFF) : 0,
-					rowbprev[i] & 0xFF, j > 0 ? (rowbprev[j] & 0xFF) : 0);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_PAETH, imgInfo, rowb, rowbprev, rowbfilter);
 	}
 
 	protected void filterRowSub() {
-		int i, j;
-		for (i = 1; i <= imgInfo.bytesPixel; i++)
-			rowbfilter[i] = rowb[i];
-		for (j = 1, i = imgInfo.bytesPixel + 1; i <= imgInfo.bytesPerRow; i++, j++) {
-			// !!! rowbfilter[i] = (byte) (rowb[i] - rowb[j]);
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowSub(rowb[i], rowb[j]);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_SUB, imgInfo, rowb, rowbprev, rowbfilter);
 	}
 
 	protected void filterRowUp() {
-		for (int i = 1; i <= imgInfo.bytesPerRow; i++) {
-			// rowbfilter[i] = (byte) (rowb[i] - rowbprev[i]); !!!
-			rowbfilter[i] = (byte) PngHelperInternal.filterRowUp(rowb[i], rowbprev[i]);
-		}
+		PngHelperInternal.filterRow(FilterType.FILTER_UP, imgInfo, rowb, rowbprev, rowbfilter);
 	}
 
 	protected int sumRowbfilter() { // sums absolute value
@@ -474,7 +456,10 @@ public class PngWriter {
 		if (rowNum != imgInfo.rows - 1)
 			throw new PngjOutputException("all rows have not been written");
 		try {
-			datStreamDeflated.finish();
+			if (parallelEncoder != null)
+				parallelEncoder.end();
+			else
+				datStreamDeflated.finish();
 			datStream.flush();
 			writeLastChunks();
 			writeEndChunk();
@@ -522,6 +507,47 @@ public class PngWriter {
 		this.compLevel = compLevel;
 	}
 
+	/**
+	 * Enables parallel filtering and compression of the pixel data.
+	 * <p>
+	 * Rows are collected in blocks of ~128k, each block is filtered and
+	 * deflated by a task of the given executor, the resulting zlib stream is
+	 * stitched together in order (pigz style, each block primed with the last
+	 * 32k of its predecessor as dictionary). Filter selection (see
+	 * {@link #setFilterType(FilterType)}) is performed per block.
+	 * <p>
+	 * The executor must start tasks in submission order, e.g. a
+	 * {@link java.util.concurrent.ThreadPoolExecutor}. It is not shut down by
+	 * this writer.
+	 * <p>
+	 * This must be called just after constructor, before starting writing. It
+	 * has no effect if not {@link #isParallelModeAvailable() available}.
+	 *
+	 * @param executor
+	 *            executor for the block tasks, null for serial mode (default)
+	 * @param maxPendingBlocks
+	 *            maximum number of blocks in flight, limiting memory usage. 0
+	 *            for twice the number of available processors
+	 */
+	public void setParallelMode(final ExecutorService executor, final int maxPendingBlocks) {
+		if (datStream != null)
+			throw new PngjOutputException("parallel mode must be set before writing");
+		if (executor != null && !isParallelModeAvailable())
+			return;
+		this.parallelExecutor = executor;
+		this.parallelMaxPending = maxPendingBlocks > 0 ? maxPendingBlocks : 2 * Runtime.getRuntime()
+				.availableProcessors();
+	}
+
+	/**
+	 * Returns true if {@link #setParallelMode(ExecutorService, int)} is
+	 * supported by the runtime, i.e. if {@link Deflater} supports
+	 * <tt>SYNC_FLUSH</tt> (Java 7).
+	 */
+	public static boolean isParallelModeAvailable() {
+		return PngIDatParallelEncoder.isAvailable();
+	}
+
 	/**
 	 * Sets internal prediction filter type, or strategy to choose it.
 	 * <p>
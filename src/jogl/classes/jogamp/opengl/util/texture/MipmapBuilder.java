@@ -0,0 +1,505 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.util.texture;
+
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.GLPixelStorageModes;
+
+import jogamp.nativewindow.ParallelExecutor;
+import jogamp.opengl.glu.mipmap.Mipmap;
+
+/**
+ * Mipmap builder for 8-bit per component images, i.e. {@link GL#GL_UNSIGNED_BYTE} type
+ * with 1 to 4 components, e.g. {@link GL#GL_LUMINANCE}, {@link GL#GL_RGB} or {@link GL#GL_RGBA}.
+ * <p>
+ * Produces the same mipmap levels as <code>gluBuild2DMipmaps</code>,
+ * i.e. the same closest fit power-of-two size, the same box filter for non-power-of-two scaling
+ * and the same rounding for halving,
+ * but processes whole rows with primitive loops instead of per texel buffer positioning.
+ * </p>
+ * <p>
+ * Rows can be processed in parallel, see {@link ParallelExecutor}.
+ * </p>
+ */
+public class MipmapBuilder {
+
+    /**
+     * Returns the number of components of the given pixel format and type
+     * if supported by this builder, otherwise 0.
+     */
+    public static int getComponentCount(final int format, final int type) {
+        if( GL.GL_UNSIGNED_BYTE != type ) {
+            return 0;
+        }
+        final int comps = Mipmap.elements_per_group(format, type);
+        return 1 <= comps && comps <= 4 ? comps : 0;
+    }
+
+    /**
+     * Builds and uploads all mipmap levels of the given image, like <code>gluBuild2DMipmaps</code>.
+     * <p>
+     * The unpack pixel storage modes are set as required and restored.
+     * </p>
+     * @param gl current GL
+     * @param target texture target, e.g. {@link GL#GL_TEXTURE_2D}
+     * @param internalFormat texture internal format
+     * @param width image width
+     * @param height image height
+     * @param format pixel format
+     * @param type pixel type
+     * @param alignment row alignment of the image data
+     * @param data image data starting at its position
+     * @return true if the mipmaps have been uploaded, false if format, type or data are not supported by this builder.
+     */
+    public static boolean build2DMipmaps(final GL gl, final int target, final int internalFormat,
+                                         final int width, final int height, final int format, final int type,
+                                         final int alignment, final ByteBuffer data) {
+        final int comps = getComponentCount(format, type);
+        if( 0 == comps || 1 > width || 1 > height || 0 >= alignment ) {
+            return false;
+        }
+        final int srcStride = getStride(comps, width, alignment);
+        if( data.remaining() < srcStride * ( height - 1 ) + width * comps ) {
+            return false;
+        }
+        final int[] widthPowerOf2 = new int[1];
+        final int[] heightPowerOf2 = new int[1];
+        Mipmap.closestFit(gl, target, width, height, internalFormat, format, type, widthPowerOf2, heightPowerOf2);
+        int w = widthPowerOf2[0];
+        int h = heightPowerOf2[0];
+        final int levels = Math.max(Mipmap.computeLog(w), Mipmap.computeLog(h));
+
+        final GLPixelStorageModes psm = new GLPixelStorageModes();
+        try {
+            ByteBuffer src;
+            if( width == w && height == h ) {
+                src = data.slice();
+                psm.setUnpackAlignment(gl, alignment);
+                gl.glTexImage2D(target, 0, internalFormat, w, h, 0, format, type, src);
+                if( 0 == levels ) {
+                    return true;
+                }
+                final int nw = Math.max(1, w / 2);
+                final int nh = Math.max(1, h / 2);
+                final ByteBuffer dst = Buffers.newDirectByteBuffer(nw * nh * comps);
+                halve(comps, w, h, src, srcStride, dst);
+                src = dst;
+                w = nw;
+                h = nh;
+                psm.setUnpackAlignment(gl, 1);
+                gl.glTexImage2D(target, 1, internalFormat, w, h, 0, format, type, src);
+                buildLevels(gl, target, internalFormat, format, type, comps, w, h, src, 2, levels);
+            } else {
+                src = Buffers.newDirectByteBuffer(w * h * comps);
+                scale(comps, width, height, data.slice(), srcStride, w, h, src);
+                psm.setUnpackAlignment(gl, 1);
+                gl.glTexImage2D(target, 0, internalFormat, w, h, 0, format, type, src);
+                buildLevels(gl, target, internalFormat, format, type, comps, w, h, src, 1, levels);
+            }
+        } finally {
+            psm.restore(gl);
+        }
+        return true;
+    }
+
+    /** Halves the tightly packed level <code>level - 1</code> in <code>src</code> and uploads levels <code>[level..levels]</code>. */
+    private static void buildLevels(final GL gl, final int target, final int internalFormat, final int format, final int type,
+                                    final int comps, int w, int h, final ByteBuffer src, final int level, final int levels) {
+        if( level > levels ) {
+            return;
+        }
+        // ping-pong between two buffers, sized for the largest level to be produced
+        final int size = Math.max(1, w / 2) * Math.max(1, h / 2) * comps;
+        ByteBuffer a = src;
+        ByteBuffer b = Buffers.newDirectByteBuffer(size);
+        ByteBuffer c = level + 1 <= levels ? Buffers.newDirectByteBuffer(size) : null;
+        for(int l = level; l <= levels; l++) {
+            final int nw = Math.max(1, w / 2);
+            final int nh = Math.max(1, h / 2);
+            b.clear();
+            halve(comps, w, h, a, w * comps, b);
+            b.limit(nw * nh * comps);
+            gl.glTexImage2D(target, l, internalFormat, nw, nh, 0, format, type, b);
+            w = nw;
+            h = nh;
+            final ByteBuffer t = ( a == src ) ? c : a;
+            a = b;
+            b = t;
+        }
+    }
+
+    /** Returns the row stride in bytes of the given row width and alignment. */
+    public static int getStride(final int comps, final int width, final int alignment) {
+        final int rowBytes = width * comps;
+        final int padding = rowBytes % alignment;
+        return 0 != padding ? rowBytes + alignment - padding : rowBytes;
+    }
+
+    /**
+     * Halves the given image with a 2x2 box filter, rounding to nearest,
+     * or with a 2x1 box filter truncating if <code>width</code> or <code>height</code> is 1,
+     * identical to <code>gluBuild2DMipmaps</code>.
+     * <p>
+     * Odd trailing columns and rows are ignored.
+     * </p>
+     * @param comps number of 8-bit components per pixel, 1 to 4
+     * @param width source width, not both <code>width</code> and <code>height</code> may be 1
+     * @param height source height
+     * @param src source pixels starting at position 0, not modified
+     * @param srcStride source row stride in bytes
+     * @param dst destination starting at position 0, receiving <code>max(1, width/2) * max(1, height/2)</code> tightly packed pixels.
+     *        Position and limit are not modified.
+     */
+    public static void halve(final int comps, final int width, final int height,
+                             final ByteBuffer src, final int srcStride, final ByteBuffer dst) {
+        final int nw = Math.max(1, width / 2);
+        final int nh = Math.max(1, height / 2);
+        final int dstStride = nw * comps;
+        if( 1 == height ) {
+            // one row
+            final byte[] r0 = new byte[width * comps];
+            final byte[] out = new byte[dstStride];
+            final ByteBuffer s = src.duplicate();
+            s.clear();
+            s.get(r0);
+            for(int x = 0, i = 0, o = 0; x < nw; x++, i += comps) {
+                for(int k = 0; k < comps; k++, i++, o++) {
+                    out[o] = (byte) ( ( ( r0[i] & 0xFF ) + ( r0[i + comps] & 0xFF ) ) >> 1 );
+                }
+            }
+            final ByteBuffer d = dst.duplicate();
+            d.clear();
+            d.put(out);
+            return;
+        }
+        runRows(nw, nh, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int y0, final int y1) {
+                final ByteBuffer s = src.duplicate();
+                final ByteBuffer d = dst.duplicate();
+                s.clear();
+                d.clear();
+                final byte[] r0 = new byte[width * comps];
+                final byte[] r1 = new byte[width * comps];
+                final byte[] out = new byte[dstStride];
+                d.position(y0 * dstStride);
+                for(int y = y0; y < y1; y++) {
+                    s.position(2 * y * srcStride);
+                    s.get(r0);
+                    s.position(( 2 * y + 1 ) * srcStride);
+                    s.get(r1);
+                    if( 1 == width ) {
+                        // one column
+                        for(int k = 0; k < comps; k++) {
+                            out[k] = (byte) ( ( ( r0[k] & 0xFF ) + ( r1[k] & 0xFF ) ) >> 1 );
+                        }
+                    } else {
+                        halveRow(comps, nw, r0, r1, out);
+                    }
+                    d.put(out);
+                }
+            } } );
+    }
+
+    private static void halveRow(final int comps, final int nw, final byte[] r0, final byte[] r1, final byte[] out) {
+        switch( comps ) {
+            case 4:
+                for(int x = 0, i = 0, o = 0; x < nw; x++, i += 8, o += 4) {
+                    out[o    ] = avg4(r0[i    ], r0[i + 4], r1[i    ], r1[i + 4]);
+                    out[o + 1] = avg4(r0[i + 1], r0[i + 5], r1[i + 1], r1[i + 5]);
+                    out[o + 2] = avg4(r0[i + 2], r0[i + 6], r1[i + 2], r1[i + 6]);
+                    out[o + 3] = avg4(r0[i + 3], r0[i + 7], r1[i + 3], r1[i + 7]);
+                }
+                break;
+            case 3:
+                for(int x = 0, i = 0, o = 0; x < nw; x++, i += 6, o += 3) {
+                    out[o    ] = avg4(r0[i    ], r0[i + 3], r1[i    ], r1[i + 3]);
+                    out[o + 1] = avg4(r0[i + 1], r0[i + 4], r1[i + 1], r1[i + 4]);
+                    out[o + 2] = avg4(r0[i + 2], r0[i + 5], r1[i + 2], r1[i + 5]);
+                }
+                break;
+            case 1:
+                for(int x = 0, i = 0; x < nw; x++, i += 2) {
+                    out[x] = avg4(r0[i], r0[i + 1], r1[i], r1[i + 1]);
+                }
+                break;
+            default:
+                for(int x = 0, i = 0, o = 0; x < nw; x++, i += comps) {
+                    for(int k = 0; k < comps; k++, i++, o++) {
+                        out[o] = avg4(r0[i], r0[i + comps], r1[i], r1[i + comps]);
+                    }
+                }
+                break;
+        }
+    }
+
+    private static byte avg4(final byte a, final byte b, final byte c, final byte d) {
+        return (byte) ( ( ( a & 0xFF ) + ( b & 0xFF ) + ( c & 0xFF ) + ( d & 0xFF ) + 2 ) >> 2 );
+    }
+
+    /**
+     * Scales the given image with a box filter,
+     * identical to <code>gluScaleImage</code> for {@link GL#GL_UNSIGNED_BYTE}.
+     * @param comps number of 8-bit components per pixel, 1 to 4
+     * @param widthIn source width
+     * @param heightIn source height
+     * @param src source pixels starting at position 0, not modified
+     * @param srcStride source row stride in bytes
+     * @param widthOut destination width
+     * @param heightOut destination height
+     * @param dst destination starting at position 0, receiving <code>widthOut * heightOut</code> tightly packed pixels.
+     *        Position and limit are not modified.
+     */
+    public static void scale(final int comps, final int widthIn, final int heightIn, final ByteBuffer src, final int srcStride,
+                             final int widthOut, final int heightOut, final ByteBuffer dst) {
+        if( widthIn == widthOut * 2 && heightIn == heightOut * 2 ) {
+            halve(comps, widthIn, heightIn, src, srcStride, dst);
+            return;
+        }
+        final float convy = (float)heightIn / heightOut;
+        final float convx = (float)widthIn / widthOut;
+        final float area = convx * convy;
+        // The box bounds accumulate floats from row to row and column to column,
+        // hence they are computed sequentially up front to allow processing of independent rows.
+        final int[] lowxInt = new int[widthOut];
+        final int[] highxInt = new int[widthOut];
+        final float[] lowxFloat = new float[widthOut];
+        final float[] highxFloat = new float[widthOut];
+        {
+            final int convxInt = (int)Math.floor(convx);
+            final float convxFloat = convx - convxInt;
+            int lowInt = 0, highInt;
+            float lowFloat = 0.0f, highFloat;
+            // If we have a single column, fix the max width values to prevent buffer overflow
+            if( 1 == widthIn && 1 == widthOut ) {
+                highInt = 0;
+                highFloat = 0.0f;
+            } else {
+                highInt = convxInt;
+                highFloat = convxFloat;
+            }
+            for(int j = 0; j < widthOut; j++) {
+                lowxInt[j] = lowInt; lowxFloat[j] = lowFloat;
+                highxInt[j] = highInt; highxFloat[j] = highFloat;
+                lowInt = highInt;
+                lowFloat = highFloat;
+                highInt += convxInt;
+                highFloat += convxFloat;
+                if( highFloat > 1.0f ) {
+                    highFloat -= 1.0f;
+                    highInt++;
+                }
+                // Clamp to make sure we don't run off the right edge
+                if( highInt > widthIn - 1 ) {
+                    final int delta = highInt - widthIn + 1;
+                    lowInt -= delta;
+                    highInt -= delta;
+                }
+            }
+        }
+        final int[] lowyInt = new int[heightOut];
+        final int[] highyInt = new int[heightOut];
+        final float[] lowyFloat = new float[heightOut];
+        final float[] highyFloat = new float[heightOut];
+        {
+            final int convyInt = (int)Math.floor(convy);
+            final float convyFloat = convy - convyInt;
+            int lowInt = 0, highInt = convyInt;
+            float lowFloat = 0.0f, highFloat = convyFloat;
+            for(int i = 0; i < heightOut; i++) {
+                // Clamp here to be sure we don't read beyond input buffer.
+                if( highInt >= heightIn ) {
+                    highInt = heightIn - 1;
+                }
+                lowyInt[i] = lowInt; lowyFloat[i] = lowFloat;
+                highyInt[i] = highInt; highyFloat[i] = highFloat;
+                lowInt = highInt;
+                lowFloat = highFloat;
+                highInt += convyInt;
+                highFloat += convyFloat;
+                if( highFloat > 1.0f ) {
+                    highFloat -= 1.0f;
+                    highInt++;
+                }
+            }
+        }
+        // random row access, read from a heap array
+        final byte[] in;
+        final int inOffset;
+        if( src.hasArray() ) {
+            in = src.array();
+            inOffset = src.arrayOffset();
+        } else {
+            final ByteBuffer s = src.duplicate();
+            s.clear();
+            in = new byte[Math.min(s.remaining(), srcStride * ( heightIn - 1 ) + widthIn * comps)];
+            s.get(in);
+            inOffset = 0;
+        }
+        runRows(widthOut, heightOut, new ParallelExecutor.Range() {
+            @Override
+            public void run(final int y0, final int y1) {
+                final float[] totals = new float[4];
+                final byte[] out = new byte[widthOut * comps];
+                final ByteBuffer d = dst.duplicate();
+                d.clear();
+                d.position(y0 * widthOut * comps);
+                for(int i = y0; i < y1; i++) {
+                    scaleRow(comps, in, inOffset, srcStride, area, widthOut,
+                             lowyInt[i], lowyFloat[i], highyInt[i], highyFloat[i],
+                             lowxInt, lowxFloat, highxInt, highxFloat, totals, out);
+                    d.put(out);
+                }
+            } } );
+    }
+
+    /** Box filter of one destination row, port of the GLU <code>scale_internal_ubyte</code> loop body. */
+    private static void scaleRow(final int comps, final byte[] src, final int off, final int ysize, final float area, final int widthOut,
+                                 final int lowy_int, final float lowy_float, final int highy_int, final float highy_float,
+                                 final int[] lowxInt, final float[] lowxFloat, final int[] highxInt, final float[] highxFloat,
+                                 final float[] totals, final byte[] out) {
+        final int group_size = comps;
+        for(int j = 0; j < widthOut; j++) {
+            final int lowx_int = lowxInt[j];
+            final float lowx_float = lowxFloat[j];
+            final int highx_int = highxInt[j];
+            final float highx_float = highxFloat[j];
+            totals[0] = totals[1] = totals[2] = totals[3] = 0.0f;
+
+            // calculate the value for pixels in the 1st row
+            final int xindex = lowx_int * group_size;
+            int temp;
+            float percent;
+            if( ( highy_int > lowy_int ) && ( highx_int > lowx_int ) ) {
+                float y_percent = 1 - lowy_float;
+                temp = xindex + lowy_int * ysize;
+                percent = y_percent * ( 1 - lowx_float );
+                accumulate(src, off + temp, comps, percent, totals);
+                int left = temp;
+                for(int l = lowx_int + 1; l < highx_int; l++) {
+                    temp += group_size;
+                    accumulate(src, off + temp, comps, y_percent, totals);
+                }
+                temp += group_size;
+                int right = temp;
+                percent = y_percent * highx_float;
+                accumulate(src, off + temp, comps, percent, totals);
+
+                // calculate the value for pixels in the last row
+                y_percent = highy_float;
+                percent = y_percent * ( 1 - lowx_float );
+                temp = xindex + highy_int * ysize;
+                accumulate(src, off + temp, comps, percent, totals);
+                for(int l = lowx_int + 1; l < highx_int; l++) {
+                    temp += group_size;
+                    accumulate(src, off + temp, comps, y_percent, totals);
+                }
+                temp += group_size;
+                percent = y_percent * highx_float;
+                accumulate(src, off + temp, comps, percent, totals);
+
+                // calculate the value for the pixels in the 1st and last column
+                for(int m = lowy_int + 1; m < highy_int; m++) {
+                    left += ysize;
+                    right += ysize;
+                    for(int k = 0; k < comps; k++, left++, right++) {
+                        float f = ( src[off + left] & 0xFF ) * ( 1.0f - lowx_float );
+                        f += ( src[off + right] & 0xFF ) * highx_float;
+                        totals[k] += f;
+                    }
+                }
+            } else if( highy_int > lowy_int ) {
+                final float x_percent = highx_float - lowx_float;
+                percent = ( 1 - lowy_float ) * x_percent;
+                temp = xindex + lowy_int * ysize;
+                accumulate(src, off + temp, comps, percent, totals);
+                for(int m = lowy_int + 1; m < highy_int; m++) {
+                    temp += ysize;
+                    accumulate(src, off + temp, comps, x_percent, totals);
+                }
+                percent = x_percent * highy_float;
+                temp += ysize;
+                accumulate(src, off + temp, comps, percent, totals);
+            } else if( highx_int > lowx_int ) {
+                final float y_percent = highy_float - lowy_float;
+                percent = ( 1 - lowx_float ) * y_percent;
+                temp = xindex + lowy_int * ysize;
+                accumulate(src, off + temp, comps, percent, totals);
+                for(int l = lowx_int + 1; l < highx_int; l++) {
+                    temp += group_size;
+                    accumulate(src, off + temp, comps, y_percent, totals);
+                }
+                temp += group_size;
+                percent = y_percent * highx_float;
+                accumulate(src, off + temp, comps, percent, totals);
+            } else {
+                percent = ( highy_float - lowy_float ) * ( highx_float - lowx_float );
+                temp = xindex + lowy_int * ysize;
+                accumulate(src, off + temp, comps, percent, totals);
+            }
+
+            // this is for the pixels in the body
+            int temp0 = xindex + group_size + ( lowy_int + 1 ) * ysize;
+            for(int m = lowy_int + 1; m < highy_int; m++) {
+                temp = temp0;
+                for(int l = lowx_int + 1; l < highx_int; l++) {
+                    for(int k = 0; k < comps; k++) {
+                        totals[k] += ( src[off + temp + k] & 0xFF );
+                    }
+                    temp += group_size;
+                }
+                temp0 += ysize;
+            }
+
+            final int outindex = j * comps;
+            for(int k = 0; k < comps; k++) {
+                out[outindex + k] = (byte) ( totals[k] / area );
+            }
+        }
+    }
+
+    private static void accumulate(final byte[] src, final int idx, final int comps, final float percent, final float[] totals) {
+        for(int k = 0; k < comps; k++) {
+            totals[k] += ( src[idx + k] & 0xFF ) * percent;
+        }
+    }
+
+    /** Minimum number of destination pixels to process rows in parallel. */
+    private static final long PARALLEL_MIN_PIXELS = 64 * 64;
+
+    /**
+     * Runs the given {@link ParallelExecutor.Range} over rows {@code [0 .. height)},
+     * either on the calling thread or split in bands, see {@link ParallelExecutor}.
+     */
+    private static void runRows(final int width, final int height, final ParallelExecutor.Range job) {
+        ParallelExecutor.run(height, 1, (long)width * (long)height, PARALLEL_MIN_PIXELS, job);
+    }
+}
@@ -41,6 +41,7 @@
 #endif
 
 #include <GL/gl.h>
+#include <string.h>
 
 #define HAS_FUNC(f) (NULL!=(f))
 
@@ -1192,11 +1193,52 @@ JNIEXPORT void JNICALL FF_FUNC(setGLFuncs0)
 #define DBG_TEXSUBIMG2D_b(p)
 #endif
 
+/**
+ * Copies one plane w/ the given number of rows into the mapped PBO,
+ * each row tightly packed.
+ */
+static void copyPlane2PBO(uint8_t *pbo, const uint8_t *src, int32_t linesize, int32_t rowBytes, int32_t rows) {
+    const int32_t stride = linesize < 0 ? -linesize : linesize;
+    int32_t y;
+    if( stride == rowBytes ) {
+        memcpy(pbo, src, (size_t)rowBytes * rows);
+    } else {
+        for(y=0; y<rows; y++) {
+            memcpy(pbo, src, rowBytes);
+            pbo += rowBytes;
+            src += stride;
+        }
+    }
+}
+
+/**
+ * Video frame upload target: the bound texture via glTexSubImage2D,
+ * or the mapped pixel unpack buffer if pbo is not NULL.
+ */
+static jint readNextPacketImpl(JNIEnv *env, FFMPEGToolBasicAV_t *pAV, jint texTarget, jint texFmt, jint texType, uint8_t *pbo, size_t pboSize);
+
 JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
   (JNIEnv *env, jobject instance, jlong ptr, jint texTarget, jint texFmt, jint texType)
 {
     FFMPEGToolBasicAV_t *pAV = (FFMPEGToolBasicAV_t *)((void *)((intptr_t)ptr));
+    return readNextPacketImpl(env, pAV, texTarget, texFmt, texType, NULL, 0);
+}
+
+JNIEXPORT jint JNICALL FF_FUNC(readNextPacketPBO0)
+  (JNIEnv *env, jobject instance, jlong ptr, jobject jPBO)
+{
+    FFMPEGToolBasicAV_t *pAV = (FFMPEGToolBasicAV_t *)((void *)((intptr_t)ptr));
+    uint8_t * pbo = NULL != jPBO ? (uint8_t *) (*env)->GetDirectBufferAddress(env, jPBO) : NULL;
+    if( NULL == pbo ) {
+        JoglCommon_throwNewRuntimeException(env, "PBO is not a direct buffer");
+        return INVALID_PTS;
+    }
+    const size_t pboSize = (size_t) (*env)->GetDirectBufferCapacity(env, jPBO);
+    return readNextPacketImpl(env, pAV, 0, 0, 0, pbo, pboSize);
+}
 
+static jint readNextPacketImpl(JNIEnv *env, FFMPEGToolBasicAV_t *pAV, jint texTarget, jint texFmt, jint texType, uint8_t *pbo, size_t pboSize)
+{
     AVPacket packet;
     jint resPTS = INVALID_PTS;
     uint8_t * pkt_odata;
@@ -1442,6 +1484,45 @@ JNIEXPORT jint JNICALL FF_FUNC(readNextPacket0)
                     _setIsGLOriented(env, pAV);
                 }
 
+                if( NULL != pbo ) {
+                    // Copy planes into mapped PBO, texture upload is issued by caller
+                    const int32_t height = pAV->pVCodecCtx->height;
+                    int32_t rowBytes[3] = { 0, 0, 0 };
+                    int32_t rows[3] = { height, 0, 0 };
+                    int32_t planes = 1;
+                    if( pAV->vPixFmt == PIX_FMT_YUV420P || pAV->vPixFmt == PIX_FMT_YUVJ420P ) {
+                        planes = 3; rows[1] = height/2; rows[2] = height/2;
+                    } else if( pAV->vPixFmt == PIX_FMT_YUV422P || pAV->vPixFmt == PIX_FMT_YUVJ422P ) {
+                        planes = 3; rows[1] = height; rows[2] = height;
+                    }
+                    if( 1 == planes ) {
+                        rowBytes[0] = pAV->pVCodecCtx->width * pAV->vBytesPerPixelPerPlane;
+                    } else {
+                        rowBytes[0] = pAV->vTexWidth[0]; rowBytes[1] = pAV->vTexWidth[1]; rowBytes[2] = pAV->vTexWidth[2];
+                    }
+                    size_t pboOffset = 0;
+                    int32_t i;
+                    for(i=0; i<planes; i++) {
+                        pboOffset += (size_t)rowBytes[i] * rows[i];
+                    }
+                    if( pboOffset > pboSize ) {
+                        JoglCommon_throwNewRuntimeException(env, "PBO size %d < frame size %d", (int)pboSize, (int)pboOffset);
+                        if( pAV->useRefCountedFrames ) {
+                            sp_av_frame_unref(pAV->pVFrame);
+                        }
+                        break;
+                    }
+                    pboOffset = 0;
+                    for(i=0; i<planes; i++) {
+                        copyPlane2PBO(pbo + pboOffset, pAV->pVFrame->data[i] + p_offset[i], pAV->pVFrame->linesize[i], rowBytes[i], rows[i]);
+                        pboOffset += (size_t)rowBytes[i] * rows[i];
+                    }
+                    if( pAV->useRefCountedFrames ) {
+                        sp_av_frame_unref(pAV->pVFrame);
+                    }
+                    continue;
+                }
+
                 // 1st plane or complete packed frame
                 // FIXME: Libav Binary compatibility! JAU01
                 DBG_TEXSUBIMG2D_a('Y',pAV,1,1,1,0);
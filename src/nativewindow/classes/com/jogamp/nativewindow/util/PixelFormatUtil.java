@@ -29,11 +29,15 @@ package com.jogamp.nativewindow.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.HashMap;
 
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.Bitstream;
 
+import jogamp.nativewindow.ParallelExecutor;
+
 /**
  * Pixel Rectangle Utilities.
  * <p>
@@ -84,6 +88,300 @@ public class PixelFormatUtil {
         }
     }
 
+    /**
+     * Compiled pixel row conversion kernel for one source and destination {@link PixelFormat.Composition} pair.
+     * <p>
+     * Kernels operate on whole pixel words of up to 32 bits, i.e. {@link PixelFormat.Composition#bytesPerPixel()} &le; 4,
+     * using pre-computed shift/mask operations and lookup tables for component rescaling.
+     * No memory is allocated while converting.
+     * </p>
+     * <p>
+     * Results are identical to the generic per-pixel {@link Bitstream} conversion,
+     * since the lookup tables are computed using the same
+     * {@link PixelFormat.Composition#toFloat(int, int, boolean) toFloat} and
+     * {@link PixelFormat.Composition#fromFloat(float, int, boolean) fromFloat} operations.
+     * </p>
+     * <p>
+     * Instances are immutable, thread safe and cached,
+     * see {@link PixelFormatUtil#getRowConverter(PixelFormat.Composition, PixelFormat.Composition)}.
+     * </p>
+     */
+    public static abstract class RowConverter {
+        /** Source {@link PixelFormat.Composition} */
+        public final PixelFormat.Composition srcComp;
+        /** Destination {@link PixelFormat.Composition} */
+        public final PixelFormat.Composition dstComp;
+        protected final int srcBpp;
+        protected final int dstBpp;
+
+        protected RowConverter(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+            this.srcComp = srcComp;
+            this.dstComp = dstComp;
+            this.srcBpp = srcComp.bytesPerPixel();
+            this.dstBpp = dstComp.bytesPerPixel();
+        }
+
+        /**
+         * Converts one row of {@code width} pixels.
+         * <p>
+         * Buffer offsets are absolute byte indices, the buffer's position and limit are not used nor changed.
+         * Pixel words are read and written in little endian byte order as defined by {@link PixelFormat},
+         * independent of the buffer's {@link ByteBuffer#order() byte order}.
+         * </p>
+         * @param src source pixels
+         * @param srcOff absolute byte offset of the first source pixel
+         * @param dst destination pixels
+         * @param dstOff absolute byte offset of the first destination pixel
+         * @param width number of pixels
+         */
+        public final void convertRow(final ByteBuffer src, final int srcOff, final ByteBuffer dst, final int dstOff, final int width) {
+            convertRowImpl(src, ByteOrder.BIG_ENDIAN == src.order(), srcOff,
+                           dst, ByteOrder.BIG_ENDIAN == dst.order(), dstOff, width);
+        }
+
+        protected abstract void convertRowImpl(final ByteBuffer src, final boolean srcBE, int srcOff,
+                                               final ByteBuffer dst, final boolean dstBE, int dstOff, final int width);
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName()+"["+srcComp+" -> "+dstComp+"]";
+        }
+    }
+
+    /**
+     * Generic packed kernel, mapping each destination component
+     * from its source component or the destination's default value.
+     */
+    private static final class PackedRowConverter extends RowConverter {
+        private final int compCount;
+        private final int[] srcShift;
+        private final int[] srcMask;
+        private final int[] dstShift;
+        /** Per destination component source value to destination value lookup table, {@code null} if identical. */
+        private final int[][] lut;
+        /** Shifted default values of all unmapped destination components. */
+        private final int dstDefaults;
+
+        PackedRowConverter(final ComponentMap cmap, final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+            super(srcComp, dstComp);
+            final int dCompCount = dstComp.componentCount();
+            final int[] sCompShift = srcComp.componentBitShift();
+            final int[] sCompMask = srcComp.componentBitMask();
+            final int[] sCompBitCount = srcComp.componentBitCount();
+            final int[] dCompShift = dstComp.componentBitShift();
+            final int[] dCompBitCount = dstComp.componentBitCount();
+            int mapped = 0;
+            for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                if( 0 <= cmap.dst2src[dIdx] ) {
+                    mapped++;
+                }
+            }
+            compCount = mapped;
+            srcShift = new int[mapped];
+            srcMask = new int[mapped];
+            dstShift = new int[mapped];
+            lut = new int[mapped][];
+            int defaults = 0;
+            for(int dIdx=0, i=0; dIdx<dCompCount; dIdx++) {
+                final int sIdx = cmap.dst2src[dIdx];
+                if( 0 <= sIdx ) {
+                    srcShift[i] = sCompShift[sIdx];
+                    srcMask[i] = sCompMask[sIdx];
+                    dstShift[i] = dCompShift[dIdx];
+                    if( sCompBitCount[sIdx] != dCompBitCount[dIdx] ) {
+                        final int[] t = new int[sCompMask[sIdx]+1];
+                        for(int v=0; v<t.length; v++) {
+                            t[v] = dstComp.fromFloat(srcComp.toFloat(v, sIdx, false), dIdx, false);
+                        }
+                        lut[i] = t;
+                    }
+                    i++;
+                } else {
+                    defaults |= dstComp.defaultValue(dIdx, true);
+                }
+            }
+            dstDefaults = defaults;
+        }
+
+        @Override
+        protected void convertRowImpl(final ByteBuffer src, final boolean srcBE, int srcOff,
+                                      final ByteBuffer dst, final boolean dstBE, int dstOff, final int width) {
+            for(int x=0; x<width; x++) {
+                final int s = getPixelI32(src, srcBE, srcOff, srcBpp);
+                int d = dstDefaults;
+                for(int i=0; i<compCount; i++) {
+                    final int[] t = lut[i];
+                    final int v = ( s >>> srcShift[i] ) & srcMask[i];
+                    d |= ( null != t ? t[v] : v ) << dstShift[i];
+                }
+                putPixelI32(dst, dstBE, dstOff, dstBpp, d);
+                srcOff += srcBpp;
+                dstOff += dstBpp;
+            }
+        }
+    }
+
+    /**
+     * RGB[A] -> Y kernel, averaging the RGB components.
+     */
+    private static final class LuminanceRowConverter extends RowConverter {
+        private final int rShift, gShift, bShift;
+        private final int rMask, gMask, bMask;
+        private final float[] rLut, gLut, bLut;
+        private final int yShift;
+
+        LuminanceRowConverter(final ComponentMap cmap, final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+            super(srcComp, dstComp);
+            final int[] sCompShift = srcComp.componentBitShift();
+            final int[] sCompMask = srcComp.componentBitMask();
+            final int rIdx = cmap.srcRGBA[0], gIdx = cmap.srcRGBA[1], bIdx = cmap.srcRGBA[2];
+            rShift = sCompShift[rIdx]; rMask = sCompMask[rIdx]; rLut = toFloatLut(srcComp, rIdx);
+            gShift = sCompShift[gIdx]; gMask = sCompMask[gIdx]; gLut = toFloatLut(srcComp, gIdx);
+            bShift = sCompShift[bIdx]; bMask = sCompMask[bIdx]; bLut = toFloatLut(srcComp, bIdx);
+            yShift = dstComp.componentBitShift()[0];
+        }
+        private static float[] toFloatLut(final PixelFormat.Composition comp, final int cIdx) {
+            final float[] t = new float[comp.componentBitMask()[cIdx]+1];
+            for(int v=0; v<t.length; v++) {
+                t[v] = comp.toFloat(v, cIdx, false);
+            }
+            return t;
+        }
+
+        @Override
+        protected void convertRowImpl(final ByteBuffer src, final boolean srcBE, int srcOff,
+                                      final ByteBuffer dst, final boolean dstBE, int dstOff, final int width) {
+            for(int x=0; x<width; x++) {
+                final int s = getPixelI32(src, srcBE, srcOff, srcBpp);
+                final float lF = ( rLut[ ( s >>> rShift ) & rMask ] +
+                                   gLut[ ( s >>> gShift ) & gMask ] +
+                                   bLut[ ( s >>> bShift ) & bMask ] ) / 3f;
+                putPixelI32(dst, dstBE, dstOff, dstBpp, dstComp.fromFloat(lF, 0, false) << yShift);
+                srcOff += srcBpp;
+                dstOff += dstBpp;
+            }
+        }
+    }
+
+    /** Maximum component bit count supported by {@link RowConverter} lookup tables. */
+    private static final int ROWCONV_MAX_COMP_BITS = 16;
+
+    private static final HashMap<RowConverterKey, RowConverter> rowConverterCache = new HashMap<RowConverterKey, RowConverter>();
+
+    private static final class RowConverterKey {
+        final PixelFormat.Composition src, dst;
+        final int hashCode;
+        RowConverterKey(final PixelFormat.Composition src, final PixelFormat.Composition dst) {
+            this.src = src;
+            this.dst = dst;
+            // 31 * x == (x << 5) - x
+            this.hashCode = ( ( src.hashCode() << 5 ) - src.hashCode() ) + dst.hashCode();
+        }
+        @Override
+        public int hashCode() { return hashCode; }
+        @Override
+        public boolean equals(final Object obj) {
+            if( this == obj ) { return true; }
+            if( obj instanceof RowConverterKey ) {
+                final RowConverterKey o = (RowConverterKey)obj;
+                return src.equals(o.src) && dst.equals(o.dst);
+            }
+            return false;
+        }
+    }
+
+    private static boolean isRowConverterCapable(final PixelFormat.Composition comp) {
+        if( !comp.isInterleaved() || 0 != comp.bitStride() % 8 || 4 < comp.bytesPerPixel() ) {
+            return false;
+        }
+        final int[] bitCount = comp.componentBitCount();
+        for(int i=bitCount.length-1; i>=0; i--) {
+            if( ROWCONV_MAX_COMP_BITS < bitCount[i] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the cached compiled {@link RowConverter} for the given {@link PixelFormat.Composition} pair,
+     * creating it on first request.
+     * <p>
+     * Returns {@code null} if the compositions are not supported by a compiled kernel,
+     * i.e. if not {@link PixelFormat.Composition#isInterleaved() interleaved},
+     * exceeding 32 bits per pixel, not byte aligned or having components exceeding 16 bits.
+     * </p>
+     */
+    public static RowConverter getRowConverter(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+        if( !isRowConverterCapable(srcComp) || !isRowConverterCapable(dstComp) ) {
+            return null;
+        }
+        final RowConverterKey key = new RowConverterKey(srcComp, dstComp);
+        synchronized( rowConverterCache ) {
+            RowConverter rc = rowConverterCache.get(key);
+            if( null == rc ) {
+                final ComponentMap cmap = new ComponentMap(srcComp, dstComp);
+                if( 1 == dstComp.componentCount() &&
+                    PixelFormat.CType.Y == dstComp.componentOrder()[0] &&
+                    cmap.hasSrcRGB )
+                {
+                    rc = new LuminanceRowConverter(cmap, srcComp, dstComp);
+                } else {
+                    rc = new PackedRowConverter(cmap, srcComp, dstComp);
+                }
+                rowConverterCache.put(key, rc);
+                if( DEBUG ) {
+                    System.err.println("XXX: new "+rc);
+                }
+            }
+            return rc;
+        }
+    }
+
+    /**
+     * Returns the little endian pixel word of up to 4 {@code bytesPerPixel} at absolute byte offset {@code off}.
+     */
+    private static int getPixelI32(final ByteBuffer bb, final boolean bigEndian, final int off, final int bytesPerPixel) {
+        switch( bytesPerPixel ) {
+            case 1:
+                return 0xff & bb.get(off);
+            case 2: {
+                final short v = bb.getShort(off);
+                return 0xffff & ( bigEndian ? Short.reverseBytes(v) : v );
+            }
+            case 3:
+                return   ( 0xff & bb.get(off  ) )        |
+                       ( ( 0xff & bb.get(off+1) ) <<  8 ) |
+                       ( ( 0xff & bb.get(off+2) ) << 16 ) ;
+            default: {
+                final int v = bb.getInt(off);
+                return bigEndian ? Integer.reverseBytes(v) : v;
+            }
+        }
+    }
+
+    /**
+     * Stores the little endian pixel word {@code v} of up to 4 {@code bytesPerPixel} at absolute byte offset {@code off}.
+     */
+    private static void putPixelI32(final ByteBuffer bb, final boolean bigEndian, final int off, final int bytesPerPixel, final int v) {
+        switch( bytesPerPixel ) {
+            case 1:
+                bb.put(off, (byte)v);
+                break;
+            case 2:
+                bb.putShort(off, bigEndian ? Short.reverseBytes((short)v) : (short)v);
+                break;
+            case 3:
+                bb.put(off  , (byte)( v        ));
+                bb.put(off+1, (byte)( v >>>  8 ));
+                bb.put(off+2, (byte)( v >>> 16 ));
+                break;
+            default:
+                bb.putInt(off, bigEndian ? Integer.reverseBytes(v) : v);
+                break;
+        }
+    }
+
     public static final int find(final PixelFormat.CType s,
                                  final PixelFormat.CType[] pool, final boolean mapRGB2Y) {
         int i=pool.length-1;
@@ -442,6 +740,7 @@ public class PixelFormatUtil {
         final int dst_comp_bitStride = dst_comp.bitStride();
         final boolean vert_flip = src_glOriented != dst_glOriented;
         final boolean fast_copy = src_comp.equals(dst_comp) && 0 == dst_comp_bitStride%8;
+        final RowConverter rowConverter;
         if( DEBUG ) {
             System.err.println("XXX: size "+width+"x"+height+", fast_copy "+fast_copy);
             System.err.println("XXX: SRC fmt "+src_fmt+", "+src_comp+", stride "+src_lineStride+", isGLOrient "+src_glOriented);
@@ -450,26 +749,39 @@ public class PixelFormatUtil {
 
         if( fast_copy ) {
             // Fast copy
-            for(int y=0; y<height; y++) {
-                int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
-                int dst_off = dst_lineStride*y;
-                for(int x=0; x<width; x++) {
-                    dst_bb.put(dst_off+0, src_bb.get(src_off+0)); // 1
-                    if( 2 <= dst_bpp ) {
-                        dst_bb.put(dst_off+1, src_bb.get(src_off+1)); // 2
-                        if( 3 <= dst_bpp ) {
-                            dst_bb.put(dst_off+2, src_bb.get(src_off+2)); // 3
-                            if( 4 <= dst_bpp ) {
-                                dst_bb.put(dst_off+3, src_bb.get(src_off+3)); // 4
-                            }
+            final int rowBytes = dst_bpp * width;
+            final int srcStride = src_lineStride, dstStride = dst_lineStride;
+            if( !vert_flip && srcStride == dstStride && 0 < height ) {
+                // Single bulk copy, including in-between line padding
+                bulkCopy(src_bb, 0, dst_bb, 0, ( height - 1 ) * dstStride + rowBytes);
+            } else {
+                runRows(width, height, new ParallelExecutor.Range() {
+                    @Override
+                    public void run(final int y0, final int y1) {
+                        final ByteBuffer src = src_bb.duplicate();
+                        final ByteBuffer dst = dst_bb.duplicate();
+                        for(int y=y0; y<y1; y++) {
+                            final int src_off = vert_flip ? ( height - 1 - y ) * srcStride : y * srcStride;
+                            src.limit(src_off + rowBytes);
+                            src.position(src_off);
+                            dst.position(dstStride*y);
+                            dst.put(src);
                         }
-                    }
-                    src_off += src_bpp;
-                    dst_off += dst_bpp;
-                }
+                    } } );
             }
+        } else if( null != ( rowConverter = getRowConverter(src_comp, dst_comp) ) ) {
+            // Compiled row kernel conversion
+            final int srcStride = src_lineStride, dstStride = dst_lineStride;
+            runRows(width, height, new ParallelExecutor.Range() {
+                @Override
+                public void run(final int y0, final int y1) {
+                    for(int y=y0; y<y1; y++) {
+                        final int src_off = vert_flip ? ( height - 1 - y ) * srcStride : y * srcStride;
+                        rowConverter.convertRow(src_bb, src_off, dst_bb, dstStride*y, width);
+                    }
+                } } );
         } else {
-            // Conversion
+            // Generic Bitstream conversion
             final ComponentMap cmap = new ComponentMap(src_fmt.comp, dst_fmt.comp);
 
             final Bitstream.ByteBufferStream srcBBS = new Bitstream.ByteBufferStream(src_bb);
@@ -487,13 +799,14 @@ public class PixelFormatUtil {
                 System.err.println("XXX: srcBitStream "+srcBitStream);
                 System.err.println("XXX: dstBitStream "+dstBitStream);
             }
+            final int[] srcValues = new int[src_comp.componentCount()];
             try {
                 for(int y=0; y<height; y++) {
                     final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride * 8 : y * src_lineStride * 8;
                     // final int dst_off = dst_lineStride*8*y;
                     srcBitStream.position(src_off);
                     for(int x=0; x<width; x++) {
-                        convert(cmap, dst_comp, dstBitStream, src_comp, srcBitStream);
+                        convert(cmap, dst_comp, dstBitStream, src_comp, srcBitStream, srcValues);
                     }
                     // srcBitStream.skip(( src_lineStride * 8 ) - ( src_comp_bitStride * width ));
                     dstBitStream.skip(( dst_lineStride * 8 ) - ( dst_comp_bitStride * width ));
@@ -508,15 +821,51 @@ public class PixelFormatUtil {
         }
     }
 
+    /**
+     * Bulk copy of {@code length} bytes using absolute offsets,
+     * leaving position and limit of both buffers untouched.
+     */
+    private static void bulkCopy(final ByteBuffer src_bb, final int srcOff, final ByteBuffer dst_bb, final int dstOff, final int length) {
+        final ByteBuffer src = src_bb.duplicate();
+        final ByteBuffer dst = dst_bb.duplicate();
+        src.limit(srcOff + length);
+        src.position(srcOff);
+        dst.position(dstOff);
+        dst.put(src);
+    }
+
+    /** Minimum number of pixels, i.e. {@code width * height}, to process rows in parallel. */
+    private static final long PARALLEL_MIN_PIXELS = 128 * 128;
+
+    /**
+     * Runs the given job over rows {@code [0 .. height)},
+     * either on the calling thread or split in bands, see {@link ParallelExecutor}.
+     */
+    private static void runRows(final int width, final int height, final ParallelExecutor.Range job) {
+        ParallelExecutor.run(height, 1, (long)width * (long)height, PARALLEL_MIN_PIXELS, job);
+    }
+
     public static void convert(final ComponentMap cmap,
                                final PixelFormat.Composition dstComp,
                                final Bitstream<ByteBuffer> dstBitStream,
                                final PixelFormat.Composition srcComp,
                                final Bitstream<ByteBuffer> srcBitStream) throws IllegalStateException, IOException {
+        convert(cmap, dstComp, dstBitStream, srcComp, srcBitStream, new int[srcComp.componentCount()]);
+    }
+
+    /**
+     * Converts one pixel, using the given {@code srcValues} as scratch storage
+     * for the source component values of length {@link PixelFormat.Composition#componentCount()} of source.
+     */
+    private static void convert(final ComponentMap cmap,
+                                final PixelFormat.Composition dstComp,
+                                final Bitstream<ByteBuffer> dstBitStream,
+                                final PixelFormat.Composition srcComp,
+                                final Bitstream<ByteBuffer> srcBitStream,
+                                final int[] srcValues) throws IllegalStateException, IOException {
         final int sCompCount = srcComp.componentCount();
         final int dCompCount = dstComp.componentCount();
-        final int[] sc = new int[sCompCount];
-        final int[] dcDef = new int[dCompCount];
+        final int[] sc = srcValues;
         final int[] srcCompBitCount = srcComp.componentBitCount();
         final int[] srcCompBitMask = srcComp.componentBitMask();
         final int[] dstCompBitCount = dstComp.componentBitCount();
@@ -527,11 +876,6 @@ public class PixelFormatUtil {
         }
         srcBitStream.skip(srcComp.bitStride() - srcComp.bitsPerPixel());
 
-        // Cache missing defaults
-        for(int i=0; i<dCompCount; i++) {
-            dcDef[i] = dstComp.defaultValue(i, false);
-        }
-
         if( 1 == dCompCount &&
             PixelFormat.CType.Y == dstComp.componentOrder()[0] &&
             cmap.hasSrcRGB
@@ -584,11 +928,12 @@ public class PixelFormatUtil {
                     }
                 }
             } else {
-                dstBitStream.writeBits31(dstCompBitCount[dIdx], dcDef[dIdx]);
+                final int dcDef = dstComp.defaultValue(dIdx, false);
+                dstBitStream.writeBits31(dstCompBitCount[dIdx], dcDef);
                 if( DEBUG ) {
                     if( srcBitStream.position() <= 8*4 ) {
                         System.err.printf("convert: srcC %d: undef -> dstC %d 0x%08X (%d bits: %s)%n",
-                                sIdx, dIdx, dcDef[dIdx], dstCompBitCount[dIdx], Bitstream.toBinString(true, dcDef[dIdx], dstCompBitCount[dIdx]));
+                                sIdx, dIdx, dcDef, dstCompBitCount[dIdx], Bitstream.toBinString(true, dcDef, dstCompBitCount[dIdx]));
                     }
                 }
             }
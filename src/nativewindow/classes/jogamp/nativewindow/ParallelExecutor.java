@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.nativewindow;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Optional parallel processing of independent work units, e.g. bands of pixel rows,
+ * using one pool of daemon worker threads shared by all features.
+ * <p>
+ * Parallel processing is disabled by default and configured once for all features,
+ * either via the property <code>nativewindow.parallel.threads</code> or at runtime via {@link #setThreadCount(int)}.
+ * If enabled, work is split into up to <code>threadCount</code> bands,
+ * processed concurrently by the pool of <code>threadCount - 1</code> worker threads and the calling thread.
+ * Each feature passes its own minimum work size to {@link #run(int, int, long, long, Range)},
+ * below which the calling thread alone is faster than distributing the work.
+ * </p>
+ * <p>
+ * Executor and thread count are published as one immutable {@link Setup}.
+ * A replaced or disabled pool is not shut down, since a concurrent caller may still submit work to it.
+ * Its idle worker threads terminate after a short keep-alive time instead.
+ * </p>
+ * <p>
+ * Work issued by a worker thread of the pool is processed on that thread,
+ * i.e. a job never waits for bands queued behind itself.
+ * </p>
+ */
+public final class ParallelExecutor {
+    /** Processing of a band of work units, see {@link ParallelExecutor#run(int, int, long, long, Range)}. */
+    public static abstract class Range {
+        /** Process units <code>[i0 .. i1)</code>. Must be thread safe for disjoint bands. */
+        public abstract void run(final int i0, final int i1);
+    }
+
+    /** Immutable setup of a {@link ParallelExecutor}. */
+    public static final class Setup {
+        /** The executor, <code>null</code> if parallel processing is disabled. */
+        public final ExecutorService executor;
+        /** Number of concurrent threads incl. the calling thread, <code>1</code> if parallel processing is disabled. */
+        public final int threadCount;
+        /** If true, each feature's minimum work size is ignored. */
+        public final boolean anySize;
+
+        private Setup(final ExecutorService executor, final int threadCount, final boolean anySize) {
+            this.executor = executor;
+            this.threadCount = threadCount;
+            this.anySize = anySize;
+        }
+
+        /**
+         * Returns true if work of the given size shall be processed in parallel,
+         * i.e. parallel processing is enabled and the work reaches the given feature's minimum work size.
+         */
+        public final boolean isParallel(final long size, final long featureMinSize) {
+            return null != executor && ( anySize || size >= featureMinSize ) &&
+                   !( Thread.currentThread() instanceof Worker );
+        }
+    }
+
+    private static final Setup SERIAL = new Setup(null, 1, false);
+    private static final long KEEP_ALIVE_MS = 5000;
+
+    /** Worker thread of a pool, see {@link Setup#isParallel(long, long)}. */
+    private static final class Worker extends Thread {
+        Worker(final Runnable r, final String name) {
+            super(r, name);
+            setDaemon(true);
+        }
+    }
+
+    private static volatile Setup shared = SERIAL;
+
+    private ParallelExecutor() {}
+
+    static {
+        final int threadCount = Debug.getIntProperty("nativewindow.parallel.threads", true, 0);
+        if( 1 < threadCount ) {
+            setThreadCount(threadCount);
+        }
+    }
+
+    /**
+     * Enables or disables parallel processing for all features.
+     * @param threadCount number of concurrent threads incl. the calling thread, a value &le; 1 disables parallel processing
+     */
+    public static void setThreadCount(final int threadCount) {
+        setThreadCount(threadCount, false);
+    }
+
+    /**
+     * Enables or disables parallel processing for all features.
+     * @param threadCount number of concurrent threads incl. the calling thread, a value &le; 1 disables parallel processing
+     * @param anySize if true, work is split regardless of each feature's minimum work size, e.g. for testing small inputs
+     */
+    public static synchronized void setThreadCount(final int threadCount, final boolean anySize) {
+        final Setup old = shared;
+        if( 1 < threadCount ) {
+            final ExecutorService executor;
+            if( null != old.executor && threadCount == old.threadCount ) {
+                executor = old.executor;
+            } else {
+                executor = createPool(threadCount - 1);
+            }
+            shared = new Setup(executor, threadCount, anySize);
+        } else {
+            shared = SERIAL;
+        }
+    }
+
+    /**
+     * Returns the current {@link Setup} of the shared pool, use one instance for a complete operation.
+     * <p>
+     * {@link Setup#executor} starts tasks in submission order.
+     * Features submitting to it directly shall bound their pending tasks to a small multiple of {@link Setup#threadCount}.
+     * </p>
+     */
+    public static Setup getCurrentSetup() { return shared; }
+
+    /**
+     * Runs the given {@link Range} over units <code>[0 .. count)</code> using the shared pool,
+     * either on the calling thread or split in bands processed concurrently.
+     * <p>
+     * Work is split into up to {@link Setup#threadCount} bands, if parallel processing is enabled,
+     * <code>size</code> reaches <code>minSize</code> and at least two bands of <code>alignment</code> units result.
+     * The calling thread processes the first band.
+     * Band boundaries are a multiple of <code>alignment</code>.
+     * </p>
+     * @param count number of units
+     * @param alignment band boundaries are a multiple of this value, also the minimum band size
+     * @param size work size compared against <code>minSize</code>, e.g. the pixel count of an image
+     * @param minSize the feature's minimum work size to use parallel processing
+     * @param job the job
+     */
+    public static void run(final int count, final int alignment, final long size, final long minSize, final Range job) {
+        final Setup s = shared;
+        if( !s.isParallel(size, minSize) ) {
+            job.run(0, count);
+        } else {
+            runBands(s, count, alignment, job);
+        }
+    }
+
+    private static ExecutorService createPool(final int poolSize) {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+                                                               new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger(0);
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Worker(r, "ParallelExecutor-Worker-"+count.getAndIncrement());
+            } } );
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static void runBands(final Setup s, final int count, final int alignment, final Range job) {
+        final int _alignment = Math.max(1, alignment);
+        final int bandCount = Math.min(s.threadCount, count / _alignment);
+        if( 2 > bandCount ) {
+            job.run(0, count);
+            return;
+        }
+        final int[] bounds = new int[bandCount+1];
+        for(int i=1; i<bandCount; i++) {
+            final int b = (int) ( ( (long)count * i ) / bandCount );
+            bounds[i] = b - ( b % _alignment );
+        }
+        bounds[bandCount] = count;
+        final Future<?>[] futures = new Future<?>[bandCount-1];
+        for(int i=1; i<bandCount; i++) {
+            final int i0 = bounds[i];
+            final int i1 = bounds[i+1];
+            futures[i-1] = s.executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    job.run(i0, i1);
+                } } );
+        }
+        Throwable failure = null;
+        try {
+            job.run(0, bounds[1]);
+        } catch (final Throwable t) {
+            failure = t;
+        }
+        for(int i=0; i<futures.length; i++) {
+            try {
+                waitFor(futures[i]);
+            } catch (final Throwable t) {
+                if( null == failure ) {
+                    failure = t;
+                }
+            }
+        }
+        if( null != failure ) {
+            throw asUnchecked(failure);
+        }
+    }
+
+    /**
+     * Waits for completion of the given task, rethrowing its failure.
+     * <p>
+     * Waiting is not aborted by an interrupt, since the task may still access shared data,
+     * the interrupt status is restored afterwards.
+     * </p>
+     */
+    public static void waitFor(final Future<?> f) {
+        boolean interrupted = false;
+        try {
+            while( true ) {
+                try {
+                    f.get();
+                    return;
+                } catch (final InterruptedException ie) {
+                    interrupted = true;
+                } catch (final ExecutionException ee) {
+                    throw asUnchecked(ee.getCause());
+                }
+            }
+        } finally {
+            if( interrupted ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static RuntimeException asUnchecked(final Throwable t) {
+        if( t instanceof RuntimeException ) {
+            return (RuntimeException) t;
+        } else if( t instanceof Error ) {
+            throw (Error) t;
+        }
+        return new RuntimeException(t);
+    }
+}
@@ -37,7 +37,8 @@
 
 package jogamp.newt;
 
-import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.jogamp.nativewindow.NativeWindowException;
 
@@ -89,8 +90,8 @@ public class DefaultEDTUtil implements EDTUtil {
                 throw new IllegalStateException("EDT still running and not subject to stop. Curr "+Thread.currentThread().getName()+", EDT "+edt.getName()+", isRunning "+edt.isRunning+", shouldStop "+edt.shouldStop);
             }
             if(DEBUG) {
-                if(edt.tasks.size()>0) {
-                    System.err.println(Thread.currentThread()+": Default-EDT reset, remaining tasks: "+edt.tasks.size()+" - "+edt);
+                if(edt.taskCount.get()>0) {
+                    System.err.println(Thread.currentThread()+": Default-EDT reset, remaining tasks: "+edt.taskCount.get()+" - "+edt);
                 }
                 System.err.println(Thread.currentThread()+": Default-EDT reset - edt: "+edt);
             }
@@ -111,7 +112,7 @@ public class DefaultEDTUtil implements EDTUtil {
 
     private final void startImpl() {
         if(edt.isAlive()) {
-            throw new RuntimeException("Default-EDT Thread.isAlive(): true, isRunning: "+edt.isRunning+", shouldStop "+edt.shouldStop+", edt: "+edt+", tasks: "+edt.tasks.size());
+            throw new RuntimeException("Default-EDT Thread.isAlive(): true, isRunning: "+edt.isRunning+", shouldStop "+edt.shouldStop+", edt: "+edt+", tasks: "+edt.taskCount.get());
         }
         start_iter++;
         edt.setName(name+start_iter);
@@ -189,8 +190,8 @@ public class DefaultEDTUtil implements EDTUtil {
                     wait = false; // running in same thread (EDT) -> no wait
                     if( stop ) {
                         edt.shouldStop = true;
-                        if( edt.tasks.size()>0 ) {
-                            System.err.println(Thread.currentThread()+": Warning: Default-EDT about (2) to stop, task executed. Remaining tasks: "+edt.tasks.size()+" - "+edt);
+                        if( edt.taskCount.get()>0 ) {
+                            System.err.println(Thread.currentThread()+": Warning: Default-EDT about (2) to stop, task executed. Remaining tasks: "+edt.taskCount.get()+" - "+edt);
                             if(DEBUG) {
                                 ExceptionUtils.dumpStack(System.err);
                             }
@@ -200,7 +201,7 @@ public class DefaultEDTUtil implements EDTUtil {
                     if( !edt.isRunning ) {
                         if( null != task ) {
                             if( stop ) {
-                                System.err.println(Thread.currentThread()+": Warning: Default-EDT is about (3) to stop and stopped already, dropping task. Remaining tasks: "+edt.tasks.size()+" - "+edt);
+                                System.err.println(Thread.currentThread()+": Warning: Default-EDT is about (3) to stop and stopped already, dropping task. Remaining tasks: "+edt.taskCount.get()+" - "+edt);
                             } else {
                                 System.err.println(Thread.currentThread()+": Warning: Default-EDT is not running, dropping task. NEDT "+edt);
                             }
@@ -214,20 +215,17 @@ public class DefaultEDTUtil implements EDTUtil {
                     }
 
                     if(null != task) {
-                        synchronized(edt.tasks) {
-                            rTask = new RunnableTask(task,
-                                                     wait ? rTaskLock : null,
-                                                     true /* always catch and report Exceptions, don't disturb EDT */,
-                                                     wait ? null : System.err);
-                            if(stop) {
-                                rTask.setAttachment(TASK_ATTACHMENT_STOP); // mark final task, will imply shouldStop:=true
-                            } else if(provokeError) {
-                                rTask.setAttachment(TASK_ATTACHMENT_TEST_ERROR);
-                            }
-                            // append task ..
-                            edt.tasks.add(rTask);
-                            edt.tasks.notifyAll();
+                        rTask = new RunnableTask(task,
+                                                 wait ? rTaskLock : null,
+                                                 true /* always catch and report Exceptions, don't disturb EDT */,
+                                                 wait ? null : System.err);
+                        if(stop) {
+                            rTask.setAttachment(TASK_ATTACHMENT_STOP); // mark final task, will imply shouldStop:=true
+                        } else if(provokeError) {
+                            rTask.setAttachment(TASK_ATTACHMENT_TEST_ERROR);
                         }
+                        // append task ..
+                        edt.enqueue(rTask);
                     } else {
                         wait = false;
                     }
@@ -267,11 +265,11 @@ public class DefaultEDTUtil implements EDTUtil {
         if(!_edt.isRunning || _edt == Thread.currentThread()) {
             return false;
         }
-        synchronized(_edt.tasks) {
-            while(_edt.isRunning && _edt.tasks.size()>0) {
+        synchronized(_edt.taskSignal) {
+            while(_edt.isRunning && _edt.taskCount.get()>0) {
                 try {
-                    _edt.tasks.notifyAll();
-                    _edt.tasks.wait();
+                    _edt.taskSignal.notifyAll();
+                    _edt.taskSignal.wait();
                 } catch (final InterruptedException e) {
                     e.printStackTrace();
                 }
@@ -298,10 +296,26 @@ public class DefaultEDTUtil implements EDTUtil {
         }
     }
 
+    /**
+     * The EDT draining all pending one shot tasks per loop iteration.
+     * <p>
+     * Tasks are passed via a lock-free multiple producer single consumer queue,
+     * the monitor {@link #taskSignal} is only used to wake up the idle EDT
+     * and to notify {@link DefaultEDTUtil#waitUntilIdle()}.
+     * </p>
+     */
     class NEDT extends Thread {
         volatile boolean shouldStop = false;
         volatile boolean isRunning = false;
-        final ArrayList<RunnableTask> tasks = new ArrayList<RunnableTask>(); // one shot tasks
+        /** One shot tasks, polled by this thread only. */
+        final ConcurrentLinkedQueue<RunnableTask> tasks = new ConcurrentLinkedQueue<RunnableTask>();
+        /** Number of queued or executing tasks, i.e. decremented after a task has been executed or flushed. */
+        final AtomicInteger taskCount = new AtomicInteger(0);
+        final Object taskSignal = new Object();
+        /** True while this thread is about to wait for tasks on {@link #taskSignal}. */
+        private volatile boolean idle = false;
+        /** A taken {@link DefaultEDTUtil#TASK_ATTACHMENT_TEST_ERROR} task, flushed when exiting. */
+        private RunnableTask errorTask = null;
 
         public NEDT(final ThreadGroup tg, final String name) {
             super(tg, name);
@@ -311,6 +325,22 @@ public class DefaultEDTUtil implements EDTUtil {
             return isRunning && !shouldStop;
         }
 
+        /** Appends the given task, wakes up this thread if idle. */
+        final void enqueue(final RunnableTask task) {
+            taskCount.incrementAndGet(); // before offer, count never underflows
+            tasks.offer(task);
+            if( idle ) { // volatile: ok, idle is set before re-checking taskCount
+                synchronized(taskSignal) {
+                    taskSignal.notifyAll();
+                }
+            }
+        }
+
+        /** Takes the next task or returns null, if none is pending. The caller decrements {@link #taskCount} once the task is done. */
+        private final RunnableTask poll() {
+            return tasks.poll();
+        }
+
         @Override
         final public void start() throws IllegalThreadStateException {
             isRunning = true;
@@ -343,40 +373,52 @@ public class DefaultEDTUtil implements EDTUtil {
                     if(!shouldStop) {
                         dispatchMessages.run();
                     }
-                    // wait and work on tasks
-                    RunnableTask task = null;
-                    synchronized(tasks) {
-                        // wait for tasks
-                        if(!shouldStop && tasks.size()==0) {
+                    // wait for tasks
+                    if(!shouldStop && 0 == taskCount.get()) {
+                        synchronized(taskSignal) {
+                            idle = true;
+                            taskSignal.notifyAll(); // idle -> waitUntilIdle()
                             try {
-                                tasks.wait(pollPeriod);
+                                if(!shouldStop && 0 == taskCount.get()) {
+                                    taskSignal.wait(pollPeriod);
+                                }
                             } catch (final InterruptedException e) {
                                 e.printStackTrace();
+                            } finally {
+                                idle = false;
                             }
                         }
-                        // execute one task, if available
-                        if(tasks.size()>0) {
-                            task = tasks.remove(0);
-                            tasks.notifyAll();
+                    }
+                    // execute all tasks pending at this point, later ones are executed after the next event dispatch
+                    for(int n = taskCount.get(); 0 < n && !shouldStop; n--) {
+                        final RunnableTask task = poll();
+                        if( null == task ) {
+                            break;
+                        }
+                        try {
                             final Object attachment = task.getAttachment();
                             if( TASK_ATTACHMENT_STOP == attachment ) {
                                 shouldStop = true;
                             } else if( TASK_ATTACHMENT_TEST_ERROR == attachment ) {
-                                tasks.add(0, task);
-                                task = null;
+                                errorTask = task;
                                 throw new RuntimeException("TASK_ATTACHMENT_TEST_ERROR");
                             }
+                            task.run();
+                            if(Lock.DEBUG) {
+                                validateNoRecursiveLocksHold();
+                            }
+                            if(!task.hasWaiter() && null != task.getThrowable()) {
+                                // at least dump stack-trace in case nobody waits for result
+                                System.err.println("DefaultEDT.run(): Caught exception occured on thread "+Thread.currentThread().getName()+": "+task.toString());
+                                task.getThrowable().printStackTrace();
+                            }
+                        } finally {
+                            taskCount.decrementAndGet(); // done, see waitUntilIdle()
                         }
                     }
-                    if(null!=task) {
-                        task.run();
-                        if(Lock.DEBUG) {
-                            validateNoRecursiveLocksHold();
-                        }
-                        if(!task.hasWaiter() && null != task.getThrowable()) {
-                            // at least dump stack-trace in case nobody waits for result
-                            System.err.println("DefaultEDT.run(): Caught exception occured on thread "+Thread.currentThread().getName()+": "+task.toString());
-                            task.getThrowable().printStackTrace();
+                    if( 0 == taskCount.get() ) {
+                        synchronized(taskSignal) {
+                            taskSignal.notifyAll(); // idle -> waitUntilIdle()
                         }
                     }
                 } while(!shouldStop) ;
@@ -389,25 +431,32 @@ public class DefaultEDTUtil implements EDTUtil {
                     error = new RuntimeException("Within Default-EDT", t);
                 }
             } finally {
-                final String msg = getName()+": Default-EDT finished w/ "+tasks.size()+" left";
+                final String msg = getName()+": Default-EDT finished w/ "+taskCount.get()+" left";
                 if(DEBUG) {
                     System.err.println(msg+", "+error);
                 }
                 synchronized(edtLock) {
                     int i = 0;
-                    while( tasks.size() > 0 ) {
+                    final RunnableTask _errorTask = errorTask;
+                    errorTask = null;
+                    RunnableTask rt = null != _errorTask ? _errorTask : poll();
+                    while( null != rt ) {
                         // notify all waiter
                         final String msg2 = msg+", task #"+i;
                         final Throwable t = null != error ? new Throwable(msg2, error) : new Throwable(msg2);
-                        final RunnableTask rt = tasks.remove(0);
-                        if( null != rt ) {
-                            rt.flush(t);
-                            i++;
+                        rt.flush(t);
+                        if( rt != _errorTask ) {
+                            taskCount.decrementAndGet(); // errorTask is counted down already
                         }
+                        i++;
+                        rt = poll();
                     }
                     isRunning = false;
                     edtLock.notifyAll();
                 }
+                synchronized(taskSignal) {
+                    taskSignal.notifyAll(); // stopped -> waitUntilIdle()
+                }
                 if(DEBUG) {
                     System.err.println(msg+" EXIT, exception: "+error);
                 }
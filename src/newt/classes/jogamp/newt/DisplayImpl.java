@@ -37,9 +37,11 @@ package jogamp.newt;
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.IOUtil;
+import com.jogamp.common.util.PropertyAccess;
 import com.jogamp.common.util.ReflectionUtil;
 import com.jogamp.newt.Display;
 import com.jogamp.newt.NewtFactory;
+import com.jogamp.newt.event.MouseEvent;
 import com.jogamp.newt.event.NEWTEvent;
 import com.jogamp.newt.event.NEWTEventConsumer;
 
@@ -52,6 +54,7 @@ import java.io.IOException;
 import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.jogamp.nativewindow.AbstractGraphicsDevice;
 import com.jogamp.nativewindow.NativeWindowException;
@@ -647,9 +650,54 @@ public abstract class DisplayImpl extends Display {
     /** Dispatch native Toolkit messageges */
     protected abstract void dispatchMessagesNative();
 
+    /**
+     * If true, default, consecutive enqueued non-blocking {@link MouseEvent#EVENT_MOUSE_MOVED} and {@link MouseEvent#EVENT_MOUSE_DRAGGED} events
+     * of the same source, modifiers and pointers are coalesced to the latest one, see {@link #enqueueEvent(boolean, NEWTEvent)}.
+     * <p>
+     * Set property <code>newt.event.coalesceMouseMotion</code> to <code>false</code> to receive all enqueued motion events.
+     * </p>
+     */
+    public static final boolean COALESCE_MOUSE_MOTION;
+
+    static {
+        Debug.initSingleton();
+        COALESCE_MOUSE_MOTION = PropertyAccess.getBooleanProperty("newt.event.coalesceMouseMotion", true, true);
+    }
+
     private final Object eventsLock = new Object();
     private ArrayList<NEWTEventTask> events = new ArrayList<NEWTEventTask>();
     private volatile boolean haveEvents = false;
+    private long eventsQueued = 0; // locked by eventsLock
+    private long eventsCoalesced = 0; // locked by eventsLock
+    private final AtomicLong eventsDispatched = new AtomicLong(0); // incremented by EDT, reset by any thread
+
+    /** Returns the number of events enqueued via {@link #enqueueEvent(boolean, NEWTEvent)}, including coalesced ones. */
+    public final long getQueuedEventCount() {
+        synchronized(eventsLock) {
+            return eventsQueued;
+        }
+    }
+
+    /** Returns the number of enqueued events replaced by a subsequent coalesced one, see {@link #COALESCE_MOUSE_MOTION}. */
+    public final long getCoalescedEventCount() {
+        synchronized(eventsLock) {
+            return eventsCoalesced;
+        }
+    }
+
+    /** Returns the number of enqueued events dispatched on the EDT. */
+    public final long getDispatchedEventCount() {
+        return eventsDispatched.get();
+    }
+
+    /** Resets the queued, coalesced and dispatched event counter. */
+    public final void resetEventStats() {
+        synchronized(eventsLock) {
+            eventsQueued = 0;
+            eventsCoalesced = 0;
+            eventsDispatched.set(0);
+        }
+    }
 
     final protected Runnable dispatchMessagesRunnable = new Runnable() {
         @Override
@@ -727,6 +775,7 @@ public abstract class DisplayImpl extends Display {
                 for (int i=0; i < _events.size(); i++) {
                     dispatchMessage(_events.get(i));
                 }
+                eventsDispatched.addAndGet(_events.size());
             }
         }
 
@@ -755,7 +804,14 @@ public abstract class DisplayImpl extends Display {
         final NEWTEventTask eTask = new NEWTEventTask(e, wait?lock:null);
         synchronized(lock) {
             synchronized(eventsLock) {
-                events.add(eTask);
+                final int last = events.size() - 1;
+                if( !wait && COALESCE_MOUSE_MOTION && 0 <= last && isCoalescable(events.get(last), e) ) {
+                    events.set(last, eTask);
+                    eventsCoalesced++;
+                } else {
+                    events.add(eTask);
+                }
+                eventsQueued++;
                 haveEvents = true;
                 eventsLock.notifyAll();
             }
@@ -772,6 +828,34 @@ public abstract class DisplayImpl extends Display {
         }
     }
 
+    /**
+     * Returns true if the queued non-blocking <code>prevTask</code> can be replaced by the given event,
+     * i.e. both are {@link MouseEvent#EVENT_MOUSE_MOVED} or {@link MouseEvent#EVENT_MOUSE_DRAGGED} events
+     * of the same source, modifiers and pointers.
+     */
+    private static boolean isCoalescable(final NEWTEventTask prevTask, final NEWTEvent e) {
+        if( prevTask.isCallerWaiting() || !( e instanceof MouseEvent ) || !( prevTask.get() instanceof MouseEvent ) ) {
+            return false;
+        }
+        final MouseEvent me = (MouseEvent) e;
+        final MouseEvent prev = (MouseEvent) prevTask.get();
+        final short type = me.getEventType();
+        if( ( MouseEvent.EVENT_MOUSE_MOVED != type && MouseEvent.EVENT_MOUSE_DRAGGED != type ) ||
+            type != prev.getEventType() ||
+            me.getSource() != prev.getSource() ||
+            me.getModifiers() != prev.getModifiers() ||
+            me.getButton() != prev.getButton() ||
+            me.getPointerCount() != prev.getPointerCount() ) {
+            return false;
+        }
+        for(int i=me.getPointerCount()-1; i>=0; i--) {
+            if( me.getPointerId(i) != prev.getPointerId(i) || me.getPointerType(i) != prev.getPointerType(i) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public interface DisplayRunnable<T> {
         T run(long dpy);
     }
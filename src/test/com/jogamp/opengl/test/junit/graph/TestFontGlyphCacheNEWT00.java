@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontGlyphCacheNEWT00 extends UITestCase {
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestFontGlyphCacheNEWT00.class.getName());
+    }
+
+    @Test
+    public void test01Eviction() throws IOException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+        final Font.GlyphCache cache = font.getGlyphCache();
+        final int capacity = cache.getCapacity();
+        try {
+            cache.clear();
+            cache.setCapacity(4);
+            cache.resetStats();
+
+            final Font.Glyph a = font.getGlyph('a');
+            font.getGlyph('b');
+            font.getGlyph('c');
+            font.getGlyph('d');
+            Assert.assertEquals(4, cache.getSize());
+            Assert.assertEquals(4, cache.getMissCount());
+            Assert.assertEquals(0, cache.getEvictionCount());
+
+            // 'a' recently used, hence 'b' is evicted
+            Assert.assertSame(a, font.getGlyph('a'));
+            Assert.assertEquals(1, cache.getHitCount());
+            font.getGlyph('e');
+            Assert.assertEquals(4, cache.getSize());
+            Assert.assertEquals(1, cache.getEvictionCount());
+            Assert.assertSame(a, font.getGlyph('a'));
+            Assert.assertEquals(2, cache.getHitCount());
+
+            final Font.Glyph b = font.getGlyph('b');
+            Assert.assertEquals(6, cache.getMissCount());
+            Assert.assertEquals('b', b.getSymbol());
+            Assert.assertEquals(4, cache.getSize());
+
+            cache.setCapacity(2);
+            Assert.assertEquals(2, cache.getSize());
+            Assert.assertEquals(4, cache.getEvictionCount());
+        } finally {
+            cache.setCapacity(capacity);
+            cache.resetStats();
+        }
+    }
+
+    @Test
+    public void test02Concurrent() throws IOException, InterruptedException {
+        final Font font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+        final Font.GlyphCache cache = font.getGlyphCache();
+        final int capacity = cache.getCapacity();
+        try {
+            cache.clear();
+            cache.setCapacity(32);
+            cache.resetStats();
+            final String text = "The quick brown fox jumps over the lazy dog 0123456789";
+            final Throwable[] error = { null };
+            final Thread[] threads = new Thread[4];
+            for(int t=0; t<threads.length; t++) {
+                threads[t] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            for(int n=0; n<50; n++) {
+                                for(int i=0; i<text.length(); i++) {
+                                    final char c = text.charAt(i);
+                                    final Font.Glyph g = font.getGlyph(c);
+                                    if( c != g.getSymbol() ) {
+                                        throw new IllegalStateException("Glyph "+g.getSymbol()+" for "+c);
+                                    }
+                                }
+                            }
+                        } catch (final Throwable t) {
+                            synchronized( error ) {
+                                error[0] = t;
+                            }
+                        }
+                    } }, "GlyphCache-"+t);
+                threads[t].start();
+            }
+            for(int t=0; t<threads.length; t++) {
+                threads[t].join();
+            }
+            Assert.assertNull(error[0]);
+            Assert.assertTrue(cache.getSize() <= 32);
+            Assert.assertEquals(threads.length * 50 * text.length(), cache.getHitCount() + cache.getMissCount());
+            System.err.println(cache);
+        } finally {
+            cache.setCapacity(capacity);
+            cache.resetStats();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.geom.PVertex;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Validates {@link OutlineShape#triangulate(List, OutlineShape.VerticesState)} with parallel triangulation
+ * against the sequential triangulation, w/o GL.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOutlineShapeTriangulate00 extends UITestCase {
+    static final int SHAPE_COUNT = 200;
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestOutlineShapeTriangulate00.class.getName());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    /** A GL-less region recording all pushed vertex coordinates and indices. */
+    static class RecordingRegion extends Region {
+        final ArrayList<Float> coords = new ArrayList<Float>();
+        final ArrayList<Integer> indices = new ArrayList<Integer>();
+
+        RecordingRegion() {
+            super(0);
+        }
+
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            for(int i=0; i<3; i++) {
+                this.coords.add(coords[i]);
+                this.coords.add(texParams[i]);
+            }
+        }
+
+        @Override
+        protected void pushIndex(final int idx) {
+            indices.add(idx);
+        }
+    }
+
+    /** A frame w/ a hole and curved corners, varying per index. */
+    static OutlineShape createShape(final Vertex.Factory<? extends Vertex> vertexFactory, final int i) {
+        final OutlineShape shape = new OutlineShape(vertexFactory);
+        final float x = ( i % 20 ) * 12f, y = ( i / 20 ) * 12f;
+        final float w = 8f + ( i % 3 ), h = 8f + ( i % 5 ), c = 1f + ( i % 4 ) * 0.25f;
+        shape.addVertex(x+c,   y,     true);
+        shape.addVertex(x+w-c, y,     true);
+        shape.addVertex(x+w,   y,     false);
+        shape.addVertex(x+w,   y+c,   true);
+        shape.addVertex(x+w,   y+h-c, true);
+        shape.addVertex(x+w,   y+h,   false);
+        shape.addVertex(x+w-c, y+h,   true);
+        shape.addVertex(x+c,   y+h,   true);
+        shape.addVertex(x,     y+h,   false);
+        shape.addVertex(x,     y+h-c, true);
+        shape.addVertex(x,     y+c,   true);
+        shape.addVertex(x,     y,     false);
+        shape.closeLastOutline(true);
+        shape.addEmptyOutline();
+        shape.addVertex(x+2f,   y+2f,   true);
+        shape.addVertex(x+2f,   y+h-2f, true);
+        shape.addVertex(x+w/2f, y+h-1f, false);
+        shape.addVertex(x+w-2f, y+h-2f, true);
+        shape.addVertex(x+w-2f, y+2f,   true);
+        shape.closeLastOutline(true);
+        return shape;
+    }
+
+    static List<OutlineShape> createShapes(final Vertex.Factory<? extends Vertex> vertexFactory) {
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>(SHAPE_COUNT);
+        for(int i=0; i<SHAPE_COUNT; i++) {
+            shapes.add(createShape(vertexFactory, i));
+        }
+        return shapes;
+    }
+
+    static RecordingRegion addShapes(final List<OutlineShape> shapes) {
+        final RecordingRegion region = new RecordingRegion();
+        region.addOutlineShapes(shapes, null, null);
+        return region;
+    }
+
+    void testImpl(final Vertex.Factory<? extends Vertex> factoryS, final Vertex.Factory<? extends Vertex> factoryP) {
+        ParallelExecutor.setThreadCount(1);
+        final RecordingRegion expected = addShapes(createShapes(factoryS));
+
+        ParallelExecutor.setThreadCount(4, true);
+        final List<OutlineShape> shapes = createShapes(factoryP);
+        OutlineShape.triangulate(shapes, OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final RecordingRegion actual = addShapes(shapes);
+
+        Assert.assertTrue(0 < expected.indices.size());
+        Assert.assertEquals(expected.coords, actual.coords);
+        Assert.assertEquals(expected.indices, actual.indices);
+    }
+
+    @Test
+    public void test01SVertex() {
+        testImpl(SVertex.factory(), SVertex.factory());
+    }
+
+    @Test
+    public void test02PVertexShared() {
+        testImpl(SVertex.factory(), new PVertex.Factory());
+    }
+
+    @Test
+    public void test03Duplicates() {
+        ParallelExecutor.setThreadCount(4, true);
+        final List<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        final OutlineShape shape = createShape(SVertex.factory(), 0);
+        for(int i=0; i<8; i++) {
+            shapes.add(shape);
+        }
+        OutlineShape.triangulate(shapes, OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final int triCount = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+        Assert.assertTrue(0 < triCount);
+        Assert.assertEquals(createShape(SVertex.factory(), 0).getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size(), triCount);
+    }
+}
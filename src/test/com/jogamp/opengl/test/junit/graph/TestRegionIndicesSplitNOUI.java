@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.nio.ShortBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.graph.curve.opengl.RegionIndices;
+import jogamp.graph.curve.opengl.RegionIndicesAccess;
+
+/**
+ * Validates splitting 32-bit region indices in 16-bit batches w/ base vertex, w/o GL,
+ * as used if <code>GL_OES_element_index_uint</code> is not available.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestRegionIndicesSplitNOUI extends UITestCase {
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestRegionIndicesSplitNOUI.class.getName());
+    }
+
+    static RegionIndices create(final int[] tris) {
+        final RegionIndices ri = RegionIndicesAccess.create(tris.length / 3);
+        for(int i=0; i<tris.length; i++) {
+            RegionIndicesAccess.put(ri, tris[i]);
+        }
+        return ri;
+    }
+
+    static RegionIndices split(final int[] tris) {
+        final RegionIndices ri = create(tris);
+        Assert.assertTrue(RegionIndicesAccess.is32Bit(ri));
+        RegionIndicesAccess.split(ri);
+        return ri;
+    }
+
+    /** Asserts the batch triple [first triangle, triangle count, base vertex] and its absolute indices. */
+    static void assertBatch(final RegionIndices ri, final int batch, final int first, final int count, final int base, final int[] expTris) {
+        final int[] batches = RegionIndicesAccess.getBatches(ri);
+        Assert.assertEquals(first, batches[batch*3]);
+        Assert.assertEquals(count, batches[batch*3+1]);
+        Assert.assertEquals(base, batches[batch*3+2]);
+        final ShortBuffer sb = RegionIndicesAccess.getBatchIndices(ri);
+        Assert.assertEquals(count*3, expTris.length);
+        for(int i=0; i<count*3; i++) {
+            Assert.assertEquals(expTris[i], base + ( sb.get(first*3+i) & 0xffff ));
+        }
+    }
+
+    @Test
+    public void test01Exactly65536Vertices() {
+        // vertices [0..65535] are addressable w/ 16-bit indices
+        Assert.assertFalse(RegionIndicesAccess.is32Bit(create(new int[] { 0, 1, 65535 })));
+
+        // vertices [1..65536] require 32-bit indices, but fit in one batch
+        final int[] tris = { 1, 2, 65536,   65536, 3, 1 };
+        final RegionIndices ri = split(tris);
+        Assert.assertEquals(1, RegionIndicesAccess.getDrawCount(ri));
+        assertBatch(ri, 0, 0, 2, 1, tris);
+        Assert.assertEquals(65535, RegionIndicesAccess.getBatchIndices(ri).get(2) & 0xffff);
+
+        // one triangle spanning vertices [0..65536] is not addressable, hence dropped
+        final RegionIndices ri2 = split(new int[] { 0, 1, 65536 });
+        Assert.assertEquals(0, RegionIndicesAccess.getDrawCount(ri2));
+    }
+
+    @Test
+    public void test02TriangleSpanningBoundary() {
+        final int[] tris = { 0, 1, 2,
+                             65534, 65535, 65536, // vertex range [0..65536] of both exceeds one batch
+                             65536, 65537, 65538 };
+        final RegionIndices ri = split(tris);
+        Assert.assertEquals(2, RegionIndicesAccess.getDrawCount(ri));
+        assertBatch(ri, 0, 0, 1, 0, new int[] { 0, 1, 2 });
+        assertBatch(ri, 1, 1, 2, 65534, new int[] { 65534, 65535, 65536, 65536, 65537, 65538 });
+
+        // a dropped triangle within, i.e. a shape of more than 2^16 vertices, ends the batch
+        final int[] tris2 = { 0, 1, 2,
+                              3, 4, 70000,
+                              5, 6, 7 };
+        final RegionIndices ri2 = split(tris2);
+        Assert.assertEquals(2, RegionIndicesAccess.getDrawCount(ri2));
+        assertBatch(ri2, 0, 0, 1, 0, new int[] { 0, 1, 2 });
+        assertBatch(ri2, 1, 1, 1, 5, new int[] { 5, 6, 7 });
+    }
+
+    @Test
+    public void test03BaseVertexOffsets() {
+        final Random rnd = new Random(1);
+        final int shapeCount = 20;
+        final int trisPerShape = 1000;
+        final int[] tris = new int[shapeCount * trisPerShape * 3];
+        int n = 0;
+        for(int s=0; s<shapeCount; s++) {
+            // overlapping shapes of up to 30000 vertices each
+            final int base = s * 20000;
+            for(int t=0; t<trisPerShape*3; t++) {
+                tris[n++] = base + rnd.nextInt(30000);
+            }
+        }
+        final RegionIndices ri = split(tris);
+        final int drawCount = RegionIndicesAccess.getDrawCount(ri);
+        Assert.assertTrue(1 < drawCount);
+        final int[] batches = RegionIndicesAccess.getBatches(ri);
+        final ShortBuffer sb = RegionIndicesAccess.getBatchIndices(ri);
+        int next = 0; // next triangle in batch order
+        for(int b=0; b<drawCount; b++) {
+            final int first = batches[b*3], count = batches[b*3+1], base = batches[b*3+2];
+            Assert.assertEquals(next, first);
+            for(int i=first*3; i<(first+count)*3; i++) {
+                Assert.assertEquals(tris[i], base + ( sb.get(i) & 0xffff ));
+            }
+            next += count;
+        }
+        // no triangle spans more than 2^16 vertices, hence none is dropped
+        Assert.assertEquals(shapeCount * trisPerShape, next);
+    }
+}
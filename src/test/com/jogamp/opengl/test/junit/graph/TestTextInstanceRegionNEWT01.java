@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.GlyphMeshCache;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.graph.curve.opengl.TextInstanceRegion;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PMVMatrix;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextInstanceRegionNEWT01 extends UITestCase {
+    static Font font;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestTextInstanceRegionNEWT01.class.getName());
+    }
+
+    @Test
+    public void test01Uniform() throws InterruptedException {
+        testImpl(0);
+    }
+
+    @Test
+    public void test02ColorChannel() throws InterruptedException {
+        testImpl(Region.COLORCHANNEL_RENDERING_BIT);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void test03RejectTwoPass() {
+        new TextInstanceRegion(new GlyphMeshCache(font), Region.VBAA_RENDERING_BIT);
+    }
+
+    void testImpl(final int renderModes) throws InterruptedException {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setOnscreen(false);
+        final GLAutoDrawable drawable = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 256, 128);
+        drawable.display(); // init
+        drawable.getContext().makeCurrent();
+        try {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            final RenderState rs = RenderState.createRenderState(SVertex.factory());
+            final RegionRenderer renderer = RegionRenderer.create(rs, RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+            renderer.init(gl, renderModes);
+            rs.setColorStatic(0.1f, 0.1f, 0.1f, 1.0f);
+            renderer.reshapeOrtho(drawable.getSurfaceWidth(), drawable.getSurfaceHeight(), 0.1f, 1000.0f);
+            final PMVMatrix pmv = renderer.getMatrix();
+            pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+            pmv.glLoadIdentity();
+            pmv.glTranslatef(0, 0, -1000f);
+
+            final GlyphMeshCache cache = new GlyphMeshCache(font);
+            final TextInstanceRegion region = new TextInstanceRegion(cache, renderModes);
+            Assert.assertTrue(Region.isInstanced(region.getRenderModes()));
+
+            final float[] rgba = { 0.5f, 0.5f, 0.5f, 1f };
+            final float pixelSize = font.getPixelSize(12, 96);
+            region.addString(pixelSize, "XXXX XXXX\nHello World", rgba, 0, 100);
+            // 'X' x 8, 'H', 'e', 'l' x 3, 'o' x 2, 'W', 'r', 'd'
+            Assert.assertEquals(18, region.getInstanceCount());
+
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+            renderer.enable(gl, true);
+            region.draw(gl, renderer);
+            renderer.enable(gl, false);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            System.err.println(region+", draws "+region.getDrawCount()+", instancing "+TextInstanceRegion.isInstancingAvailable(gl));
+            if( TextInstanceRegion.isInstancingAvailable(gl) ) {
+                Assert.assertEquals(8, region.getDrawCount());
+            } else {
+                Assert.assertEquals(region.getInstanceCount(), region.getDrawCount());
+            }
+            // glyph meshes are reused
+            final int meshCount = cache.getMeshCount();
+            region.clear();
+            region.addString(pixelSize, "World Hello", rgba, 0, 50);
+            Assert.assertEquals(meshCount, cache.getMeshCount());
+
+            region.destroy(gl);
+            cache.destroy(gl);
+            renderer.destroy(gl);
+        } finally {
+            drawable.getContext().release();
+            drawable.destroy();
+        }
+    }
+}
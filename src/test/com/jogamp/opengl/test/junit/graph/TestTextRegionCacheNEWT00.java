@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.RenderState;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PMVMatrix;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRegionCacheNEWT00 extends UITestCase {
+    static Font font;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        font = FontFactory.get(FontFactory.UBUNTU).getDefault();
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestTextRegionCacheNEWT00.class.getName());
+    }
+
+    @Test
+    public void test01LRU() {
+        testImpl(0);
+    }
+
+    @Test
+    public void test02ColorKey() {
+        testImpl(Region.COLORCHANNEL_RENDERING_BIT);
+    }
+
+    /** Subclass using the former protected cache API w/o color. */
+    static class LegacyTextRegionUtil extends TextRegionUtil {
+        LegacyTextRegionUtil(final int renderModes) {
+            super(renderModes);
+        }
+
+        @SuppressWarnings("deprecation")
+        void test(final GL2ES2 gl) {
+            final float pixelSize = 16f; // integral for the former int removal API
+            final GLRegion region = GLRegion.create(renderModes, null);
+            Assert.assertNull(getCachedRegion(font, "A", pixelSize, 0));
+            addCachedRegion(gl, font, "A", pixelSize, 0, region);
+            Assert.assertSame(region, getCachedRegion(font, "A", pixelSize, 0));
+            Assert.assertSame(region, getCachedRegion(font, "A", pixelSize, 0, null));
+            Assert.assertEquals(1, getCacheSize());
+            Assert.assertNotNull(getKey(font, "A", pixelSize, 0));
+            removeCachedRegion(gl, font, "A", 16, 0);
+            Assert.assertEquals(0, getCacheSize());
+        }
+    }
+
+    @Test
+    public void test03LegacyCacheAPI() {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setOnscreen(false);
+        final GLAutoDrawable drawable = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 256, 128);
+        drawable.display(); // init
+        drawable.getContext().makeCurrent();
+        try {
+            new LegacyTextRegionUtil(Region.COLORCHANNEL_RENDERING_BIT).test(drawable.getGL().getGL2ES2());
+        } finally {
+            drawable.getContext().release();
+            drawable.destroy();
+        }
+    }
+
+    void testImpl(final int renderModes) {
+        final GLProfile glp = GLProfile.getGL2ES2();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        caps.setOnscreen(false);
+        final GLAutoDrawable drawable = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 256, 128);
+        drawable.display(); // init
+        drawable.getContext().makeCurrent();
+        try {
+            final GL2ES2 gl = drawable.getGL().getGL2ES2();
+            final RenderState rs = RenderState.createRenderState(SVertex.factory());
+            final RegionRenderer renderer = RegionRenderer.create(rs, RegionRenderer.defaultBlendEnable, RegionRenderer.defaultBlendDisable);
+            renderer.init(gl, renderModes);
+            rs.setColorStatic(0.1f, 0.1f, 0.1f, 1.0f);
+            renderer.reshapeOrtho(drawable.getSurfaceWidth(), drawable.getSurfaceHeight(), 0.1f, 1000.0f);
+            final PMVMatrix pmv = renderer.getMatrix();
+            pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+            pmv.glLoadIdentity();
+            pmv.glTranslatef(0, 0, -1000f);
+
+            final TextRegionUtil util = new TextRegionUtil(renderModes);
+            final float[] red = { 1f, 0f, 0f, 1f };
+            final float[] blue = { 0f, 0f, 1f, 1f };
+            final float pixelSize = font.getPixelSize(12, 96);
+            util.setCacheLimit(gl, 3);
+
+            renderer.enable(gl, true);
+            util.drawString3D(gl, renderer, font, pixelSize, "A", red, null);
+            util.drawString3D(gl, renderer, font, pixelSize, "B", red, null);
+            util.drawString3D(gl, renderer, font, pixelSize, "A", red, null);
+            Assert.assertEquals(2, util.getCacheSize());
+            Assert.assertEquals(1, util.getCacheHitCount());
+            Assert.assertEquals(2, util.getCacheMissCount());
+            Assert.assertTrue(0 < util.getCacheByteSize());
+
+            // pixel size is part of the key
+            util.drawString3D(gl, renderer, font, pixelSize * 2, "A", red, null);
+            Assert.assertEquals(3, util.getCacheSize());
+            Assert.assertEquals(3, util.getCacheMissCount());
+
+            // color is part of the key w/ color channel only
+            util.drawString3D(gl, renderer, font, pixelSize, "A", blue, null);
+            if( Region.hasColorChannel(renderModes) ) {
+                Assert.assertEquals(4, util.getCacheMissCount());
+                Assert.assertEquals(1, util.getCacheEvictionCount()); // "B" is least recently used
+            } else {
+                Assert.assertEquals(2, util.getCacheHitCount());
+                Assert.assertEquals(0, util.getCacheEvictionCount());
+            }
+            Assert.assertTrue(util.getCacheSize() <= 3);
+
+            // byte limit keeps the most recently used region only
+            util.setCacheByteLimit(gl, 1);
+            Assert.assertEquals(1, util.getCacheSize());
+
+            util.clear(gl);
+            Assert.assertEquals(0, util.getCacheSize());
+            Assert.assertEquals(0, util.getCacheByteSize());
+            renderer.enable(gl, false);
+            Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+            renderer.destroy(gl);
+        } finally {
+            drawable.getContext().release();
+            drawable.destroy();
+        }
+    }
+}
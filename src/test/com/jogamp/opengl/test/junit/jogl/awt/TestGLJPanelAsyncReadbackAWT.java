@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.awt;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.awt.GLJPanel;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.AWTRobotUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Test {@link GLJPanel#setAsyncReadbackDepth(int)}, i.e. the displayed image
+ * lags behind by <code>depth - 1</code> frames and shows the correct content.
+ * <p>
+ * Each frame is cleared w/ a distinct red value derived from its frame number.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLJPanelAsyncReadbackAWT extends UITestCase {
+    static int frameCount = 40;
+
+    static int frameRed(final int frame) {
+        return ( frame % 16 ) * 16;
+    }
+
+    static class FrameClear implements GLEventListener {
+        volatile int frames = 0;
+        volatile boolean isGL2ES3 = false;
+
+        @Override
+        public void init(final GLAutoDrawable drawable) {
+            isGL2ES3 = drawable.getGL().isGL2ES3();
+        }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) {}
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final GL gl = drawable.getGL();
+            gl.glClearColor(frameRed(frames) / 255f, 0f, 1f, 1f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+            frames++;
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {}
+    }
+
+    void testImpl(final int depth) throws InterruptedException, InvocationTargetException {
+        final GLCapabilities caps = new GLCapabilities(GLProfile.getDefault());
+        final GLJPanel glc = new GLJPanel(caps);
+        glc.setAsyncReadbackDepth(depth);
+        Assert.assertEquals(depth, glc.getAsyncReadbackDepth());
+        final Dimension glc_sz = new Dimension(256, 256);
+        glc.setMinimumSize(glc_sz);
+        glc.setPreferredSize(glc_sz);
+        final FrameClear demo = new FrameClear();
+        glc.addGLEventListener(demo);
+
+        final JFrame frame = new JFrame(getSimpleTestName("."));
+        frame.getContentPane().add(glc);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                frame.pack();
+                frame.setVisible(true);
+            }});
+        Assert.assertTrue("Component didn't become visible", AWTRobotUtil.waitForVisible(glc, true));
+        Assert.assertTrue("Component didn't become realized", AWTRobotUtil.waitForRealized(glc, true));
+
+        final int lag = Math.max(0, depth - 1);
+        final int[] lastFrame = { 0 };
+        final int[] errors = { 0 };
+        try {
+            for(int i=0; i<frameCount; i++) {
+                SwingUtilities.invokeAndWait(new Runnable() {
+                    public void run() {
+                        // Paints and displays the next frame in one go on the EDT
+                        final BufferedImage image = new BufferedImage(glc.getWidth(), glc.getHeight(), BufferedImage.TYPE_INT_RGB);
+                        final Graphics2D g = image.createGraphics();
+                        glc.paint(g);
+                        g.dispose();
+                        lastFrame[0] = demo.frames - 1;
+                        final int shownFrame = lastFrame[0] - lag;
+                        final int red = ( image.getRGB(image.getWidth()/2, image.getHeight()/2) >> 16 ) & 0xff;
+                        // Skip the synchronous warm-up frames
+                        if( shownFrame > depth && Math.abs(red - frameRed(shownFrame)) > 2 ) {
+                            System.err.println("Frame "+lastFrame[0]+": red "+red+" != "+frameRed(shownFrame)+" of frame "+shownFrame);
+                            errors[0]++;
+                        }
+                    }});
+            }
+        } finally {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                public void run() {
+                    frame.setVisible(false);
+                    frame.remove(glc);
+                    frame.dispose();
+                }});
+        }
+        Assume.assumeTrue("Async readback requires GL2ES3", 2 > depth || demo.isGL2ES3);
+        Assert.assertTrue("No frames rendered", lastFrame[0] > depth);
+        Assert.assertEquals("Frames w/ unexpected content", 0, errors[0]);
+    }
+
+    @Test
+    public void test01SyncReadback() throws InterruptedException, InvocationTargetException {
+        testImpl(0);
+    }
+
+    @Test
+    public void test02AsyncReadbackDepth2() throws InterruptedException, InvocationTargetException {
+        testImpl(2);
+    }
+
+    @Test
+    public void test03AsyncReadbackDepth3() throws InterruptedException, InvocationTargetException {
+        testImpl(3);
+    }
+
+    public static void main(final String args[]) {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-frames")) {
+                i++;
+                frameCount = Integer.parseInt(args[i]);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestGLJPanelAsyncReadbackAWT.class.getName());
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.math.geom.Frustum;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+import jogamp.nativewindow.ParallelExecutor;
+
+/**
+ * Validates the batch methods of {@link Frustum} and {@link FloatUtil#multMatrixVec3(float[], int, float[], int, float[], int, int)}
+ * against their single element counterparts, sequential and in parallel.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrustumBatch01NOUI extends UITestCase {
+    static final int COUNT = 10000 + 37; // not a multiple of 64
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFrustumBatch01NOUI.class.getName());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        ParallelExecutor.setThreadCount(1);
+    }
+
+    static Frustum createFrustum() {
+        final float[] p = FloatUtil.makePerspective(new float[16], 0, true, FloatUtil.QUARTER_PI, 1.5f, 1f, 100f);
+        final float[] mv = FloatUtil.makeTranslation(new float[16], true, 1f, -2f, -20f);
+        final float[] pmv = FloatUtil.multMatrix(p, mv, new float[16]);
+        final Frustum frustum = new Frustum();
+        frustum.updateByPMV(pmv, 0);
+        return frustum;
+    }
+
+    static float[] createRandom(final int components, final float min, final float max) {
+        final Random rnd = new Random(1);
+        final float[] res = new float[components];
+        for(int i=0; i<components; i++) {
+            res[i] = min + rnd.nextFloat() * ( max - min );
+        }
+        return res;
+    }
+
+    static boolean isSet(final long[] bits, final int i) {
+        return 0 != ( bits[i >>> 6] & ( 1L << ( i & 63 ) ) );
+    }
+
+    void testBatch() {
+        final Frustum frustum = createFrustum();
+        final int words = ( COUNT + 63 ) / 64;
+
+        // boxes, packed low xyz, high xyz
+        final float[] boxes = new float[COUNT*6];
+        final float[] corners = createRandom(COUNT*6, -150f, 150f);
+        final Random rnd = new Random(2);
+        for(int i=0; i<COUNT; i++) {
+            final float s = rnd.nextFloat() * 20f;
+            for(int j=0; j<3; j++) {
+                boxes[i*6+j] = corners[i*6+j];
+                boxes[i*6+3+j] = corners[i*6+j] + s;
+            }
+        }
+        final long[] outside = new long[words];
+        final int outsideCount = frustum.isAABBoxOutside(boxes, 0, COUNT, outside);
+        final FloatBuffer boxesBuf = Buffers.newDirectFloatBuffer(6 + boxes.length);
+        boxesBuf.position(6);
+        boxesBuf.put(boxes);
+        boxesBuf.position(6);
+        final long[] outsideBuf = new long[words];
+        Assert.assertEquals(outsideCount, frustum.isAABBoxOutside(boxesBuf, COUNT, outsideBuf));
+        Assert.assertEquals(6, boxesBuf.position());
+        int expCount = 0;
+        final AABBox box = new AABBox();
+        for(int i=0; i<COUNT; i++) {
+            box.setSize(boxes[i*6], boxes[i*6+1], boxes[i*6+2], boxes[i*6+3], boxes[i*6+4], boxes[i*6+5]);
+            final boolean exp = frustum.isAABBoxOutside(box);
+            Assert.assertEquals("box "+i, exp, isSet(outside, i));
+            Assert.assertEquals("box "+i, exp, isSet(outsideBuf, i));
+            if( exp ) { expCount++; }
+        }
+        Assert.assertEquals(expCount, outsideCount);
+        Assert.assertTrue(0 < outsideCount && outsideCount < COUNT);
+        Assert.assertEquals(0, outside[words-1] >>> ( COUNT & 63 )); // unused bits cleared
+
+        // points and spheres
+        final float[] points = createRandom(COUNT*3, -150f, 150f);
+        final float[] radii = createRandom(COUNT, 0f, 30f);
+        final long[] pointsOut = new long[words];
+        final long[] spheresOut = new long[words];
+        final Frustum.Location[] locations = new Frustum.Location[COUNT+1];
+        final int pointsOutCount = frustum.isPointOutside(points, 0, COUNT, pointsOut);
+        final int spheresOutCount = frustum.isSphereOutside(points, 0, radii, 0, COUNT, spheresOut);
+        frustum.classifySphere(points, 0, radii, 0, COUNT, locations, 1);
+        int expPointsOut = 0, expSpheresOut = 0;
+        final float[] p = new float[3];
+        for(int i=0; i<COUNT; i++) {
+            System.arraycopy(points, i*3, p, 0, 3);
+            final boolean expP = frustum.isPointOutside(p);
+            final boolean expS = frustum.isSphereOutside(p, radii[i]);
+            Assert.assertEquals("point "+i, expP, isSet(pointsOut, i));
+            Assert.assertEquals("sphere "+i, expS, isSet(spheresOut, i));
+            Assert.assertEquals("sphere "+i, frustum.classifySphere(p, radii[i]), locations[i+1]);
+            if( expP ) { expPointsOut++; }
+            if( expS ) { expSpheresOut++; }
+        }
+        Assert.assertNull(locations[0]);
+        Assert.assertEquals(expPointsOut, pointsOutCount);
+        Assert.assertEquals(expSpheresOut, spheresOutCount);
+    }
+
+    void testTransform() {
+        final float[] m = FloatUtil.makeRotationEuler(new float[16], 0, 0.3f, 1.1f, -0.7f);
+        m[12] = 3f; m[13] = -4f; m[14] = 5f;
+        final float[] src = createRandom(3 + COUNT*3, -100f, 100f);
+        final float[] dst = new float[COUNT*3];
+        FloatUtil.multMatrixVec3(m, 0, src, 3, dst, 0, COUNT);
+
+        final FloatBuffer buf = Buffers.newDirectFloatBuffer(src);
+        buf.position(3);
+        FloatUtil.multMatrixVec3(m, 0, buf, buf, COUNT); // in-place
+        Assert.assertEquals(3, buf.position());
+
+        final float[] v = new float[4], r = new float[4];
+        for(int i=0; i<COUNT; i++) {
+            v[0] = src[3+i*3]; v[1] = src[3+i*3+1]; v[2] = src[3+i*3+2]; v[3] = 1f;
+            FloatUtil.multMatrixVec(m, v, r);
+            for(int j=0; j<3; j++) {
+                Assert.assertEquals(r[j], dst[i*3+j], FloatUtil.EPSILON*100f);
+                Assert.assertEquals(dst[i*3+j], buf.get(3+i*3+j), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void test01BatchSequential() {
+        ParallelExecutor.setThreadCount(1);
+        testBatch();
+    }
+
+    @Test
+    public void test02BatchParallel() {
+        ParallelExecutor.setThreadCount(4, true);
+        testBatch();
+    }
+
+    @Test
+    public void test11TransformSequential() {
+        ParallelExecutor.setThreadCount(1);
+        testTransform();
+    }
+
+    @Test
+    public void test12TransformParallel() {
+        ParallelExecutor.setThreadCount(4, true);
+        testTransform();
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Validates the {@link PMVMatrix#getMatrixKind(int) matrix kind} tracking of {@link PMVMatrix},
+ * its specialized multiplication and inversion as well as the cached P x Mv
+ * against the general {@link FloatUtil} matrix operations.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPMVMatrix04NOUI extends UITestCase {
+    static final float EPSILON = 1e-4f;
+    static final int[] viewport = new int[] { 0, 0, 800, 600 };
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPMVMatrix04NOUI.class.getName());
+    }
+
+    private static float[] get(final FloatBuffer b) {
+        final float[] res = new float[16];
+        b.get(res);
+        b.reset();
+        return res;
+    }
+
+    @Test
+    public void test01KindTracking() {
+        final PMVMatrix m = new PMVMatrix();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_PROJECTION));
+
+        m.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        m.glOrthof(0, 10, 0, 10, 1, -1);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_AFFINE, m.getMatrixKind(GLMatrixFunc.GL_PROJECTION));
+        m.glLoadIdentity();
+        m.gluPerspective(45f, 1.5f, 1f, 100f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_GENERAL, m.getMatrixKind(GLMatrixFunc.GL_PROJECTION_MATRIX));
+
+        m.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        m.glTranslatef(0f, 0f, 0f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.glTranslatef(1f, 2f, -10f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.glPushMatrix();
+        {
+            m.glRotatef(30f, 0f, 1f, 0f);
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_RIGID, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+            m.glPushMatrix();
+            {
+                m.glScalef(2f, 2f, 2f);
+                Assert.assertEquals(FloatUtil.MATRIX_KIND_AFFINE, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+            }
+            m.glPopMatrix();
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_RIGID, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        }
+        m.glPopMatrix();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+
+        // rotation w/ zero axis is a scale
+        m.glRotatef(30f, 0f, 0f, 0f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_AFFINE, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+
+        // loaded matrices are classified
+        final float[] rot = FloatUtil.makeRotationAxis(new float[16], 0, 1f, 1f, 1f, 0f, new float[3]);
+        m.glLoadMatrixf(rot, 0);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_RIGID, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.glLoadIdentity();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+
+        m.gluLookAt(0f, 5f, 10f, 0f, 0f, 0f, 0f, 1f, 0f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_RIGID, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+    }
+
+    @Test
+    public void test02FloatUtilKindInversion() {
+        final Random rnd = new Random(1);
+        final float[] tmpVec3 = new float[3];
+        final float[] m = new float[16];
+        final float[] op = new float[16];
+        final float[] expInv = new float[16];
+        final float[] hasInv = new float[16];
+        for(int i=0; i<1000; i++) {
+            FloatUtil.makeTranslation(m, true, rnd.nextFloat()*20f-10f, rnd.nextFloat()*20f-10f, rnd.nextFloat()*20f-10f);
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, FloatUtil.getMatrixKind(m, 0));
+            check(m, expInv, hasInv);
+
+            FloatUtil.makeRotationAxis(op, 0, rnd.nextFloat()*6f, rnd.nextFloat()-0.5f, rnd.nextFloat()-0.5f, rnd.nextFloat()+0.1f, tmpVec3);
+            FloatUtil.multMatrix(m, op);
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_RIGID, FloatUtil.getMatrixKind(m, 0));
+            check(m, expInv, hasInv);
+
+            FloatUtil.makeScale(op, true, rnd.nextFloat()+0.5f, rnd.nextFloat()+0.5f, rnd.nextFloat()+1.5f);
+            FloatUtil.multMatrix(m, op);
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_AFFINE, FloatUtil.getMatrixKind(m, 0));
+            check(m, expInv, hasInv);
+        }
+        // singular affine
+        FloatUtil.makeScale(m, true, 1f, 0f, 1f);
+        Assert.assertNull(FloatUtil.invertMatrixAffine(m, 0, hasInv, 0));
+    }
+    private static void check(final float[] m, final float[] expInv, final float[] hasInv) {
+        Assert.assertNotNull(FloatUtil.invertMatrix(m, expInv));
+        Assert.assertNotNull(FloatUtil.invertMatrix(m, 0, FloatUtil.getMatrixKind(m, 0), hasInv, 0));
+        Assert.assertArrayEquals(expInv, hasInv, EPSILON);
+    }
+
+    @Test
+    public void test03FloatUtilMultAffine() {
+        final Random rnd = new Random(2);
+        final float[] a = new float[16];
+        final float[] b = new float[16];
+        final float[] exp = new float[16];
+        final float[] has = new float[16];
+        for(int i=0; i<1000; i++) {
+            for(int j=0; j<16; j++) {
+                a[j] = rnd.nextFloat()*2f-1f;
+                b[j] = rnd.nextFloat()*2f-1f;
+            }
+            b[3] = 0f; b[7] = 0f; b[11] = 0f; b[15] = 1f;
+            FloatUtil.multMatrix(a, 0, b, 0, exp, 0);
+            FloatUtil.multMatrixAffine(a, 0, false, b, 0, has, 0);
+            Assert.assertArrayEquals(exp, has, EPSILON);
+
+            a[3] = 0f; a[7] = 0f; a[11] = 0f; a[15] = 1f;
+            FloatUtil.multMatrix(a, 0, b, 0, exp, 0);
+            FloatUtil.multMatrixAffine(a, 0, true, b, 0, a, 0); // in-place
+            Assert.assertArrayEquals(exp, a, EPSILON);
+        }
+    }
+
+    /**
+     * Writing through handed out matrix buffers must neither leave a stale kind
+     * nor a stale cached P x Mv behind.
+     */
+    @Test
+    public void test04WritableBufferResetsKind() {
+        final float[] exp = new float[16];
+        final float[] has = new float[16];
+        final PMVMatrix m = new PMVMatrix();
+        m.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        m.glTranslatef(1f, 2f, 3f);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.multPMvMatrixf(has, 0); // validate cached P x Mv
+
+        // read access does not reset the kind
+        m.glGetFloatv(GLMatrixFunc.GL_MODELVIEW_MATRIX, has, 0);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+
+        final FloatBuffer mv = m.glGetMvMatrixf();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_GENERAL, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_PROJECTION));
+        mv.put(mv.position()+3, 0.5f); // non-affine, the affine multiplication would drop it
+        FloatUtil.multMatrix(get(m.glGetPMatrixf()), 0, get(mv), 0, exp, 0);
+        Assert.assertArrayEquals(exp, m.multPMvMatrixf(has, 0), EPSILON);
+
+        m.glLoadIdentity();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.glGetMatrixf(GLMatrixFunc.GL_PROJECTION);
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_GENERAL, m.getMatrixKind(GLMatrixFunc.GL_PROJECTION));
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_IDENTITY, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        m.glGetPMvMatrixf();
+        Assert.assertEquals(FloatUtil.MATRIX_KIND_GENERAL, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+    }
+
+    /**
+     * Applies random per object transformations to {@link PMVMatrix} and to a reference modelview,
+     * validating Mv, Mvi, Mvit, P x Mv, gluProject and gluUnProject for each object.
+     */
+    @Test
+    public void test10PerObjectAgainstReference() {
+        final Random rnd = new Random(3);
+        final float[] tmpVec3 = new float[3];
+        final float[] op = new float[16];
+        final float[] refP = new float[16];
+        final float[] refMv = new float[16];
+        final float[] refMvObj = new float[16];
+        final float[] refMvi = new float[16];
+        final float[] refMvit = new float[16];
+        final float[] refPMv = new float[16];
+        final float[] hasPMv = new float[16];
+        final float[] mat4Tmp1 = new float[16], mat4Tmp2 = new float[16];
+        final float[] expWin = new float[3], hasWin = new float[3];
+        final float[] expObj = new float[3], hasObj = new float[3];
+
+        final PMVMatrix m = new PMVMatrix();
+        m.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        m.gluPerspective(45f, 800f/600f, 1f, 100f);
+        FloatUtil.makePerspective(refP, 0, true, 45f * FloatUtil.PI / 180.0f, 800f/600f, 1f, 100f);
+
+        m.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        m.glTranslatef(0f, 0f, -50f);
+        FloatUtil.makeTranslation(refMv, true, 0f, 0f, -50f);
+        m.glGetMvitMatrixf(); // request Mvi and Mvit updates
+        m.glGetFrustum();
+
+        for(int i=0; i<500; i++) {
+            System.arraycopy(refMv, 0, refMvObj, 0, 16);
+            m.glPushMatrix();
+            final float tx = rnd.nextFloat()*20f-10f, ty = rnd.nextFloat()*20f-10f, tz = rnd.nextFloat()*20f-10f;
+            m.glTranslatef(tx, ty, tz);
+            FloatUtil.multMatrix(refMvObj, FloatUtil.makeTranslation(op, true, tx, ty, tz));
+            if( 0 != ( i & 1 ) ) {
+                final float ang = rnd.nextFloat()*360f;
+                m.glRotatef(ang, 0f, 1f, 1f);
+                FloatUtil.multMatrix(refMvObj, FloatUtil.makeRotationAxis(op, 0, ang * FloatUtil.PI / 180.0f, 0f, 1f, 1f, tmpVec3));
+            }
+            if( 0 == ( i % 3 ) ) {
+                final float s = rnd.nextFloat()+0.5f;
+                m.glScalef(s, s*2f, s);
+                FloatUtil.multMatrix(refMvObj, FloatUtil.makeScale(op, true, s, s*2f, s));
+            }
+            m.update();
+
+            Assert.assertArrayEquals(refMvObj, get(m.glGetMvMatrixf()), EPSILON);
+            Assert.assertNotNull(FloatUtil.invertMatrix(refMvObj, refMvi));
+            FloatUtil.transposeMatrix(refMvi, refMvit);
+            Assert.assertArrayEquals(refMvi, get(m.glGetMviMatrixf()), EPSILON);
+            Assert.assertArrayEquals(refMvit, get(m.glGetMvitMatrixf()), EPSILON);
+
+            FloatUtil.multMatrix(refP, 0, refMvObj, 0, refPMv, 0);
+            Assert.assertArrayEquals(refPMv, m.multPMvMatrixf(hasPMv, 0), EPSILON);
+
+            final float ox = rnd.nextFloat()*2f-1f, oy = rnd.nextFloat()*2f-1f, oz = rnd.nextFloat()*2f-1f;
+            Assert.assertTrue(FloatUtil.mapObjToWinCoords(ox, oy, oz, refMvObj, 0, refP, 0, viewport, 0, expWin, 0, mat4Tmp1, mat4Tmp2));
+            Assert.assertTrue(m.gluProject(ox, oy, oz, viewport, 0, hasWin, 0));
+            Assert.assertArrayEquals(expWin, hasWin, 1e-2f);
+
+            Assert.assertTrue(FloatUtil.mapWinToObjCoords(expWin[0], expWin[1], expWin[2], refMvObj, 0, refP, 0, viewport, 0, expObj, 0, mat4Tmp1, mat4Tmp2));
+            Assert.assertTrue(m.gluUnProject(expWin[0], expWin[1], expWin[2], viewport, 0, hasObj, 0));
+            Assert.assertArrayEquals(expObj, hasObj, 1e-2f);
+
+            m.glPopMatrix();
+            Assert.assertEquals(FloatUtil.MATRIX_KIND_TRANSLATION, m.getMatrixKind(GLMatrixFunc.GL_MODELVIEW));
+        }
+        m.update();
+        Assert.assertArrayEquals(refMv, get(m.glGetMvMatrixf()), EPSILON);
+        FloatUtil.invertMatrix(refMv, refMvi);
+        Assert.assertArrayEquals(refMvi, get(m.glGetMviMatrixf()), EPSILON);
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.DirectBufferPool;
+import com.jogamp.opengl.util.GLArrayDataClient;
+
+/**
+ * Test {@link GLArrayDataClient}'s geometric buffer growth and {@link DirectBufferPool} reuse,
+ * no GL context required.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLArrayDataClientGrow00NEWT extends UITestCase {
+    static final int elementCount = 100000;
+
+    private static GLArrayDataClient fill(final int comps, final int count) {
+        final GLArrayDataClient adc = GLArrayDataClient.createGLSL("vertices", comps, GL.GL_FLOAT, false, 16);
+        for(int i=0; i<count*comps; i++) {
+            adc.putf(i);
+        }
+        adc.seal(true);
+        return adc;
+    }
+
+    private static void validate(final GLArrayDataClient adc, final int comps, final int count) {
+        Assert.assertEquals(count, adc.getElementCount());
+        final FloatBuffer fb = (FloatBuffer) adc.getBuffer();
+        Assert.assertEquals(count*comps, fb.limit());
+        for(int i=0; i<count*comps; i++) {
+            Assert.assertEquals(i, fb.get(i), 0f);
+        }
+    }
+
+    @Test
+    public void test01GeometricGrowth() {
+        final DirectBufferPool orig = DirectBufferPool.getDefault();
+        final DirectBufferPool pool = new DirectBufferPool(0);
+        DirectBufferPool.setDefault(pool);
+        try {
+            final GLArrayDataClient adc = fill(3, elementCount);
+            validate(adc, 3, elementCount);
+            final long allocs = pool.getAllocationCount();
+            System.err.println("Allocations: "+pool);
+            // 16 -> 100000 elements, doubling: log2(100000/16) + 1
+            Assert.assertTrue("Allocations "+allocs, allocs <= 15);
+            adc.destroy(null);
+        } finally {
+            DirectBufferPool.setDefault(orig);
+        }
+    }
+
+    @Test
+    public void test02PoolReuse() {
+        final DirectBufferPool orig = DirectBufferPool.getDefault();
+        final DirectBufferPool pool = new DirectBufferPool(16 << 20);
+        DirectBufferPool.setDefault(pool);
+        try {
+            for(int frame=0; frame<10; frame++) {
+                final GLArrayDataClient adc = fill(4, elementCount/10);
+                validate(adc, 4, elementCount/10);
+                adc.destroy(null);
+                if( 0 == frame ) {
+                    pool.resetCounter();
+                }
+            }
+            System.err.println("Pooled: "+pool);
+            Assert.assertEquals(0, pool.getAllocationCount());
+            Assert.assertTrue(pool.getReuseCount() > 0);
+            Assert.assertTrue(pool.getRetainedByteCount() <= pool.getMaxRetainedByteCount());
+        } finally {
+            DirectBufferPool.setDefault(orig);
+        }
+    }
+
+    @Test
+    public void test03PoolSizeClasses() {
+        final DirectBufferPool pool = new DirectBufferPool(1 << 20);
+        final ByteBuffer b0 = pool.acquire(1000);
+        Assert.assertEquals(1000, b0.limit());
+        Assert.assertEquals(1024, b0.capacity());
+        pool.release(b0);
+        Assert.assertEquals(1024, pool.getRetainedByteCount());
+        final ByteBuffer b1 = pool.acquire(600);
+        Assert.assertSame(b0, b1);
+        Assert.assertEquals(600, b1.limit());
+        Assert.assertEquals(0, pool.getRetainedByteCount());
+        // over budget, not retained
+        pool.release(pool.acquire(2 << 20));
+        Assert.assertEquals(0, pool.getRetainedByteCount());
+        // non retaining pool allocates exact sizes
+        final DirectBufferPool none = new DirectBufferPool(0);
+        Assert.assertEquals(1000, none.acquire(1000).capacity());
+    }
+
+    @Test
+    public void test04PoolDoubleRelease() {
+        final DirectBufferPool pool = new DirectBufferPool(1 << 20);
+        final ByteBuffer b0 = pool.acquire(1000);
+        pool.release(b0);
+        pool.release(b0);
+        Assert.assertEquals(1024, pool.getRetainedByteCount());
+        final ByteBuffer b1 = pool.acquire(1000);
+        final ByteBuffer b2 = pool.acquire(1000);
+        Assert.assertSame(b0, b1);
+        Assert.assertNotSame(b1, b2);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestGLArrayDataClientGrow00NEWT.class.getName());
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLArrayDataServer;
+
+/**
+ * Test {@link GLArrayDataServer}'s dirty range uploads via {@link GLArrayDataServer#markDirty(int, int)},
+ * its {@link GLArrayDataServer#setStreaming(int) streaming ring buffer}
+ * and its {@link GLArrayDataServer#getUploadedByteCount() uploaded byte counter}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLArrayDataServerDirty00NEWT extends UITestCase {
+    static final int elementCount = 1000;
+    static final int comps = 3;
+    static final int elementBytes = comps * Buffers.SIZEOF_FLOAT;
+
+    private static void fill(final GLArrayDataServer ads, final float base) {
+        for(int i=0; i<elementCount*comps; i++) {
+            ads.putf(base + i);
+        }
+        ads.seal(true);
+    }
+
+    private static void upload(final GL gl, final GLArrayDataServer ads) {
+        ads.bindBuffer(gl, true);
+        ads.bindBuffer(gl, false);
+        Assert.assertEquals(GL.GL_NO_ERROR, gl.glGetError());
+    }
+
+    private static void validate(final GL gl, final GLArrayDataServer ads) {
+        if( !gl.isGL2GL3() ) {
+            return;
+        }
+        final FloatBuffer exp = (FloatBuffer) ads.getBuffer();
+        final FloatBuffer has = Buffers.newDirectFloatBuffer(elementCount*comps);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ads.getVBOName());
+        gl.getGL2GL3().glGetBufferSubData(GL.GL_ARRAY_BUFFER, ads.getVBOOffset(), elementCount*elementBytes, has);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+        for(int i=0; i<elementCount*comps; i++) {
+            Assert.assertEquals("component "+i, exp.get(i), has.get(i), 0f);
+        }
+    }
+
+    private void dirtyRanges(final GL gl) {
+        final GLArrayDataServer ads = GLArrayDataServer.createGLSL("vertices", comps, GL.GL_FLOAT, false, elementCount, GL.GL_DYNAMIC_DRAW);
+        fill(ads, 0f);
+
+        // initial upload allocates the VBO storage
+        upload(gl, ads);
+        Assert.assertEquals(elementCount*elementBytes, ads.getUploadedByteCount());
+        Assert.assertEquals(elementCount*elementBytes, ads.getVBOStorageSize());
+        validate(gl, ads);
+
+        // nothing modified, nothing uploaded
+        ads.resetUploadedByteCount();
+        upload(gl, ads);
+        Assert.assertEquals(0, ads.getUploadedByteCount());
+
+        // two modified ranges, their union is uploaded
+        final FloatBuffer fb = (FloatBuffer) ads.getBuffer();
+        for(int i=10*comps; i<20*comps; i++) {
+            fb.put(i, -i);
+        }
+        for(int i=100*comps; i<105*comps; i++) {
+            fb.put(i, -i);
+        }
+        ads.markDirty(10, 10);
+        ads.markDirty(100, 5);
+        Assert.assertFalse(ads.isVBOWritten());
+        upload(gl, ads);
+        Assert.assertEquals(95*elementBytes, ads.getUploadedByteCount());
+        Assert.assertEquals(elementCount*elementBytes, ads.getVBOStorageSize());
+        validate(gl, ads);
+
+        // refilled buffer is uploaded as a whole
+        ads.resetUploadedByteCount();
+        ads.reset();
+        fill(ads, 1f);
+        ads.markDirty(0, 1);
+        upload(gl, ads);
+        Assert.assertEquals(elementCount*elementBytes, ads.getUploadedByteCount());
+        validate(gl, ads);
+
+        ads.destroy(gl);
+        Assert.assertEquals(0, ads.getVBOStorageSize());
+    }
+
+    private void streaming(final GL gl) {
+        final int segments = 3;
+        final GLArrayDataServer ads = GLArrayDataServer.createGLSLStreaming("vertices", comps, GL.GL_FLOAT, false, elementCount, segments);
+        Assert.assertEquals(segments, ads.getStreamSegmentCount());
+        long firstOffset = -1;
+        for(int frame=0; frame<2*segments; frame++) {
+            ads.resetUploadedByteCount();
+            ads.seal(false);
+            ads.rewind();
+            fill(ads, frame);
+            upload(gl, ads);
+            Assert.assertEquals(elementCount*elementBytes, ads.getUploadedByteCount());
+            validate(gl, ads);
+            if( ads.isStreamPersistent() ) {
+                // ring buffer segments are used in turn
+                if( 0 == frame ) {
+                    firstOffset = ads.getVBOOffset();
+                } else if( 0 == frame % segments ) {
+                    Assert.assertEquals(firstOffset, ads.getVBOOffset());
+                } else {
+                    Assert.assertTrue(firstOffset != ads.getVBOOffset());
+                }
+            } else {
+                Assert.assertEquals(0, ads.getVBOOffset());
+            }
+        }
+        System.err.println(getSimpleTestName(".")+": "+ads);
+        ads.destroy(gl);
+    }
+
+    private void runInContext(final boolean stream) throws InterruptedException {
+        final GLProfile glp = GLProfile.getDefault();
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLOffscreenAutoDrawable glad = GLDrawableFactory.getFactory(glp).createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        Assert.assertNotNull(glad);
+        final Throwable[] error = { null };
+        glad.addGLEventListener(new GLEventListener() {
+            @Override public void init(final GLAutoDrawable drawable) {}
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                try {
+                    if( stream ) {
+                        streaming(drawable.getGL());
+                    } else {
+                        dirtyRanges(drawable.getGL());
+                    }
+                } catch (final Throwable t) {
+                    error[0] = t;
+                }
+            }
+            @Override public void dispose(final GLAutoDrawable drawable) {}
+            @Override public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        glad.display();
+        glad.destroy();
+        if( null != error[0] ) {
+            throw new RuntimeException(error[0]);
+        }
+    }
+
+    @Test
+    public void test01DirtyRanges() throws InterruptedException {
+        runInContext(false);
+    }
+
+    @Test
+    public void test02Streaming() throws InterruptedException {
+        runInContext(true);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestGLArrayDataServerDirty00NEWT.class.getName());
+    }
+}
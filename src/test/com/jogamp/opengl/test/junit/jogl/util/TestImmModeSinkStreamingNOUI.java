@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL2ES2;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.ImmModeSink;
+
+/**
+ * Validates the VBO uploads of {@link ImmModeSink#setStreaming(boolean)}
+ * by recording the buffer calls on a {@link GL2ES1} proxy, no GL context required.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestImmModeSinkStreamingNOUI extends UITestCase {
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestImmModeSinkStreamingNOUI.class.getName());
+    }
+
+    /** Records <code>glBufferData</code> and <code>glBufferSubData</code> calls, answers all others with default values. */
+    static class BufferCalls implements InvocationHandler {
+        final List<String> calls = new ArrayList<String>();
+        final GL2ES1 gl = (GL2ES1) Proxy.newProxyInstance(GL2ES1.class.getClassLoader(), new Class<?>[] { GL2ES1.class }, this);
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            final String name = method.getName();
+            if( name.equals("glGenBuffers") ) {
+                ((int[])args[1])[(Integer)args[2]] = 1;
+            } else if( name.equals("glBufferData") ) {
+                calls.add("data "+args[1]+(null == args[2] ? " null" : ""));
+            } else if( name.equals("glBufferSubData") ) {
+                calls.add("sub "+args[1]+" "+args[2]);
+            } else if( name.startsWith("getGL") ) {
+                return gl;
+            }
+            final Class<?> rt = method.getReturnType();
+            if( boolean.class == rt ) {
+                return Boolean.FALSE;
+            } else if( int.class == rt ) {
+                return Integer.valueOf(0);
+            } else if( long.class == rt ) {
+                return Long.valueOf(0);
+            }
+            return null;
+        }
+    }
+
+    private static void drawTriangle(final ImmModeSink ims, final GL gl) {
+        ims.glBegin(GL.GL_TRIANGLES);
+        ims.glVertex3f(0f, 0f, 0f); ims.glColor4f(1f, 0f, 0f, 1f);
+        ims.glVertex3f(1f, 0f, 0f); ims.glColor4f(0f, 1f, 0f, 1f);
+        ims.glVertex3f(0f, 1f, 0f); ims.glColor4f(0f, 0f, 1f, 1f);
+        ims.glEnd(gl, true);
+    }
+
+    private static ImmModeSink createSink() {
+        return ImmModeSink.createFixed(3*4,
+                                       3, GL.GL_FLOAT, // vertex
+                                       4, GL.GL_FLOAT, // color
+                                       0, GL.GL_FLOAT, // normal
+                                       0, GL.GL_FLOAT, // texCoords
+                                       GL2ES2.GL_STREAM_DRAW);
+    }
+
+    @Test
+    public void test01DefaultUploadsWholeBuffer() {
+        final BufferCalls rec = new BufferCalls();
+        final ImmModeSink ims = createSink();
+        Assert.assertFalse(ims.isStreaming());
+        drawTriangle(ims, rec.gl);
+        drawTriangle(ims, rec.gl);
+        Assert.assertEquals(2, rec.calls.size());
+        for(final String c : rec.calls) {
+            Assert.assertTrue(c, c.startsWith("data ") && !c.endsWith(" null"));
+        }
+        ims.destroy(rec.gl);
+    }
+
+    @Test
+    public void test02StreamingOrphansAndWritesUsedRanges() {
+        final BufferCalls rec = new BufferCalls();
+        final ImmModeSink ims = createSink();
+        ims.setStreaming(true);
+        Assert.assertTrue(ims.isStreaming());
+        drawTriangle(ims, rec.gl);
+        drawTriangle(ims, rec.gl);
+        System.err.println("Calls: "+rec.calls);
+        // per upload: orphan, then 3 vertices of 3 floats and 3 colors of 4 floats
+        Assert.assertEquals(6, rec.calls.size());
+        for(int i=0; i<rec.calls.size(); i+=3) {
+            Assert.assertTrue(rec.calls.get(i), rec.calls.get(i).startsWith("data ") && rec.calls.get(i).endsWith(" null"));
+            Assert.assertTrue(rec.calls.get(i+1), rec.calls.get(i+1).equals("sub 0 36"));
+            Assert.assertTrue(rec.calls.get(i+2), rec.calls.get(i+2).startsWith("sub ") && rec.calls.get(i+2).endsWith(" 48"));
+        }
+        ims.destroy(rec.gl);
+    }
+
+    @Test
+    public void test03StreamingKeptForQueuedSequences() {
+        final BufferCalls rec = new BufferCalls();
+        final ImmModeSink ims = createSink();
+        ims.setStreaming(true);
+        ims.glBegin(GL.GL_TRIANGLES);
+        ims.glVertex3f(0f, 0f, 0f); ims.glColor4f(1f, 0f, 0f, 1f);
+        ims.glEnd(rec.gl, false);
+        Assert.assertTrue(ims.isStreaming());
+        ims.destroy(rec.gl);
+    }
+}
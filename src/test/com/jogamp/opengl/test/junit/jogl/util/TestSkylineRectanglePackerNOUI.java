@@ -0,0 +1,331 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.packrect.BackingStoreManager;
+import com.jogamp.opengl.util.packrect.Rect;
+import com.jogamp.opengl.util.packrect.RectVisitor;
+import com.jogamp.opengl.util.packrect.SkylineRectanglePacker;
+
+/**
+ * Validates {@link SkylineRectanglePacker} against a simulated backing store,
+ * where each rectangle's content is its id and moved by the {@link BackingStoreManager}.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestSkylineRectanglePackerNOUI extends UITestCase {
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestSkylineRectanglePackerNOUI.class.getName());
+    }
+
+    static class Store {
+        final int w, h;
+        final int[] pixels;
+        Store(final int w, final int h) {
+            this.w = w;
+            this.h = h;
+            this.pixels = new int[w*h];
+        }
+    }
+
+    static class SimBackingStoreManager implements BackingStoreManager {
+        int moves = 0;
+        int allocations = 0;
+        boolean failOnAddition = false;
+
+        @Override
+        public Object allocateBackingStore(final int w, final int h) { allocations++; return new Store(w, h); }
+        @Override
+        public void deleteBackingStore(final Object backingStore) { }
+        @Override
+        public boolean canCompact() { return true; }
+        @Override
+        public boolean preExpand(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public boolean additionFailed(final Rect cause, final int attemptNumber) { return false; }
+        @Override
+        public void beginMovement(final Object oldBackingStore, final Object newBackingStore) { }
+        @Override
+        public void move(final Object oldBackingStore, final Rect oldLocation, final Object newBackingStore, final Rect newLocation) {
+            final Store os = (Store) oldBackingStore;
+            final Store ns = (Store) newBackingStore;
+            Assert.assertEquals(oldLocation.w(), newLocation.w());
+            Assert.assertEquals(oldLocation.h(), newLocation.h());
+            final int[] tmp = new int[oldLocation.w()*oldLocation.h()];
+            for(int y=0; y<oldLocation.h(); y++) {
+                for(int x=0; x<oldLocation.w(); x++) {
+                    final int i = (oldLocation.y()+y)*os.w + oldLocation.x()+x;
+                    tmp[y*oldLocation.w()+x] = os.pixels[i];
+                    if( os == ns ) {
+                        os.pixels[i] = 0;
+                    }
+                }
+            }
+            for(int y=0; y<newLocation.h(); y++) {
+                for(int x=0; x<newLocation.w(); x++) {
+                    ns.pixels[(newLocation.y()+y)*ns.w + newLocation.x()+x] = tmp[y*newLocation.w()+x];
+                }
+            }
+            moves++;
+        }
+        @Override
+        public void endMovement(final Object oldBackingStore, final Object newBackingStore) { }
+    }
+
+    /** Adds the rect and draws its id into the backing store, which must be unoccupied. */
+    static void add(final SkylineRectanglePacker packer, final Rect r) {
+        packer.add(r);
+        final Store s = (Store) packer.getBackingStore();
+        final int id = ((Integer) r.getUserData()).intValue();
+        Assert.assertTrue("out of bounds "+r, r.x() + r.w() <= s.w && r.y() + r.h() <= s.h);
+        for(int y=r.y(); y<r.y()+r.h(); y++) {
+            for(int x=r.x(); x<r.x()+r.w(); x++) {
+                Assert.assertEquals("overlap at "+x+"/"+y+" by "+r, 0, s.pixels[y*s.w+x]);
+                s.pixels[y*s.w+x] = id;
+            }
+        }
+    }
+
+    static void remove(final SkylineRectanglePacker packer, final Rect r) {
+        packer.remove(r);
+        final Store s = (Store) packer.getBackingStore();
+        for(int y=r.y(); y<r.y()+r.h(); y++) {
+            for(int x=r.x(); x<r.x()+r.w(); x++) {
+                s.pixels[y*s.w+x] = 0;
+            }
+        }
+    }
+
+    /** Validates the content of all rects and returns their area. */
+    static long validate(final SkylineRectanglePacker packer, final int expectedCount) {
+        final Store s = (Store) packer.getBackingStore();
+        Assert.assertEquals(packer.w(), s.w);
+        Assert.assertEquals(packer.h(), s.h);
+        final int[] count = { 0 };
+        final long[] area = { 0 };
+        packer.visit(new RectVisitor() {
+            @Override
+            public void visit(final Rect r) {
+                final int id = ((Integer) r.getUserData()).intValue();
+                for(int y=r.y(); y<r.y()+r.h(); y++) {
+                    for(int x=r.x(); x<r.x()+r.w(); x++) {
+                        Assert.assertEquals("content of "+r, id, s.pixels[y*s.w+x]);
+                    }
+                }
+                Assert.assertTrue(r.y() + r.h() <= packer.getUsedHeight());
+                count[0]++;
+                area[0] += r.w() * r.h();
+            } } );
+        Assert.assertEquals(expectedCount, count[0]);
+        return area[0];
+    }
+
+    static float occupancy(final SkylineRectanglePacker packer, final long area) {
+        return (float) area / ( packer.w() * packer.getUsedHeight() );
+    }
+
+    static List<Rect> createGlyphs(final Random rnd, final int count, final int firstId) {
+        final List<Rect> rects = new ArrayList<Rect>(count);
+        for(int i=0; i<count; i++) {
+            rects.add(new Rect(0, 0, 4 + rnd.nextInt(37), 12 + rnd.nextInt(29), Integer.valueOf(firstId+i)));
+        }
+        return rects;
+    }
+
+    @Test
+    public void test01AddGrow() {
+        final SimBackingStoreManager manager = new SimBackingStoreManager();
+        final SkylineRectanglePacker packer = new SkylineRectanglePacker(manager, 256, 256);
+        final List<Rect> rects = createGlyphs(new Random(1), 2000, 1);
+        for(final Rect r : rects) {
+            add(packer, r);
+        }
+        final float occupancy = occupancy(packer, validate(packer, rects.size()));
+        System.err.println("Size "+packer.w()+"x"+packer.h()+", used height "+packer.getUsedHeight()+", occupancy "+occupancy+
+                           ", fragmentation "+packer.verticalFragmentationRatio()+", allocations "+manager.allocations);
+        Assert.assertTrue("occupancy "+occupancy, occupancy > 0.85f);
+
+        // wider than the backing store
+        final Rect wide = new Rect(0, 0, 300, 20, Integer.valueOf(100000));
+        add(packer, wide);
+        Assert.assertEquals(300, packer.w());
+        validate(packer, rects.size() + 1);
+    }
+
+    @Test
+    public void test02RemoveReuse() {
+        final SimBackingStoreManager manager = new SimBackingStoreManager();
+        final SkylineRectanglePacker packer = new SkylineRectanglePacker(manager, 512, 512);
+        final Random rnd = new Random(2);
+        final List<Rect> rects = createGlyphs(rnd, 1000, 1);
+        for(final Rect r : rects) {
+            add(packer, r);
+        }
+        final int usedHeight = packer.getUsedHeight();
+        final int allocations = manager.allocations;
+
+        // churn: replace random rects by new ones of similar size, space is reused
+        int nextId = rects.size() + 1;
+        for(int i=0; i<5000; i++) {
+            final int idx = rnd.nextInt(rects.size());
+            remove(packer, rects.get(idx));
+            final Rect r = createGlyphs(rnd, 1, nextId++).get(0);
+            rects.set(idx, r);
+            add(packer, r);
+        }
+        validate(packer, rects.size());
+        System.err.println("Used height "+usedHeight+" -> "+packer.getUsedHeight()+", fragmentation "+packer.verticalFragmentationRatio());
+        Assert.assertTrue(packer.getUsedHeight() <= packer.h());
+        Assert.assertTrue("backing store reallocated "+(manager.allocations - allocations)+" times",
+                          manager.allocations - allocations <= 1);
+
+        // removing everything gives all space back to the skyline
+        for(final Rect r : rects) {
+            remove(packer, r);
+        }
+        Assert.assertEquals(0, packer.getUsedHeight());
+        Assert.assertEquals(0f, packer.verticalFragmentationRatio(), 0f);
+    }
+
+    @Test
+    public void test03IncrementalCompaction() {
+        final SimBackingStoreManager manager = new SimBackingStoreManager();
+        final SkylineRectanglePacker packer = new SkylineRectanglePacker(manager, 512, 512);
+        final Random rnd = new Random(3);
+        final List<Rect> rects = createGlyphs(rnd, 2000, 1);
+        for(final Rect r : rects) {
+            add(packer, r);
+        }
+        // evict 3/4, fragmenting the store
+        final List<Rect> kept = new ArrayList<Rect>();
+        for(final Rect r : rects) {
+            if( rnd.nextInt(4) == 0 ) {
+                kept.add(r);
+            } else {
+                remove(packer, r);
+            }
+        }
+        final int usedHeight0 = packer.getUsedHeight();
+        final float frag0 = packer.verticalFragmentationRatio();
+        final int allocations = manager.allocations;
+        manager.moves = 0;
+
+        int steps = 0;
+        boolean more = true;
+        while( more ) {
+            final int moves0 = manager.moves;
+            more = packer.compact(8);
+            Assert.assertTrue(manager.moves - moves0 <= 8);
+            validate(packer, kept.size());
+            steps++;
+        }
+        Assert.assertEquals("compacted in place", allocations, manager.allocations);
+        Assert.assertTrue("each rect moved at most twice", manager.moves <= 2 * kept.size());
+        final float occupancy = occupancy(packer, validate(packer, kept.size()));
+        System.err.println("Compaction in "+steps+" steps, "+manager.moves+" moves: used height "+usedHeight0+" -> "+packer.getUsedHeight()+
+                           ", fragmentation "+frag0+" -> "+packer.verticalFragmentationRatio()+", occupancy "+occupancy);
+        Assert.assertTrue(packer.getUsedHeight() < usedHeight0);
+        Assert.assertTrue(packer.verticalFragmentationRatio() < frag0);
+        Assert.assertTrue("occupancy "+occupancy, occupancy > 0.9f);
+        Assert.assertFalse("compaction complete", packer.compact(8));
+
+        // shrinks the backing store
+        packer.compact();
+        Assert.assertTrue(packer.h() < 512*4);
+        validate(packer, kept.size());
+    }
+
+    @Test
+    public void test04IncrementalCompactionInterleaved() {
+        final SimBackingStoreManager manager = new SimBackingStoreManager();
+        final SkylineRectanglePacker packer = new SkylineRectanglePacker(manager, 256, 256);
+        final Random rnd = new Random(4);
+        final List<Rect> rects = createGlyphs(rnd, 1500, 1);
+        for(final Rect r : rects) {
+            add(packer, r);
+        }
+        for(int i=rects.size()-1; i>=0; i--) {
+            if( rnd.nextInt(3) != 0 ) {
+                remove(packer, rects.remove(i));
+            }
+        }
+        // glyphs are added and removed between compaction cycles
+        int nextId = 100000;
+        for(int i=0; i<200; i++) {
+            packer.compact(4);
+            if( 0 == i % 20 ) {
+                validate(packer, rects.size());
+            }
+            if( rnd.nextBoolean() ) {
+                remove(packer, rects.remove(rnd.nextInt(rects.size())));
+            } else {
+                final Rect r = createGlyphs(rnd, 1, nextId++).get(0);
+                add(packer, r);
+                rects.add(r);
+            }
+        }
+        while( packer.compact(4) ) { }
+        final float occupancy = occupancy(packer, validate(packer, rects.size()));
+        System.err.println("Interleaved compaction: used height "+packer.getUsedHeight()+", occupancy "+occupancy);
+        Assert.assertTrue("occupancy "+occupancy, occupancy > 0.9f);
+
+        for(final Rect r : rects) {
+            remove(packer, r);
+        }
+        Assert.assertEquals(0, packer.getUsedHeight());
+    }
+
+    @Test
+    public void test05MaxSize() {
+        final SimBackingStoreManager manager = new SimBackingStoreManager();
+        final SkylineRectanglePacker packer = new SkylineRectanglePacker(manager, 64, 64);
+        packer.setMaxSize(128, 128);
+        int id = 1;
+        try {
+            while( true ) {
+                add(packer, new Rect(0, 0, 16, 16, Integer.valueOf(id++)));
+            }
+        } catch (final RuntimeException re) {
+            // expected, manager doesn't clear space
+        }
+        Assert.assertEquals(128, packer.w());
+        Assert.assertEquals(128, packer.h());
+        Assert.assertEquals(64, id - 2); // 8 x 8 placed
+        validate(packer, 64);
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.av;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+
+import jogamp.opengl.util.av.GLMediaPlayerImpl;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.net.Uri;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.av.GLMediaPlayer;
+import com.jogamp.opengl.util.av.GLMediaPlayer.GLMediaEventListener;
+import com.jogamp.opengl.util.texture.TextureSequence.TextureFrame;
+
+/**
+ * Tests stopping and failing an audio-only {@link GLMediaPlayer} decoding on the shared
+ * StreamScheduler threads, while one of its decoding steps is in flight.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestStreamSchedulerStopNOUI extends UITestCase {
+    static final long timeout = 5000; // ms
+
+    @BeforeClass
+    public static void initClass() {
+        // read once when the scheduler is first used
+        System.setProperty("jogl.GLMediaPlayer.StreamWorker.threads", "2");
+    }
+
+    /** Audio only player whose decoding step blocks until released. */
+    static class BlockingPlayer extends GLMediaPlayerImpl {
+        final CountDownLatch stepEntered = new CountDownLatch(1);
+        final CountDownLatch stepRelease = new CountDownLatch(1);
+        volatile boolean failStep = false;
+
+        @Override
+        protected boolean playImpl() { return true; }
+        @Override
+        protected boolean pauseImpl() { return true; }
+        @Override
+        protected int seekImpl(final int msec) { return msec; }
+        @Override
+        protected void destroyImpl(final GL gl) { }
+        @Override
+        protected void initStreamImpl(final int vid, final int aid) throws Exception {
+            updateAttributes(GLMediaPlayer.STREAM_ID_NONE, GLMediaPlayer.STREAM_ID_NONE,
+                             0, 0, 0, 0, 0, 0f, 0, 0, 0, null, null);
+        }
+        @Override
+        protected void initGLImpl(final GL gl) throws IOException, GLException { }
+        @Override
+        protected TextureFrame createTexImage(final GL gl, final int texName) { return null; }
+        @Override
+        protected int getNextTextureImpl(final GL gl, final TextureFrame nextFrame) {
+            stepEntered.countDown();
+            try {
+                stepRelease.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if( failStep ) {
+                throw new GLException("Failed step");
+            }
+            return 0;
+        }
+    }
+
+    static class EventLatch implements GLMediaEventListener {
+        final int event;
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        EventLatch(final int event) {
+            this.event = event;
+        }
+        @Override
+        public void newFrameAvailable(final GLMediaPlayer ts, final TextureFrame newFrame, final long when) { }
+        @Override
+        public void attributesChanged(final GLMediaPlayer mp, final int event_mask, final long when) {
+            if( 0 != ( event & event_mask ) ) {
+                latch.countDown();
+            }
+        }
+        boolean await() throws InterruptedException {
+            return latch.await(timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    static BlockingPlayer startPlayer() throws Exception {
+        final BlockingPlayer player = new BlockingPlayer();
+        final EventLatch initEvent = new EventLatch(GLMediaEventListener.EVENT_CHANGE_INIT);
+        player.addEventListener(initEvent);
+        player.initStream(Uri.cast("file:///test.null"), GLMediaPlayer.STREAM_ID_NONE, GLMediaPlayer.STREAM_ID_NONE, 0);
+        Assert.assertTrue("Stream not initialized", initEvent.await());
+        player.initGL(null);
+        Assert.assertEquals(GLMediaPlayer.State.Playing, player.play());
+        Assert.assertTrue("Decoding step not started", player.stepEntered.await(timeout, TimeUnit.MILLISECONDS));
+        return player;
+    }
+
+    @Test
+    public void test01StopWhileStepInFlight() throws Exception {
+        final BlockingPlayer player = startPlayer();
+        final Thread stopper = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                player.destroy(null);
+            } }, "Stopper");
+        stopper.start();
+        Thread.sleep(100); // let destroy() wait for the step
+        Assert.assertTrue("Stopped before step completed", stopper.isAlive());
+        player.stepRelease.countDown();
+        stopper.join(timeout);
+        Assert.assertFalse("Stop deadlocked", stopper.isAlive());
+        Assert.assertEquals(GLMediaPlayer.State.Uninitialized, player.getState());
+    }
+
+    @Test
+    public void test02StepFailure() throws Exception {
+        final BlockingPlayer player = startPlayer();
+        final EventLatch errEvent = new EventLatch(GLMediaEventListener.EVENT_CHANGE_ERR);
+        player.addEventListener(errEvent);
+        player.failStep = true;
+        player.stepRelease.countDown();
+        Assert.assertTrue("No error event", errEvent.await());
+        Assert.assertEquals(GLMediaPlayer.State.Paused, player.getState());
+        Assert.assertNotNull("No stream exception", player.getStreamException());
+
+        final Thread pauser = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                player.pause(false);
+                player.destroy(null);
+            } }, "Pauser");
+        pauser.start();
+        pauser.join(timeout);
+        Assert.assertFalse("Pause or stop deadlocked", pauser.isAlive());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestStreamSchedulerStopNOUI.class.getName());
+    }
+}
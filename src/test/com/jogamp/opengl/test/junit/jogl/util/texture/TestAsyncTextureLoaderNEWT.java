@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.GLBuffers;
+import com.jogamp.opengl.util.texture.AsyncTextureLoader;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+
+/**
+ * Test {@link AsyncTextureLoader} streaming textures over several frames
+ * against synchronously loaded textures.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAsyncTextureLoaderNEWT extends UITestCase {
+    static final String[] filenames = new String[] {
+        "test-ntscN_3-01-160x90.png",
+        "test-ntscN_4-01-160x90.png",
+        "test-ntscNG4-01-160x90.png",
+        "test-ntscN_3-01-160x90-90pct-yuv444-base.jpg",
+        "j3-baseline_gray.jpg",
+        "test-64x32_DXT1.dds"
+    };
+    private final Set<String> compared = new HashSet<String>();
+
+    private void testImpl(final GLProfile glp, final int bytesPerFrame, final boolean mipmap) throws InterruptedException, IOException {
+        final GLCapabilities caps = new GLCapabilities(glp);
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(glp);
+        final GLOffscreenAutoDrawable glad = factory.createOffscreenAutoDrawable(null, caps, null, 64, 64);
+        Assert.assertNotNull(glad);
+
+        final AsyncTextureLoader loader = new AsyncTextureLoader(2, 2, bytesPerFrame);
+        final AsyncTextureLoader.Handle[] handles = new AsyncTextureLoader.Handle[filenames.length];
+        for(int i=0; i<filenames.length; i++) {
+            final URLConnection urlConn = IOUtil.getResource(this.getClass(), filenames[i]);
+            Assert.assertNotNull(urlConn);
+            handles[i] = loader.load(glp, urlConn.getURL(), mipmap, null);
+        }
+        final int[] frames = { 0 };
+        final boolean[] equal = { true };
+        glad.addGLEventListener(new GLEventListener() {
+            @Override public void init(final GLAutoDrawable drawable) {}
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                loader.upload(gl);
+                frames[0]++;
+                for(int i=0; i<filenames.length; i++) {
+                    final Texture tex = handles[i].getTexture();
+                    if( null != tex && gl.isGL2GL3() && equal[0] ) {
+                        equal[0] = compare(gl, filenames[i], tex, mipmap);
+                    }
+                }
+            }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) {
+                final GL gl = drawable.getGL();
+                loader.destroy(gl);
+                for(int i=0; i<filenames.length; i++) {
+                    final Texture tex = handles[i].getTexture();
+                    if( null != tex ) {
+                        tex.destroy(gl);
+                    }
+                }
+            }
+            @Override public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        });
+        final long t0 = System.currentTimeMillis();
+        while( loader.hasPending() && System.currentTimeMillis() - t0 < 10000 ) {
+            glad.display();
+            Thread.sleep(1);
+        }
+        System.err.println(getSimpleTestName(".")+": bytesPerFrame "+bytesPerFrame+", frames "+frames[0]);
+        for(int i=0; i<filenames.length; i++) {
+            Assert.assertTrue(filenames[i], handles[i].isDone());
+            Assert.assertNull(filenames[i]+": "+handles[i].getError(), handles[i].getError());
+            Assert.assertNotNull(filenames[i], handles[i].getTexture());
+        }
+        Assert.assertTrue("Streamed texture differs from synchronously loaded texture", equal[0]);
+        glad.destroy();
+    }
+
+    /** Compares level 0 of the given texture with a synchronously loaded one, once per file. */
+    private boolean compare(final GL gl, final String filename, final Texture tex, final boolean mipmap) {
+        if( !compared.add(filename) || filename.endsWith(".dds") ) {
+            return true;
+        }
+        try {
+            final URLConnection urlConn = IOUtil.getResource(this.getClass(), filename);
+            final TextureData data = TextureIO.newTextureData(gl.getGLProfile(), urlConn.getURL(), mipmap, null);
+            final Texture exp = new Texture(gl, data);
+            try {
+                Assert.assertEquals(exp.getTarget(), tex.getTarget());
+                Assert.assertEquals(exp.getWidth(), tex.getWidth());
+                Assert.assertEquals(exp.getHeight(), tex.getHeight());
+                Assert.assertEquals(exp.getMustFlipVertically(), tex.getMustFlipVertically());
+                return readTexImage(gl.getGL2GL3(), exp).equals(readTexImage(gl.getGL2GL3(), tex));
+            } finally {
+                exp.destroy(gl);
+                data.flush();
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ByteBuffer readTexImage(final GL2GL3 gl, final Texture tex) {
+        final ByteBuffer buf = GLBuffers.newDirectByteBuffer(tex.getWidth() * tex.getHeight() * 4);
+        tex.bind(gl);
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
+        gl.glGetTexImage(tex.getTarget(), 0, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, buf);
+        gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 4);
+        return buf;
+    }
+
+    private static GLProfile getGLProfile() {
+        if( GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            return GLProfile.getGL2ES2();
+        }
+        return null;
+    }
+
+    @Test
+    public void test01Streamed() throws InterruptedException, IOException {
+        final GLProfile glp = getGLProfile();
+        if( null == glp ) {
+            System.err.println(getSimpleTestName(".")+": GLProfile n/a");
+            return;
+        }
+        // 4KiB per frame, i.e. multiple frames per texture
+        testImpl(glp, 4096, false);
+    }
+
+    @Test
+    public void test02StreamedMipmap() throws InterruptedException, IOException {
+        final GLProfile glp = getGLProfile();
+        if( null == glp ) {
+            System.err.println(getSimpleTestName(".")+": GLProfile n/a");
+            return;
+        }
+        testImpl(glp, 4096, true);
+    }
+
+    @Test
+    public void test03OneFrame() throws InterruptedException, IOException {
+        final GLProfile glp = getGLProfile();
+        if( null == glp ) {
+            System.err.println(getSimpleTestName(".")+": GLProfile n/a");
+            return;
+        }
+        testImpl(glp, AsyncTextureLoader.DEFAULT_BYTES_PER_FRAME, false);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestAsyncTextureLoaderNEWT.class.getName());
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.spi.DDSImage;
+
+/**
+ * Test DDS loading from memory-mapped files and from streams.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDDSImage00NEWT extends UITestCase {
+    static final String[] filenames = new String[] {
+        "test-64x32_uncompressed.dds",
+        "test-64x32_DXT1.dds",
+        "test-64x32_DXT5.dds"
+    };
+
+    private File initFile(final String filename) throws URISyntaxException {
+        final URLConnection connection = IOUtil.getResource(getClass(), filename);
+        Assert.assertNotNull(connection);
+        final File file = new File(connection.getURL().toURI());
+        Assert.assertTrue(file.exists());
+        return file;
+    }
+
+    private static DDSImage readStream(final File file) throws IOException {
+        final InputStream in = new BufferedInputStream(new FileInputStream(file));
+        try {
+            return DDSImage.read(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void assertEquals(final DDSImage exp, final DDSImage has) {
+        Assert.assertEquals(exp.getWidth(), has.getWidth());
+        Assert.assertEquals(exp.getHeight(), has.getHeight());
+        Assert.assertEquals(exp.getPixelFormat(), has.getPixelFormat());
+        Assert.assertEquals(exp.getNumMipMaps(), has.getNumMipMaps());
+        for(int i=0; i<exp.getNumMipMaps(); i++) {
+            final DDSImage.ImageInfo expInfo = exp.getMipMap(i);
+            final DDSImage.ImageInfo hasInfo = has.getMipMap(i);
+            Assert.assertEquals(expInfo.getWidth(), hasInfo.getWidth());
+            Assert.assertEquals(expInfo.getHeight(), hasInfo.getHeight());
+            Assert.assertEquals("mipmap "+i, expInfo.getData(), hasInfo.getData());
+        }
+    }
+
+    @Test
+    public void test01FileMapped() throws IOException, URISyntaxException {
+        for(int i=0; i<filenames.length; i++) {
+            final DDSImage image = DDSImage.read(initFile(filenames[i]));
+            Assert.assertTrue(image.getNumMipMaps() > 0);
+            for(int j=0; j<image.getNumMipMaps(); j++) {
+                final ByteBuffer data = image.getMipMap(j).getData();
+                // slice of the mapped region, not a copy
+                Assert.assertTrue(filenames[i]+" mipmap "+j, data.isDirect());
+                Assert.assertTrue(filenames[i]+" mipmap "+j, data.isReadOnly());
+            }
+            image.close();
+        }
+    }
+
+    @Test
+    public void test02StreamEqualsFile() throws IOException, URISyntaxException {
+        for(int i=0; i<filenames.length; i++) {
+            final File file = initFile(filenames[i]);
+            final DDSImage exp = DDSImage.read(file);
+            final DDSImage has = readStream(file);
+            for(int j=0; j<has.getNumMipMaps(); j++) {
+                Assert.assertTrue(filenames[i]+" mipmap "+j, has.getMipMap(j).getData().isDirect());
+            }
+            assertEquals(exp, has);
+            has.close();
+            exp.close();
+        }
+    }
+
+    @Test
+    public void test03StreamDataValidAfterClose() throws IOException, URISyntaxException {
+        final File file = initFile(filenames[0]);
+        final DDSImage exp = DDSImage.read(file);
+        final DDSImage has = readStream(file);
+        final ByteBuffer[] hasData = new ByteBuffer[has.getNumMipMaps()];
+        for(int i=0; i<hasData.length; i++) {
+            hasData[i] = has.getMipMap(i).getData();
+        }
+        // mipmap data is still in use after close, e.g. by a TextureData flushed later on
+        has.close();
+        for(int i=0; i<4; i++) {
+            final DDSImage image = readStream(file);
+            image.close();
+        }
+        Assert.assertEquals(exp.getNumMipMaps(), hasData.length);
+        for(int i=0; i<hasData.length; i++) {
+            Assert.assertEquals("mipmap "+i, exp.getMipMap(i).getData(), hasData[i]);
+        }
+        exp.close();
+    }
+
+    @Test
+    public void test04StreamInvalidSize() throws IOException, URISyntaxException {
+        final File file = initFile(filenames[0]);
+        final InputStream in = new BufferedInputStream(new FileInputStream(file));
+        final byte[] bytes;
+        try {
+            bytes = IOUtil.copyStream2ByteArray(in);
+        } finally {
+            in.close();
+        }
+        // height and width of 2^30, little endian
+        bytes[15] = 0x40;
+        bytes[19] = 0x40;
+        try {
+            DDSImage.read(new ByteArrayInputStream(bytes));
+            Assert.fail("IOException expected");
+        } catch (final IOException ioe) {
+            System.err.println("Expected: "+ioe.getMessage());
+        }
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestDDSImage00NEWT.class.getName());
+    }
+}
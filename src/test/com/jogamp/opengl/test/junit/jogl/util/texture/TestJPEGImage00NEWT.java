@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import jogamp.nativewindow.ParallelExecutor;
+import jogamp.opengl.util.jpeg.JPEGDecoder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+import com.jogamp.opengl.util.texture.spi.JPEGImage;
+
+/**
+ * Test streaming JPEG decoding against complete decoding.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGImage00NEWT extends UITestCase {
+    static final String[] basenames = new String[] {
+        "test-ntscN_3-01-160x90-60pct-yuv422h-base",
+        "test-ntscN_3-01-160x90-60pct-yuv422h-prog",
+        "test-ntscN_3-01-160x90-90pct-yuv444-base",
+        "test-ntscN_3-01-160x90-90pct-yuv444-prog",
+        "j1-baseline",
+        "j2-progressive",
+        "j3-baseline_gray",
+        "test-cmyk-01",
+        "test-ycck-01",
+        "bug745_qttdef_post_frame"
+    };
+
+    static class Sink implements JPEGDecoder.ColorSink {
+        final ColorSpace storageCS;
+        int width, height;
+        byte[] data;
+
+        Sink(final ColorSpace storageCS) {
+            this.storageCS = storageCS;
+        }
+        @Override
+        public ColorSpace allocate(final int width, final int height, final ColorSpace sourceCS, final int sourceComponents) {
+            this.width = width;
+            this.height = height;
+            this.data = new byte[width * height * 3];
+            return storageCS;
+        }
+        @Override
+        public void store2(final int x, final int y, final byte c1, final byte c2) {
+            int i = ( y * width + x ) * 3;
+            data[i++] = c1;
+            data[i++] = c2;
+        }
+        @Override
+        public void storeRGB(final int x, final int y, final byte r, final byte g, final byte b) {
+            int i = ( y * width + x ) * 3;
+            data[i++] = r;
+            data[i++] = g;
+            data[i++] = b;
+        }
+        @Override
+        public void storeYCbCr(final int x, final int y, final byte Y, final byte Cb, final byte Cr) {
+            storeRGB(x, y, Y, Cb, Cr);
+        }
+    }
+
+    private void testStreamingImpl(final String basename, final ColorSpace storageCS) throws IOException {
+        final URLConnection urlConn0 = IOUtil.getResource(this.getClass(), basename+".jpg");
+        final URLConnection urlConn1 = IOUtil.getResource(this.getClass(), basename+".jpg");
+        Assert.assertNotNull(urlConn0);
+
+        final JPEGDecoder decoder0 = new JPEGDecoder();
+        decoder0.parse(urlConn0.getInputStream());
+        final Sink sink0 = new Sink(storageCS);
+        decoder0.getPixel(sink0, decoder0.getWidth(), decoder0.getHeight());
+
+        final int[] nextRow = { 0 };
+        final JPEGDecoder decoder1 = new JPEGDecoder();
+        final Sink sink1 = new Sink(storageCS);
+        decoder1.decode(urlConn1.getInputStream(), sink1, new JPEGDecoder.RowListener() {
+            @Override
+            public void rowsCompleted(final int y0, final int y1) {
+                Assert.assertEquals(nextRow[0], y0);
+                Assert.assertTrue(y0 < y1);
+                nextRow[0] = y1;
+            } });
+        System.err.println("JPEG "+basename+", "+storageCS+": "+decoder1);
+
+        Assert.assertEquals(decoder0.getHeight(), nextRow[0]);
+        Assert.assertEquals(sink0.width, sink1.width);
+        Assert.assertEquals(sink0.height, sink1.height);
+        Assert.assertTrue("Streaming result differs: "+basename, Arrays.equals(sink0.data, sink1.data));
+    }
+
+    @Test
+    public void test01StreamingRGB() throws IOException, MalformedURLException {
+        for(int i=0; i<basenames.length; i++) {
+            testStreamingImpl(basenames[i], ColorSpace.RGB);
+        }
+    }
+
+    @Test
+    public void test02StreamingYCbCr() throws IOException, MalformedURLException {
+        for(int i=0; i<basenames.length; i++) {
+            if( !basenames[i].startsWith("test-cmyk") ) { // CMYK -> YCbCr n/a
+                testStreamingImpl(basenames[i], ColorSpace.YCbCr);
+            }
+        }
+    }
+
+    @Test
+    public void test03JPEGImageRows() throws IOException, MalformedURLException {
+        final URLConnection urlConn = IOUtil.getResource(this.getClass(), "j1-baseline.jpg");
+        final int[] bands = { 0, 0 };
+        final JPEGImage image = JPEGImage.read(urlConn.getInputStream(), ColorSpace.RGB, new JPEGImage.RowListener() {
+            @Override
+            public void rowsDecoded(final ByteBuffer data, final int width, final int height, final int bytesPerPixel, final int y0, final int y1) {
+                Assert.assertNotNull(data);
+                Assert.assertEquals(width * height * bytesPerPixel, data.capacity());
+                Assert.assertEquals(bands[1], y0);
+                bands[0]++;
+                bands[1] = y1;
+            } });
+        System.err.println("JPEGImage: "+image+", bands "+bands[0]);
+        Assert.assertEquals(image.getHeight(), bands[1]);
+        Assert.assertTrue(1 < bands[0]);
+    }
+
+    @Test
+    public void test04StreamingParallel() throws IOException, MalformedURLException {
+        ParallelExecutor.setThreadCount(4, true);
+        try {
+            for(int i=0; i<basenames.length; i++) {
+                testStreamingImpl(basenames[i], ColorSpace.RGB);
+            }
+        } finally {
+            ParallelExecutor.setThreadCount(1);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestJPEGImage00NEWT.class.getName());
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import jogamp.nativewindow.ParallelExecutor;
+import jogamp.opengl.glu.mipmap.HalveImage;
+import jogamp.opengl.glu.mipmap.Mipmap;
+import jogamp.opengl.glu.mipmap.ScaleInternal;
+import jogamp.opengl.util.texture.MipmapBuilder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Test {@link MipmapBuilder} producing the same levels as the GLU mipmap implementation.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMipmapBuilder00NEWT extends UITestCase {
+    static final int[][] sizes = new int[][] {
+        { 64, 64 }, { 128, 32 }, { 32, 128 }, { 2, 1 }, { 1, 2 }, { 16, 1 }, { 1, 16 },
+        { 160, 90 }, { 99, 77 }, { 3, 5 }, { 1, 7 }, { 257, 1 }
+    };
+    static final int[] alignments = new int[] { 1, 4, 8 };
+
+    private static ByteBuffer randomImage(final Random rnd, final int size) {
+        final byte[] bytes = new byte[size];
+        rnd.nextBytes(bytes);
+        final ByteBuffer b = Buffers.newDirectByteBuffer(size);
+        b.put(bytes);
+        b.rewind();
+        return b;
+    }
+
+    /** Halves all levels of a power-of-two image down to 1x1 via GLU and {@link MipmapBuilder}, comparing each level. */
+    private static void testHalveImpl(final Random rnd, final int comps, final int width, final int height, final int alignment) {
+        final int stride = MipmapBuilder.getStride(comps, width, alignment);
+        ByteBuffer src = randomImage(rnd, stride * height);
+        int srcStride = stride;
+        int w = width, h = height;
+        while( w > 1 || h > 1 ) {
+            final int nw = Math.max(1, w / 2);
+            final int nh = Math.max(1, h / 2);
+            final ByteBuffer exp = Buffers.newDirectByteBuffer(nw * nh * comps);
+            final ByteBuffer has = Buffers.newDirectByteBuffer(nw * nh * comps);
+            if( 1 == w || 1 == h ) {
+                HalveImage.halve1Dimage_ubyte(comps, w, h, src, exp, 1, srcStride, comps);
+            } else {
+                HalveImage.halveImage_ubyte(comps, w, h, src, exp, 1, srcStride, comps);
+            }
+            src.rewind();
+            MipmapBuilder.halve(comps, w, h, src, srcStride, has);
+            exp.rewind();
+            Assert.assertEquals("comps "+comps+", "+w+"x"+h+", stride "+srcStride, exp, has);
+            src = has;
+            srcStride = nw * comps;
+            w = nw;
+            h = nh;
+        }
+    }
+
+    private static void testScaleImpl(final Random rnd, final int comps, final int width, final int height, final int alignment) {
+        final int stride = MipmapBuilder.getStride(comps, width, alignment);
+        final ByteBuffer src = randomImage(rnd, stride * height);
+        final int wout = Mipmap.nearestPower(width);
+        final int hout = Mipmap.nearestPower(height);
+        final ByteBuffer exp = Buffers.newDirectByteBuffer(wout * hout * comps);
+        final ByteBuffer has = Buffers.newDirectByteBuffer(wout * hout * comps);
+        ScaleInternal.scale_internal_ubyte(comps, width, height, src, wout, hout, exp, 1, stride, comps);
+        src.rewind();
+        exp.rewind();
+        MipmapBuilder.scale(comps, width, height, src, stride, wout, hout, has);
+        Assert.assertEquals("comps "+comps+", "+width+"x"+height+" -> "+wout+"x"+hout+", stride "+stride, exp, has);
+    }
+
+    private static boolean isPOT(final int v) { return 0 == ( v & ( v - 1 ) ); }
+
+    private void testImpl() {
+        final Random rnd = new Random(42);
+        for(int comps = 1; comps <= 4; comps++) {
+            for(int i = 0; i < sizes.length; i++) {
+                final int w = sizes[i][0];
+                final int h = sizes[i][1];
+                for(int a = 0; a < alignments.length; a++) {
+                    if( isPOT(w) && isPOT(h) ) {
+                        testHalveImpl(rnd, comps, w, h, alignments[a]);
+                    } else {
+                        testScaleImpl(rnd, comps, w, h, alignments[a]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test01Serial() {
+        ParallelExecutor.setThreadCount(1);
+        testImpl();
+    }
+
+    @Test
+    public void test02Parallel() {
+        ParallelExecutor.setThreadCount(3, true);
+        try {
+            testImpl();
+        } finally {
+            ParallelExecutor.setThreadCount(1);
+        }
+    }
+
+    @Test
+    public void test03ComponentCount() {
+        Assert.assertEquals(4, MipmapBuilder.getComponentCount(GL.GL_RGBA, GL.GL_UNSIGNED_BYTE));
+        Assert.assertEquals(3, MipmapBuilder.getComponentCount(GL.GL_RGB, GL.GL_UNSIGNED_BYTE));
+        Assert.assertEquals(1, MipmapBuilder.getComponentCount(GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE));
+        Assert.assertEquals(0, MipmapBuilder.getComponentCount(GL.GL_RGBA, GL.GL_FLOAT));
+    }
+
+    public static void main(final String args[]) throws IOException {
+        org.junit.runner.JUnitCore.main(TestMipmapBuilder00NEWT.class.getName());
+    }
+}
@@ -28,15 +28,21 @@
 package com.jogamp.opengl.test.junit.jogl.util.texture;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 
+import com.jogamp.nativewindow.util.Dimension;
 import com.jogamp.nativewindow.util.PixelFormat;
 import com.jogamp.nativewindow.util.PixelFormatUtil;
 
+import jogamp.nativewindow.ParallelExecutor;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.FixMethodOrder;
@@ -118,6 +124,51 @@ public class TestPNGPixelRect00NEWT extends UITestCase {
         testPNG02Impl(pathname, basename, PixelFormat.ABGR8888, 0 /* destMinStrideInBytes */, false /* destIsGLOriented */);
     }
 
+    @Test
+    public void testPNGWrite21_Parallel() throws InterruptedException, IOException, MalformedURLException {
+        if( !PNGPixelRect.isParallelEncodingAvailable() ) {
+            System.err.println("Parallel PNG encoding n/a");
+            return;
+        }
+        testPNGWriteParallelImpl(PixelFormat.RGBA8888, 1024, 700);
+        testPNGWriteParallelImpl(PixelFormat.RGB888, 1023, 511);
+        testPNGWriteParallelImpl(PixelFormat.LUMINANCE, 640, 480);
+        testPNGWriteParallelImpl(PixelFormat.RGBA8888, 16, 9); // single block
+    }
+
+    private void testPNGWriteParallelImpl(final PixelFormat fmt, final int width, final int height) throws IOException {
+        final int bpp = fmt.comp.bytesPerPixel();
+        final ByteBuffer pixels = ByteBuffer.allocate(width * height * bpp);
+        // gradient w/ some noise, compressible but not trivial
+        final java.util.Random rnd = new java.util.Random(width * height);
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                for(int c=0; c<bpp; c++) {
+                    pixels.put( (byte) ( x + y * c + ( 0 == ( x & 7 ) ? rnd.nextInt(16) : 0 ) ) );
+                }
+            }
+        }
+        pixels.rewind();
+        final PNGPixelRect image = new PNGPixelRect(fmt, new Dimension(width, height), 0, false /* isGLOriented */, pixels, 72, 72);
+
+        final ByteArrayOutputStream outSerial = new ByteArrayOutputStream();
+        image.write(outSerial, true /* close */);
+
+        final ByteArrayOutputStream outParallel = new ByteArrayOutputStream();
+        ParallelExecutor.setThreadCount(4, true);
+        try {
+            image.write(outParallel, true /* close */);
+        } finally {
+            ParallelExecutor.setThreadCount(1);
+        }
+        System.err.println("PNG "+fmt+" "+width+"x"+height+": serial "+outSerial.size()+" bytes, parallel "+outParallel.size()+" bytes");
+
+        final PNGPixelRect imageSerial = PNGPixelRect.read(new ByteArrayInputStream(outSerial.toByteArray()), fmt, false /* directBuffer */, 0, false /* destIsGLOriented */);
+        final PNGPixelRect imageParallel = PNGPixelRect.read(new ByteArrayInputStream(outParallel.toByteArray()), fmt, false /* directBuffer */, 0, false /* destIsGLOriented */);
+        Assert.assertEquals(image.getPixels(), imageSerial.getPixels());
+        Assert.assertEquals(image.getPixels(), imageParallel.getPixels());
+    }
+
     private void testPNG01Impl(final String pathname, final String basename,
                              final PixelFormat destFmt, final int destMinStrideInBytes, final boolean destIsGLOriented)
             throws InterruptedException, IOException, MalformedURLException
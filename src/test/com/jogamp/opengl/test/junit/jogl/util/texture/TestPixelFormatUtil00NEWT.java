@@ -38,6 +38,8 @@ import com.jogamp.nativewindow.util.PixelFormatUtil;
 import com.jogamp.nativewindow.util.PixelRectangle;
 import com.jogamp.nativewindow.util.PixelFormat.CType;
 
+import jogamp.nativewindow.ParallelExecutor;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.FixMethodOrder;
@@ -233,6 +235,97 @@ public class TestPixelFormatUtil00NEWT extends UITestCase {
                            259 /* destMinStrideInBytes */, false /* destIsGLOriented */);
     }
 
+    /**
+     * Validates the compiled {@link PixelFormatUtil.RowConverter} kernels
+     * against the generic per-pixel {@link Bitstream} conversion using random pixel data.
+     */
+    @Test
+    public void testConversion10_RowConverterVsBitstream() throws InterruptedException, IOException, MalformedURLException {
+        final PixelFormat[] formats = PixelFormat.values();
+        final int width  = 37, height = 3;
+        final java.util.Random rnd = new java.util.Random(0x1234);
+        for(int i=0; i<formats.length; i++) {
+            final PixelFormat.Composition srcComp = formats[i].comp;
+            final ByteBuffer srcPixels = ByteBuffer.allocate(height*width*srcComp.bytesPerPixel()).order(ByteOrder.BIG_ENDIAN);
+            for(int k=0; k<srcPixels.capacity(); k++) {
+                srcPixels.put(k, (byte)rnd.nextInt(256));
+            }
+            for(int j=0; j<formats.length; j++) {
+                final PixelFormat.Composition dstComp = formats[j].comp;
+                final PixelFormatUtil.RowConverter rc = PixelFormatUtil.getRowConverter(srcComp, dstComp);
+                Assert.assertNotNull(rc);
+                Assert.assertSame(rc, PixelFormatUtil.getRowConverter(srcComp, dstComp));
+
+                final int dstBytes = height*width*dstComp.bytesPerPixel();
+                final ByteBuffer dstKernel = ByteBuffer.allocate(dstBytes).order(ByteOrder.LITTLE_ENDIAN);
+                for(int y=0; y<height; y++) {
+                    rc.convertRow(srcPixels, y*width*srcComp.bytesPerPixel(), dstKernel, y*width*dstComp.bytesPerPixel(), width);
+                }
+
+                final ByteBuffer dstBitstream = ByteBuffer.allocate(dstBytes);
+                final PixelFormatUtil.ComponentMap cmap = new PixelFormatUtil.ComponentMap(srcComp, dstComp);
+                final Bitstream<ByteBuffer> srcBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(srcPixels), false /* outputMode */);
+                final Bitstream<ByteBuffer> dstBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(dstBitstream), true /* outputMode */);
+                for(int k=0; k<width*height; k++) {
+                    PixelFormatUtil.convert(cmap, dstComp, dstBitStream, srcComp, srcBitStream);
+                }
+                dstBitStream.flush();
+                for(int k=0; k<dstBytes; k++) {
+                    Assert.assertEquals(formats[i]+" -> "+formats[j]+" @ byte "+k, dstBitstream.get(k), dstKernel.get(k));
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates bulk row copies and parallel row processing against serial processing,
+     * including vertical flipping and strides.
+     */
+    @Test
+    public void testConversion11_ParallelRows() throws InterruptedException, IOException, MalformedURLException {
+        final PixelFormat[] formats = { PixelFormat.RGBA8888, PixelFormat.BGRA8888, PixelFormat.RGB888, PixelFormat.RGB565, PixelFormat.LUMINANCE };
+        final int width = 61, height = 47;
+        final java.util.Random rnd = new java.util.Random(0x4321);
+        for(int i=0; i<formats.length; i++) {
+            final PixelFormat srcFmt = formats[i];
+            final int srcStride = width*srcFmt.comp.bytesPerPixel() + 5;
+            final ByteBuffer srcPixels = ByteBuffer.allocate(height*srcStride);
+            for(int k=0; k<srcPixels.capacity(); k++) {
+                srcPixels.put(k, (byte)rnd.nextInt(256));
+            }
+            for(int j=0; j<formats.length; j++) {
+                final PixelFormat dstFmt = formats[j];
+                for(int f=0; f<2; f++) {
+                    final boolean dstGLOriented = 0 != f;
+                    final int dstStride = width*dstFmt.comp.bytesPerPixel() + 3;
+                    final ByteBuffer serial = ByteBuffer.allocate(height*dstStride);
+                    final ByteBuffer parallel = ByteBuffer.allocate(height*dstStride);
+                    PixelFormatUtil.convert(width, height, srcPixels, srcFmt, false, srcStride,
+                                            serial, dstFmt, dstGLOriented, dstStride);
+                    ParallelExecutor.setThreadCount(4, true);
+                    try {
+                        PixelFormatUtil.convert(width, height, srcPixels, srcFmt, false, srcStride,
+                                                parallel, dstFmt, dstGLOriented, dstStride);
+                    } finally {
+                        ParallelExecutor.setThreadCount(1);
+                    }
+                    Assert.assertEquals(0, srcPixels.position());
+                    Assert.assertEquals(0, parallel.position());
+                    Assert.assertEquals(srcFmt+" -> "+dstFmt+", flip "+dstGLOriented, serial, parallel);
+                    if( srcFmt == dstFmt ) {
+                        // verify copied rows
+                        for(int y=0; y<height; y++) {
+                            final int sy = dstGLOriented ? height - 1 - y : y;
+                            for(int x=0; x<width*dstFmt.comp.bytesPerPixel(); x++) {
+                                Assert.assertEquals(srcPixels.get(sy*srcStride+x), serial.get(y*dstStride+x));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Note: Fixes bit-rounding errors, i.e. RGBA5551: A 0.6f -> 0x01 -> 1f ... -> RGBA8888: A 0xff
      */
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.newt;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jogamp.newt.DefaultEDTUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.UITestCase;
+
+/**
+ * Validates task ordering, blocking invocation, {@link DefaultEDTUtil#waitUntilIdle()}
+ * and stopping of {@link DefaultEDTUtil} under concurrent task producers, w/o a native display.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDefaultEDTUtil00NEWT extends UITestCase {
+    static final int PRODUCER_COUNT = 4;
+    static final int TASK_COUNT = 10000;
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestDefaultEDTUtil00NEWT.class.getName());
+    }
+
+    static DefaultEDTUtil createEDT(final AtomicInteger dispatchCount) {
+        final DefaultEDTUtil edt = new DefaultEDTUtil(Thread.currentThread().getThreadGroup(), "Test", new Runnable() {
+            @Override
+            public void run() {
+                dispatchCount.incrementAndGet();
+            } } );
+        edt.start();
+        return edt;
+    }
+
+    @Test
+    public void test01ConcurrentProducer() throws InterruptedException {
+        final AtomicInteger dispatchCount = new AtomicInteger(0);
+        final DefaultEDTUtil edt = createEDT(dispatchCount);
+        final int[] lastSeq = new int[PRODUCER_COUNT];
+        final AtomicInteger orderErrors = new AtomicInteger(0);
+        final AtomicInteger executed = new AtomicInteger(0);
+        final Thread[] producer = new Thread[PRODUCER_COUNT];
+        for(int p=0; p<PRODUCER_COUNT; p++) {
+            final int pid = p;
+            lastSeq[p] = -1;
+            producer[p] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int i=0; i<TASK_COUNT; i++) {
+                        final int seq = i;
+                        edt.invoke(0 == i % 1000, new Runnable() {
+                            @Override
+                            public void run() {
+                                // executed on EDT only, no synchronization required
+                                if( lastSeq[pid] + 1 != seq ) {
+                                    orderErrors.incrementAndGet();
+                                }
+                                lastSeq[pid] = seq;
+                                executed.incrementAndGet();
+                            } } );
+                    }
+                } }, "Producer-"+p);
+            producer[p].start();
+        }
+        for(int p=0; p<PRODUCER_COUNT; p++) {
+            producer[p].join();
+        }
+        Assert.assertTrue(edt.waitUntilIdle());
+        Assert.assertEquals(PRODUCER_COUNT*TASK_COUNT, executed.get());
+        Assert.assertEquals(0, orderErrors.get());
+        Assert.assertTrue(0 < dispatchCount.get());
+
+        Assert.assertTrue(edt.invokeStop(true, null));
+        Assert.assertTrue(edt.waitUntilStopped() || !edt.isRunning());
+        Assert.assertFalse(edt.isRunning());
+    }
+
+    @Test
+    public void test02InvokeAndWait() {
+        final DefaultEDTUtil edt = createEDT(new AtomicInteger(0));
+        final Thread[] edtThread = { null };
+        Assert.assertTrue(edt.invoke(true, new Runnable() {
+            @Override
+            public void run() {
+                edtThread[0] = Thread.currentThread();
+            } } ));
+        Assert.assertNotNull(edtThread[0]);
+        Assert.assertNotSame(Thread.currentThread(), edtThread[0]);
+
+        RuntimeException caught = null;
+        try {
+            edt.invoke(true, new Runnable() {
+                @Override
+                public void run() {
+                    throw new RuntimeException("expected");
+                } } );
+        } catch (final RuntimeException re) {
+            caught = re;
+        }
+        Assert.assertNotNull(caught);
+        Assert.assertTrue(edt.isRunning());
+
+        final AtomicInteger last = new AtomicInteger(0);
+        Assert.assertTrue(edt.invokeStop(true, new Runnable() {
+            @Override
+            public void run() {
+                last.incrementAndGet();
+            } } ));
+        Assert.assertEquals(1, last.get());
+        Assert.assertFalse(edt.isRunning());
+        Assert.assertFalse(edt.invoke(false, new Runnable() {
+            @Override
+            public void run() { }
+        } ));
+    }
+
+    @Test
+    public void test03WaitUntilIdleAfterExecution() throws InterruptedException {
+        final DefaultEDTUtil edt = createEDT(new AtomicInteger(0));
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean done = new AtomicBoolean(false);
+        Assert.assertTrue(edt.invoke(false, new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (final InterruptedException e) { }
+                done.set(true);
+            } } ));
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        // task is taken and executing, idle only after its completion
+        Assert.assertTrue(edt.waitUntilIdle());
+        Assert.assertTrue(done.get());
+
+        Assert.assertTrue(edt.invokeStop(true, null));
+        Assert.assertFalse(edt.isRunning());
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.opengl;
+
+import java.nio.ShortBuffer;
+
+/**
+ * Allows access to package private methods of RegionIndices
+ */
+public class RegionIndicesAccess {
+    public static final RegionIndices create(final int initialElementCount) {
+        return new RegionIndices(initialElementCount);
+    }
+    public static final void put(final RegionIndices ri, final int idx) {
+        ri.put(idx);
+    }
+    public static final boolean is32Bit(final RegionIndices ri) {
+        return ri.is32Bit();
+    }
+    public static final void split(final RegionIndices ri) {
+        ri.split();
+    }
+    public static final int getDrawCount(final RegionIndices ri) {
+        return ri.getDrawCount();
+    }
+    public static final int[] getBatches(final RegionIndices ri) {
+        return ri.getBatches();
+    }
+    public static final ShortBuffer getBatchIndices(final RegionIndices ri) {
+        return ri.getBatchIndices();
+    }
+}